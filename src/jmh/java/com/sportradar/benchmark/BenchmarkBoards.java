@@ -0,0 +1,69 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.metrics.InstrumentedScoreboard;
+import com.sportradar.metrics.ScoreboardMetrics;
+import com.sportradar.service.ConcurrentScoreboard;
+import com.sportradar.service.PrimitiveScoreboard;
+import com.sportradar.service.Scoreboard;
+import com.sportradar.service.ScoreboardImpl;
+import com.sportradar.service.ShardedScoreboard;
+import com.sportradar.service.SnapshotScoreboard;
+
+/**
+ * Creates and fills the scoreboards measured by the benchmarks.
+ *
+ * @author Anatolii Stepanchuk
+ */
+final class BenchmarkBoards {
+    private BenchmarkBoards() {
+    }
+
+    /**
+     * Creates a new, empty scoreboard of the given implementation.
+     *
+     * @param implementation The simple class name of the scoreboard implementation.
+     * @return A new scoreboard.
+     * @throws IllegalArgumentException if the implementation is unknown.
+     */
+    static Scoreboard create(String implementation) {
+        switch (implementation) {
+            case "ScoreboardImpl":
+                return new ScoreboardImpl(new MatchFactoryImpl());
+            case "ConcurrentScoreboard":
+                return new ConcurrentScoreboard(new MatchFactoryImpl());
+            case "PrimitiveScoreboard":
+                return new PrimitiveScoreboard(new MatchFactoryImpl());
+            case "SnapshotScoreboard":
+                return new SnapshotScoreboard(new ScoreboardImpl(new MatchFactoryImpl()));
+            case "InstrumentedScoreboard":
+                return new InstrumentedScoreboard(new ScoreboardImpl(new MatchFactoryImpl()), new ScoreboardMetrics());
+            case "ShardedScoreboard":
+                return new ShardedScoreboard(registry -> new ScoreboardImpl(new MatchFactoryImpl(), registry));
+            default:
+                throw new IllegalArgumentException("Unknown scoreboard implementation: " + implementation);
+        }
+    }
+
+    static String homeTeam(int match) {
+        return "Home-" + match;
+    }
+
+    static String awayTeam(int match) {
+        return "Away-" + match;
+    }
+
+    /**
+     * Starts the given number of matches with distinct teams and spreads their scores,
+     * so the summary order is not trivial.
+     *
+     * @param scoreboard The scoreboard to fill.
+     * @param matches    The number of matches to start.
+     */
+    static void fill(Scoreboard scoreboard, int matches) {
+        for (int match = 0; match < matches; match++) {
+            scoreboard.startMatch(homeTeam(match), awayTeam(match), 0);
+            scoreboard.updateScore(homeTeam(match), awayTeam(match), match % 7, match % 5);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.journal.JournalOptions;
+import com.sportradar.journal.JournalingScoreboard;
+import com.sportradar.service.Scoreboard;
+import com.sportradar.service.ScoreboardImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * JMH benchmarks of score updates journaled by {@code JournalingScoreboard}, compared with the in-memory
+ * {@code ScoreboardImpl} it decorates, for several group commit sizes with and without forcing.
+ *
+ * @author Anatolii Stepanchuk
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+    private static final int BOARD_SIZE = 1000;
+
+    @Param({"0", "1", "256"})
+    private int groupCommitSize;
+
+    @Param({"false", "true"})
+    private boolean forceOnCommit;
+
+    private Path directory;
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int next;
+    private int round;
+
+    /**
+     * Creates the measured board; a group commit size of 0 measures the in-memory board without a journal.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (groupCommitSize == 0) {
+            scoreboard = new ScoreboardImpl(new MatchFactoryImpl());
+        } else {
+            directory = Files.createTempDirectory("scoreboard-journal");
+            scoreboard = JournalingScoreboard.open(directory, ScoreboardImpl::new, new MatchFactoryImpl(),
+                JournalOptions.defaults().withGroupCommitSize(groupCommitSize).withForceOnCommit(forceOnCommit));
+        }
+
+        homeTeams = new String[BOARD_SIZE];
+        awayTeams = new String[BOARD_SIZE];
+
+        for (int match = 0; match < BOARD_SIZE; match++) {
+            homeTeams[match] = BenchmarkBoards.homeTeam(match);
+            awayTeams[match] = BenchmarkBoards.awayTeam(match);
+        }
+
+        BenchmarkBoards.fill(scoreboard, BOARD_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (directory == null)
+            return;
+
+        ((JournalingScoreboard) scoreboard).close();
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator)
+                Files.delete(file);
+        }
+    }
+
+    @Benchmark
+    public void updateScore() {
+        int match = next++;
+
+        if (next == BOARD_SIZE) {
+            next = 0;
+            round++;
+        }
+
+        scoreboard.updateScore(homeTeams[match], awayTeams[match], round & 15, match & 7);
+    }
+}
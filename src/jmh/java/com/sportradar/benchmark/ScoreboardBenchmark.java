@@ -0,0 +1,87 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.model.Match;
+import com.sportradar.service.Scoreboard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded JMH benchmarks of the Scoreboard operations as the number of live matches grows.
+ * Every implementation is measured on the same board sizes, with {@code ScoreboardImpl} as the baseline.
+ *
+ * @author Anatolii Stepanchuk
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreboardBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int boardSize;
+
+    @Param({"ScoreboardImpl", "ConcurrentScoreboard", "SnapshotScoreboard", "PrimitiveScoreboard", "InstrumentedScoreboard"})
+    private String implementation;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int next;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreboard = BenchmarkBoards.create(implementation);
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+
+        for (int match = 0; match < boardSize; match++) {
+            homeTeams[match] = BenchmarkBoards.homeTeam(match);
+            awayTeams[match] = BenchmarkBoards.awayTeam(match);
+        }
+
+        BenchmarkBoards.fill(scoreboard, boardSize);
+    }
+
+    /**
+     * Updates the next match of the board, raising its score every round so the match is re-ranked.
+     */
+    @Benchmark
+    public void updateScore() {
+        int match = next++;
+
+        if (next == boardSize) {
+            next = 0;
+            round++;
+        }
+
+        scoreboard.updateScore(homeTeams[match], awayTeams[match], round & 15, match & 7);
+    }
+
+    /**
+     * Finishes the next match of the board and starts it again, keeping the board size constant.
+     */
+    @Benchmark
+    public void finishAndStartMatch() {
+        int match = next++;
+
+        if (next == boardSize)
+            next = 0;
+
+        scoreboard.finishMatch(homeTeams[match], awayTeams[match]);
+        scoreboard.startMatch(homeTeams[match], awayTeams[match], 0);
+    }
+
+    @Benchmark
+    public List<Match> getSummary() {
+        return scoreboard.getSummary();
+    }
+
+    @Benchmark
+    public List<Match> getTop10() {
+        return scoreboard.getTopN(10);
+    }
+}
@@ -0,0 +1,65 @@
+package com.sportradar.benchmark;
+
+import com.sportradar.model.Match;
+import com.sportradar.service.Scoreboard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded JMH benchmarks of the thread-safe Scoreboard implementations with a mix of feed
+ * writers and summary readers sharing one board. The default mix is one writer and three readers;
+ * other mixes and thread counts are selected with the JMH {@code -tg} option, e.g. {@code -tg 4,4}.
+ *
+ * @author Anatolii Stepanchuk
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreboardConcurrencyBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int boardSize;
+
+    @Param({"ConcurrentScoreboard", "SnapshotScoreboard", "ShardedScoreboard"})
+    private String implementation;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreboard = BenchmarkBoards.create(implementation);
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+
+        for (int match = 0; match < boardSize; match++) {
+            homeTeams[match] = BenchmarkBoards.homeTeam(match);
+            awayTeams[match] = BenchmarkBoards.awayTeam(match);
+        }
+
+        BenchmarkBoards.fill(scoreboard, boardSize);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void writer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int match = random.nextInt(boardSize);
+
+        scoreboard.updateScore(homeTeams[match], awayTeams[match], random.nextInt(10), random.nextInt(10));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public List<Match> reader() {
+        return scoreboard.getTopN(10);
+    }
+}
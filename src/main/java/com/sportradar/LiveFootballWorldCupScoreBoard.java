@@ -2,6 +2,7 @@ package com.sportradar;
 
 import com.sportradar.factory.MatchFactoryImpl;
 import com.sportradar.service.Scoreboard;
+import com.sportradar.service.ScoreboardImpl;
 
 /**
  * Main class for running the live football World Cup scoreboard.
@@ -11,15 +12,14 @@ import com.sportradar.service.Scoreboard;
  */
 public class LiveFootballWorldCupScoreBoard {
     public static void main( String[] args ) {
-        Scoreboard scoreboard = new Scoreboard(new MatchFactoryImpl());
-        int startTimeShift = -1;
+        Scoreboard scoreboard = new ScoreboardImpl(new MatchFactoryImpl());
 
         // Starting matches
-        scoreboard.startMatch("Mexico", "Canada", ++startTimeShift);
-        scoreboard.startMatch("Spain", "Brazil", ++startTimeShift);
-        scoreboard.startMatch("Germany", "France", ++startTimeShift);
-        scoreboard.startMatch("Uruguay", "Italy", ++startTimeShift);
-        scoreboard.startMatch("Argentina", "Australia", ++startTimeShift);
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.startMatch("Uruguay", "Italy");
+        scoreboard.startMatch("Argentina", "Australia");
 
         // Updating scores
         scoreboard.updateScore("Mexico", "Canada", 0, 5);
@@ -0,0 +1,91 @@
+package com.sportradar.archive;
+
+import java.util.Objects;
+
+/**
+ * Immutable final result of a finished match, as returned by the queries of a {@link MatchArchive}.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class ArchivedMatch {
+    private final String homeTeam;
+    private final String awayTeam;
+    private final int homeScore;
+    private final int awayScore;
+    private final long startTime;
+    private final long finishTime;
+
+    /**
+     * Constructs an ArchivedMatch instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam   The name of the home team.
+     * @param awayTeam   The name of the away team.
+     * @param homeScore  The final score of the home team.
+     * @param awayScore  The final score of the away team.
+     * @param startTime  The start time of the match in milliseconds.
+     * @param finishTime The time the match was finished in milliseconds.
+     */
+    public ArchivedMatch(String homeTeam, String awayTeam, int homeScore, int awayScore, long startTime, long finishTime) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.startTime = startTime;
+        this.finishTime = finishTime;
+    }
+
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    public int getTotalScore() {
+        return homeScore + awayScore;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public long getFinishTime() {
+        return finishTime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof ArchivedMatch))
+            return false;
+
+        ArchivedMatch other = (ArchivedMatch) o;
+
+        return homeScore == other.homeScore && awayScore == other.awayScore && startTime == other.startTime
+            && finishTime == other.finishTime && homeTeam.equals(other.homeTeam) && awayTeam.equals(other.awayTeam);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(homeTeam, awayTeam, homeScore, awayScore, startTime, finishTime);
+    }
+
+    @Override
+    public String toString() {
+        return homeTeam + " " + homeScore + " - " + awayTeam + " " + awayScore;
+    }
+}
@@ -0,0 +1,123 @@
+package com.sportradar.archive;
+
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchScore;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.ForwardingScoreboard;
+import com.sportradar.service.Scoreboard;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Scoreboard decorator that moves every finished match into a {@link MatchArchive}. Writes are serialised and
+ * forwarded to the decorated scoreboard; finishing a match reads its final result, removes it from the live
+ * board and appends the result to the archive. The live board only ever holds live matches, so its hot paths
+ * are not affected by the number of finished matches.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see MatchArchive
+ */
+public class ArchivingScoreboard extends ForwardingScoreboard {
+    private final Object writeLock = new Object();
+    private final MatchArchive archive;
+
+    /**
+     * Constructs a new ArchivingScoreboard instance decorating the given scoreboard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The scoreboard holding the live matches.
+     * @param archive    The archive receiving the finished matches.
+     * @throws IllegalArgumentException if scoreboard or archive is null.
+     */
+    public ArchivingScoreboard(Scoreboard scoreboard, MatchArchive archive) {
+        super(scoreboard);
+
+        if (archive == null)
+            throw new IllegalArgumentException("Archive cannot be null");
+
+        this.archive = archive;
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        synchronized (writeLock) {
+            scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        synchronized (writeLock) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        }
+    }
+
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        synchronized (writeLock) {
+            scoreboard.applyBatch(updates);
+        }
+    }
+
+    /**
+     * Finishes a match by removing it from the decorated scoreboard and archiving its final result.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @throws NoSuchElementException if the match to finish is not found.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            Match match = scoreboard.findMatch(homeTeam, awayTeam).orElse(null);
+
+            scoreboard.finishMatch(homeTeam, awayTeam);
+
+            long score = match.getPackedScore();
+
+            archive.append(match.getHomeTeam(), match.getAwayTeam(),
+                MatchScore.homeScore(score), MatchScore.awayScore(score), match.getStartTime());
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.findMatch(homeTeam, awayTeam);
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        synchronized (writeLock) {
+            return scoreboard.getSummary();
+        }
+    }
+
+    @Override
+    public List<Match> getTopN(int n) {
+        synchronized (writeLock) {
+            return scoreboard.getTopN(n);
+        }
+    }
+
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.rankOf(homeTeam, awayTeam);
+        }
+    }
+
+    public MatchArchive getArchive() {
+        return archive;
+    }
+}
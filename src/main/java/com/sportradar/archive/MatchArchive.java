@@ -0,0 +1,303 @@
+package com.sportradar.archive;
+
+import com.sportradar.service.TeamRegistry;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Append-only, bounded store of finished matches. Matches are held in columnar form, one primitive array per
+ * attribute, in a ring of slots addressed by an ascending archive sequence number; team names are stored once
+ * in a {@link TeamRegistry} and referenced by team ID. Two secondary indexes keep the sequence numbers of the
+ * matches of every team and of every total score, so historical queries visit only the matches they return.
+ * The oldest matches are evicted according to a {@link RetentionPolicy}; as matches are appended and evicted
+ * in the same order, eviction from the columns and both indexes takes constant time.
+ * This class is thread-safe.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see ArchivingScoreboard
+ */
+public class MatchArchive {
+    /**
+     * The estimated memory of one archived match: its columns and its entries in the secondary indexes.
+     */
+    public static final int BYTES_PER_MATCH = 4 * 4 + 2 * 8 + 3 * 8;
+
+    private final TeamRegistry teamRegistry;
+    private final RetentionPolicy retentionPolicy;
+    private final Clock clock;
+    private final Map<Integer, SequenceList> matchesByTeam = new HashMap<>();
+    private final NavigableMap<Integer, SequenceList> matchesByTotalScore = new TreeMap<>();
+
+    private int[] homeTeamIds = new int[16];
+    private int[] awayTeamIds = new int[16];
+    private int[] homeScores = new int[16];
+    private int[] awayScores = new int[16];
+    private long[] startTimes = new long[16];
+    private long[] finishTimes = new long[16];
+    private long firstSequence;
+    private long nextSequence;
+
+    /**
+     * Constructs a new, unbounded MatchArchive instance using the system clock.
+     *
+     * @author Anatolii Stepanchuk
+     */
+    public MatchArchive() {
+        this(new TeamRegistry(), RetentionPolicy.unbounded(), Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a new MatchArchive instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param teamRegistry    The registry resolving team names to team IDs, typically shared with the scoreboard.
+     * @param retentionPolicy The policy evicting the oldest matches.
+     * @param clock           The clock stamping the finish time of archived matches and evicting matches by age.
+     * @throws IllegalArgumentException if any argument is null.
+     */
+    public MatchArchive(TeamRegistry teamRegistry, RetentionPolicy retentionPolicy, Clock clock) {
+        if (teamRegistry == null || retentionPolicy == null || clock == null)
+            throw new IllegalArgumentException("Team registry, retention policy and clock cannot be null");
+
+        this.teamRegistry = teamRegistry;
+        this.retentionPolicy = retentionPolicy;
+        this.clock = clock;
+    }
+
+    /**
+     * Archives the final result of a match, stamped with the current time of the clock, and evicts the
+     * oldest matches exceeding the retention policy.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam  The name of the home team.
+     * @param awayTeam  The name of the away team.
+     * @param homeScore The final score of the home team.
+     * @param awayScore The final score of the away team.
+     * @param startTime The start time of the match in milliseconds.
+     * @throws IllegalArgumentException if any team name is null or blank, both team names refer to the same team,
+     *                                  or any score is negative.
+     */
+    public synchronized void append(String homeTeam, String awayTeam, int homeScore, int awayScore, long startTime) {
+        if (homeTeam == null || awayTeam == null)
+            throw new IllegalArgumentException("Team names cannot be null");
+
+        if (homeScore < 0 || awayScore < 0)
+            throw new IllegalArgumentException("Scores cannot be negative");
+
+        int homeTeamId = teamRegistry.register(homeTeam);
+        int awayTeamId = teamRegistry.register(awayTeam);
+
+        if (homeTeamId == awayTeamId)
+            throw new IllegalArgumentException("A team cannot play against itself");
+
+        if (size() == homeTeamIds.length)
+            grow();
+
+        long sequence = nextSequence++;
+        int slot = slot(sequence);
+
+        homeTeamIds[slot] = homeTeamId;
+        awayTeamIds[slot] = awayTeamId;
+        homeScores[slot] = homeScore;
+        awayScores[slot] = awayScore;
+        startTimes[slot] = startTime;
+        finishTimes[slot] = clock.millis();
+
+        matchesByTeam.computeIfAbsent(homeTeamId, team -> new SequenceList()).add(sequence);
+        matchesByTeam.computeIfAbsent(awayTeamId, team -> new SequenceList()).add(sequence);
+        matchesByTotalScore.computeIfAbsent(homeScore + awayScore, total -> new SequenceList()).add(sequence);
+
+        evict();
+    }
+
+    /**
+     * Finds all archived matches of a team, as home or away team, newest first.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param team The name or alias of the team.
+     * @return A new list of the archived matches of the team.
+     * @throws IllegalArgumentException if the team name is null.
+     */
+    public synchronized List<ArchivedMatch> findByTeam(String team) {
+        evict();
+
+        int teamId = teamRegistry.idOf(team);
+        SequenceList sequences = teamId == TeamRegistry.NO_TEAM ? null : matchesByTeam.get(teamId);
+
+        if (sequences == null)
+            return new ArrayList<>();
+
+        List<ArchivedMatch> matches = new ArrayList<>(sequences.size());
+
+        for (int index = 0; index < sequences.size(); index++)
+            matches.add(view(sequences.newest(index)));
+
+        return matches;
+    }
+
+    /**
+     * Finds at most {@code n} archived matches finished at or after the given instant, with the highest total
+     * score first and the most recently finished match first among matches with the same total score.
+     * Matches are archived in finish order, so the first match finished at or after the instant is found by a
+     * binary search over the archive sequence. The total score index is then walked from the highest total score
+     * down, newest first within a total score, moving to the next total score at the first older match, so the
+     * query visits only matches inside the window and stops as soon as {@code n} matches are found.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param n     The maximum number of matches to return.
+     * @param since The earliest finish time of the returned matches, e.g. the start of the day.
+     * @return A new list with at most {@code n} archived matches.
+     * @throws IllegalArgumentException if {@code n} is negative or {@code since} is null.
+     */
+    public synchronized List<ArchivedMatch> findHighestScoring(int n, Instant since) {
+        if (n < 0)
+            throw new IllegalArgumentException("Number of matches cannot be negative");
+
+        if (since == null)
+            throw new IllegalArgumentException("Instant cannot be null");
+
+        evict();
+
+        long firstSince = firstSequenceSince(since.toEpochMilli());
+        List<ArchivedMatch> matches = new ArrayList<>((int) Math.min(n, nextSequence - firstSince));
+
+        if (firstSince == nextSequence)
+            return matches;
+
+        for (SequenceList sequences : matchesByTotalScore.descendingMap().values()) {
+            for (int index = 0; index < sequences.size() && matches.size() < n; index++) {
+                long sequence = sequences.newest(index);
+
+                if (sequence < firstSince)
+                    break;
+
+                matches.add(view(sequence));
+            }
+
+            if (matches.size() == n)
+                break;
+        }
+
+        return matches;
+    }
+
+    /**
+     * Returns the number of archived matches.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The number of archived matches.
+     */
+    public synchronized int size() {
+        return (int) (nextSequence - firstSequence);
+    }
+
+    /**
+     * Returns the estimated memory of the archived matches, {@value #BYTES_PER_MATCH} bytes per match.
+     * Spare capacity of the columns and the team registry are not included.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The estimated memory in bytes.
+     */
+    public synchronized long getEstimatedBytes() {
+        return (long) size() * BYTES_PER_MATCH;
+    }
+
+    public TeamRegistry getTeamRegistry() {
+        return teamRegistry;
+    }
+
+    private void evict() {
+        long minFinishTime = retentionPolicy.getMaxAge() == null
+            ? Long.MIN_VALUE : clock.millis() - retentionPolicy.getMaxAge().toMillis();
+
+        while (size() > 0 && (size() > retentionPolicy.getMaxMatches()
+                || getEstimatedBytes() > retentionPolicy.getMaxBytes()
+                || finishTimes[slot(firstSequence)] < minFinishTime)) {
+            long sequence = firstSequence++;
+            int slot = slot(sequence);
+
+            evictFromIndex(matchesByTeam, homeTeamIds[slot], sequence);
+            evictFromIndex(matchesByTeam, awayTeamIds[slot], sequence);
+            evictFromIndex(matchesByTotalScore, homeScores[slot] + awayScores[slot], sequence);
+        }
+    }
+
+    /**
+     * Returns the sequence number of the oldest match finished at or after the given time, or the next sequence
+     * number if there is none. Finish times ascend with the sequence number, as the eviction by age assumes too.
+     */
+    private long firstSequenceSince(long millis) {
+        long low = firstSequence;
+        long high = nextSequence;
+
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+
+            if (finishTimes[slot(middle)] < millis)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+
+        return low;
+    }
+
+    private static void evictFromIndex(Map<Integer, SequenceList> index, int key, long sequence) {
+        SequenceList sequences = index.get(key);
+
+        sequences.evict(sequence);
+
+        if (sequences.isEmpty())
+            index.remove(key);
+    }
+
+    private void grow() {
+        int capacity = homeTeamIds.length * 2;
+        int[] newHomeTeamIds = new int[capacity];
+        int[] newAwayTeamIds = new int[capacity];
+        int[] newHomeScores = new int[capacity];
+        int[] newAwayScores = new int[capacity];
+        long[] newStartTimes = new long[capacity];
+        long[] newFinishTimes = new long[capacity];
+
+        for (long sequence = firstSequence; sequence < nextSequence; sequence++) {
+            int slot = slot(sequence);
+            int newSlot = (int) (sequence & (capacity - 1));
+
+            newHomeTeamIds[newSlot] = homeTeamIds[slot];
+            newAwayTeamIds[newSlot] = awayTeamIds[slot];
+            newHomeScores[newSlot] = homeScores[slot];
+            newAwayScores[newSlot] = awayScores[slot];
+            newStartTimes[newSlot] = startTimes[slot];
+            newFinishTimes[newSlot] = finishTimes[slot];
+        }
+
+        homeTeamIds = newHomeTeamIds;
+        awayTeamIds = newAwayTeamIds;
+        homeScores = newHomeScores;
+        awayScores = newAwayScores;
+        startTimes = newStartTimes;
+        finishTimes = newFinishTimes;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence & (homeTeamIds.length - 1));
+    }
+
+    private ArchivedMatch view(long sequence) {
+        int slot = slot(sequence);
+
+        return new ArchivedMatch(teamRegistry.nameOf(homeTeamIds[slot]), teamRegistry.nameOf(awayTeamIds[slot]),
+            homeScores[slot], awayScores[slot], startTimes[slot], finishTimes[slot]);
+    }
+}
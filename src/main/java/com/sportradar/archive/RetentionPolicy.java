@@ -0,0 +1,99 @@
+package com.sportradar.archive;
+
+import java.time.Duration;
+
+/**
+ * Immutable retention policy of a {@link MatchArchive}. The oldest finished matches are evicted as soon as any
+ * of the configured limits is exceeded:
+ * 1. The maximum number of archived matches.
+ * 2. The maximum age of an archived match, measured from the time it was finished.
+ * 3. The maximum estimated memory of the archive in bytes, see {@link MatchArchive#getEstimatedBytes()}.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class RetentionPolicy {
+    private final int maxMatches;
+    private final Duration maxAge;
+    private final long maxBytes;
+
+    private RetentionPolicy(int maxMatches, Duration maxAge, long maxBytes) {
+        this.maxMatches = maxMatches;
+        this.maxAge = maxAge;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns a policy that never evicts a finished match.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The unbounded policy.
+     */
+    public static RetentionPolicy unbounded() {
+        return new RetentionPolicy(Integer.MAX_VALUE, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns a copy of this policy limiting the number of archived matches.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param maxMatches The maximum number of archived matches.
+     * @return The new policy.
+     * @throws IllegalArgumentException if the maximum number of matches is not positive.
+     */
+    public RetentionPolicy withMaxMatches(int maxMatches) {
+        if (maxMatches <= 0)
+            throw new IllegalArgumentException("Maximum number of matches must be positive");
+
+        return new RetentionPolicy(maxMatches, maxAge, maxBytes);
+    }
+
+    /**
+     * Returns a copy of this policy limiting the age of archived matches.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param maxAge The maximum time a finished match is kept.
+     * @return The new policy.
+     * @throws IllegalArgumentException if the maximum age is null, zero or negative.
+     */
+    public RetentionPolicy withMaxAge(Duration maxAge) {
+        if (maxAge == null || maxAge.isZero() || maxAge.isNegative())
+            throw new IllegalArgumentException("Maximum age must be positive");
+
+        return new RetentionPolicy(maxMatches, maxAge, maxBytes);
+    }
+
+    /**
+     * Returns a copy of this policy limiting the estimated memory of the archive.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param maxBytes The maximum estimated memory of the archive in bytes.
+     * @return The new policy.
+     * @throws IllegalArgumentException if the maximum memory is not positive.
+     */
+    public RetentionPolicy withMaxBytes(long maxBytes) {
+        if (maxBytes <= 0)
+            throw new IllegalArgumentException("Maximum bytes must be positive");
+
+        return new RetentionPolicy(maxMatches, maxAge, maxBytes);
+    }
+
+    public int getMaxMatches() {
+        return maxMatches;
+    }
+
+    /**
+     * @return The maximum age of an archived match, or null if matches are not evicted by age.
+     */
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+}
@@ -0,0 +1,56 @@
+package com.sportradar.archive;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of ascending archive sequence numbers backing the secondary indexes of the archive.
+ * Sequence numbers are appended at the tail and evicted from the head, mirroring the order in which
+ * the archive appends and evicts matches, so both operations take constant amortised time.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class SequenceList {
+    private long[] sequences = new long[4];
+    private int head;
+    private int tail;
+
+    void add(long sequence) {
+        if (tail == sequences.length) {
+            if (head > sequences.length / 2) {
+                System.arraycopy(sequences, head, sequences, 0, tail - head);
+            } else {
+                sequences = Arrays.copyOf(sequences, sequences.length * 2);
+                System.arraycopy(sequences, head, sequences, 0, tail - head);
+            }
+
+            tail -= head;
+            head = 0;
+        }
+
+        sequences[tail++] = sequence;
+    }
+
+    /**
+     * Removes the oldest sequence number if it is the given one.
+     */
+    void evict(long sequence) {
+        if (head < tail && sequences[head] == sequence)
+            head++;
+    }
+
+    boolean isEmpty() {
+        return head == tail;
+    }
+
+    int size() {
+        return tail - head;
+    }
+
+    /**
+     * Returns a sequence number by its position counted from the newest one.
+     */
+    long newest(int index) {
+        return sequences[tail - 1 - index];
+    }
+}
@@ -0,0 +1,62 @@
+package com.sportradar.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates the threads serving long-lived connections, such as feeds read by the ingestor and clients of the push
+ * server. On a Java 21 or later runtime every connection gets its own virtual thread, so thousands of mostly idle
+ * connections cost a few kilobytes each; on older runtimes daemon platform threads are used. The virtual thread
+ * builder is looked up reflectively, so the library still builds and runs on Java 17.
+ * On Java 17, the project's compile target, every connection is an operating system thread with its own stack,
+ * typically reserving 1 MB of address space, and counting against the process and system thread limits. Serving
+ * thousands of push clients or feeds there means thousands of OS threads; run on Java 21 or later for that scale,
+ * or keep the number of connections per process in the hundreds.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class ConnectionThreads {
+    private static final ThreadFactory VIRTUAL_THREADS = virtualThreadFactory();
+    private static final AtomicLong THREAD_NUMBERS = new AtomicLong();
+
+    private ConnectionThreads() {
+    }
+
+    /**
+     * Creates a new, unstarted thread running a task.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param name The name prefix of the thread; a unique number is appended.
+     * @param task The task run by the thread.
+     * @return The new thread.
+     */
+    public static Thread newThread(String name, Runnable task) {
+        Thread thread;
+
+        if (VIRTUAL_THREADS != null) {
+            thread = VIRTUAL_THREADS.newThread(task);
+        } else {
+            thread = new Thread(task);
+            thread.setDaemon(true);
+        }
+
+        thread.setName(name + "-" + THREAD_NUMBERS.incrementAndGet());
+
+        return thread;
+    }
+
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder = ofVirtual.invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sportradar.event;
+
+/**
+ * Event emitted when a match is finished, carrying the final score of the match.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class MatchFinished extends ScoreboardEvent {
+    private final int homeScore;
+    private final int awayScore;
+
+    public MatchFinished(long sequence, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        super(sequence, homeTeam, awayTeam);
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchFinished[" + getHomeTeam() + " " + homeScore + " - " + getAwayTeam() + " " + awayScore + "]";
+    }
+}
@@ -0,0 +1,25 @@
+package com.sportradar.event;
+
+/**
+ * Event emitted when a match is started.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class MatchStarted extends ScoreboardEvent {
+    private final long startTime;
+
+    public MatchStarted(long sequence, String homeTeam, String awayTeam, long startTime) {
+        super(sequence, homeTeam, awayTeam);
+        this.startTime = startTime;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchStarted[" + getHomeTeam() + " - " + getAwayTeam() + "]";
+    }
+}
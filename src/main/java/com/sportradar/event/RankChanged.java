@@ -0,0 +1,34 @@
+package com.sportradar.event;
+
+/**
+ * Event emitted when a score update moves a match to a different position in the scoreboard summary.
+ * Ranks are zero-based positions in the summary order. Only the updated match is reported: the matches it
+ * overtakes or falls behind shift by one position towards its old rank without events of their own, so a
+ * subscriber mirroring the whole order moves every match between the old and the new rank by one.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class RankChanged extends ScoreboardEvent {
+    private final int oldRank;
+    private final int newRank;
+
+    public RankChanged(long sequence, String homeTeam, String awayTeam, int oldRank, int newRank) {
+        super(sequence, homeTeam, awayTeam);
+        this.oldRank = oldRank;
+        this.newRank = newRank;
+    }
+
+    public int getOldRank() {
+        return oldRank;
+    }
+
+    public int getNewRank() {
+        return newRank;
+    }
+
+    @Override
+    public String toString() {
+        return "RankChanged[" + getHomeTeam() + " - " + getAwayTeam() + " " + oldRank + " -> " + newRank + "]";
+    }
+}
@@ -0,0 +1,45 @@
+package com.sportradar.event;
+
+/**
+ * Event emitted when the score of a match is updated, carrying both the old and the new score.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class ScoreUpdated extends ScoreboardEvent {
+    private final int oldHomeScore;
+    private final int oldAwayScore;
+    private final int homeScore;
+    private final int awayScore;
+
+    public ScoreUpdated(long sequence, String homeTeam, String awayTeam,
+                        int oldHomeScore, int oldAwayScore, int homeScore, int awayScore) {
+        super(sequence, homeTeam, awayTeam);
+        this.oldHomeScore = oldHomeScore;
+        this.oldAwayScore = oldAwayScore;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+    }
+
+    public int getOldHomeScore() {
+        return oldHomeScore;
+    }
+
+    public int getOldAwayScore() {
+        return oldAwayScore;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    @Override
+    public String toString() {
+        return "ScoreUpdated[" + getHomeTeam() + " " + oldHomeScore + " -> " + homeScore + " - "
+            + getAwayTeam() + " " + oldAwayScore + " -> " + awayScore + "]";
+    }
+}
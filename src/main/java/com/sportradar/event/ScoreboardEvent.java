@@ -0,0 +1,51 @@
+package com.sportradar.event;
+
+/**
+ * Base class of the typed change events emitted by a scoreboard. Every event identifies the match
+ * it refers to by its home and away team names and carries a sequence number that grows by one
+ * with every event emitted by the same publisher, so subscribers can detect gaps and order events.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see MatchStarted
+ * @see ScoreUpdated
+ * @see MatchFinished
+ * @see RankChanged
+ */
+public abstract class ScoreboardEvent {
+    private final long sequence;
+    private final String homeTeam;
+    private final String awayTeam;
+
+    /**
+     * Constructs a ScoreboardEvent instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param sequence The sequence number of the event.
+     * @param homeTeam The name of the home team of the match.
+     * @param awayTeam The name of the away team of the match.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    protected ScoreboardEvent(long sequence, String homeTeam, String awayTeam) {
+        if (homeTeam == null || awayTeam == null)
+            throw new IllegalArgumentException("Team names cannot be null");
+
+        this.sequence = sequence;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+}
@@ -17,15 +17,14 @@ public interface MatchFactory {
     /**
      * Creates a new instance of the Match class.
      * This method is responsible for generating a Match object with the provided team names and
-     * a start time shift. The start time shift is used to adjust the start time of the match,
-     * which is important for ensuring unique start times for matches and avoiding conflicts.
+     * a start time shift. The start time shift is used to adjust the start time of the match;
+     * scoreboards order matches with equal start times by the order in which they were started.
      *
      * @author Anatolii Stepanchuk
      *
      * @param homeTeam       The name of the home team participating in the match.
      * @param awayTeam       The name of the away team participating in the match.
      * @param startTimeShift The time shift in milliseconds to be applied to the match's start time.
-     *                       This is used to ensure a unique timestamp for the start time of each match.
      * @return               A new instance of the Match class, initialized with the given parameters.
      */
     Match createMatch(String homeTeam, String awayTeam, int startTimeShift);
@@ -2,12 +2,18 @@ package com.sportradar.factory;
 
 import com.sportradar.model.Match;
 
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * This class is an implementation of the MatchFactory interface, providing the concrete logic
  * for creating Match objects. MatchFactoryImpl is responsible for instantiating Match objects
  * with specified parameters.
  * This implementation can be used throughout the application wherever Match objects need to be created,
  * allowing for a consistent approach to Match instantiation.
+ * Start times are read from a pluggable {@link Clock}, e.g. a {@code SimulatedClock} for tests and replays,
+ * and never go backwards: if the clock jumps back, matches keep starting at the latest time seen until the
+ * clock catches up. Scoreboards order matches with equal start times by the order in which they were started.
  *
  * @author Anatolii Stepanchuk
  *
@@ -15,19 +21,56 @@ import com.sportradar.model.Match;
  * @see com.sportradar.model.Match
  */
 public class MatchFactoryImpl implements MatchFactory{
+    private final Clock clock;
+    private final AtomicLong latestClockMillis = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Constructs a new MatchFactoryImpl instance reading start times from the system clock.
+     *
+     * @author Anatolii Stepanchuk
+     */
+    public MatchFactoryImpl() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a new MatchFactoryImpl instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param clock The clock providing the start times of new matches.
+     * @throws IllegalArgumentException if the clock is null.
+     */
+    public MatchFactoryImpl(Clock clock) {
+        if (clock == null)
+            throw new IllegalArgumentException("Clock cannot be null");
+
+        this.clock = clock;
+    }
+
     /**
      * Creates and returns a new Match object initialized with the specified home team, away team,
      * and start time shift.
-     * The startTimeShift parameter is used to adjust the match's start time, ensuring a unique
-     * timestamp for each match and avoiding potential conflicts in match scheduling.
+     * The match starts at the current time of the clock, or at the latest time read from the clock
+     * before if the clock went backwards, plus the start time shift.
      *
      * @param homeTeam       The name of the home team for the match.
      * @param awayTeam       The name of the away team for the match.
      * @param startTimeShift The time shift in milliseconds to adjust the match's start time.
      * @return A new Match object initialized with the given home team, away team, and adjusted start time.
+     * @throws IllegalArgumentException if any team name is null or the start time shift is negative.
      */
     @Override
     public Match createMatch(String homeTeam, String awayTeam, int startTimeShift) {
-        return new Match(homeTeam, awayTeam, startTimeShift);
+        if (startTimeShift < 0)
+            throw new IllegalArgumentException("Start time shift cannot be negative");
+
+        long now = latestClockMillis.accumulateAndGet(clock.millis(), Math::max);
+
+        return new Match(homeTeam, awayTeam, 0, 0, now + startTimeShift);
+    }
+
+    public Clock getClock() {
+        return clock;
     }
 }
@@ -0,0 +1,59 @@
+package com.sportradar.index;
+
+import com.sportradar.model.Match;
+
+import java.util.Comparator;
+
+/**
+ * Indexed state of one live match of an {@link IndexedScoreboard}. Besides the teams, score and start order of
+ * the match, an entry keeps its position in every {@link MatchSet} it belongs to: position 0 in its total score
+ * bucket and position {@code 1 + i} in the set of its {@code i}-th tag, so it can be removed from any of them in
+ * constant time.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class IndexEntry {
+    /**
+     * Orders entries like the scoreboard summary: by total score, then start time and finally start
+     * sequence, all in descending order.
+     */
+    static final Comparator<IndexEntry> SUMMARY_ORDER = Comparator.comparingInt(IndexEntry::getTotalScore)
+        .thenComparingLong(entry -> entry.startTime)
+        .thenComparingLong(entry -> entry.sequence)
+        .reversed();
+
+    static final int SCORE_SLOT = 0;
+
+    final int homeTeamId;
+    final int awayTeamId;
+    final String homeTeam;
+    final String awayTeam;
+    final long startTime;
+    final long sequence;
+    final String[] tags;
+    final int[] positions;
+    int homeScore;
+    int awayScore;
+
+    IndexEntry(int homeTeamId, int awayTeamId, Match match, long sequence, String[] tags) {
+        this.homeTeamId = homeTeamId;
+        this.awayTeamId = awayTeamId;
+        this.homeTeam = match.getHomeTeam();
+        this.awayTeam = match.getAwayTeam();
+        this.homeScore = match.getHomeScore();
+        this.awayScore = match.getAwayScore();
+        this.startTime = match.getStartTime();
+        this.sequence = sequence;
+        this.tags = tags;
+        this.positions = new int[1 + tags.length];
+    }
+
+    int getTotalScore() {
+        return homeScore + awayScore;
+    }
+
+    Match toMatch() {
+        return new Match(homeTeam, awayTeam, homeScore, awayScore, startTime);
+    }
+}
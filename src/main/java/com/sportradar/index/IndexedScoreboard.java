@@ -0,0 +1,279 @@
+package com.sportradar.index;
+
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.ForwardingScoreboard;
+import com.sportradar.service.Scoreboard;
+import com.sportradar.service.TeamRegistry;
+
+import java.util.*;
+
+/**
+ * Scoreboard decorator maintaining secondary indexes of the live matches, so that product pages can ask
+ * "is Brazil playing right now?", "all live matches of Group C" or "matches with 5 or more goals" without
+ * scanning and sorting the whole summary. Three indexes are kept up to date by every write:
+ * 1. Team index: the live match of every team, held in an array indexed by team ID.
+ * 2. Tag index: the live matches of every competition or group tag given when the match was started.
+ * 3. Score index: the live matches of every total score, in buckets ordered by total score.
+ * Writes are serialised and forwarded to the decorated scoreboard first, and the indexes are updated only
+ * after the decorated scoreboard accepted a write, so they never disagree with it. Moving a match between
+ * score buckets takes constant time and does not allocate. Queries take time proportional to the number of
+ * matches they return and return them in summary order. All writes must go through this decorator.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public class IndexedScoreboard extends ForwardingScoreboard {
+    private static final String[] NO_TAGS = new String[0];
+
+    private final Object writeLock = new Object();
+    private final TeamRegistry teamRegistry;
+    private final Map<String, MatchSet> matchesByTag = new HashMap<>();
+    private final NavigableMap<Integer, MatchSet> matchesByTotalScore = new TreeMap<>();
+    private IndexEntry[] matchesByTeam = new IndexEntry[16];
+    private long nextSequence;
+
+    /**
+     * Constructs a new IndexedScoreboard instance decorating the given scoreboard. The scoreboard must not
+     * hold any live matches yet.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The scoreboard holding the live matches.
+     * @throws IllegalArgumentException if scoreboard is null or already holds live matches.
+     */
+    public IndexedScoreboard(Scoreboard scoreboard) {
+        super(scoreboard);
+
+        if (!scoreboard.getTopN(1).isEmpty())
+            throw new IllegalArgumentException("Scoreboard cannot hold live matches");
+
+        this.teamRegistry = scoreboard.getTeamRegistry();
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        synchronized (writeLock) {
+            scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+            index(homeTeam, awayTeam, NO_TAGS);
+        }
+    }
+
+    /**
+     * Starts a new match tagged with the competition, group or any other tags it can be queried by.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team.
+     * @param awayTeam The name of the away team.
+     * @param tags     The tags of the match, e.g. "World Cup" and "Group C".
+     * @throws IllegalArgumentException if any team name or tag is null or both team names are the same.
+     * @throws IllegalStateException if any of the teams is already playing a live match.
+     */
+    public void startMatch(String homeTeam, String awayTeam, String... tags) {
+        if (tags == null || Arrays.asList(tags).contains(null))
+            throw new IllegalArgumentException("Tag cannot be null");
+
+        String[] distinctTags = new LinkedHashSet<>(Arrays.asList(tags)).toArray(NO_TAGS);
+
+        synchronized (writeLock) {
+            scoreboard.startMatch(homeTeam, awayTeam);
+            index(homeTeam, awayTeam, distinctTags);
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        synchronized (writeLock) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            rescore(entryOf(homeTeam), homeScore, awayScore);
+        }
+    }
+
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        synchronized (writeLock) {
+            scoreboard.applyBatch(updates);
+
+            for (ScoreUpdate update : updates)
+                rescore(entryOf(update.getHomeTeam()), update.getHomeScore(), update.getAwayScore());
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            scoreboard.finishMatch(homeTeam, awayTeam);
+
+            IndexEntry entry = entryOf(homeTeam);
+
+            matchesByTeam[entry.homeTeamId] = null;
+            matchesByTeam[entry.awayTeamId] = null;
+            removeFromScoreBucket(entry);
+
+            for (int index = 0; index < entry.tags.length; index++) {
+                MatchSet matches = matchesByTag.get(entry.tags[index]);
+
+                matches.remove(entry, 1 + index);
+
+                if (matches.isEmpty())
+                    matchesByTag.remove(entry.tags[index]);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.findMatch(homeTeam, awayTeam);
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        synchronized (writeLock) {
+            return scoreboard.getSummary();
+        }
+    }
+
+    @Override
+    public List<Match> getTopN(int n) {
+        synchronized (writeLock) {
+            return scoreboard.getTopN(n);
+        }
+    }
+
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.rankOf(homeTeam, awayTeam);
+        }
+    }
+
+    /**
+     * Looks up the live match of a team, whether it plays at home or away.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param team The name of the team.
+     * @return The live match of the team, or an empty optional if the team is not playing.
+     * @throws IllegalArgumentException if the team name is null.
+     */
+    public Optional<Match> findMatchOf(String team) {
+        int teamId = teamRegistry.idOf(team);
+
+        synchronized (writeLock) {
+            if (teamId == TeamRegistry.NO_TEAM || teamId >= matchesByTeam.length || matchesByTeam[teamId] == null)
+                return Optional.empty();
+
+            return Optional.of(matchesByTeam[teamId].toMatch());
+        }
+    }
+
+    /**
+     * Retrieves the live matches started with a tag, e.g. all live matches of a group.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param tag The tag of the matches.
+     * @return A new list of the tagged matches in summary order.
+     * @throws IllegalArgumentException if the tag is null.
+     */
+    public List<Match> findByTag(String tag) {
+        if (tag == null)
+            throw new IllegalArgumentException("Tag cannot be null");
+
+        List<Match> matches = new ArrayList<>();
+
+        synchronized (writeLock) {
+            MatchSet tagged = matchesByTag.get(tag);
+
+            if (tagged != null)
+                tagged.addMatchesTo(matches);
+        }
+
+        return matches;
+    }
+
+    /**
+     * Retrieves the live matches with at least a given total score.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param minTotalScore The lowest total score of the matches.
+     * @return A new list of the matches in summary order.
+     * @throws IllegalArgumentException if the total score is negative.
+     */
+    public List<Match> findByTotalScore(int minTotalScore) {
+        return findByTotalScore(minTotalScore, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves the live matches with a total score in a range. Only the non-empty score buckets of the range
+     * are visited.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param minTotalScore The lowest total score of the matches, inclusive.
+     * @param maxTotalScore The highest total score of the matches, inclusive.
+     * @return A new list of the matches in summary order.
+     * @throws IllegalArgumentException if any total score is negative or the range is empty.
+     */
+    public List<Match> findByTotalScore(int minTotalScore, int maxTotalScore) {
+        if (minTotalScore < 0 || maxTotalScore < minTotalScore)
+            throw new IllegalArgumentException("Total score range is invalid");
+
+        List<Match> matches = new ArrayList<>();
+
+        synchronized (writeLock) {
+            for (MatchSet bucket : matchesByTotalScore.subMap(minTotalScore, true, maxTotalScore, true).descendingMap().values())
+                bucket.addMatchesTo(matches);
+        }
+
+        return matches;
+    }
+
+    private void index(String homeTeam, String awayTeam, String[] tags) {
+        Match match = scoreboard.findMatch(homeTeam, awayTeam).orElseThrow();
+        int homeTeamId = teamRegistry.idOf(match.getHomeTeam());
+        int awayTeamId = teamRegistry.idOf(match.getAwayTeam());
+        IndexEntry entry = new IndexEntry(homeTeamId, awayTeamId, match, nextSequence++, tags);
+
+        if (Math.max(homeTeamId, awayTeamId) >= matchesByTeam.length)
+            matchesByTeam = Arrays.copyOf(matchesByTeam, Math.max(matchesByTeam.length * 2, Math.max(homeTeamId, awayTeamId) + 1));
+
+        matchesByTeam[homeTeamId] = entry;
+        matchesByTeam[awayTeamId] = entry;
+        matchesByTotalScore.computeIfAbsent(entry.getTotalScore(), totalScore -> new MatchSet()).add(entry, IndexEntry.SCORE_SLOT);
+
+        for (int index = 0; index < tags.length; index++)
+            matchesByTag.computeIfAbsent(tags[index], tag -> new MatchSet()).add(entry, 1 + index);
+    }
+
+    private void rescore(IndexEntry entry, int homeScore, int awayScore) {
+        if (homeScore + awayScore != entry.getTotalScore()) {
+            removeFromScoreBucket(entry);
+            matchesByTotalScore.computeIfAbsent(homeScore + awayScore, totalScore -> new MatchSet()).add(entry, IndexEntry.SCORE_SLOT);
+        }
+
+        entry.homeScore = homeScore;
+        entry.awayScore = awayScore;
+    }
+
+    private void removeFromScoreBucket(IndexEntry entry) {
+        MatchSet bucket = matchesByTotalScore.get(entry.getTotalScore());
+
+        bucket.remove(entry, IndexEntry.SCORE_SLOT);
+
+        if (bucket.isEmpty())
+            matchesByTotalScore.remove(entry.getTotalScore());
+    }
+
+    /**
+     * Returns the entry of a match the decorated scoreboard has just accepted a write of. A team plays
+     * one live match at a time, so the match is found by its home team alone.
+     */
+    private IndexEntry entryOf(String homeTeam) {
+        return matchesByTeam[teamRegistry.idOf(homeTeam)];
+    }
+}
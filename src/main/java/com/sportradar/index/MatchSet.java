@@ -0,0 +1,59 @@
+package com.sportradar.index;
+
+import com.sportradar.model.Match;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unordered set of index entries backed by an array. An entry stores its own position in the set, so adding
+ * and removing it take constant time without hashing and without allocating, apart from growing the array.
+ * A removed entry is replaced by the last entry of the set. An entry can belong to several sets at once and
+ * stores its position in each of them in a separate slot; the set remembers the slot every entry uses.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class MatchSet {
+    private IndexEntry[] entries = new IndexEntry[4];
+    private int[] slots = new int[4];
+    private int size;
+
+    void add(IndexEntry entry, int slot) {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+            slots = Arrays.copyOf(slots, size * 2);
+        }
+
+        entry.positions[slot] = size;
+        entries[size] = entry;
+        slots[size] = slot;
+        size++;
+    }
+
+    void remove(IndexEntry entry, int slot) {
+        int position = entry.positions[slot];
+        int last = --size;
+
+        entries[position] = entries[last];
+        slots[position] = slots[last];
+        entries[position].positions[slots[position]] = position;
+        entries[last] = null;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds the matches of this set to a list in summary order.
+     */
+    void addMatchesTo(List<Match> matches) {
+        IndexEntry[] sorted = Arrays.copyOf(entries, size);
+
+        Arrays.sort(sorted, IndexEntry.SUMMARY_ORDER);
+
+        for (IndexEntry entry : sorted)
+            matches.add(entry.toMatch());
+    }
+}
@@ -0,0 +1,104 @@
+package com.sportradar.ingest;
+
+import com.sportradar.service.Scoreboard;
+import com.sportradar.service.TeamRegistry;
+
+/**
+ * A parsed feed line with its teams resolved to IDs of the team registry, ready to be applied to a scoreboard.
+ * Parsing and resolving run on the thread of the feed, so the single writer only applies commands.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class FeedCommand {
+    static final FeedCommand STOP = new FeedCommand(0, 0, 0, 0, 0);
+
+    private static final int START = 1;
+    private static final int UPDATE = 2;
+    private static final int FINISH = 3;
+
+    private final int type;
+    private final int homeTeamId;
+    private final int awayTeamId;
+    private final int first;
+    private final int second;
+
+    private FeedCommand(int type, int homeTeamId, int awayTeamId, int first, int second) {
+        this.type = type;
+        this.homeTeamId = homeTeamId;
+        this.awayTeamId = awayTeamId;
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Parses a feed line. Team names of a started match are registered; the teams of other commands must
+     * be registered already.
+     *
+     * @param line         The feed line.
+     * @param teamRegistry The registry resolving the team names.
+     * @return The parsed command.
+     * @throws IllegalArgumentException if the line is malformed or refers to an unknown team.
+     */
+    static FeedCommand parse(String line, TeamRegistry teamRegistry) {
+        String[] fields = line.split("\\|", -1);
+
+        try {
+            switch (fields[0]) {
+                case "START":
+                    if (fields.length != 3 && fields.length != 4)
+                        break;
+
+                    return new FeedCommand(START, teamRegistry.register(fields[1]), teamRegistry.register(fields[2]),
+                        fields.length == 4 ? Integer.parseInt(fields[3]) : 0, 0);
+                case "UPDATE":
+                    if (fields.length != 5)
+                        break;
+
+                    return new FeedCommand(UPDATE, knownTeam(fields[1], teamRegistry), knownTeam(fields[2], teamRegistry),
+                        Integer.parseInt(fields[3]), Integer.parseInt(fields[4]));
+                case "FINISH":
+                    if (fields.length != 3)
+                        break;
+
+                    return new FeedCommand(FINISH, knownTeam(fields[1], teamRegistry), knownTeam(fields[2], teamRegistry), 0, 0);
+                default:
+                    break;
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed feed line: " + line, e);
+        }
+
+        throw new IllegalArgumentException("Malformed feed line: " + line);
+    }
+
+    /**
+     * Applies the command to a scoreboard through its team ID overloads.
+     *
+     * @param scoreboard The scoreboard to apply the command to.
+     */
+    void applyTo(Scoreboard scoreboard) {
+        switch (type) {
+            case START:
+                scoreboard.startMatch(homeTeamId, awayTeamId, first);
+                break;
+            case UPDATE:
+                scoreboard.updateScore(homeTeamId, awayTeamId, first, second);
+                break;
+            case FINISH:
+                scoreboard.finishMatch(homeTeamId, awayTeamId);
+                break;
+            default:
+                throw new IllegalStateException("Unknown command type: " + type);
+        }
+    }
+
+    private static int knownTeam(String name, TeamRegistry teamRegistry) {
+        int id = teamRegistry.idOf(name);
+
+        if (id == TeamRegistry.NO_TEAM)
+            throw new IllegalArgumentException("Unknown team: " + name);
+
+        return id;
+    }
+}
@@ -0,0 +1,338 @@
+package com.sportradar.ingest;
+
+import com.sportradar.concurrent.ConnectionThreads;
+import com.sportradar.service.Scoreboard;
+import com.sportradar.service.TeamRegistry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ingestion pipeline feeding any number of provider feeds into a single scoreboard:
+ * 1. Every feed is read by its own thread, a virtual thread on Java 21 or later, which parses the feed lines and
+ *    resolves the team names to IDs of the team registry of the scoreboard.
+ * 2. The parsed commands of all feeds go through one bounded queue. A feed thread that finds the queue full
+ *    blocks until the writer catches up, so a burst is throttled at the feed connection instead of
+ *    buffering without bound.
+ * 3. A single writer thread takes the commands off the queue in batches and applies them to the scoreboard
+ *    through its team ID overloads. The scoreboard is written by this thread only, so it does not need to be
+ *    thread-safe for writes; concurrent readers need a board that is, e.g. a {@code SnapshotScoreboard}.
+ * The commands of one feed are applied in the order of the feed; commands of different feeds interleave.
+ * A feed line is one of {@code START|home|away[|startTimeShift]}, {@code UPDATE|home|away|homeScore|awayScore}
+ * or {@code FINISH|home|away}; blank lines are ignored. Malformed lines and commands rejected by the scoreboard
+ * are counted and skipped, so one bad message does not stop a feed.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see FeedSource
+ */
+public class FeedIngestor implements AutoCloseable {
+    private static final int MAX_DRAIN = 256;
+
+    private final Scoreboard scoreboard;
+    private final TeamRegistry teamRegistry;
+    private final BlockingQueue<FeedCommand> queue;
+    private final Thread writer;
+    private final Set<Thread> feeds = ConcurrentHashMap.newKeySet();
+    private final Set<InputStream> connections = ConcurrentHashMap.newKeySet();
+    private final Object idle = new Object();
+    private final AtomicInteger activeFeeds = new AtomicInteger();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder malformed = new LongAdder();
+    private final LongAdder backpressured = new LongAdder();
+    private final LongAdder failedFeeds = new LongAdder();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+    private volatile long taken;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new FeedIngestor instance and starts its writer thread.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard    The scoreboard the feeds are applied to.
+     * @param queueCapacity The maximum number of parsed commands waiting for the writer.
+     * @throws IllegalArgumentException if scoreboard is null or the queue capacity is not positive.
+     */
+    public FeedIngestor(Scoreboard scoreboard, int queueCapacity) {
+        if (scoreboard == null)
+            throw new IllegalArgumentException("Scoreboard cannot be null");
+
+        if (queueCapacity <= 0)
+            throw new IllegalArgumentException("Queue capacity must be positive");
+
+        this.scoreboard = scoreboard;
+        this.teamRegistry = scoreboard.getTeamRegistry();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::applyCommands, "feed-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Connects a feed and starts the thread reading it. The feed ends when its reader reaches the end of input.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param name   The name of the feed, used to name its thread.
+     * @param source The source of the feed.
+     * @throws IllegalArgumentException if the name or source is null.
+     * @throws IllegalStateException if the ingestor is closed.
+     */
+    public void addFeed(String name, FeedSource source) {
+        if (name == null || source == null)
+            throw new IllegalArgumentException("Feed name and source cannot be null");
+
+        if (closed)
+            throw new IllegalStateException("Ingestor is closed");
+
+        Thread feed = ConnectionThreads.newThread("feed-" + name, () -> readFeed(source));
+
+        activeFeeds.incrementAndGet();
+        feeds.add(feed);
+        feed.start();
+    }
+
+    /**
+     * Waits until all connected feeds ended and all their commands were applied to the scoreboard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param timeout The maximum time to wait.
+     * @param unit    The unit of the timeout.
+     * @return True if the ingestor became idle, false if the timeout elapsed first.
+     * @throws InterruptedException if the current thread is interrupted while waiting.
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        synchronized (idle) {
+            while (activeFeeds.get() > 0 || taken < enqueued.sum()) {
+                long remaining = deadline - System.nanoTime();
+
+                if (remaining <= 0)
+                    return false;
+
+                TimeUnit.NANOSECONDS.timedWait(idle, remaining);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Disconnects all feeds, applies the commands already queued and stops the writer thread. If the current
+     * thread is interrupted while waiting for the threads to stop, it stops waiting and its interrupt status
+     * is restored; the feeds are disconnected nevertheless.
+     *
+     * @author Anatolii Stepanchuk
+     */
+    @Override
+    public void close() {
+        synchronized (connections) {
+            if (closed)
+                return;
+
+            closed = true;
+
+            for (InputStream connection : connections)
+                closeQuietly(connection);
+        }
+
+        for (Thread feed : feeds)
+            feed.interrupt();
+
+        try {
+            for (Thread feed : feeds)
+                feed.join();
+
+            queue.put(FeedCommand.STOP);
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return The number of commands currently waiting for the writer.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return The highest number of commands that were waiting for the writer at the same time.
+     */
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * @return The number of commands a feed thread had to wait for because the queue was full.
+     */
+    public long getBackpressuredCount() {
+        return backpressured.sum();
+    }
+
+    public long getAppliedCount() {
+        return applied.sum();
+    }
+
+    /**
+     * @return The number of commands the scoreboard rejected, e.g. an update of a match that is not live.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return The number of feed lines that could not be parsed or referred to an unknown team.
+     */
+    public long getMalformedCount() {
+        return malformed.sum();
+    }
+
+    /**
+     * @return The number of feeds that ended with an I/O error instead of the end of input.
+     */
+    public long getFailedFeedCount() {
+        return failedFeeds.sum();
+    }
+
+    public int getActiveFeedCount() {
+        return activeFeeds.get();
+    }
+
+    private void readFeed(FeedSource source) {
+        try (InputStream connection = source.open()) {
+            if (!register(connection))
+                return;
+
+            try {
+                readLines(new BufferedReader(new InputStreamReader(connection, StandardCharsets.UTF_8)));
+            } finally {
+                connections.remove(connection);
+            }
+        } catch (IOException e) {
+            if (!closed)
+                failedFeeds.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            feeds.remove(Thread.currentThread());
+            activeFeeds.decrementAndGet();
+            signalIdle();
+        }
+    }
+
+    private void readLines(BufferedReader reader) throws IOException, InterruptedException {
+        String line;
+
+        while (!closed && (line = reader.readLine()) != null) {
+            if (line.isBlank())
+                continue;
+
+            FeedCommand command;
+
+            try {
+                command = FeedCommand.parse(line.strip(), teamRegistry);
+            } catch (IllegalArgumentException e) {
+                malformed.increment();
+                continue;
+            }
+
+            enqueue(command);
+        }
+    }
+
+    private void enqueue(FeedCommand command) throws InterruptedException {
+        enqueued.increment();
+
+        if (!queue.offer(command)) {
+            backpressured.increment();
+            queue.put(command);
+        }
+
+        maxQueueDepth.accumulate(queue.size());
+    }
+
+    /**
+     * Body of the single writer thread: takes the commands off the queue in batches and applies them in order.
+     */
+    private void applyCommands() {
+        List<FeedCommand> batch = new ArrayList<>(MAX_DRAIN);
+
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_DRAIN - 1);
+
+                for (FeedCommand command : batch) {
+                    if (command == FeedCommand.STOP)
+                        return;
+
+                    try {
+                        command.applyTo(scoreboard);
+                        applied.increment();
+                    } catch (RuntimeException e) {
+                        rejected.increment();
+                    }
+                }
+
+                taken += batch.size();
+                batch.clear();
+                signalIdle();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Registers the connection of a feed so that {@link #close()} can disconnect it. Registration and closing
+     * are serialised, so a connection opened while the ingestor is being closed is either disconnected by
+     * {@link #close()} or not registered at all.
+     *
+     * @return False if the ingestor is already closed and the feed must not be read.
+     */
+    private boolean register(InputStream connection) {
+        synchronized (connections) {
+            if (closed)
+                return false;
+
+            connections.add(connection);
+
+            return true;
+        }
+    }
+
+    private void signalIdle() {
+        synchronized (idle) {
+            idle.notifyAll();
+        }
+    }
+
+    private static void closeQuietly(InputStream connection) {
+        try {
+            connection.close();
+        } catch (IOException e) {
+            // The feed is being disconnected; there is nothing left to read from it.
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.sportradar.ingest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Connection to a provider feed delivering one UTF-8 encoded command per line (see {@link FeedIngestor} for the
+ * line format). A source is opened once by the thread reading the feed; the returned stream is closed when the
+ * feed ends or, to disconnect a feed blocked in a read, when the ingestor is closed.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see FeedIngestor
+ */
+@FunctionalInterface
+public interface FeedSource {
+    /**
+     * Opens the connection to the feed.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The stream of the feed lines.
+     * @throws IOException if the feed cannot be opened.
+     */
+    InputStream open() throws IOException;
+
+    /**
+     * Creates a source replaying a recorded feed from a file, e.g. for offline load tests.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param file The file holding the recorded feed lines.
+     * @return The replaying source.
+     * @throws IllegalArgumentException if the file is null.
+     */
+    static FeedSource replay(Path file) {
+        if (file == null)
+            throw new IllegalArgumentException("File cannot be null");
+
+        return () -> Files.newInputStream(file);
+    }
+
+    /**
+     * Creates a source reading a feed from a TCP socket, e.g. a provider connection or a local replay server.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param host The host of the feed.
+     * @param port The port of the feed.
+     * @return The socket source.
+     * @throws IllegalArgumentException if the host is null.
+     */
+    static FeedSource socket(String host, int port) {
+        if (host == null)
+            throw new IllegalArgumentException("Host cannot be null");
+
+        return () -> new Socket(host, port).getInputStream();
+    }
+}
@@ -0,0 +1,124 @@
+package com.sportradar.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary layout shared by the journal and snapshot files. All numbers are big-endian.
+ * A journal file starts with a magic number and a format version, followed by records. Every record is a type
+ * byte, a fixed size payload (variable only for team records) and a CRC32C checksum of the type and the payload,
+ * so a record torn by a crash is detected and ends the replay:
+ * 1. Team:   team ID (int), UTF-8 name length (unsigned short), UTF-8 name.
+ * 2. Start:  home team ID (int), away team ID (int), start time (long).
+ * 3. Update: home team ID (int), away team ID (int), home score (int), away score (int).
+ * 4. Finish: home team ID (int), away team ID (int).
+ * 5. Batch:  number of update records (int) that follow the batch record and form the batch. A batch is
+ *    replayed only if all of its update records are complete, so a batch torn by a crash is not replayed at all.
+ * A snapshot file holds the magic number, the format version, the team dictionary as team ID/name pairs,
+ * the live matches as start records without type bytes followed by their scores, and a CRC32C checksum of
+ * the whole content.
+ * The files of generation {@code n} are {@code snapshot-n.bin} and {@code journal-n.bin}; the journal holds
+ * the writes made after the snapshot was taken.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class JournalFormat {
+    static final int JOURNAL_MAGIC = 0x53424A4C;
+    static final int SNAPSHOT_MAGIC = 0x53425350;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+
+    static final byte TEAM = 1;
+    static final byte START = 2;
+    static final byte UPDATE = 3;
+    static final byte FINISH = 4;
+    static final byte BATCH = 5;
+
+    static final int START_SIZE = 16;
+    static final int UPDATE_SIZE = 16;
+    static final int FINISH_SIZE = 8;
+    static final int BATCH_SIZE = 4;
+    static final int CHECKSUM_SIZE = 4;
+    static final int MAX_NAME_LENGTH = 0xFFFF;
+
+    private static final String JOURNAL_PREFIX = "journal-";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+
+    private JournalFormat() {
+    }
+
+    static Path journalFile(Path directory, long generation) {
+        return directory.resolve(JOURNAL_PREFIX + generation + SUFFIX);
+    }
+
+    static Path snapshotFile(Path directory, long generation) {
+        return directory.resolve(SNAPSHOT_PREFIX + generation + SUFFIX);
+    }
+
+    /**
+     * Encodes a team name, rejecting names that do not fit into a team record.
+     */
+    static byte[] encodeName(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+
+        if (bytes.length > MAX_NAME_LENGTH)
+            throw new IllegalArgumentException("Team name is too long to be journaled");
+
+        return bytes;
+    }
+
+    static String decodeName(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Computes the CRC32C checksum of the bytes between two positions of a buffer, leaving the buffer unchanged.
+     */
+    static int checksum(ByteBuffer buffer, int from, int to) {
+        CRC32C crc = new CRC32C();
+
+        crc.update(buffer.duplicate().limit(to).position(from));
+
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Lists the generations of all files of the given kind in the directory, in ascending order.
+     */
+    static List<Long> generations(Path directory, boolean snapshots) {
+        String prefix = snapshots ? SNAPSHOT_PREFIX : JOURNAL_PREFIX;
+        List<Long> generations = new ArrayList<>();
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+
+                try {
+                    generations.add(Long.parseLong(name.substring(prefix.length(), name.length() - SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    // Not a file of the journal; leave it alone.
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        generations.sort(null);
+
+        return generations;
+    }
+}
@@ -0,0 +1,124 @@
+package com.sportradar.journal;
+
+import java.time.Duration;
+
+/**
+ * Immutable settings of a {@link JournalingScoreboard}:
+ * 1. The group commit size, i.e. the number of records buffered before they are written to the journal file
+ *    in a single system call.
+ * 2. Whether every group commit forces the journal file to the storage device. Without forcing, committed
+ *    records survive a crash of the process but not a crash of the operating system.
+ * 3. The maximum commit delay, i.e. the longest time a record is buffered before it is committed even if the
+ *    group is not full, which bounds the records lost by a crash of a quiet board.
+ * 4. The checkpoint interval, i.e. the number of records after which a snapshot of the board is written and
+ *    a new journal file is started, which bounds the length of the journal replayed on recovery.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class JournalOptions {
+    private final int groupCommitSize;
+    private final boolean forceOnCommit;
+    private final Duration maxCommitDelay;
+    private final int checkpointInterval;
+
+    private JournalOptions(int groupCommitSize, boolean forceOnCommit, Duration maxCommitDelay, int checkpointInterval) {
+        this.groupCommitSize = groupCommitSize;
+        this.forceOnCommit = forceOnCommit;
+        this.maxCommitDelay = maxCommitDelay;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns the default options: group commits of 256 records that are not forced to the storage device and
+     * are committed at most 10 milliseconds after their first record, and a checkpoint every 100 000 records.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The default options.
+     */
+    public static JournalOptions defaults() {
+        return new JournalOptions(256, false, Duration.ofMillis(10), 100_000);
+    }
+
+    /**
+     * Returns a copy of these options with a different group commit size. A group commit size of 1 writes
+     * every record as soon as it is appended.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param groupCommitSize The number of records written to the journal file at once.
+     * @return The new options.
+     * @throws IllegalArgumentException if the group commit size is not positive.
+     */
+    public JournalOptions withGroupCommitSize(int groupCommitSize) {
+        if (groupCommitSize <= 0)
+            throw new IllegalArgumentException("Group commit size must be positive");
+
+        return new JournalOptions(groupCommitSize, forceOnCommit, maxCommitDelay, checkpointInterval);
+    }
+
+    /**
+     * Returns a copy of these options that does or does not force every group commit to the storage device.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param forceOnCommit True to force every group commit to the storage device.
+     * @return The new options.
+     */
+    public JournalOptions withForceOnCommit(boolean forceOnCommit) {
+        return new JournalOptions(groupCommitSize, forceOnCommit, maxCommitDelay, checkpointInterval);
+    }
+
+    /**
+     * Returns a copy of these options with a different maximum commit delay. Buffered records are committed
+     * once the oldest of them has waited this long, by the next append or by the timed commits of the board.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param maxCommitDelay The longest time a record is buffered before it is committed.
+     * @return The new options.
+     * @throws IllegalArgumentException if the delay is null or not positive.
+     */
+    public JournalOptions withMaxCommitDelay(Duration maxCommitDelay) {
+        if (maxCommitDelay == null || maxCommitDelay.isNegative() || maxCommitDelay.isZero())
+            throw new IllegalArgumentException("Maximum commit delay must be positive");
+
+        return new JournalOptions(groupCommitSize, forceOnCommit, maxCommitDelay, checkpointInterval);
+    }
+
+    /**
+     * Returns a copy of these options with a different checkpoint interval. The write completing an interval
+     * writes the snapshot itself, under the write lock of the board, so it takes time proportional to the
+     * number of live matches.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param checkpointInterval The number of records between two automatic checkpoints, or 0 to checkpoint
+     *                           only when the board is opened or {@link JournalingScoreboard#checkpoint()} is called.
+     * @return The new options.
+     * @throws IllegalArgumentException if the checkpoint interval is negative.
+     */
+    public JournalOptions withCheckpointInterval(int checkpointInterval) {
+        if (checkpointInterval < 0)
+            throw new IllegalArgumentException("Checkpoint interval cannot be negative");
+
+        return new JournalOptions(groupCommitSize, forceOnCommit, maxCommitDelay, checkpointInterval);
+    }
+
+    public int getGroupCommitSize() {
+        return groupCommitSize;
+    }
+
+    public boolean isForceOnCommit() {
+        return forceOnCommit;
+    }
+
+    public Duration getMaxCommitDelay() {
+        return maxCommitDelay;
+    }
+
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+}
@@ -0,0 +1,209 @@
+package com.sportradar.journal;
+
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.Scoreboard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.sportradar.journal.JournalFormat.*;
+
+/**
+ * Rebuilds a scoreboard from a snapshot file and the journal file written after it. Both files are
+ * memory-mapped and decoded in place. Team IDs of the files are translated into team names, so the
+ * recovered scoreboard may assign different IDs than the scoreboard that wrote the files.
+ * The replay stops at the first incomplete or corrupted journal record, which is where the writing
+ * process crashed. A batch is replayed as a whole only if all of its update records are complete.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class JournalRecovery {
+    private final Scoreboard scoreboard;
+    private final ReplayMatchFactory matchFactory;
+    private final Map<Integer, String> teams = new HashMap<>();
+    private long replayedRecords;
+
+    JournalRecovery(Scoreboard scoreboard, ReplayMatchFactory matchFactory) {
+        this.scoreboard = scoreboard;
+        this.matchFactory = matchFactory;
+    }
+
+    /**
+     * Starts every match of a snapshot file with its recorded start time and score.
+     *
+     * @throws UncheckedIOException if the file cannot be read or is corrupted.
+     */
+    void loadSnapshot(Path file) {
+        ByteBuffer buffer = map(file);
+
+        if (buffer.remaining() < HEADER_SIZE + CHECKSUM_SIZE
+                || buffer.getInt(buffer.limit() - CHECKSUM_SIZE) != checksum(buffer, 0, buffer.limit() - CHECKSUM_SIZE)
+                || buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != VERSION)
+            throw new UncheckedIOException(new IOException("Corrupted snapshot: " + file));
+
+        int teamCount = buffer.getInt();
+
+        for (int team = 0; team < teamCount; team++)
+            teams.put(buffer.getInt(), decodeName(buffer));
+
+        int matchCount = buffer.getInt();
+
+        for (int match = 0; match < matchCount; match++) {
+            String homeTeam = team(buffer.getInt());
+            String awayTeam = team(buffer.getInt());
+
+            matchFactory.setStartTime(buffer.getLong());
+            scoreboard.startMatch(homeTeam, awayTeam, 0);
+
+            int homeScore = buffer.getInt();
+            int awayScore = buffer.getInt();
+
+            if (homeScore != 0 || awayScore != 0)
+                scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        }
+    }
+
+    /**
+     * Replays every complete record of a journal file. A missing journal file is treated as an empty one.
+     *
+     * @throws UncheckedIOException if the file cannot be read or is not a journal file.
+     */
+    void replayJournal(Path file) {
+        if (!Files.exists(file))
+            return;
+
+        ByteBuffer buffer = map(file);
+
+        if (buffer.remaining() < HEADER_SIZE)
+            return;
+
+        if (buffer.getInt() != JOURNAL_MAGIC || buffer.getInt() != VERSION)
+            throw new UncheckedIOException(new IOException("Not a journal file: " + file));
+
+        while (replayRecord(buffer))
+            replayedRecords++;
+    }
+
+    long getReplayedRecords() {
+        return replayedRecords;
+    }
+
+    private boolean replayRecord(ByteBuffer buffer) {
+        int recordStart = buffer.position();
+
+        if (buffer.remaining() < 1)
+            return false;
+
+        byte type = buffer.get();
+        int payloadSize;
+
+        switch (type) {
+            case TEAM:
+                payloadSize = buffer.remaining() < 6 ? -1 : 6 + Short.toUnsignedInt(buffer.getShort(buffer.position() + 4));
+                break;
+            case START:
+                payloadSize = START_SIZE;
+                break;
+            case UPDATE:
+                payloadSize = UPDATE_SIZE;
+                break;
+            case FINISH:
+                payloadSize = FINISH_SIZE;
+                break;
+            case BATCH:
+                payloadSize = BATCH_SIZE;
+                break;
+            default:
+                return false;
+        }
+
+        int recordEnd = buffer.position() + payloadSize;
+
+        if (payloadSize < 0 || buffer.remaining() < payloadSize + CHECKSUM_SIZE
+                || buffer.getInt(recordEnd) != checksum(buffer, recordStart, recordEnd))
+            return false;
+
+        switch (type) {
+            case TEAM:
+                teams.put(buffer.getInt(), decodeName(buffer));
+                break;
+            case START:
+                String homeTeam = team(buffer.getInt());
+                String awayTeam = team(buffer.getInt());
+
+                matchFactory.setStartTime(buffer.getLong());
+                scoreboard.startMatch(homeTeam, awayTeam, 0);
+                break;
+            case UPDATE:
+                scoreboard.updateScore(team(buffer.getInt()), team(buffer.getInt()), buffer.getInt(), buffer.getInt());
+                break;
+            case BATCH:
+                int updates = buffer.getInt();
+
+                buffer.position(recordEnd + CHECKSUM_SIZE);
+
+                return replayBatch(buffer, updates);
+            default:
+                scoreboard.finishMatch(team(buffer.getInt()), team(buffer.getInt()));
+                break;
+        }
+
+        buffer.position(recordEnd + CHECKSUM_SIZE);
+
+        return true;
+    }
+
+    /**
+     * Replays the update records of a batch if all of them are complete; otherwise the batch was torn by a
+     * crash and nothing of it is replayed.
+     */
+    private boolean replayBatch(ByteBuffer buffer, int updates) {
+        if (updates < 0 || (long) updates * (1 + UPDATE_SIZE + CHECKSUM_SIZE) > buffer.remaining())
+            return false;
+
+        List<ScoreUpdate> batch = new ArrayList<>(updates);
+
+        for (int update = 0; update < updates; update++) {
+            int recordStart = buffer.position();
+            int recordEnd = recordStart + 1 + UPDATE_SIZE;
+
+            if (buffer.get() != UPDATE || buffer.getInt(recordEnd) != checksum(buffer, recordStart, recordEnd))
+                return false;
+
+            batch.add(new ScoreUpdate(team(buffer.getInt()), team(buffer.getInt()), buffer.getInt(), buffer.getInt()));
+            buffer.position(recordEnd + CHECKSUM_SIZE);
+        }
+
+        scoreboard.applyBatch(batch);
+
+        return true;
+    }
+
+    private String team(int teamId) {
+        String name = teams.get(teamId);
+
+        if (name == null)
+            throw new IllegalStateException("Journal refers to an unknown team ID: " + teamId);
+
+        return name;
+    }
+
+    private static MappedByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
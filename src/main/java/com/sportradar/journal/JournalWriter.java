@@ -0,0 +1,196 @@
+package com.sportradar.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import static com.sportradar.journal.JournalFormat.*;
+
+/**
+ * Appends records to a journal file through a {@link FileChannel}. Records are encoded into a direct buffer
+ * and written in group commits of a configurable number of records, each group with a single system call and,
+ * optionally, a single {@link FileChannel#force(boolean)}. A group is also committed by the first append or
+ * {@link #commitIfDue()} after its oldest record has waited for the maximum commit delay. The update records of
+ * a batch follow a batch record and are never split by a group commit. Appending a record does not allocate.
+ * This class is not thread-safe.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class JournalWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 17;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CRC32C crc = new CRC32C();
+    private final int groupCommitSize;
+    private final boolean forceOnCommit;
+    private final long maxCommitDelayNanos;
+    private int recordStart;
+    private int pending;
+    private boolean inBatch;
+    private long firstPendingNanos;
+
+    /**
+     * Creates a new, empty journal file, replacing any file of the same name, and writes its header.
+     *
+     * @throws UncheckedIOException if the file cannot be created.
+     */
+    JournalWriter(Path file, JournalOptions options) {
+        try {
+            this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.groupCommitSize = options.getGroupCommitSize();
+        this.forceOnCommit = options.isForceOnCommit();
+        this.maxCommitDelayNanos = options.getMaxCommitDelay().toNanos();
+
+        buffer.putInt(JOURNAL_MAGIC).putInt(VERSION);
+        commit();
+    }
+
+    void team(int teamId, String name) {
+        byte[] bytes = encodeName(name);
+
+        begin(TEAM, 6 + bytes.length);
+        buffer.putInt(teamId).putShort((short) bytes.length).put(bytes);
+        end();
+    }
+
+    void start(int homeTeamId, int awayTeamId, long startTime) {
+        begin(START, START_SIZE);
+        buffer.putInt(homeTeamId).putInt(awayTeamId).putLong(startTime);
+        end();
+    }
+
+    void update(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        begin(UPDATE, UPDATE_SIZE);
+        buffer.putInt(homeTeamId).putInt(awayTeamId).putInt(homeScore).putInt(awayScore);
+        end();
+    }
+
+    void finish(int homeTeamId, int awayTeamId) {
+        begin(FINISH, FINISH_SIZE);
+        buffer.putInt(homeTeamId).putInt(awayTeamId);
+        end();
+    }
+
+    /**
+     * Starts a batch of update records. The batch is not split by group commits, and it is written with a single
+     * system call if it fits into the buffer.
+     */
+    void beginBatch(int updates) {
+        if (pending > 0 && buffer.remaining() < 1 + BATCH_SIZE + (long) updates * (1 + UPDATE_SIZE + CHECKSUM_SIZE) + CHECKSUM_SIZE)
+            commit();
+
+        begin(BATCH, BATCH_SIZE);
+        buffer.putInt(updates);
+        end();
+        inBatch = true;
+    }
+
+    /**
+     * Ends a batch of update records, committing the buffered records if a group commit is due.
+     */
+    void endBatch() {
+        inBatch = false;
+        commitIfFull();
+    }
+
+    /**
+     * Writes all buffered records to the journal file and forces them to the storage device if configured.
+     *
+     * @throws UncheckedIOException if the records cannot be written.
+     */
+    void commit() {
+        try {
+            buffer.flip();
+
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+
+            buffer.clear();
+            pending = 0;
+
+            if (forceOnCommit)
+                channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Commits the buffered records if the oldest of them has waited for the maximum commit delay.
+     *
+     * @throws UncheckedIOException if the records cannot be written.
+     */
+    void commitIfDue() {
+        if (pending > 0 && System.nanoTime() - firstPendingNanos >= maxCommitDelayNanos)
+            commit();
+    }
+
+    /**
+     * Returns the time until the buffered records are due to be committed.
+     *
+     * @return The remaining nanoseconds, 0 if the records are due, or the maximum commit delay if no record is buffered.
+     */
+    long nanosUntilDue() {
+        return pending == 0 ? maxCommitDelayNanos : Math.max(0, firstPendingNanos + maxCommitDelayNanos - System.nanoTime());
+    }
+
+    /**
+     * Commits all buffered records and closes the journal file.
+     *
+     * @throws UncheckedIOException if the records cannot be written or the file cannot be closed.
+     */
+    @Override
+    public void close() {
+        try {
+            commit();
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void begin(byte type, int payloadSize) {
+        if (buffer.remaining() < 1 + payloadSize + CHECKSUM_SIZE)
+            commit();
+
+        recordStart = buffer.position();
+        buffer.put(type);
+    }
+
+    private void end() {
+        int recordEnd = buffer.position();
+
+        crc.reset();
+        crc.update(buffer.limit(recordEnd).position(recordStart));
+        buffer.limit(buffer.capacity());
+        buffer.putInt((int) crc.getValue());
+
+        if (pending++ == 0)
+            firstPendingNanos = System.nanoTime();
+
+        if (!inBatch)
+            commitIfFull();
+    }
+
+    private void commitIfFull() {
+        if (pending >= groupCommitSize)
+            commit();
+        else
+            commitIfDue();
+    }
+}
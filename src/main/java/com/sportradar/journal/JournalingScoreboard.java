@@ -0,0 +1,371 @@
+package com.sportradar.journal;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.BatchUpdateException;
+import com.sportradar.service.ForwardingScoreboard;
+import com.sportradar.service.Scoreboard;
+import com.sportradar.service.TeamRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static com.sportradar.journal.JournalFormat.*;
+
+/**
+ * Scoreboard decorator that records every successful write in an append-only journal, so the board survives
+ * a restart of the process. Writes are serialised and forwarded to the decorated scoreboard; each of them then
+ * appends a compact binary record to the journal (see {@link JournalOptions} for group commit and forcing).
+ * Periodic checkpoints write a snapshot of the live matches and start a new journal file, so recovery replays
+ * at most one checkpoint interval of records. A checkpoint runs on the writing thread under the write lock: the
+ * write that completes a checkpoint interval also writes a full snapshot of the live matches, and other writes
+ * wait for it. Boards with many live matches can disable automatic checkpoints and call {@link #checkpoint()}
+ * from a maintenance thread instead. A daemon thread commits buffered records once they have waited for
+ * the maximum commit delay, so a crash of a board that stopped receiving writes loses at most that delay of records.
+ * Boards are created with {@link #open(Path, Function, MatchFactory, JournalOptions)}, which recovers the
+ * state left in the journal directory by a previous process. Records that were not committed yet when the
+ * process crashed are lost. If appending to the journal fails, the write has already been applied to the
+ * board and the {@link UncheckedIOException} is propagated to the caller.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see JournalOptions
+ */
+public class JournalingScoreboard extends ForwardingScoreboard implements AutoCloseable {
+    private final Object writeLock = new Object();
+    private final Path directory;
+    private final JournalOptions options;
+    private final BitSet journaledTeams = new BitSet();
+    private final Thread committer;
+    private JournalWriter journal;
+    private long generation;
+    private int recordsSinceCheckpoint;
+    private boolean closed;
+
+    private JournalingScoreboard(Scoreboard scoreboard, Path directory, JournalOptions options, long generation) {
+        super(scoreboard);
+
+        this.directory = directory;
+        this.options = options;
+        this.generation = generation;
+        this.committer = new Thread(this::commitWhenDue, "journal-committer");
+        this.committer.setDaemon(true);
+    }
+
+    /**
+     * Opens a journaled scoreboard in a directory. The scoreboard is created empty by the board factory and then
+     * rebuilt from the latest snapshot and journal in the directory, if any; matches keep their recorded start
+     * times. A checkpoint is written right after the recovery, so the recovered board starts a new journal file.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param directory    The journal directory; it is created if it does not exist.
+     * @param boardFactory Creates the empty decorated scoreboard with the given MatchFactory, e.g. {@code ScoreboardImpl::new}.
+     * @param matchFactory The factory creating the matches started after the recovery.
+     * @param options      The journal options.
+     * @return The recovered scoreboard.
+     * @throws IllegalArgumentException if any argument is null.
+     * @throws UncheckedIOException if the directory cannot be read or written, or its latest snapshot is corrupted.
+     */
+    public static JournalingScoreboard open(Path directory, Function<MatchFactory, Scoreboard> boardFactory,
+                                            MatchFactory matchFactory, JournalOptions options) {
+        if (directory == null || boardFactory == null || matchFactory == null || options == null)
+            throw new IllegalArgumentException("Journal directory, board factory, match factory and options cannot be null");
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ReplayMatchFactory replayMatchFactory = new ReplayMatchFactory(matchFactory);
+        Scoreboard scoreboard = boardFactory.apply(replayMatchFactory);
+        JournalRecovery recovery = new JournalRecovery(scoreboard, replayMatchFactory);
+        List<Long> snapshots = generations(directory, true);
+        long generation = snapshots.isEmpty() ? 0 : snapshots.get(snapshots.size() - 1);
+
+        if (!snapshots.isEmpty())
+            recovery.loadSnapshot(snapshotFile(directory, generation));
+
+        recovery.replayJournal(journalFile(directory, generation));
+        replayMatchFactory.finishReplay();
+
+        JournalingScoreboard journalingScoreboard = new JournalingScoreboard(scoreboard, directory, options, generation);
+
+        journalingScoreboard.checkpoint();
+        journalingScoreboard.committer.start();
+
+        return journalingScoreboard;
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        synchronized (writeLock) {
+            scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+
+            Match match = scoreboard.findMatch(homeTeam, awayTeam).orElseThrow();
+
+            journal.start(journaledTeam(homeTeam), journaledTeam(awayTeam), match.getStartTime());
+            recorded(1);
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        synchronized (writeLock) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            journal.update(journaledTeam(homeTeam), journaledTeam(awayTeam), homeScore, awayScore);
+            recorded(1);
+        }
+    }
+
+    /**
+     * Applies a batch of score updates to the decorated scoreboard and journals every update of the batch
+     * in its original order, framed by a batch record. A batch torn by a crash is not replayed at all, so
+     * recovery never restores part of a batch. A rejected batch is not journaled.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param updates The score updates in the order in which they were received.
+     * @throws IllegalArgumentException if the batch is null.
+     * @throws BatchUpdateException if any update of the batch is invalid.
+     */
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        synchronized (writeLock) {
+            scoreboard.applyBatch(updates);
+
+            for (ScoreUpdate update : updates) {
+                journaledTeam(update.getHomeTeam());
+                journaledTeam(update.getAwayTeam());
+            }
+
+            journal.beginBatch(updates.size());
+
+            for (ScoreUpdate update : updates)
+                journal.update(journaledTeam(update.getHomeTeam()), journaledTeam(update.getAwayTeam()),
+                    update.getHomeScore(), update.getAwayScore());
+
+            journal.endBatch();
+            recorded(updates.size());
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            scoreboard.finishMatch(homeTeam, awayTeam);
+            journal.finish(journaledTeam(homeTeam), journaledTeam(awayTeam));
+            recorded(1);
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.findMatch(homeTeam, awayTeam);
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        synchronized (writeLock) {
+            return scoreboard.getSummary();
+        }
+    }
+
+    @Override
+    public List<Match> getTopN(int n) {
+        synchronized (writeLock) {
+            return scoreboard.getTopN(n);
+        }
+    }
+
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.rankOf(homeTeam, awayTeam);
+        }
+    }
+
+    /**
+     * Writes all journal records that are still buffered by the current group commit.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @throws UncheckedIOException if the records cannot be written.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            journal.commit();
+        }
+    }
+
+    /**
+     * Writes a snapshot of the live matches and starts a new journal file. The snapshot is written to a
+     * temporary file, forced to the storage device and then atomically renamed, so a crash during the
+     * checkpoint leaves the previous snapshot and journal intact. Files of older generations are deleted.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @throws UncheckedIOException if the snapshot or the new journal file cannot be written.
+     */
+    public void checkpoint() {
+        synchronized (writeLock) {
+            if (journal != null)
+                journal.close();
+
+            long nextGeneration = generation + 1;
+
+            writeSnapshot(snapshotFile(directory, nextGeneration));
+            journal = new JournalWriter(journalFile(directory, nextGeneration), options);
+            generation = nextGeneration;
+            recordsSinceCheckpoint = 0;
+            deleteGenerationsBefore(nextGeneration);
+        }
+    }
+
+    /**
+     * Commits all buffered journal records and closes the journal. The board must not be written afterwards.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @throws UncheckedIOException if the records cannot be written.
+     */
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            closed = true;
+            journal.close();
+        }
+
+        LockSupport.unpark(committer);
+    }
+
+    /**
+     * Runs on the committer thread until the board is closed, committing the buffered records of the current
+     * journal when they are due. If a commit fails, the thread stops and the failure is left to the next write.
+     */
+    private void commitWhenDue() {
+        long nanosUntilDue = options.getMaxCommitDelay().toNanos();
+
+        while (true) {
+            LockSupport.parkNanos(nanosUntilDue);
+
+            synchronized (writeLock) {
+                if (closed)
+                    return;
+
+                try {
+                    journal.commitIfDue();
+                } catch (UncheckedIOException e) {
+                    return;
+                }
+
+                nanosUntilDue = journal.nanosUntilDue();
+            }
+        }
+    }
+
+    private int journaledTeam(String team) {
+        TeamRegistry teamRegistry = getTeamRegistry();
+        int teamId = teamRegistry.idOf(team);
+
+        if (!journaledTeams.get(teamId)) {
+            journal.team(teamId, teamRegistry.nameOf(teamId));
+            journaledTeams.set(teamId);
+        }
+
+        return teamId;
+    }
+
+    private void recorded(int records) {
+        recordsSinceCheckpoint += records;
+
+        if (options.getCheckpointInterval() > 0 && recordsSinceCheckpoint >= options.getCheckpointInterval())
+            checkpoint();
+    }
+
+    private void writeSnapshot(Path file) {
+        TeamRegistry teamRegistry = getTeamRegistry();
+        List<Match> matches = scoreboard.getSummary();
+        Map<Integer, byte[]> teams = new LinkedHashMap<>();
+        int teamBytes = 0;
+
+        journaledTeams.clear();
+
+        for (Match match : matches) {
+            for (String team : List.of(match.getHomeTeam(), match.getAwayTeam())) {
+                int teamId = teamRegistry.idOf(team);
+                byte[] name = encodeName(team);
+
+                teams.put(teamId, name);
+                journaledTeams.set(teamId);
+                teamBytes += 6 + name.length;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 4 + teamBytes + 4 + matches.size() * (START_SIZE + 8) + CHECKSUM_SIZE);
+
+        buffer.putInt(SNAPSHOT_MAGIC).putInt(VERSION).putInt(teams.size());
+
+        for (Map.Entry<Integer, byte[]> team : teams.entrySet())
+            buffer.putInt(team.getKey()).putShort((short) team.getValue().length).put(team.getValue());
+
+        buffer.putInt(matches.size());
+
+        // Matches are restored in reverse summary order, so ties on total score and start time keep their order.
+        for (ListIterator<Match> iterator = matches.listIterator(matches.size()); iterator.hasPrevious(); ) {
+            Match match = iterator.previous();
+
+            buffer.putInt(teamRegistry.idOf(match.getHomeTeam()))
+                .putInt(teamRegistry.idOf(match.getAwayTeam()))
+                .putLong(match.getStartTime())
+                .putInt(match.getHomeScore())
+                .putInt(match.getAwayScore());
+        }
+
+        buffer.putInt(checksum(buffer, 0, buffer.position())).flip();
+
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining())
+                    channel.write(buffer);
+
+                channel.force(true);
+            }
+
+            Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteGenerationsBefore(long generation) {
+        try {
+            for (long snapshot : generations(directory, true))
+                if (snapshot < generation)
+                    Files.deleteIfExists(snapshotFile(directory, snapshot));
+
+            for (long journalGeneration : generations(directory, false))
+                if (journalGeneration < generation)
+                    Files.deleteIfExists(journalFile(directory, journalGeneration));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.sportradar.journal;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.model.Match;
+
+/**
+ * MatchFactory used by a recovering scoreboard. While the journal is replayed it creates matches with the
+ * recorded start times, so the recovered summary is ordered exactly like the original one; afterwards it
+ * delegates to the live MatchFactory.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class ReplayMatchFactory implements MatchFactory {
+    private final MatchFactory matchFactory;
+    private volatile boolean replaying = true;
+    private long startTime;
+
+    ReplayMatchFactory(MatchFactory matchFactory) {
+        this.matchFactory = matchFactory;
+    }
+
+    @Override
+    public Match createMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        if (!replaying)
+            return matchFactory.createMatch(homeTeam, awayTeam, startTimeShift);
+
+        return new Match(homeTeam, awayTeam, 0, 0, startTime);
+    }
+
+    /**
+     * Sets the start time of the next match created during the replay.
+     */
+    void setStartTime(long startTime) {
+        this.startTime = startTime;
+    }
+
+    /**
+     * Ends the replay; all matches created afterwards are created by the live MatchFactory.
+     */
+    void finishReplay() {
+        replaying = false;
+    }
+}
@@ -0,0 +1,87 @@
+package com.sportradar.loadgen;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.service.ConcurrentScoreboard;
+import com.sportradar.service.PrimitiveScoreboard;
+import com.sportradar.service.Scoreboard;
+import com.sportradar.service.ScoreboardImpl;
+import com.sportradar.service.ShardedScoreboard;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Command line driver generating synthetic tournament traces and replaying them against a scoreboard:
+ * 1. {@code generate <trace file> [fixtures] [seed]} writes the trace of a simulated tournament.
+ * 2. {@code replay <trace file> [speed] [board]} replays a generated or recorded trace and prints the report.
+ * 3. {@code run [fixtures] [speed] [board]} generates a tournament and replays it right away.
+ * The speed is 0 for maximum speed or the factor by which the replay is faster than the trace, and the board is
+ * the simple class name of a scoreboard implementation, {@code ScoreboardImpl} by default.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public class LoadGenerator {
+    private static final String USAGE = "Usage: generate <trace file> [fixtures] [seed]"
+        + " | replay <trace file> [speed] [board] | run [fixtures] [speed] [board]";
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        switch (args[0]) {
+            case "generate":
+                TournamentOptions options = TournamentOptions.defaults()
+                    .withFixtures(args.length > 2 ? Integer.parseInt(args[2]) : 1000)
+                    .withSeed(args.length > 3 ? Long.parseLong(args[3]) : 42);
+                List<TraceEvent> events = new TournamentSimulator(options).generate();
+
+                Trace.write(events, Path.of(args[1]));
+                System.out.println("Wrote " + events.size() + " events of " + options.getFixtures() + " fixtures to " + args[1]);
+                break;
+            case "replay":
+                replay(Trace.read(Path.of(args[1])), args, 2);
+                break;
+            case "run":
+                replay(new TournamentSimulator(TournamentOptions.defaults()
+                    .withFixtures(args.length > 1 ? Integer.parseInt(args[1]) : 1000)).generate(), args, 2);
+                break;
+            default:
+                System.err.println(USAGE);
+                System.exit(2);
+        }
+    }
+
+    private static void replay(List<TraceEvent> events, String[] args, int firstOption) {
+        double speed = args.length > firstOption ? Double.parseDouble(args[firstOption]) : TraceReplayer.MAXIMUM_SPEED;
+        Scoreboard scoreboard = createBoard(args.length > firstOption + 1 ? args[firstOption + 1] : "ScoreboardImpl");
+
+        System.out.println(new TraceReplayer(scoreboard).replay(events, speed));
+    }
+
+    /**
+     * Creates a new, empty scoreboard of the given implementation.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param implementation The simple class name of the scoreboard implementation.
+     * @return A new scoreboard.
+     * @throws IllegalArgumentException if the implementation is unknown.
+     */
+    static Scoreboard createBoard(String implementation) {
+        switch (implementation) {
+            case "ScoreboardImpl":
+                return new ScoreboardImpl(new MatchFactoryImpl());
+            case "ConcurrentScoreboard":
+                return new ConcurrentScoreboard(new MatchFactoryImpl());
+            case "PrimitiveScoreboard":
+                return new PrimitiveScoreboard(new MatchFactoryImpl());
+            case "ShardedScoreboard":
+                return new ShardedScoreboard(registry -> new ScoreboardImpl(new MatchFactoryImpl(), registry));
+            default:
+                throw new IllegalArgumentException("Unknown scoreboard implementation: " + implementation);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.sportradar.loadgen;
+
+import com.sportradar.metrics.HistogramSnapshot;
+import com.sportradar.metrics.MetricsSnapshot;
+import com.sportradar.metrics.Operation;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable result of replaying a trace with a {@link TraceReplayer}: the sustained throughput over the whole
+ * replay and, per operation, the number of calls, the failed calls, the latency percentiles in nanoseconds and
+ * the bytes allocated per call by the replaying thread.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class LoadReport {
+    private final MetricsSnapshot metrics;
+    private final Map<Operation, Long> allocatedBytes;
+    private final long operations;
+    private final long elapsedNanos;
+
+    LoadReport(MetricsSnapshot metrics, EnumMap<Operation, Long> allocatedBytes, long operations, long elapsedNanos) {
+        this.metrics = metrics;
+        this.allocatedBytes = allocatedBytes;
+        this.operations = operations;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getOperationCount() {
+        return operations;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the sustained throughput, i.e. the number of replayed operations per second of the whole replay,
+     * including the time a paced replay waited for the next event.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The operations per second.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : operations * 1e9 / elapsedNanos;
+    }
+
+    public long getCount(Operation operation) {
+        return metrics.getCount(operation);
+    }
+
+    public long getFailures(Operation operation) {
+        return metrics.getFailures(operation);
+    }
+
+    /**
+     * @return The latency histogram of the operation in nanoseconds.
+     */
+    public HistogramSnapshot getLatency(Operation operation) {
+        return metrics.getLatency(operation);
+    }
+
+    /**
+     * Returns the mean number of bytes allocated by one call of an operation.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param operation The operation.
+     * @return The bytes allocated per call, 0 if the operation was not called, or -1 if the runtime does not
+     *         measure the allocations of a thread.
+     */
+    public double getAllocatedBytesPerCall(Operation operation) {
+        long bytes = allocatedBytes.get(operation);
+        long count = metrics.getCount(operation);
+
+        if (bytes < 0)
+            return -1;
+
+        return count == 0 ? 0 : (double) bytes / count;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("operations=").append(operations)
+            .append(", elapsed ms=").append(elapsedNanos / 1_000_000)
+            .append(", throughput ops/s=").append(Math.round(getThroughput()));
+
+        for (Operation operation : Operation.values()) {
+            if (metrics.getCount(operation) == 0)
+                continue;
+
+            builder.append('\n').append(operation).append(": calls=").append(metrics.getCount(operation))
+                .append(", failures=").append(metrics.getFailures(operation))
+                .append(", allocated bytes/call=").append(Math.round(getAllocatedBytesPerCall(operation)))
+                .append(", latency ns: ").append(metrics.getLatency(operation));
+        }
+
+        return builder.toString();
+    }
+}
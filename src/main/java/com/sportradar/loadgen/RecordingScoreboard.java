@@ -0,0 +1,194 @@
+package com.sportradar.loadgen;
+
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.BatchUpdateException;
+import com.sportradar.service.ForwardingScoreboard;
+import com.sportradar.service.Scoreboard;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Scoreboard decorator that records every successful write as a {@link TraceEvent} in a trace file, so the
+ * traffic of a production board can be replayed offline with a {@link TraceReplayer}, e.g. to reproduce an
+ * incident. Event times are the milliseconds of the clock since the recorder was created. A batch is recorded
+ * as one score update per update of the batch, all with the same time. Start time shifts are not recorded.
+ * If writing the trace fails, the write has already been applied to the board and the
+ * {@link UncheckedIOException} is propagated to the caller.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see Trace
+ */
+public class RecordingScoreboard extends ForwardingScoreboard implements AutoCloseable {
+    private final Object writeLock = new Object();
+    private final BufferedWriter writer;
+    private final Clock clock;
+    private final long startMillis;
+    private long lastTime;
+
+    /**
+     * Constructs a new RecordingScoreboard instance recording into a new trace file.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The decorated scoreboard.
+     * @param file       The trace file; a file of the same name is replaced.
+     * @param clock      The clock timing the recorded events.
+     * @throws IllegalArgumentException if any argument is null.
+     * @throws UncheckedIOException if the file cannot be created.
+     */
+    public RecordingScoreboard(Scoreboard scoreboard, Path file, Clock clock) {
+        super(scoreboard);
+
+        if (file == null || clock == null)
+            throw new IllegalArgumentException("File and clock cannot be null");
+
+        try {
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.clock = clock;
+        this.startMillis = clock.millis();
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        synchronized (writeLock) {
+            scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+            record(TraceEvent.start(now(), homeTeam, awayTeam));
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        synchronized (writeLock) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            record(TraceEvent.update(now(), homeTeam, awayTeam, homeScore, awayScore));
+        }
+    }
+
+    /**
+     * Applies a batch of score updates to the decorated scoreboard and records every update of the batch in its
+     * original order. A rejected batch is not recorded.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param updates The score updates in the order in which they were received.
+     * @throws IllegalArgumentException if the batch is null.
+     * @throws BatchUpdateException if any update of the batch is invalid.
+     */
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        synchronized (writeLock) {
+            scoreboard.applyBatch(updates);
+
+            long time = now();
+
+            for (ScoreUpdate update : updates)
+                record(TraceEvent.update(time, update.getHomeTeam(), update.getAwayTeam(), update.getHomeScore(), update.getAwayScore()));
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            scoreboard.finishMatch(homeTeam, awayTeam);
+            record(TraceEvent.finish(now(), homeTeam, awayTeam));
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.findMatch(homeTeam, awayTeam);
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        synchronized (writeLock) {
+            return scoreboard.getSummary();
+        }
+    }
+
+    @Override
+    public List<Match> getTopN(int n) {
+        synchronized (writeLock) {
+            return scoreboard.getTopN(n);
+        }
+    }
+
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.rankOf(homeTeam, awayTeam);
+        }
+    }
+
+    /**
+     * Writes the buffered events to the trace file.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @throws UncheckedIOException if the events cannot be written.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered events and closes the trace file. The board must not be written afterwards.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @throws UncheckedIOException if the events cannot be written.
+     */
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the time of the next event, never earlier than the previous one, so the trace stays in time order
+     * when the clock is set back.
+     */
+    private long now() {
+        lastTime = Math.max(lastTime, clock.millis() - startMillis);
+
+        return lastTime;
+    }
+
+    private void record(TraceEvent event) {
+        try {
+            writer.write(event.toString());
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
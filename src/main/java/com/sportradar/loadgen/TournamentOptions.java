@@ -0,0 +1,176 @@
+package com.sportradar.loadgen;
+
+import java.time.Duration;
+
+/**
+ * Immutable settings of a {@link TournamentSimulator}:
+ * 1. The number of fixtures, i.e. matches played in the simulated tournament, and the kickoff window over which
+ *    their kickoffs are spread uniformly, so a short window makes most of them live at the same time.
+ * 2. The regular match duration and the maximum stoppage time; every match lasts the regular duration plus a
+ *    uniformly distributed stoppage time.
+ * 3. The mean number of goals per match. Goals arrive as a Poisson process, i.e. with exponentially distributed
+ *    gaps, and are scored by the home team with a probability of 55%.
+ * 4. The correction probability, i.e. the probability that a goal is disallowed 30 seconds to 3 minutes later,
+ *    which is sent as a score update lowering the score again.
+ * 5. The seed of the random generator, so the same options always generate the same trace.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class TournamentOptions {
+    private final int fixtures;
+    private final Duration kickoffWindow;
+    private final Duration matchDuration;
+    private final Duration maxStoppageTime;
+    private final double goalsPerMatch;
+    private final double correctionProbability;
+    private final long seed;
+
+    private TournamentOptions(int fixtures, Duration kickoffWindow, Duration matchDuration, Duration maxStoppageTime,
+                              double goalsPerMatch, double correctionProbability, long seed) {
+        this.fixtures = fixtures;
+        this.kickoffWindow = kickoffWindow;
+        this.matchDuration = matchDuration;
+        this.maxStoppageTime = maxStoppageTime;
+        this.goalsPerMatch = goalsPerMatch;
+        this.correctionProbability = correctionProbability;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the default options: 1000 fixtures kicking off within 30 minutes, 90 minutes plus up to 8 minutes
+     * of stoppage time, 2.7 goals per match, 5% of goals corrected, and seed 42.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The default options.
+     */
+    public static TournamentOptions defaults() {
+        return new TournamentOptions(1000, Duration.ofMinutes(30), Duration.ofMinutes(90), Duration.ofMinutes(8), 2.7, 0.05, 42);
+    }
+
+    /**
+     * Returns a copy of these options with a different number of fixtures.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param fixtures The number of matches played.
+     * @return The new options.
+     * @throws IllegalArgumentException if the number of fixtures is not positive.
+     */
+    public TournamentOptions withFixtures(int fixtures) {
+        if (fixtures <= 0)
+            throw new IllegalArgumentException("Number of fixtures must be positive");
+
+        return new TournamentOptions(fixtures, kickoffWindow, matchDuration, maxStoppageTime, goalsPerMatch, correctionProbability, seed);
+    }
+
+    /**
+     * Returns a copy of these options with a different kickoff window.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param kickoffWindow The time over which the kickoffs are spread; zero starts all matches at once.
+     * @return The new options.
+     * @throws IllegalArgumentException if the window is null or negative.
+     */
+    public TournamentOptions withKickoffWindow(Duration kickoffWindow) {
+        if (kickoffWindow == null || kickoffWindow.isNegative())
+            throw new IllegalArgumentException("Kickoff window cannot be null or negative");
+
+        return new TournamentOptions(fixtures, kickoffWindow, matchDuration, maxStoppageTime, goalsPerMatch, correctionProbability, seed);
+    }
+
+    /**
+     * Returns a copy of these options with a different match duration and maximum stoppage time.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param matchDuration   The regular duration of a match.
+     * @param maxStoppageTime The maximum stoppage time added to a match.
+     * @return The new options.
+     * @throws IllegalArgumentException if any duration is null, the match duration is not positive or the
+     *                                  stoppage time is negative.
+     */
+    public TournamentOptions withMatchDuration(Duration matchDuration, Duration maxStoppageTime) {
+        if (matchDuration == null || matchDuration.isNegative() || matchDuration.isZero())
+            throw new IllegalArgumentException("Match duration must be positive");
+
+        if (maxStoppageTime == null || maxStoppageTime.isNegative())
+            throw new IllegalArgumentException("Stoppage time cannot be null or negative");
+
+        return new TournamentOptions(fixtures, kickoffWindow, matchDuration, maxStoppageTime, goalsPerMatch, correctionProbability, seed);
+    }
+
+    /**
+     * Returns a copy of these options with a different mean number of goals per match.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param goalsPerMatch The mean number of goals scored in the regular duration of a match.
+     * @return The new options.
+     * @throws IllegalArgumentException if the mean is not positive.
+     */
+    public TournamentOptions withGoalsPerMatch(double goalsPerMatch) {
+        if (!(goalsPerMatch > 0))
+            throw new IllegalArgumentException("Goals per match must be positive");
+
+        return new TournamentOptions(fixtures, kickoffWindow, matchDuration, maxStoppageTime, goalsPerMatch, correctionProbability, seed);
+    }
+
+    /**
+     * Returns a copy of these options with a different correction probability.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param correctionProbability The probability that a goal is disallowed afterwards.
+     * @return The new options.
+     * @throws IllegalArgumentException if the probability is not between 0 and 1.
+     */
+    public TournamentOptions withCorrectionProbability(double correctionProbability) {
+        if (!(correctionProbability >= 0 && correctionProbability <= 1))
+            throw new IllegalArgumentException("Correction probability must be between 0 and 1");
+
+        return new TournamentOptions(fixtures, kickoffWindow, matchDuration, maxStoppageTime, goalsPerMatch, correctionProbability, seed);
+    }
+
+    /**
+     * Returns a copy of these options with a different seed.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param seed The seed of the random generator.
+     * @return The new options.
+     */
+    public TournamentOptions withSeed(long seed) {
+        return new TournamentOptions(fixtures, kickoffWindow, matchDuration, maxStoppageTime, goalsPerMatch, correctionProbability, seed);
+    }
+
+    public int getFixtures() {
+        return fixtures;
+    }
+
+    public Duration getKickoffWindow() {
+        return kickoffWindow;
+    }
+
+    public Duration getMatchDuration() {
+        return matchDuration;
+    }
+
+    public Duration getMaxStoppageTime() {
+        return maxStoppageTime;
+    }
+
+    public double getGoalsPerMatch() {
+        return goalsPerMatch;
+    }
+
+    public double getCorrectionProbability() {
+        return correctionProbability;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
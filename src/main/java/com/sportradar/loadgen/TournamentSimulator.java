@@ -0,0 +1,106 @@
+package com.sportradar.loadgen;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates the trace of a synthetic tournament (see {@link TournamentOptions} for the simulated parameters).
+ * Every fixture is a start, its goals and corrections as score updates, and a finish. Team names are
+ * {@code Team-<n>}, and every team plays one fixture, so any number of fixtures can be live at the same time.
+ * The generated trace depends only on the options.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see TraceReplayer
+ */
+public class TournamentSimulator {
+    private static final double HOME_GOAL_PROBABILITY = 0.55;
+    private static final long MIN_CORRECTION_DELAY = 30_000;
+    private static final int CORRECTION_DELAY_RANGE = 150_000;
+
+    private final TournamentOptions options;
+
+    /**
+     * Constructs a new TournamentSimulator instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param options The tournament options.
+     * @throws IllegalArgumentException if the options are null.
+     */
+    public TournamentSimulator(TournamentOptions options) {
+        if (options == null)
+            throw new IllegalArgumentException("Options cannot be null");
+
+        this.options = options;
+    }
+
+    /**
+     * Generates the events of the tournament in the order of their times.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return A new list of the events.
+     */
+    public List<TraceEvent> generate() {
+        Random random = new Random(options.getSeed());
+        List<TraceEvent> events = new ArrayList<>();
+        long kickoffWindow = options.getKickoffWindow().toMillis();
+        long duration = options.getMatchDuration().toMillis();
+        long stoppageTime = options.getMaxStoppageTime().toMillis();
+        double meanGoalGap = duration / options.getGoalsPerMatch();
+
+        for (int fixture = 0; fixture < options.getFixtures(); fixture++) {
+            String homeTeam = "Team-" + (2 * fixture + 1);
+            String awayTeam = "Team-" + (2 * fixture + 2);
+            long kickoff = (long) (random.nextDouble() * kickoffWindow);
+            long end = kickoff + duration + (long) (random.nextDouble() * stoppageTime);
+            int homeScore = 0;
+            int awayScore = 0;
+
+            events.add(TraceEvent.start(kickoff, homeTeam, awayTeam));
+
+            for (long time = kickoff + gap(random, meanGoalGap); time < end; time += gap(random, meanGoalGap)) {
+                boolean homeGoal = random.nextDouble() < HOME_GOAL_PROBABILITY;
+
+                if (homeGoal)
+                    homeScore++;
+                else
+                    awayScore++;
+
+                events.add(TraceEvent.update(time, homeTeam, awayTeam, homeScore, awayScore));
+
+                if (random.nextDouble() < options.getCorrectionProbability()) {
+                    long correction = time + MIN_CORRECTION_DELAY + random.nextInt(CORRECTION_DELAY_RANGE);
+
+                    if (correction < end) {
+                        if (homeGoal)
+                            homeScore--;
+                        else
+                            awayScore--;
+
+                        events.add(TraceEvent.update(correction, homeTeam, awayTeam, homeScore, awayScore));
+                        time = correction;
+                    }
+                }
+            }
+
+            events.add(TraceEvent.finish(end, homeTeam, awayTeam));
+        }
+
+        // The sort is stable, so the events of a fixture keep their order when they share a time.
+        events.sort(Comparator.comparingLong(TraceEvent::getTime));
+
+        return events;
+    }
+
+    /**
+     * Draws the exponentially distributed gap to the next goal of a Poisson process.
+     */
+    private static long gap(Random random, double mean) {
+        return Math.max(1, (long) (-mean * Math.log(1 - random.nextDouble())));
+    }
+}
@@ -0,0 +1,82 @@
+package com.sportradar.loadgen;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes trace files holding one {@link TraceEvent} line per write, in the order of their times.
+ * Empty lines and lines starting with {@code #} are ignored.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class Trace {
+    private Trace() {
+    }
+
+    /**
+     * Writes a trace file, replacing any file of the same name.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param events The events of the trace.
+     * @param file   The trace file.
+     * @throws IllegalArgumentException if the events or the file are null.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    public static void write(List<TraceEvent> events, Path file) {
+        if (events == null || file == null)
+            throw new IllegalArgumentException("Events and file cannot be null");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (TraceEvent event : events) {
+                writer.write(event.toString());
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a trace file.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param file The trace file.
+     * @return The events of the trace.
+     * @throws IllegalArgumentException if the file is null or holds a malformed line, or the times of its events decrease.
+     * @throws UncheckedIOException if the file cannot be read.
+     */
+    public static List<TraceEvent> read(Path file) {
+        if (file == null)
+            throw new IllegalArgumentException("File cannot be null");
+
+        List<TraceEvent> events = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isEmpty() || line.startsWith("#"))
+                    continue;
+
+                TraceEvent event = TraceEvent.parse(line);
+
+                if (!events.isEmpty() && event.getTime() < events.get(events.size() - 1).getTime())
+                    throw new IllegalArgumentException("Trace events are not in time order: " + line);
+
+                events.add(event);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return events;
+    }
+}
@@ -0,0 +1,219 @@
+package com.sportradar.loadgen;
+
+import com.sportradar.metrics.Operation;
+import com.sportradar.service.Scoreboard;
+
+import java.util.Objects;
+
+/**
+ * Immutable write to a scoreboard at a point in time of a trace. A trace event is written as one line holding the
+ * time in milliseconds since the start of the trace followed by the feed line of the write, e.g.
+ * {@code 5400000|FINISH|Mexico|Canada}, so the feed lines of a trace can be replayed by a
+ * {@link com.sportradar.ingest.FeedIngestor} as well.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see Trace
+ */
+public final class TraceEvent {
+    private final long time;
+    private final Operation operation;
+    private final String homeTeam;
+    private final String awayTeam;
+    private final int homeScore;
+    private final int awayScore;
+
+    private TraceEvent(long time, Operation operation, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (time < 0)
+            throw new IllegalArgumentException("Time cannot be negative");
+
+        if (homeTeam == null || awayTeam == null)
+            throw new IllegalArgumentException("Team names cannot be null");
+
+        if (homeTeam.indexOf('|') >= 0 || awayTeam.indexOf('|') >= 0)
+            throw new IllegalArgumentException("Team names cannot contain '|'");
+
+        if (homeScore < 0 || awayScore < 0)
+            throw new IllegalArgumentException("Scores cannot be negative");
+
+        this.time = time;
+        this.operation = operation;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+    }
+
+    /**
+     * Creates the event of a started match.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param time     The time of the event in milliseconds since the start of the trace.
+     * @param homeTeam The name of the home team.
+     * @param awayTeam The name of the away team.
+     * @return The event.
+     * @throws IllegalArgumentException if the time is negative, or any team name is null or contains '|'.
+     */
+    public static TraceEvent start(long time, String homeTeam, String awayTeam) {
+        return new TraceEvent(time, Operation.START_MATCH, homeTeam, awayTeam, 0, 0);
+    }
+
+    /**
+     * Creates the event of a score update.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param time      The time of the event in milliseconds since the start of the trace.
+     * @param homeTeam  The name of the home team.
+     * @param awayTeam  The name of the away team.
+     * @param homeScore The new score of the home team.
+     * @param awayScore The new score of the away team.
+     * @return The event.
+     * @throws IllegalArgumentException if the time or any score is negative, or any team name is null or contains '|'.
+     */
+    public static TraceEvent update(long time, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return new TraceEvent(time, Operation.UPDATE_SCORE, homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    /**
+     * Creates the event of a finished match.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param time     The time of the event in milliseconds since the start of the trace.
+     * @param homeTeam The name of the home team.
+     * @param awayTeam The name of the away team.
+     * @return The event.
+     * @throws IllegalArgumentException if the time is negative, or any team name is null or contains '|'.
+     */
+    public static TraceEvent finish(long time, String homeTeam, String awayTeam) {
+        return new TraceEvent(time, Operation.FINISH_MATCH, homeTeam, awayTeam, 0, 0);
+    }
+
+    /**
+     * Parses a trace line.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param line The trace line.
+     * @return The event.
+     * @throws IllegalArgumentException if the line is null or malformed.
+     */
+    public static TraceEvent parse(String line) {
+        if (line == null)
+            throw new IllegalArgumentException("Trace line cannot be null");
+
+        String[] fields = line.split("\\|", -1);
+
+        try {
+            if (fields.length == 4 && fields[1].equals("START"))
+                return start(Long.parseLong(fields[0]), fields[2], fields[3]);
+
+            if (fields.length == 6 && fields[1].equals("UPDATE"))
+                return update(Long.parseLong(fields[0]), fields[2], fields[3], Integer.parseInt(fields[4]), Integer.parseInt(fields[5]));
+
+            if (fields.length == 4 && fields[1].equals("FINISH"))
+                return finish(Long.parseLong(fields[0]), fields[2], fields[3]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed trace line: " + line, e);
+        }
+
+        throw new IllegalArgumentException("Malformed trace line: " + line);
+    }
+
+    /**
+     * Applies the write of this event to a scoreboard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The scoreboard to write to.
+     */
+    public void applyTo(Scoreboard scoreboard) {
+        switch (operation) {
+            case START_MATCH:
+                scoreboard.startMatch(homeTeam, awayTeam);
+                break;
+            case UPDATE_SCORE:
+                scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+                break;
+            default:
+                scoreboard.finishMatch(homeTeam, awayTeam);
+                break;
+        }
+    }
+
+    /**
+     * Returns the feed line of this event, without the time.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The feed line.
+     */
+    public String toFeedLine() {
+        switch (operation) {
+            case START_MATCH:
+                return "START|" + homeTeam + "|" + awayTeam;
+            case UPDATE_SCORE:
+                return "UPDATE|" + homeTeam + "|" + awayTeam + "|" + homeScore + "|" + awayScore;
+            default:
+                return "FINISH|" + homeTeam + "|" + awayTeam;
+        }
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof TraceEvent))
+            return false;
+
+        TraceEvent that = (TraceEvent) o;
+
+        return time == that.time && operation == that.operation && homeTeam.equals(that.homeTeam)
+            && awayTeam.equals(that.awayTeam) && homeScore == that.homeScore && awayScore == that.awayScore;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(time, operation, homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    /**
+     * Returns the trace line of this event.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The trace line.
+     */
+    @Override
+    public String toString() {
+        return time + "|" + toFeedLine();
+    }
+}
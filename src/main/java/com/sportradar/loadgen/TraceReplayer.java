@@ -0,0 +1,115 @@
+package com.sportradar.loadgen;
+
+import com.sportradar.metrics.InstrumentedScoreboard;
+import com.sportradar.metrics.Operation;
+import com.sportradar.metrics.ScoreboardMetrics;
+import com.sportradar.service.Scoreboard;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a trace against a scoreboard on the calling thread and reports the load it sustained. Each event is
+ * applied through an {@link InstrumentedScoreboard}, which records its latency, and the bytes the thread
+ * allocated for it are measured through the {@code com.sun.management.ThreadMXBean} where available.
+ * Events are replayed either at maximum speed, one right after the other, or paced at a fixed speed relative to
+ * the times of the trace; a paced replay that falls behind catches up without waiting. Writes rejected by the
+ * scoreboard are counted as failures and do not stop the replay.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see LoadReport
+ * @see TournamentSimulator
+ */
+public class TraceReplayer {
+    /**
+     * The speed replaying every event as soon as the previous one was applied.
+     */
+    public static final double MAXIMUM_SPEED = 0;
+
+    private final Scoreboard scoreboard;
+    private final com.sun.management.ThreadMXBean threads;
+
+    /**
+     * Constructs a new TraceReplayer instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The scoreboard to replay traces against.
+     * @throws IllegalArgumentException if the scoreboard is null.
+     */
+    public TraceReplayer(Scoreboard scoreboard) {
+        if (scoreboard == null)
+            throw new IllegalArgumentException("Scoreboard cannot be null");
+
+        this.scoreboard = scoreboard;
+        this.threads = allocationCountingThreads();
+    }
+
+    /**
+     * Replays the events of a trace.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param events The events in the order of their times.
+     * @param speed  {@link #MAXIMUM_SPEED}, or the factor by which the replay is faster than the trace, e.g. 1 for
+     *               real time or 60 for one minute of the trace per second.
+     * @return The report of the replay.
+     * @throws IllegalArgumentException if the events are null or the speed is negative.
+     */
+    public LoadReport replay(List<TraceEvent> events, double speed) {
+        if (events == null)
+            throw new IllegalArgumentException("Events cannot be null");
+
+        if (!(speed >= 0))
+            throw new IllegalArgumentException("Speed cannot be negative");
+
+        ScoreboardMetrics metrics = new ScoreboardMetrics();
+        InstrumentedScoreboard instrumented = new InstrumentedScoreboard(scoreboard, metrics);
+        EnumMap<Operation, Long> allocatedBytes = new EnumMap<>(Operation.class);
+        long[] allocated = new long[Operation.values().length];
+        long start = System.nanoTime();
+
+        for (TraceEvent event : events) {
+            if (speed != MAXIMUM_SPEED) {
+                long due = start + (long) (event.getTime() * 1_000_000 / speed);
+
+                for (long now = System.nanoTime(); now < due; now = System.nanoTime())
+                    LockSupport.parkNanos(due - now);
+            }
+
+            long allocatedBefore = threads == null ? 0 : threads.getCurrentThreadAllocatedBytes();
+
+            try {
+                event.applyTo(instrumented);
+            } catch (RuntimeException e) {
+                // Counted as a failure by the instrumented scoreboard.
+            }
+
+            if (threads != null)
+                allocated[event.getOperation().ordinal()] += threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+
+        long elapsed = System.nanoTime() - start;
+
+        for (Operation operation : Operation.values())
+            allocatedBytes.put(operation, threads == null ? -1 : allocated[operation.ordinal()]);
+
+        return new LoadReport(metrics.snapshot(), allocatedBytes, events.size(), elapsed);
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCountingThreads() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean))
+            return null;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled())
+            return null;
+
+        return threads;
+    }
+}
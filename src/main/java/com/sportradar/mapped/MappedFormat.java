@@ -0,0 +1,90 @@
+package com.sportradar.mapped;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Layout of the memory-mapped board file. All numbers are little-endian and every {@code long} is 8-byte aligned,
+ * so it can be accessed atomically through a {@link VarHandle}. The file consists of three regions:
+ * 1. Header: magic number, format version, slot capacity and team capacity (ints), the seqlock sequence and the
+ *    board version (longs), the number of published teams (int) and the writer generation (long), which grows
+ *    every time a writer opens the file.
+ * 2. Team dictionary: one fixed-size entry per team ID, holding the UTF-8 name length (unsigned short) and the
+ *    UTF-8 name. Entries are written once, before the team count covering them is published, and never change.
+ * 3. Match slots: one fixed-size slot per live match, holding the home and away team IDs, the home and away scores
+ *    (ints), the start time and the start sequence number (longs). A slot with a home team ID of {@link #NO_TEAM}
+ *    is free.
+ * The sequence is odd while the writer changes slots and even otherwise, so a reader that sees the same even
+ * sequence before and after reading the slots has read a consistent snapshot.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class MappedFormat {
+    static final int MAGIC = 0x53424D46;
+    static final int VERSION = 1;
+    static final int NO_TEAM = -1;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int SLOT_CAPACITY_OFFSET = 8;
+    static final int TEAM_CAPACITY_OFFSET = 12;
+    static final int SEQUENCE_OFFSET = 16;
+    static final int BOARD_VERSION_OFFSET = 24;
+    static final int TEAM_COUNT_OFFSET = 32;
+    static final int GENERATION_OFFSET = 40;
+    static final int HEADER_SIZE = 64;
+
+    static final int TEAM_ENTRY_SIZE = 64;
+    static final int MAX_NAME_LENGTH = TEAM_ENTRY_SIZE - 2;
+
+    static final int HOME_ID_OFFSET = 0;
+    static final int AWAY_ID_OFFSET = 4;
+    static final int HOME_SCORE_OFFSET = 8;
+    static final int AWAY_SCORE_OFFSET = 12;
+    static final int START_TIME_OFFSET = 16;
+    static final int START_SEQUENCE_OFFSET = 24;
+    static final int SLOT_SIZE = 32;
+
+    static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private MappedFormat() {
+    }
+
+    static long fileSize(int slotCapacity, int teamCapacity) {
+        return slotsOffset(teamCapacity) + (long) slotCapacity * SLOT_SIZE;
+    }
+
+    static int teamOffset(int teamId) {
+        return HEADER_SIZE + teamId * TEAM_ENTRY_SIZE;
+    }
+
+    static int slotsOffset(int teamCapacity) {
+        return HEADER_SIZE + teamCapacity * TEAM_ENTRY_SIZE;
+    }
+
+    /**
+     * Encodes a team name, rejecting names that do not fit into a team entry.
+     */
+    static byte[] encodeName(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+
+        if (bytes.length > MAX_NAME_LENGTH)
+            throw new IllegalArgumentException("Team name is too long to be mapped");
+
+        return bytes;
+    }
+
+    static String decodeName(ByteBuffer buffer, int teamId) {
+        int offset = teamOffset(teamId);
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort(offset))];
+
+        buffer.get(offset + 2, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
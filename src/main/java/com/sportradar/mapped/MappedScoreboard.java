@@ -0,0 +1,374 @@
+package com.sportradar.mapped;
+
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchKey;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.BatchUpdateException;
+import com.sportradar.service.ForwardingScoreboard;
+import com.sportradar.service.Scoreboard;
+import com.sportradar.service.TeamRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static com.sportradar.mapped.MappedFormat.*;
+
+/**
+ * Scoreboard decorator that publishes the live matches into a memory-mapped file, so processes on the same host
+ * can read the board with a {@link MappedScoreboardReader} without holding their own copy or talking to the
+ * writer over a socket. Writes are serialised and forwarded to the decorated scoreboard; each successful write
+ * then changes the affected match slots of the file:
+ * 1. Team names are written once into the team dictionary of the file, indexed by the team IDs of the
+ *    {@link TeamRegistry}, so slots hold only integer IDs.
+ * 2. Slots are changed inside a seqlock: the sequence in the header is made odd before and even after the change,
+ *    so readers detect a change that overlapped their read and retry. A batch is published in a single change.
+ * 3. The board version in the header grows with every successful write.
+ * The file has a fixed number of slots and team entries chosen when it is created. Starting a match that does not
+ * fit is rejected before it reaches the decorated scoreboard, except for a team ID beyond the team capacity, which
+ * is only known after the team is registered; such a match is finished again and the start is rejected.
+ * Only one writer may publish into a file at a time. A writer opening a file left by a previous writer clears it in
+ * place, without truncating it under the mappings of running readers, and continues its sequence, so readers keep
+ * working across a restart of the writer.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see MappedScoreboardReader
+ * @see MappedFormat
+ */
+public class MappedScoreboard extends ForwardingScoreboard implements AutoCloseable {
+    private final Object writeLock = new Object();
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slotCapacity;
+    private final int teamCapacity;
+    private final int slotsOffset;
+    private final Map<Long, Integer> slotsByFixture = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet mappedTeams = new BitSet();
+    private int slotCount;
+    private int teamCount;
+    private long sequence;
+    private long version;
+    private long startSequence;
+
+    /**
+     * Constructs a new MappedScoreboard instance publishing the given scoreboard into a file. The file is created,
+     * or cleared if it exists, and the matches already on the scoreboard are published right away.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard   The decorated scoreboard.
+     * @param file         The file shared with the readers, preferably on a memory-backed file system such as /dev/shm.
+     * @param slotCapacity The maximum number of live matches.
+     * @param teamCapacity The number of team IDs the team dictionary can hold.
+     * @throws IllegalArgumentException if the scoreboard or the file is null, any capacity is not positive,
+     *                                  or the matches already on the scoreboard do not fit into the file.
+     * @throws IllegalStateException if a team ID of a match already on the scoreboard does not fit into the team dictionary.
+     * @throws UncheckedIOException if the file cannot be created or mapped.
+     */
+    public MappedScoreboard(Scoreboard scoreboard, Path file, int slotCapacity, int teamCapacity) {
+        super(scoreboard);
+
+        if (file == null)
+            throw new IllegalArgumentException("File cannot be null");
+
+        if (slotCapacity <= 0 || teamCapacity <= 0)
+            throw new IllegalArgumentException("Slot and team capacities must be positive");
+
+        long fileSize = fileSize(slotCapacity, teamCapacity);
+
+        if (fileSize > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Slot and team capacities are too large");
+
+        this.slotCapacity = slotCapacity;
+        this.teamCapacity = teamCapacity;
+        this.slotsOffset = slotsOffset(teamCapacity);
+
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        long generation = 1;
+
+        if (buffer.getInt(MAGIC_OFFSET) == MAGIC && buffer.getInt(VERSION_OFFSET) == VERSION) {
+            long previousSequence = (long) LONG.getVolatile(buffer, SEQUENCE_OFFSET);
+
+            // A sequence left odd by a crashed writer is skipped, so the next change makes it odd again.
+            this.sequence = previousSequence + (previousSequence & 1);
+            this.version = buffer.getLong(BOARD_VERSION_OFFSET);
+            generation = buffer.getLong(GENERATION_OFFSET) + 1;
+        }
+
+        beginChange();
+        buffer.putInt(MAGIC_OFFSET, MAGIC)
+            .putInt(VERSION_OFFSET, VERSION)
+            .putInt(SLOT_CAPACITY_OFFSET, slotCapacity)
+            .putInt(TEAM_CAPACITY_OFFSET, teamCapacity)
+            .putLong(GENERATION_OFFSET, generation);
+        INT.setRelease(buffer, TEAM_COUNT_OFFSET, 0);
+
+        for (int slot = 0; slot < slotCapacity; slot++)
+            buffer.putInt(slotsOffset + slot * SLOT_SIZE + HOME_ID_OFFSET, NO_TEAM);
+
+        endChange();
+
+        try {
+            publishMatches(scoreboard.getSummary());
+        } catch (RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Starts a new match on the decorated scoreboard and publishes it into a free slot.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam       The name of the home team.
+     * @param awayTeam       The name of the away team.
+     * @param startTimeShift The time shift for the start time in milliseconds.
+     * @throws IllegalArgumentException if any team name is null or too long to be mapped, or both team names are the same.
+     * @throws IllegalStateException if any of the teams is already playing a live match, all slots are taken,
+     *                               or a team ID does not fit into the team dictionary.
+     */
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        synchronized (writeLock) {
+            if (homeTeam != null && awayTeam != null) {
+                encodeName(homeTeam);
+                encodeName(awayTeam);
+            }
+
+            if (slotsByFixture.size() == slotCapacity)
+                throw new IllegalStateException("All slots of the mapped board are taken");
+
+            scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+
+            Match match = scoreboard.findMatch(homeTeam, awayTeam).orElseThrow();
+
+            try {
+                publishStart(homeTeam, awayTeam, match);
+            } catch (IllegalStateException e) {
+                scoreboard.finishMatch(homeTeam, awayTeam);
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        synchronized (writeLock) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+
+            int slot = slotOf(homeTeam, awayTeam);
+
+            beginChange();
+            writeScore(slot, homeScore, awayScore);
+            endChange();
+        }
+    }
+
+    /**
+     * Applies a batch of score updates to the decorated scoreboard and publishes all of them in a single change,
+     * so readers see either none or all updates of the batch. A rejected batch is not published.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param updates The score updates in the order in which they were received.
+     * @throws IllegalArgumentException if the batch is null.
+     * @throws BatchUpdateException if any update of the batch is invalid.
+     */
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        synchronized (writeLock) {
+            scoreboard.applyBatch(updates);
+
+            int[] slots = new int[updates.size()];
+            int index = 0;
+
+            for (ScoreUpdate update : updates)
+                slots[index++] = slotOf(update.getHomeTeam(), update.getAwayTeam());
+
+            beginChange();
+            index = 0;
+
+            for (ScoreUpdate update : updates)
+                writeScore(slots[index++], update.getHomeScore(), update.getAwayScore());
+
+            endChange();
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            scoreboard.finishMatch(homeTeam, awayTeam);
+
+            TeamRegistry teamRegistry = getTeamRegistry();
+            long fixture = MatchKey.pack(teamRegistry.idOf(homeTeam), teamRegistry.idOf(awayTeam));
+            int slot = slotsByFixture.remove(fixture);
+
+            beginChange();
+            buffer.putInt(slotsOffset + slot * SLOT_SIZE + HOME_ID_OFFSET, NO_TEAM);
+            endChange();
+
+            freeSlots.push(slot);
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.findMatch(homeTeam, awayTeam);
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        synchronized (writeLock) {
+            return scoreboard.getSummary();
+        }
+    }
+
+    @Override
+    public List<Match> getTopN(int n) {
+        synchronized (writeLock) {
+            return scoreboard.getTopN(n);
+        }
+    }
+
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.rankOf(homeTeam, awayTeam);
+        }
+    }
+
+    /**
+     * Returns the version of the published board, which grows with every successful write.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The version of the published board.
+     */
+    public long getVersion() {
+        synchronized (writeLock) {
+            return version;
+        }
+    }
+
+    /**
+     * Forces the published board to the storage device and closes the file. The mapping stays readable for
+     * readers that have it open; the board must not be written afterwards.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @throws UncheckedIOException if the file cannot be closed.
+     */
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            try {
+                buffer.force();
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void publishMatches(List<Match> matches) {
+        if (matches.size() > slotCapacity)
+            throw new IllegalArgumentException("Live matches do not fit into the mapped board");
+
+        // Matches are published in reverse summary order, so ties on total score and start time keep their order.
+        for (ListIterator<Match> iterator = matches.listIterator(matches.size()); iterator.hasPrevious(); ) {
+            Match match = iterator.previous();
+
+            publishStart(match.getHomeTeam(), match.getAwayTeam(), match);
+        }
+    }
+
+    private void publishStart(String homeTeam, String awayTeam, Match match) {
+        TeamRegistry teamRegistry = getTeamRegistry();
+        int homeId = mappedTeam(teamRegistry.idOf(homeTeam));
+        int awayId = mappedTeam(teamRegistry.idOf(awayTeam));
+        int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+        int offset = slotsOffset + slot * SLOT_SIZE;
+
+        beginChange();
+        buffer.putInt(offset + HOME_ID_OFFSET, homeId)
+            .putInt(offset + AWAY_ID_OFFSET, awayId)
+            .putInt(offset + HOME_SCORE_OFFSET, match.getHomeScore())
+            .putInt(offset + AWAY_SCORE_OFFSET, match.getAwayScore())
+            .putLong(offset + START_TIME_OFFSET, match.getStartTime())
+            .putLong(offset + START_SEQUENCE_OFFSET, startSequence++);
+        endChange();
+
+        slotsByFixture.put(MatchKey.pack(homeId, awayId), slot);
+    }
+
+    /**
+     * Writes the name of a team into the team dictionary if it is not there yet, and publishes the dictionary
+     * entry by a release store of the team count before any slot refers to it. The entry is written after a store
+     * fence, so a reader that sees it rewritten also sees the new writer generation.
+     */
+    private int mappedTeam(int teamId) {
+        if (teamId >= teamCapacity)
+            throw new IllegalStateException("Team ID does not fit into the mapped board: " + teamId);
+
+        if (!mappedTeams.get(teamId)) {
+            byte[] name = encodeName(getTeamRegistry().nameOf(teamId));
+            int offset = teamOffset(teamId);
+
+            VarHandle.storeStoreFence();
+            buffer.putShort(offset, (short) name.length).put(offset + 2, name);
+            mappedTeams.set(teamId);
+            teamCount = Math.max(teamCount, teamId + 1);
+            INT.setRelease(buffer, TEAM_COUNT_OFFSET, teamCount);
+        }
+
+        return teamId;
+    }
+
+    private int slotOf(String homeTeam, String awayTeam) {
+        TeamRegistry teamRegistry = getTeamRegistry();
+
+        return slotsByFixture.get(MatchKey.pack(teamRegistry.idOf(homeTeam), teamRegistry.idOf(awayTeam)));
+    }
+
+    private void writeScore(int slot, int homeScore, int awayScore) {
+        int offset = slotsOffset + slot * SLOT_SIZE;
+
+        buffer.putInt(offset + HOME_SCORE_OFFSET, homeScore).putInt(offset + AWAY_SCORE_OFFSET, awayScore);
+    }
+
+    private void beginChange() {
+        LONG.setOpaque(buffer, SEQUENCE_OFFSET, ++sequence);
+        VarHandle.storeStoreFence();
+    }
+
+    private void endChange() {
+        LONG.setOpaque(buffer, BOARD_VERSION_OFFSET, ++version);
+        LONG.setRelease(buffer, SEQUENCE_OFFSET, ++sequence);
+    }
+}
@@ -0,0 +1,286 @@
+package com.sportradar.mapped;
+
+import com.sportradar.model.MatchView;
+import com.sportradar.model.ScoreboardSnapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.sportradar.mapped.MappedFormat.*;
+
+/**
+ * Reads the board published by a {@link MappedScoreboard} from a memory-mapped file, typically in another process
+ * on the same host. The file is mapped read-only and read in place; no request is sent to the writer:
+ * 1. The slots are read between two reads of the seqlock sequence. If the writer changed the board in between,
+ *    or was changing it when the read started, the read is retried, so every snapshot is consistent and
+ *    includes either none or all updates of a batch.
+ * 2. Team names are decoded from the team dictionary once per team and cached; the cache is dropped when the
+ *    writer generation in the header changes, i.e. when a new writer has opened the file.
+ *    A snapshot is only returned if the writer generation is unchanged after its names were decoded, so a
+ *    name a new writer is rewriting is never returned or kept in the cache.
+ * Reads never block the writer. A reader may retry while the writer changes the board continuously. If the
+ * sequence stays odd for longer than the maximum writer stall, the writer is taken to have died mid-change and
+ * the read fails instead of spinning until a new writer opens the file.
+ * This class is not thread-safe; every reading thread should use its own reader.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see MappedScoreboard
+ * @see MappedFormat
+ */
+public class MappedScoreboardReader implements AutoCloseable {
+    private static final Duration DEFAULT_MAX_WRITER_STALL = Duration.ofSeconds(1);
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slotCapacity;
+    private final int teamCapacity;
+    private final int slotsOffset;
+    private final long maxWriterStallNanos;
+    private final String[] names;
+    private final int[] homeIds;
+    private final int[] awayIds;
+    private final int[] homeScores;
+    private final int[] awayScores;
+    private final long[] startTimes;
+    private final long[] startSequences;
+    private long generation;
+    private long readVersion;
+
+    /**
+     * Constructs a new MappedScoreboardReader instance mapping a file published by a {@link MappedScoreboard},
+     * failing reads once the writer has left a change unfinished for a second.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param file The file published by the writer.
+     * @throws IllegalArgumentException if the file is null.
+     * @throws UncheckedIOException if the file cannot be mapped or is not a mapped board file.
+     */
+    public MappedScoreboardReader(Path file) {
+        this(file, DEFAULT_MAX_WRITER_STALL);
+    }
+
+    /**
+     * Constructs a new MappedScoreboardReader instance mapping a file published by a {@link MappedScoreboard}.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param file The file published by the writer.
+     * @param maxWriterStall The longest time a read waits for the writer to finish a change it has begun.
+     * @throws IllegalArgumentException if the file or the maximum writer stall is null, or the stall is not positive.
+     * @throws UncheckedIOException if the file cannot be mapped or is not a mapped board file.
+     */
+    public MappedScoreboardReader(Path file, Duration maxWriterStall) {
+        if (file == null)
+            throw new IllegalArgumentException("File cannot be null");
+
+        if (maxWriterStall == null)
+            throw new IllegalArgumentException("Max writer stall cannot be null");
+
+        if (maxWriterStall.isNegative() || maxWriterStall.isZero())
+            throw new IllegalArgumentException("Max writer stall must be positive");
+
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            if (channel.size() < HEADER_SIZE)
+                throw notMappedBoard(file);
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+
+            header.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION)
+                throw notMappedBoard(file);
+
+            this.slotCapacity = header.getInt(SLOT_CAPACITY_OFFSET);
+            this.teamCapacity = header.getInt(TEAM_CAPACITY_OFFSET);
+
+            long fileSize = fileSize(slotCapacity, teamCapacity);
+
+            if (slotCapacity <= 0 || teamCapacity <= 0 || fileSize > Integer.MAX_VALUE || channel.size() < fileSize)
+                throw notMappedBoard(file);
+
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        } catch (IOException e) {
+            try {
+                channel.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+
+            throw new UncheckedIOException(e);
+        }
+
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        this.slotsOffset = slotsOffset(teamCapacity);
+        this.maxWriterStallNanos = maxWriterStall.toNanos();
+        this.names = new String[teamCapacity];
+        this.homeIds = new int[slotCapacity];
+        this.awayIds = new int[slotCapacity];
+        this.homeScores = new int[slotCapacity];
+        this.awayScores = new int[slotCapacity];
+        this.startTimes = new long[slotCapacity];
+        this.startSequences = new long[slotCapacity];
+    }
+
+    /**
+     * Returns the version of the published board without reading the slots, so callers can cheaply check
+     * whether the board changed since the snapshot they read last.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The version of the published board.
+     */
+    public long getVersion() {
+        return (long) LONG.getAcquire(buffer, BOARD_VERSION_OFFSET);
+    }
+
+    /**
+     * Reads a consistent snapshot of the published board. The views of the live matches are in summary order,
+     * by total score in descending order, then by start time in descending order and finally by start order,
+     * the most recently started first.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The snapshot of the published board, with the version of the board it was read from.
+     * @throws IllegalStateException if the file was opened by a writer with different capacities, or the writer
+     *                               left a change unfinished for longer than the maximum writer stall.
+     */
+    public ScoreboardSnapshot getSnapshot() {
+        while (true) {
+            int count = readSlots();
+            Integer[] slots = new Integer[count];
+
+            for (int index = 0; index < count; index++)
+                slots[index] = index;
+
+            Arrays.sort(slots, Comparator.<Integer>comparingInt(index -> homeScores[index] + awayScores[index])
+                .thenComparingLong(index -> startTimes[index])
+                .thenComparingLong(index -> startSequences[index])
+                .reversed());
+
+            List<MatchView> matches = new ArrayList<>(count);
+
+            for (int index : slots)
+                matches.add(new MatchView(nameOf(homeIds[index]), nameOf(awayIds[index]),
+                    homeScores[index], awayScores[index], startTimes[index]));
+
+            VarHandle.loadLoadFence();
+
+            // A new writer may have rewritten the dictionary while the names were decoded; the next read of the
+            // slots sees its generation and drops the cached names.
+            if ((long) LONG.getOpaque(buffer, GENERATION_OFFSET) == generation)
+                return new ScoreboardSnapshot(readVersion, matches);
+        }
+    }
+
+    /**
+     * Releases the file. The mapping itself is released when the reader is garbage collected.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @throws UncheckedIOException if the file cannot be closed.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Copies the live slots into the scratch arrays, retrying until no change of the writer overlapped the copy.
+     * The stall deadline restarts whenever the sequence moves, so only a writer stuck mid-change fails the read.
+     */
+    private int readSlots() {
+        long stalledSequence = -1;
+        long deadline = 0;
+
+        while (true) {
+            long sequence = (long) LONG.getAcquire(buffer, SEQUENCE_OFFSET);
+
+            if ((sequence & 1) == 0) {
+                int count = 0;
+
+                for (int slot = 0; slot < slotCapacity; slot++) {
+                    int offset = slotsOffset + slot * SLOT_SIZE;
+                    int homeId = buffer.getInt(offset + HOME_ID_OFFSET);
+
+                    if (homeId == NO_TEAM)
+                        continue;
+
+                    homeIds[count] = homeId;
+                    awayIds[count] = buffer.getInt(offset + AWAY_ID_OFFSET);
+                    homeScores[count] = buffer.getInt(offset + HOME_SCORE_OFFSET);
+                    awayScores[count] = buffer.getInt(offset + AWAY_SCORE_OFFSET);
+                    startTimes[count] = buffer.getLong(offset + START_TIME_OFFSET);
+                    startSequences[count] = buffer.getLong(offset + START_SEQUENCE_OFFSET);
+                    count++;
+                }
+
+                long version = buffer.getLong(BOARD_VERSION_OFFSET);
+                long writerGeneration = buffer.getLong(GENERATION_OFFSET);
+                boolean sameCapacities = buffer.getInt(SLOT_CAPACITY_OFFSET) == slotCapacity
+                    && buffer.getInt(TEAM_CAPACITY_OFFSET) == teamCapacity;
+
+                VarHandle.loadLoadFence();
+
+                if ((long) LONG.getOpaque(buffer, SEQUENCE_OFFSET) == sequence) {
+                    if (!sameCapacities)
+                        throw new IllegalStateException("Mapped board was opened with different capacities");
+
+                    if (writerGeneration != generation) {
+                        Arrays.fill(names, null);
+                        generation = writerGeneration;
+                    }
+
+                    readVersion = version;
+
+                    return count;
+                }
+            } else if (sequence != stalledSequence) {
+                stalledSequence = sequence;
+                deadline = System.nanoTime() + maxWriterStallNanos;
+            } else if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Writer of the mapped board appears to have died mid-change");
+            }
+
+            Thread.onSpinWait();
+        }
+    }
+
+    private String nameOf(int teamId) {
+        String name = names[teamId];
+
+        if (name == null) {
+            name = decodeName(buffer, teamId);
+            names[teamId] = name;
+        }
+
+        return name;
+    }
+
+    private static IOException notMappedBoard(Path file) {
+        return new IOException("Not a mapped board file: " + file);
+    }
+}
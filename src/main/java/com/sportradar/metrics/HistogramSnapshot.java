@@ -0,0 +1,77 @@
+package com.sportradar.metrics;
+
+/**
+ * Immutable snapshot of a {@link LatencyHistogram}. Percentiles are reported as the highest value of the
+ * bucket holding the percentile, i.e. rounded up by less than 3.2%, and never exceed the recorded maximum.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class HistogramSnapshot {
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long sum, long max) {
+        long total = 0;
+
+        for (long bucketCount : counts)
+            total += bucketCount;
+
+        this.counts = counts;
+        this.count = total;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return The mean of the recorded values, or 0 if no value was recorded.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the value below or at which the given percentage of the recorded values lie.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The value at the percentile, or 0 if no value was recorded.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+
+        if (count == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+
+            if (seen >= rank)
+                return Math.min(LatencyHistogram.highestValueOf(bucket), max);
+        }
+
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", mean=" + Math.round(getMean()) + ", p50=" + getValueAtPercentile(50)
+            + ", p99=" + getValueAtPercentile(99) + ", p99.9=" + getValueAtPercentile(99.9) + ", max=" + max;
+    }
+}
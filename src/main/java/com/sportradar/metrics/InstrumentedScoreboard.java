@@ -0,0 +1,188 @@
+package com.sportradar.metrics;
+
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.ForwardingScoreboard;
+import com.sportradar.service.Scoreboard;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Scoreboard decorator recording the count, failures and latency of every start, update, batch, finish and
+ * summary operation into {@link ScoreboardMetrics}, and tracking the number of live matches. Operations are
+ * forwarded with the thread-safety guarantees of the decorated scoreboard; recording itself never locks.
+ * While recording is disabled in the metrics, an operation costs one volatile read on top of the decorated
+ * one. Several instrumented scoreboards may share one metrics instance to report aggregated figures.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see ScoreboardMetrics
+ */
+public class InstrumentedScoreboard extends ForwardingScoreboard {
+    private final ScoreboardMetrics metrics;
+
+    /**
+     * Constructs a new InstrumentedScoreboard instance. The matches already live on the decorated scoreboard
+     * are added to the number of live matches of the metrics.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The decorated scoreboard.
+     * @param metrics    The metrics to record into.
+     * @throws IllegalArgumentException if scoreboard or metrics is null.
+     */
+    public InstrumentedScoreboard(Scoreboard scoreboard, ScoreboardMetrics metrics) {
+        super(scoreboard);
+
+        if (metrics == null)
+            throw new IllegalArgumentException("Metrics cannot be null");
+
+        this.metrics = metrics;
+        this.metrics.addLiveMatches(scoreboard.getSummary().size());
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        if (!metrics.isEnabled()) {
+            scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+            metrics.addLiveMatches(1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        ScoreboardOperationEvent event = beginEvent();
+        boolean failed = true;
+
+        try {
+            scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+            metrics.addLiveMatches(1);
+            failed = false;
+        } finally {
+            end(Operation.START_MATCH, start, event, failed);
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (!metrics.isEnabled()) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            return;
+        }
+
+        long start = System.nanoTime();
+        ScoreboardOperationEvent event = beginEvent();
+        boolean failed = true;
+
+        try {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            failed = false;
+        } finally {
+            end(Operation.UPDATE_SCORE, start, event, failed);
+        }
+    }
+
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        if (!metrics.isEnabled()) {
+            scoreboard.applyBatch(updates);
+            return;
+        }
+
+        long start = System.nanoTime();
+        ScoreboardOperationEvent event = beginEvent();
+        boolean failed = true;
+
+        try {
+            scoreboard.applyBatch(updates);
+            failed = false;
+        } finally {
+            end(Operation.APPLY_BATCH, start, event, failed);
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        if (!metrics.isEnabled()) {
+            scoreboard.finishMatch(homeTeam, awayTeam);
+            metrics.addLiveMatches(-1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        ScoreboardOperationEvent event = beginEvent();
+        boolean failed = true;
+
+        try {
+            scoreboard.finishMatch(homeTeam, awayTeam);
+            metrics.addLiveMatches(-1);
+            failed = false;
+        } finally {
+            end(Operation.FINISH_MATCH, start, event, failed);
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        if (!metrics.isEnabled())
+            return scoreboard.getSummary();
+
+        long start = System.nanoTime();
+        ScoreboardOperationEvent event = beginEvent();
+        boolean failed = true;
+
+        try {
+            List<Match> summary = scoreboard.getSummary();
+            failed = false;
+
+            return summary;
+        } finally {
+            end(Operation.GET_SUMMARY, start, event, failed);
+        }
+    }
+
+    @Override
+    public List<Match> getTopN(int n) {
+        if (!metrics.isEnabled())
+            return scoreboard.getTopN(n);
+
+        long start = System.nanoTime();
+        ScoreboardOperationEvent event = beginEvent();
+        boolean failed = true;
+
+        try {
+            List<Match> topN = scoreboard.getTopN(n);
+            failed = false;
+
+            return topN;
+        } finally {
+            end(Operation.GET_TOP_N, start, event, failed);
+        }
+    }
+
+    public ScoreboardMetrics getMetrics() {
+        return metrics;
+    }
+
+    private ScoreboardOperationEvent beginEvent() {
+        if (!metrics.isJfrEventsEnabled())
+            return null;
+
+        ScoreboardOperationEvent event = new ScoreboardOperationEvent();
+
+        event.begin();
+
+        return event;
+    }
+
+    private void end(Operation operation, long start, ScoreboardOperationEvent event, boolean failed) {
+        metrics.record(operation, start, failed);
+
+        if (event != null) {
+            event.operation = operation.name();
+            event.failed = failed;
+            event.commit();
+        }
+    }
+}
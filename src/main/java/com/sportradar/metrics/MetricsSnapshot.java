@@ -0,0 +1,56 @@
+package com.sportradar.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of {@link ScoreboardMetrics}: per operation the number of calls, the number of calls that
+ * failed with an exception and a latency histogram in nanoseconds, together with the number of live matches.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class MetricsSnapshot {
+    private final Map<Operation, Long> counts;
+    private final Map<Operation, Long> failures;
+    private final Map<Operation, HistogramSnapshot> latencies;
+    private final long liveMatches;
+
+    MetricsSnapshot(EnumMap<Operation, Long> counts, EnumMap<Operation, Long> failures,
+                    EnumMap<Operation, HistogramSnapshot> latencies, long liveMatches) {
+        this.counts = counts;
+        this.failures = failures;
+        this.latencies = latencies;
+        this.liveMatches = liveMatches;
+    }
+
+    public long getCount(Operation operation) {
+        return counts.get(operation);
+    }
+
+    public long getFailures(Operation operation) {
+        return failures.get(operation);
+    }
+
+    /**
+     * @return The latency histogram of the operation in nanoseconds.
+     */
+    public HistogramSnapshot getLatency(Operation operation) {
+        return latencies.get(operation);
+    }
+
+    public long getLiveMatches() {
+        return liveMatches;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("liveMatches=").append(liveMatches);
+
+        for (Operation operation : Operation.values())
+            builder.append('\n').append(operation).append(": calls=").append(counts.get(operation))
+                .append(", failures=").append(failures.get(operation)).append(", latency ns: ").append(latencies.get(operation));
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,16 @@
+package com.sportradar.metrics;
+
+/**
+ * The scoreboard operations measured by {@link ScoreboardMetrics}.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public enum Operation {
+    START_MATCH,
+    UPDATE_SCORE,
+    APPLY_BATCH,
+    FINISH_MATCH,
+    GET_SUMMARY,
+    GET_TOP_N
+}
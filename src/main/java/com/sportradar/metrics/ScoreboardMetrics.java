@@ -0,0 +1,128 @@
+package com.sportradar.metrics;
+
+import java.util.EnumMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Low-overhead recorder of scoreboard operation metrics: per {@link Operation} a call counter, a failure counter
+ * and a {@link LatencyHistogram}, plus the number of live matches. All counters are {@link LongAdder}s, so
+ * recording from many threads adds no contention. Metrics are pulled with {@link #snapshot()}.
+ * Recording can be switched off and on at run time; while it is off, an instrumented operation costs a single
+ * volatile read. JDK Flight Recorder events can be switched on in addition, see {@link ScoreboardOperationEvent}.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see InstrumentedScoreboard
+ */
+public class ScoreboardMetrics {
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final LongAdder[] counts = new LongAdder[OPERATIONS.length];
+    private final LongAdder[] failures = new LongAdder[OPERATIONS.length];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+    private final LongAdder liveMatches = new LongAdder();
+    private volatile boolean enabled = true;
+    private volatile boolean jfrEventsEnabled;
+
+    /**
+     * Constructs a new ScoreboardMetrics instance with recording enabled and JFR events disabled.
+     *
+     * @author Anatolii Stepanchuk
+     */
+    public ScoreboardMetrics() {
+        for (Operation operation : OPERATIONS) {
+            counts[operation.ordinal()] = new LongAdder();
+            failures[operation.ordinal()] = new LongAdder();
+            latencies[operation.ordinal()] = new LatencyHistogram();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isJfrEventsEnabled() {
+        return jfrEventsEnabled;
+    }
+
+    /**
+     * Switches JDK Flight Recorder events on or off. Events are emitted only while recording is enabled too.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param jfrEventsEnabled True to emit a {@link ScoreboardOperationEvent} for every recorded operation.
+     */
+    public void setJfrEventsEnabled(boolean jfrEventsEnabled) {
+        this.jfrEventsEnabled = jfrEventsEnabled;
+    }
+
+    /**
+     * Records a completed operation.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param operation  The operation.
+     * @param startNanos The {@link System#nanoTime()} at which the operation started.
+     * @param failed     True if the operation failed with an exception.
+     */
+    public void record(Operation operation, long startNanos, boolean failed) {
+        int index = operation.ordinal();
+
+        latencies[index].record(System.nanoTime() - startNanos);
+        counts[index].increment();
+
+        if (failed)
+            failures[index].increment();
+    }
+
+    /**
+     * Adjusts the number of live matches.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param delta The number of started matches, negative for finished matches.
+     */
+    public void addLiveMatches(long delta) {
+        liveMatches.add(delta);
+    }
+
+    /**
+     * Takes a snapshot of all metrics. Operations recorded concurrently with the snapshot may or may not be
+     * included.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return A new snapshot of the metrics.
+     */
+    public MetricsSnapshot snapshot() {
+        EnumMap<Operation, Long> callCounts = new EnumMap<>(Operation.class);
+        EnumMap<Operation, Long> failureCounts = new EnumMap<>(Operation.class);
+        EnumMap<Operation, HistogramSnapshot> histograms = new EnumMap<>(Operation.class);
+
+        for (Operation operation : OPERATIONS) {
+            callCounts.put(operation, counts[operation.ordinal()].sum());
+            failureCounts.put(operation, failures[operation.ordinal()].sum());
+            histograms.put(operation, latencies[operation.ordinal()].snapshot());
+        }
+
+        return new MetricsSnapshot(callCounts, failureCounts, histograms, liveMatches.sum());
+    }
+
+    /**
+     * Resets the operation counters and histograms. The number of live matches is kept.
+     *
+     * @author Anatolii Stepanchuk
+     */
+    public void reset() {
+        for (Operation operation : OPERATIONS) {
+            counts[operation.ordinal()].reset();
+            failures[operation.ordinal()].reset();
+            latencies[operation.ordinal()].reset();
+        }
+    }
+}
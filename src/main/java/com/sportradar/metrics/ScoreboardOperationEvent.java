@@ -0,0 +1,29 @@
+package com.sportradar.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted for every instrumented scoreboard operation while JFR events are enabled in
+ * {@link ScoreboardMetrics} and the event is enabled in the recording, e.g. by
+ * {@code jcmd <pid> JFR.start settings=profile +com.sportradar.ScoreboardOperation#enabled=true}.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+@Name("com.sportradar.ScoreboardOperation")
+@Label("Scoreboard Operation")
+@Category("Scoreboard")
+@Description("A start, update, finish or summary operation of a scoreboard")
+@StackTrace(false)
+final class ScoreboardOperationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Failed")
+    boolean failed;
+}
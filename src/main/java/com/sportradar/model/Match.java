@@ -2,6 +2,8 @@ package com.sportradar.model;
 
 /**
  * Represents a match with its details such as team names, scores, and start time.
+ * The home and away scores are kept packed in a single volatile {@code long} (see {@link MatchScore}),
+ * so a score update is published atomically and can safely be read from other threads.
  *
  * @author Anatolii Stepanchuk
  * @version 1.0
@@ -9,8 +11,7 @@ package com.sportradar.model;
 public class Match {
     private final String homeTeam;
     private final String awayTeam;
-    private int homeScore;
-    private int awayScore;
+    private volatile long score;
     private final long startTime;
 
     /**
@@ -20,10 +21,9 @@ public class Match {
      *
      * @param homeTeam       The name of the home team.
      * @param awayTeam       The name of the away team.
-     * @param startTimeShift The time shift for the start time in milliseconds. This parameter
-     *                       is necessary to prevent duplicate millisecond timestamps for
-     *                       consecutively added matches. It enforces a minimum time difference
-     *                       of at least 1 millisecond between timestamps.
+     * @param startTimeShift The time shift for the start time in milliseconds, added to the
+     *                       current time of the system clock. Use {@code MatchFactoryImpl}
+     *                       to start matches at the time of another clock.
      * @throws IllegalArgumentException if any team name is null or the start time shift is negative.
      */
     public Match(String homeTeam, String awayTeam, int startTimeShift) {
@@ -35,11 +35,37 @@ public class Match {
 
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
-        this.homeScore = 0;
-        this.awayScore = 0;
+        this.score = MatchScore.pack(0, 0);
         this.startTime = System.currentTimeMillis() + startTimeShift;
     }
 
+    /**
+     * Constructs a Match instance with a given state. This constructor is used by scoreboards that
+     * keep matches in another representation and create Match instances only when a match is handed
+     * out to a caller.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam  The name of the home team.
+     * @param awayTeam  The name of the away team.
+     * @param homeScore The score of the home team.
+     * @param awayScore The score of the away team.
+     * @param startTime The start time of the match in milliseconds.
+     * @throws IllegalArgumentException if any team name is null or any score is negative.
+     */
+    public Match(String homeTeam, String awayTeam, int homeScore, int awayScore, long startTime) {
+        if (homeTeam == null || awayTeam == null)
+            throw new IllegalArgumentException("Team names cannot be null");
+
+        if (homeScore < 0 || awayScore < 0)
+            throw new IllegalArgumentException("Scores cannot be negative");
+
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.score = MatchScore.pack(homeScore, awayScore);
+        this.startTime = startTime;
+    }
+
     /**
      * Updates the score of the match.
      *
@@ -53,8 +79,7 @@ public class Match {
         if (homeScore < 0 || awayScore < 0)
             throw new IllegalArgumentException("Scores cannot be negative");
 
-        this.homeScore = homeScore;
-        this.awayScore = awayScore;
+        this.score = MatchScore.pack(homeScore, awayScore);
     }
 
     public String getHomeTeam() {
@@ -66,11 +91,24 @@ public class Match {
     }
 
     public int getHomeScore() {
-        return homeScore;
+        return MatchScore.homeScore(score);
     }
 
     public int getAwayScore() {
-        return awayScore;
+        return MatchScore.awayScore(score);
+    }
+
+    /**
+     * Returns the home and away scores packed into a single {@code long}. Both scores are read
+     * with a single volatile read, so the returned pair is always consistent even while the
+     * match is being updated concurrently.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The packed score, to be decoded with {@link MatchScore}.
+     */
+    public long getPackedScore() {
+        return score;
     }
 
     public long getStartTime() {
@@ -85,12 +123,14 @@ public class Match {
      * @return Sum of the home and away team scores.
      */
     public int getTotalScore() {
-        return homeScore + awayScore;
+        return MatchScore.totalScore(score);
     }
 
     @Override
     public String toString() {
-        return homeTeam + " " + homeScore + " - " + awayTeam + " " + awayScore;
+        long packedScore = score;
+
+        return homeTeam + " " + MatchScore.homeScore(packedScore) + " - " + awayTeam + " " + MatchScore.awayScore(packedScore);
     }
 }
 
@@ -0,0 +1,72 @@
+package com.sportradar.model;
+
+/**
+ * Immutable composite key identifying a live match by the integer IDs of its home and away teams.
+ * Both IDs are packed into a single {@code long}, so hashing and comparing keys in hash based indexes
+ * costs a few integer operations instead of comparing both team names.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class MatchKey {
+    private final long teams;
+
+    /**
+     * Constructs a MatchKey instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId The ID of the home team.
+     * @param awayTeamId The ID of the away team.
+     * @throws IllegalArgumentException if any team ID is negative.
+     */
+    public MatchKey(int homeTeamId, int awayTeamId) {
+        if (homeTeamId < 0 || awayTeamId < 0)
+            throw new IllegalArgumentException("Team IDs cannot be negative");
+
+        this.teams = pack(homeTeamId, awayTeamId);
+    }
+
+    /**
+     * Packs the IDs of the home and away teams into a single {@code long}, the home team ID in the
+     * upper 32 bits and the away team ID in the lower 32 bits.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId The ID of the home team.
+     * @param awayTeamId The ID of the away team.
+     * @return The packed team IDs.
+     */
+    public static long pack(int homeTeamId, int awayTeamId) {
+        return ((long) homeTeamId << 32) | (awayTeamId & 0xFFFFFFFFL);
+    }
+
+    public int getHomeTeamId() {
+        return (int) (teams >>> 32);
+    }
+
+    public int getAwayTeamId() {
+        return (int) teams;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof MatchKey))
+            return false;
+
+        return teams == ((MatchKey) o).teams;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(teams * 0x9E3779B97F4A7C15L);
+    }
+
+    @Override
+    public String toString() {
+        return getHomeTeamId() + " - " + getAwayTeamId();
+    }
+}
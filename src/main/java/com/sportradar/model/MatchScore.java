@@ -0,0 +1,40 @@
+package com.sportradar.model;
+
+/**
+ * Utility methods for the packed representation of a match score. The home and away scores
+ * are stored together in a single {@code long}, the home score in the upper 32 bits and the away
+ * score in the lower 32 bits, so a score pair can be written and read atomically with a single
+ * memory access and a reader can never observe a torn home/away update.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class MatchScore {
+    private MatchScore() {
+    }
+
+    /**
+     * Packs a home and away score into a single {@code long}.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeScore The score of the home team.
+     * @param awayScore The score of the away team.
+     * @return The packed score.
+     */
+    public static long pack(int homeScore, int awayScore) {
+        return ((long) homeScore << 32) | (awayScore & 0xFFFFFFFFL);
+    }
+
+    public static int homeScore(long packedScore) {
+        return (int) (packedScore >>> 32);
+    }
+
+    public static int awayScore(long packedScore) {
+        return (int) packedScore;
+    }
+
+    public static int totalScore(long packedScore) {
+        return homeScore(packedScore) + awayScore(packedScore);
+    }
+}
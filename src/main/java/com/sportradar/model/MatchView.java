@@ -0,0 +1,121 @@
+package com.sportradar.model;
+
+import java.util.Objects;
+
+/**
+ * Immutable value view of a match at a point in time. Unlike {@link Match}, a view never changes
+ * after it has been created, so it can be handed to readers that render or serialise the scoreboard
+ * while the live match keeps being updated.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class MatchView {
+    private final String homeTeam;
+    private final String awayTeam;
+    private final int homeScore;
+    private final int awayScore;
+    private final long startTime;
+
+    /**
+     * Constructs a MatchView instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam  The name of the home team.
+     * @param awayTeam  The name of the away team.
+     * @param homeScore The score of the home team.
+     * @param awayScore The score of the away team.
+     * @param startTime The start time of the match in milliseconds.
+     * @throws IllegalArgumentException if any team name is null or any score is negative.
+     */
+    public MatchView(String homeTeam, String awayTeam, int homeScore, int awayScore, long startTime) {
+        if (homeTeam == null || awayTeam == null)
+            throw new IllegalArgumentException("Team names cannot be null");
+
+        if (homeScore < 0 || awayScore < 0)
+            throw new IllegalArgumentException("Scores cannot be negative");
+
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.startTime = startTime;
+    }
+
+    /**
+     * Creates a view of the current state of a live match. The score of the match is read
+     * with a single read of its packed score, so the view never holds a torn score pair.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param match The live match.
+     * @return A new view of the match.
+     */
+    public static MatchView of(Match match) {
+        long packedScore = match.getPackedScore();
+
+        return new MatchView(match.getHomeTeam(), match.getAwayTeam(),
+            MatchScore.homeScore(packedScore), MatchScore.awayScore(packedScore), match.getStartTime());
+    }
+
+    /**
+     * Checks whether this view still reflects the current score of a live match.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param packedScore The current packed score of the live match.
+     * @return True if the scores of this view are equal to the given packed score.
+     */
+    public boolean hasScore(long packedScore) {
+        return MatchScore.pack(homeScore, awayScore) == packedScore;
+    }
+
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public int getTotalScore() {
+        return homeScore + awayScore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof MatchView))
+            return false;
+
+        MatchView other = (MatchView) o;
+
+        return homeScore == other.homeScore && awayScore == other.awayScore && startTime == other.startTime
+            && homeTeam.equals(other.homeTeam) && awayTeam.equals(other.awayTeam);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(homeTeam, awayTeam, homeScore, awayScore, startTime);
+    }
+
+    @Override
+    public String toString() {
+        return homeTeam + " " + homeScore + " - " + awayTeam + " " + awayScore;
+    }
+}
@@ -0,0 +1,54 @@
+package com.sportradar.model;
+
+/**
+ * Represents a single score update of a batch: the match identified by its home and away team names,
+ * and the new scores of both teams. The update is a plain value; it is validated when the batch
+ * is applied, so that all invalid updates of a batch can be reported together.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class ScoreUpdate {
+    private final String homeTeam;
+    private final String awayTeam;
+    private final int homeScore;
+    private final int awayScore;
+
+    /**
+     * Constructs a ScoreUpdate instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam  The name of the home team in the match.
+     * @param awayTeam  The name of the away team in the match.
+     * @param homeScore The new score for the home team.
+     * @param awayScore The new score for the away team.
+     */
+    public ScoreUpdate(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+    }
+
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    @Override
+    public String toString() {
+        return homeTeam + " " + homeScore + " - " + awayTeam + " " + awayScore;
+    }
+}
@@ -0,0 +1,80 @@
+package com.sportradar.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, versioned snapshot of a scoreboard. A snapshot holds the views of all live matches
+ * in summary order together with the version of the scoreboard it was taken from. The version
+ * grows with every successful write to the scoreboard, so readers can cheaply detect whether
+ * anything changed since the snapshot they rendered last.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class ScoreboardSnapshot {
+    private static final ScoreboardSnapshot EMPTY = new ScoreboardSnapshot(0, Collections.emptyList());
+
+    private final long version;
+    private final List<MatchView> matches;
+
+    /**
+     * Constructs a ScoreboardSnapshot instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param version The version of the scoreboard the snapshot was taken from.
+     * @param matches The views of the live matches in summary order. The list is wrapped, not copied,
+     *                so the caller must not modify it afterwards.
+     * @throws IllegalArgumentException if the version is negative or the list of matches is null.
+     */
+    public ScoreboardSnapshot(long version, List<MatchView> matches) {
+        if (version < 0)
+            throw new IllegalArgumentException("Version cannot be negative");
+
+        if (matches == null)
+            throw new IllegalArgumentException("Matches cannot be null");
+
+        this.version = version;
+        this.matches = Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Returns the snapshot of an empty scoreboard with version 0.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The empty snapshot.
+     */
+    public static ScoreboardSnapshot empty() {
+        return EMPTY;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the views of the live matches in summary order, i.e. by total score in descending
+     * order and then by start time in descending order.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return An unmodifiable list of match views.
+     */
+    public List<MatchView> getMatches() {
+        return matches;
+    }
+
+    /**
+     * Checks whether this snapshot is newer than a previously seen version.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param version A previously seen scoreboard version.
+     * @return True if the scoreboard changed after the given version.
+     */
+    public boolean hasChangedSince(long version) {
+        return this.version > version;
+    }
+}
@@ -0,0 +1,67 @@
+package com.sportradar.push;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * A Server-Sent Event encoded once and written unchanged to every client. The event ID is the version of the
+ * scoreboard snapshot, the event type is {@code full} or {@code delta}, and the data is the base64 encoded
+ * binary frame of a {@link com.sportradar.wire.SummaryEncoder}, which a {@link com.sportradar.wire.SummaryDecoder}
+ * applies on the client.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class PushEvent {
+    static final String FULL = "full";
+    static final String DELTA = "delta";
+
+    /**
+     * Marker telling the thread serving a client to end the stream; it is never written.
+     */
+    static final PushEvent CLOSE = new PushEvent(-1, -1, "close", new byte[0]);
+
+    private final long version;
+    private final long baseVersion;
+    private final String type;
+    private final byte[] bytes;
+
+    private PushEvent(long version, long baseVersion, String type, byte[] bytes) {
+        this.version = version;
+        this.baseVersion = baseVersion;
+        this.type = type;
+        this.bytes = bytes;
+    }
+
+    static PushEvent full(long version, byte[] frame, int length) {
+        return new PushEvent(version, -1, FULL, encode(version, FULL, frame, length));
+    }
+
+    static PushEvent delta(long baseVersion, long version, byte[] frame, int length) {
+        return new PushEvent(version, baseVersion, DELTA, encode(version, DELTA, frame, length));
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    long getBaseVersion() {
+        return baseVersion;
+    }
+
+    boolean isFull() {
+        return type.equals(FULL);
+    }
+
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    private static byte[] encode(long version, String type, byte[] frame, int length) {
+        byte[] data = Base64.getEncoder().encode(Arrays.copyOf(frame, length));
+        String event = "id: " + version + "\nevent: " + type + "\ndata: " + new String(data, StandardCharsets.US_ASCII) + "\n\n";
+
+        return event.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,123 @@
+package com.sportradar.push;
+
+import java.time.Duration;
+
+/**
+ * Immutable settings of a {@link SummaryPushServer}:
+ * 1. The poll interval, i.e. how often the scoreboard snapshot is checked for a new version. All writes made
+ *    within one interval are published as a single delta event.
+ * 2. The client queue capacity, i.e. the number of events buffered for a client that has not received them yet.
+ *    A client whose queue overflows is conflated to a single full event; a client that overflows again before
+ *    it received that event is dropped.
+ * 3. The history size, i.e. the number of recent delta events kept for clients resuming from a version.
+ * 4. The heartbeat interval, after which an idle stream receives an SSE comment, so proxies keep it open.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class PushOptions {
+    private final Duration pollInterval;
+    private final int clientQueueCapacity;
+    private final int historySize;
+    private final Duration heartbeatInterval;
+
+    private PushOptions(Duration pollInterval, int clientQueueCapacity, int historySize, Duration heartbeatInterval) {
+        this.pollInterval = pollInterval;
+        this.clientQueueCapacity = clientQueueCapacity;
+        this.historySize = historySize;
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * Returns the default options: a poll interval of 10 milliseconds, 64 queued events per client, a history of
+     * 1024 delta events and a heartbeat every 15 seconds.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The default options.
+     */
+    public static PushOptions defaults() {
+        return new PushOptions(Duration.ofMillis(10), 64, 1024, Duration.ofSeconds(15));
+    }
+
+    /**
+     * Returns a copy of these options with a different poll interval.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param pollInterval The interval between two checks of the scoreboard snapshot.
+     * @return The new options.
+     * @throws IllegalArgumentException if the poll interval is null or not positive.
+     */
+    public PushOptions withPollInterval(Duration pollInterval) {
+        if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero())
+            throw new IllegalArgumentException("Poll interval must be positive");
+
+        return new PushOptions(pollInterval, clientQueueCapacity, historySize, heartbeatInterval);
+    }
+
+    /**
+     * Returns a copy of these options with a different client queue capacity.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param clientQueueCapacity The number of events buffered per client.
+     * @return The new options.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public PushOptions withClientQueueCapacity(int clientQueueCapacity) {
+        if (clientQueueCapacity <= 0)
+            throw new IllegalArgumentException("Client queue capacity must be positive");
+
+        return new PushOptions(pollInterval, clientQueueCapacity, historySize, heartbeatInterval);
+    }
+
+    /**
+     * Returns a copy of these options with a different history size.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param historySize The number of recent delta events kept for resuming clients, or 0 to send every
+     *                    resuming client a full event.
+     * @return The new options.
+     * @throws IllegalArgumentException if the history size is negative.
+     */
+    public PushOptions withHistorySize(int historySize) {
+        if (historySize < 0)
+            throw new IllegalArgumentException("History size cannot be negative");
+
+        return new PushOptions(pollInterval, clientQueueCapacity, historySize, heartbeatInterval);
+    }
+
+    /**
+     * Returns a copy of these options with a different heartbeat interval.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param heartbeatInterval The idle time after which a heartbeat comment is sent.
+     * @return The new options.
+     * @throws IllegalArgumentException if the heartbeat interval is null or not positive.
+     */
+    public PushOptions withHeartbeatInterval(Duration heartbeatInterval) {
+        if (heartbeatInterval == null || heartbeatInterval.isNegative() || heartbeatInterval.isZero())
+            throw new IllegalArgumentException("Heartbeat interval must be positive");
+
+        return new PushOptions(pollInterval, clientQueueCapacity, historySize, heartbeatInterval);
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public int getClientQueueCapacity() {
+        return clientQueueCapacity;
+    }
+
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+}
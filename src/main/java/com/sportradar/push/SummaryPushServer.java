@@ -0,0 +1,406 @@
+package com.sportradar.push;
+
+import com.sportradar.concurrent.ConnectionThreads;
+import com.sportradar.model.ScoreboardSnapshot;
+import com.sportradar.service.SnapshotScoreboard;
+import com.sportradar.wire.SummaryDecoder;
+import com.sportradar.wire.SummaryEncoder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Embedded HTTP server streaming the changes of a {@link SnapshotScoreboard} to any number of clients as
+ * Server-Sent Events, built on the JDK's {@code com.sun.net.httpserver} without further dependencies.
+ * Clients connect with {@code GET /summary/events}:
+ * 1. A publisher thread polls the snapshot version of the scoreboard. Every new version is encoded once as a
+ *    delta event from the previously published version and the same bytes are queued for every client
+ *    (see {@link PushEvent} for the event format, decoded on the client with a {@link SummaryDecoder}).
+ * 2. A new client first receives a full event of the current snapshot, encoded at most once per version.
+ *    A client reconnecting with a {@code Last-Event-ID} header, or a {@code lastEventId} query parameter, that is
+ *    still covered by the recent delta history receives only the deltas it missed.
+ * 3. Every client has a bounded event queue served by its own thread from {@link ConnectionThreads}, a virtual
+ *    thread on Java 21 or later and an operating system thread on Java 17. A client that falls behind by more than
+ *    the queue capacity is conflated: its queued events are replaced by a single full event. A client that falls
+ *    behind again before it received that event is dropped, so a stalled client never holds more than one queue.
+ * Heartbeat comments keep idle streams open (see {@link PushOptions}).
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see PushOptions
+ * @see SummaryEncoder
+ */
+public class SummaryPushServer implements AutoCloseable {
+    /**
+     * The path of the event stream.
+     */
+    public static final String EVENTS_PATH = "/summary/events";
+
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.US_ASCII);
+    private static final int INITIAL_FRAME_CAPACITY = 4096;
+
+    private final SnapshotScoreboard scoreboard;
+    private final SummaryEncoder encoder;
+    private final PushOptions options;
+    private final HttpServer server;
+    private final Thread publisher;
+    private final Set<Subscriber> subscribers = new HashSet<>();
+    private final Deque<PushEvent> history = new ArrayDeque<>();
+    private final LongAdder publishedEvents = new LongAdder();
+    private final LongAdder conflatedClients = new LongAdder();
+    private final LongAdder droppedClients = new LongAdder();
+    private ScoreboardSnapshot published;
+    private PushEvent fullEvent;
+    private ByteBuffer frameBuffer = ByteBuffer.allocate(INITIAL_FRAME_CAPACITY);
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new SummaryPushServer instance and starts serving the event stream.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The scoreboard whose snapshots are streamed.
+     * @param address    The address to listen on; port 0 picks a free port.
+     * @param options    The push options.
+     * @throws IllegalArgumentException if any argument is null.
+     * @throws UncheckedIOException if the server cannot listen on the address.
+     */
+    public SummaryPushServer(SnapshotScoreboard scoreboard, InetSocketAddress address, PushOptions options) {
+        if (scoreboard == null || address == null || options == null)
+            throw new IllegalArgumentException("Scoreboard, address and options cannot be null");
+
+        this.scoreboard = scoreboard;
+        this.encoder = new SummaryEncoder(scoreboard.getTeamRegistry());
+        this.options = options;
+        this.published = scoreboard.getSnapshot();
+
+        try {
+            this.server = HttpServer.create(address, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        server.createContext(EVENTS_PATH, this::serve);
+        server.setExecutor(task -> ConnectionThreads.newThread("push-client", task).start());
+        server.start();
+
+        this.publisher = ConnectionThreads.newThread("push-publisher", this::publishLoop);
+        publisher.start();
+    }
+
+    /**
+     * Returns the port the server listens on, e.g. the free port picked for port 0.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The port of the server.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public int getSubscriberCount() {
+        synchronized (subscribers) {
+            return subscribers.size();
+        }
+    }
+
+    long getPublishedVersion() {
+        synchronized (subscribers) {
+            return published.getVersion();
+        }
+    }
+
+    public long getPublishedEventCount() {
+        return publishedEvents.sum();
+    }
+
+    public long getConflatedClientCount() {
+        return conflatedClients.sum();
+    }
+
+    public long getDroppedClientCount() {
+        return droppedClients.sum();
+    }
+
+    /**
+     * Stops the publisher, ends the streams of all clients and stops the server.
+     *
+     * @author Anatolii Stepanchuk
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(publisher);
+
+        try {
+            publisher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (subscribers) {
+            for (Subscriber subscriber : subscribers)
+                subscriber.close();
+
+            subscribers.clear();
+        }
+
+        server.stop(0);
+    }
+
+    /**
+     * Publishes the current snapshot of the scoreboard as a delta event if its version changed since the last
+     * published one.
+     *
+     * @return True if an event was published.
+     */
+    boolean publishChanges() {
+        ScoreboardSnapshot snapshot = scoreboard.getSnapshot();
+
+        synchronized (subscribers) {
+            if (snapshot.getVersion() == published.getVersion())
+                return false;
+
+            PushEvent delta = encodeDelta(published, snapshot);
+
+            published = snapshot;
+            fullEvent = null;
+
+            if (options.getHistorySize() > 0) {
+                if (history.size() == options.getHistorySize())
+                    history.removeFirst();
+
+                history.addLast(delta);
+            }
+
+            for (Iterator<Subscriber> iterator = subscribers.iterator(); iterator.hasNext(); ) {
+                Subscriber subscriber = iterator.next();
+
+                if (!deliver(subscriber, delta)) {
+                    iterator.remove();
+                    subscriber.close();
+                    droppedClients.increment();
+                }
+            }
+
+            publishedEvents.increment();
+
+            return true;
+        }
+    }
+
+    /**
+     * Registers a new subscriber and queues the events bringing it from the last version it has seen to the
+     * latest published one: the missed deltas if the history covers them, otherwise a full event.
+     *
+     * @param lastVersion The last version seen by the client, or -1 for a new client.
+     */
+    Subscriber subscribe(long lastVersion) {
+        Subscriber subscriber = new Subscriber(options.getClientQueueCapacity());
+
+        synchronized (subscribers) {
+            if (lastVersion != published.getVersion()) {
+                List<PushEvent> missed = missedDeltas(lastVersion);
+
+                if (missed == null || missed.size() > options.getClientQueueCapacity())
+                    subscriber.queue.add(fullEvent());
+                else
+                    subscriber.queue.addAll(missed);
+            }
+
+            subscribers.add(subscriber);
+        }
+
+        return subscriber;
+    }
+
+    void unsubscribe(Subscriber subscriber) {
+        synchronized (subscribers) {
+            subscribers.remove(subscriber);
+        }
+    }
+
+    private void publishLoop() {
+        long pollNanos = options.getPollInterval().toNanos();
+
+        while (!closed) {
+            publishChanges();
+            LockSupport.parkNanos(pollNanos);
+        }
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(405, -1);
+            exchange.close();
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+
+        Subscriber subscriber = subscribe(lastEventId(exchange));
+        long heartbeatNanos = options.getHeartbeatInterval().toNanos();
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(HEARTBEAT);
+            out.flush();
+
+            while (!closed) {
+                PushEvent event = subscriber.take(heartbeatNanos);
+
+                if (event == PushEvent.CLOSE)
+                    break;
+
+                out.write(event == null ? HEARTBEAT : event.getBytes());
+                out.flush();
+            }
+        } catch (IOException e) {
+            // The client closed the connection.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            unsubscribe(subscriber);
+            exchange.close();
+        }
+    }
+
+    /**
+     * Queues an event for a subscriber, conflating its queue into a full event if it overflows.
+     *
+     * @return False if the subscriber overflowed again before it received its last full event and must be dropped.
+     */
+    private boolean deliver(Subscriber subscriber, PushEvent event) {
+        if (subscriber.queue.offer(event))
+            return true;
+
+        if (subscriber.pendingFullEvent.get() != null)
+            return false;
+
+        PushEvent full = fullEvent();
+
+        subscriber.queue.clear();
+        subscriber.pendingFullEvent.set(full);
+        subscriber.queue.offer(full);
+        conflatedClients.increment();
+
+        return true;
+    }
+
+    /**
+     * Returns the deltas from a version to the latest published one, or null if the history does not cover them.
+     */
+    private List<PushEvent> missedDeltas(long lastVersion) {
+        List<PushEvent> missed = new ArrayList<>();
+
+        for (PushEvent delta : history) {
+            if (!missed.isEmpty() || delta.getBaseVersion() == lastVersion)
+                missed.add(delta);
+        }
+
+        return missed.isEmpty() ? null : missed;
+    }
+
+    private PushEvent fullEvent() {
+        if (fullEvent == null) {
+            while (true) {
+                try {
+                    frameBuffer.clear();
+                    encoder.encodeFull(published, frameBuffer);
+                    break;
+                } catch (BufferOverflowException e) {
+                    frameBuffer = ByteBuffer.allocate(frameBuffer.capacity() * 2);
+                }
+            }
+
+            fullEvent = PushEvent.full(published.getVersion(), frameBuffer.array(), frameBuffer.position());
+        }
+
+        return fullEvent;
+    }
+
+    private PushEvent encodeDelta(ScoreboardSnapshot base, ScoreboardSnapshot snapshot) {
+        while (true) {
+            try {
+                frameBuffer.clear();
+                encoder.encodeDelta(base, snapshot, frameBuffer);
+
+                return PushEvent.delta(base.getVersion(), snapshot.getVersion(), frameBuffer.array(), frameBuffer.position());
+            } catch (BufferOverflowException e) {
+                frameBuffer = ByteBuffer.allocate(frameBuffer.capacity() * 2);
+            }
+        }
+    }
+
+    private static long lastEventId(HttpExchange exchange) {
+        String lastEventId = exchange.getRequestHeaders().getFirst("Last-Event-ID");
+        String query = exchange.getRequestURI().getRawQuery();
+
+        if (lastEventId == null && query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("lastEventId="))
+                    lastEventId = URLDecoder.decode(parameter.substring("lastEventId=".length()), StandardCharsets.UTF_8);
+            }
+        }
+
+        try {
+            return lastEventId == null ? -1 : Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * The event queue of a connected client. The queue is filled by the publisher while holding the subscriber
+     * lock and drained by the thread serving the client.
+     */
+    static final class Subscriber {
+        private final BlockingQueue<PushEvent> queue;
+        private final AtomicReference<PushEvent> pendingFullEvent = new AtomicReference<>();
+
+        private Subscriber(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        /**
+         * Takes the next event, waiting at most the given time.
+         *
+         * @return The next event, or null if none was queued in time.
+         */
+        PushEvent take(long timeoutNanos) throws InterruptedException {
+            PushEvent event = queue.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+
+            if (event != null)
+                pendingFullEvent.compareAndSet(event, null);
+
+            return event;
+        }
+
+        int getQueuedEventCount() {
+            return queue.size();
+        }
+
+        private void close() {
+            queue.clear();
+            queue.offer(PushEvent.CLOSE);
+        }
+    }
+}
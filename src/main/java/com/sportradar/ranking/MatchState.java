@@ -0,0 +1,35 @@
+package com.sportradar.ranking;
+
+/**
+ * Read-only state of a live match handed to a {@link RankingStrategy} to compute its sort key. Boards pass a
+ * reusable cursor over their own storage, so an instance is valid only for the duration of the call and must
+ * not be retained.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public interface MatchState {
+    int getHomeTeamId();
+
+    int getAwayTeamId();
+
+    String getHomeTeam();
+
+    String getAwayTeam();
+
+    int getHomeScore();
+
+    int getAwayScore();
+
+    long getStartTime();
+
+    /**
+     * Returns the number of the last change of the match on its board. The board numbers every start of a match
+     * and every change of a score in ascending order, so a higher number means a more recent change.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The number of the last change of the match.
+     */
+    long getLastChange();
+}
@@ -0,0 +1,103 @@
+package com.sportradar.ranking;
+
+import com.sportradar.model.MatchKey;
+
+import java.text.Normalizer;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Built-in {@link RankingStrategy} implementations.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class RankingStrategies {
+    private static final int START_TIME_BITS = 43;
+    private static final int NAME_PREFIX_CHARS = 9;
+
+    /**
+     * The summary order of the scoreboard: total score in descending order, then start time in descending order.
+     * The key holds the total score in the upper 21 bits and the start time in the lower 43 bits, so it requires
+     * start times between 0 and 2^43 milliseconds.
+     */
+    public static final RankingStrategy TOTAL_SCORE = match ->
+        ((long) (match.getHomeScore() + match.getAwayScore()) << START_TIME_BITS) | match.getStartTime();
+
+    /**
+     * Absolute goal difference in descending order, then total score in descending order.
+     */
+    public static final RankingStrategy GOAL_DIFFERENCE = match ->
+        ((long) Math.abs(match.getHomeScore() - match.getAwayScore()) << 32) | (match.getHomeScore() + match.getAwayScore());
+
+    /**
+     * The most recently started or re-scored match first.
+     */
+    public static final RankingStrategy MOST_RECENTLY_CHANGED = MatchState::getLastChange;
+
+    /**
+     * Home team name in alphabetical order, ignoring case, accents, punctuation and white space. Names are
+     * compared by their first nine letters and digits; names sharing them are ranked by start order.
+     */
+    public static final RankingStrategy HOME_TEAM_ALPHABETICAL = new RankingStrategy() {
+        @Override
+        public long sortKey(MatchState match) {
+            return -namePrefix(match.getHomeTeam());
+        }
+
+        @Override
+        public boolean dependsOnScore() {
+            return false;
+        }
+    };
+
+    private RankingStrategies() {
+    }
+
+    /**
+     * Creates a strategy ranking matches by a priority of their fixture, e.g. the priority of the competition
+     * the match belongs to, in descending order and then by total score in descending order.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param priorities Maps the fixture of a match, packed by {@link MatchKey#pack(int, int)},
+     *                   to its priority. It is called on every score change, so it should not allocate.
+     * @return The priority strategy.
+     * @throws IllegalArgumentException if the priority function is null.
+     */
+    public static RankingStrategy byPriority(LongToIntFunction priorities) {
+        if (priorities == null)
+            throw new IllegalArgumentException("Priorities cannot be null");
+
+        return match -> {
+            long fixture = MatchKey.pack(match.getHomeTeamId(), match.getAwayTeamId());
+
+            return ((long) priorities.applyAsInt(fixture) << 32) | (match.getHomeScore() + match.getAwayScore());
+        };
+    }
+
+    /**
+     * Packs the first letters and digits of a name, folded to lower-case ASCII, into 7 bits each, so that
+     * packed prefixes compare like the names.
+     */
+    static long namePrefix(String name) {
+        long prefix = 0;
+        int chars = 0;
+
+        for (int index = 0; index < name.length() && chars < NAME_PREFIX_CHARS; index++) {
+            char c = name.charAt(index);
+
+            if (c >= 0x80)
+                c = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFKD).charAt(0);
+
+            c = Character.toLowerCase(c);
+
+            if (c >= 0x80 || !Character.isLetterOrDigit(c))
+                continue;
+
+            prefix = (prefix << 7) | c;
+            chars++;
+        }
+
+        return prefix << (7 * (NAME_PREFIX_CHARS - chars));
+    }
+}
@@ -0,0 +1,37 @@
+package com.sportradar.ranking;
+
+/**
+ * Service provider interface defining an order of live matches by a primitive {@code long} sort key per match.
+ * Matches with a higher key are ranked first; matches with equal keys are ranked by the order in which they were
+ * started, the most recently started first. A key must depend only on the state of its own match, so a board
+ * maintaining an ordered index per strategy recomputes the key of a match only when that match changes.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see RankingStrategies
+ */
+public interface RankingStrategy {
+    /**
+     * Computes the sort key of a match. This method is called on every change of a match that the key depends on,
+     * so it should not allocate.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param match The state of the match.
+     * @return The sort key of the match; higher keys are ranked first.
+     */
+    long sortKey(MatchState match);
+
+    /**
+     * Tells whether the sort key depends on the scores or the last change of a match. Keys of strategies that
+     * depend only on the teams and the start time are computed once when a match is started.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return True if the key has to be recomputed when the score of a match changes.
+     */
+    default boolean dependsOnScore() {
+        return true;
+    }
+}
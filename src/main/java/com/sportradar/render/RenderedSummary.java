@@ -0,0 +1,89 @@
+package com.sportradar.render;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Immutable summary of one scoreboard version, pre-rendered as UTF-8 bytes in two formats:
+ * 1. Text, one line per match in summary order, formatted like {@code Match.toString()}.
+ * 2. JSON, an array of match objects in summary order.
+ * Writing a rendered summary copies the cached bytes to the target without any formatting or allocation,
+ * so the same instance can be written to any number of responses.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see SummaryRenderer
+ */
+public final class RenderedSummary {
+    private final long version;
+    private final byte[] text;
+    private final byte[] json;
+
+    RenderedSummary(long version, byte[] text, byte[] json) {
+        this.version = version;
+        this.text = text;
+        this.json = json;
+    }
+
+    /**
+     * Writes the text rendering of the summary.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param out The stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    public void writeText(OutputStream out) throws IOException {
+        out.write(text, 0, text.length);
+    }
+
+    /**
+     * Writes the JSON rendering of the summary.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param out The stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    public void writeJson(OutputStream out) throws IOException {
+        out.write(json, 0, json.length);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getTextLength() {
+        return text.length;
+    }
+
+    public int getJsonLength() {
+        return json.length;
+    }
+
+    /**
+     * Decodes the text rendering into a new string. Intended for logging and tests; responses should
+     * use {@link #writeText(OutputStream)}, which does not allocate.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The text rendering of the summary.
+     */
+    public String getText() {
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes the JSON rendering into a new string. Intended for logging and tests; responses should
+     * use {@link #writeJson(OutputStream)}, which does not allocate.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The JSON rendering of the summary.
+     */
+    public String getJson() {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,181 @@
+package com.sportradar.render;
+
+import com.sportradar.model.MatchView;
+import com.sportradar.model.ScoreboardSnapshot;
+import com.sportradar.service.SnapshotScoreboard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rendering cache producing the text and JSON summary of a {@link SnapshotScoreboard}. The renderer keeps
+ * the formatted bytes of every live match as a fragment and assembles a {@link RenderedSummary} by
+ * concatenating the fragments in summary order:
+ * 1. Reading an unchanged board returns the summary rendered last, a volatile read without any allocation.
+ * 2. After a write, only the matches whose score changed, or which were started, are formatted again.
+ *    Fragments do not contain the rank of the match, so a match moving in the summary reuses its fragment.
+ * Fragments are keyed by the identity of the {@link MatchView}, since the snapshot scoreboard shares the view
+ * of a match between snapshots until its score changes. This class is thread-safe; concurrent readers of a
+ * changed board render it once.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see RenderedSummary
+ */
+public class SummaryRenderer {
+    private static final String HEX_DIGITS = "0123456789abcdef";
+
+    private final SnapshotScoreboard scoreboard;
+    private Map<MatchView, Fragment> fragments = new IdentityHashMap<>();
+    private volatile RenderedSummary rendered;
+    private long renderedFragments;
+
+    /**
+     * Constructs a new SummaryRenderer instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The scoreboard whose snapshots are rendered.
+     * @throws IllegalArgumentException if the scoreboard is null.
+     */
+    public SummaryRenderer(SnapshotScoreboard scoreboard) {
+        if (scoreboard == null)
+            throw new IllegalArgumentException("Scoreboard cannot be null");
+
+        this.scoreboard = scoreboard;
+    }
+
+    /**
+     * Returns the rendered summary of the latest snapshot of the scoreboard, rendering it if the scoreboard
+     * changed since the last call.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The rendered summary of the latest snapshot.
+     */
+    public RenderedSummary render() {
+        ScoreboardSnapshot snapshot = scoreboard.getSnapshot();
+        RenderedSummary current = rendered;
+
+        if (current != null && current.getVersion() == snapshot.getVersion())
+            return current;
+
+        synchronized (this) {
+            current = rendered;
+
+            if (current != null && current.getVersion() >= snapshot.getVersion())
+                return current;
+
+            current = render(snapshot);
+            rendered = current;
+
+            return current;
+        }
+    }
+
+    /**
+     * Returns the number of match fragments formatted since this renderer was created.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The number of formatted fragments.
+     */
+    public synchronized long getRenderedFragments() {
+        return renderedFragments;
+    }
+
+    /**
+     * Renders a snapshot from the cached fragments, formatting fragments of new views only.
+     * Must be called while holding the lock of this renderer.
+     */
+    private RenderedSummary render(ScoreboardSnapshot snapshot) {
+        List<MatchView> matches = snapshot.getMatches();
+        Map<MatchView, Fragment> nextFragments = new IdentityHashMap<>(matches.size());
+        Fragment[] ordered = new Fragment[matches.size()];
+        int textLength = 0;
+        int jsonLength = 2 + Math.max(0, matches.size() - 1);
+
+        for (int rank = 0; rank < ordered.length; rank++) {
+            MatchView match = matches.get(rank);
+            Fragment fragment = fragments.get(match);
+
+            if (fragment == null) {
+                fragment = new Fragment(match);
+                renderedFragments++;
+            }
+
+            nextFragments.put(match, fragment);
+            ordered[rank] = fragment;
+            textLength += fragment.text.length;
+            jsonLength += fragment.json.length;
+        }
+
+        fragments = nextFragments;
+
+        byte[] text = new byte[textLength];
+        byte[] json = new byte[jsonLength];
+        int textPosition = 0;
+        int jsonPosition = 0;
+
+        json[jsonPosition++] = '[';
+
+        for (int rank = 0; rank < ordered.length; rank++) {
+            Fragment fragment = ordered[rank];
+
+            if (rank > 0)
+                json[jsonPosition++] = ',';
+
+            System.arraycopy(fragment.text, 0, text, textPosition, fragment.text.length);
+            System.arraycopy(fragment.json, 0, json, jsonPosition, fragment.json.length);
+            textPosition += fragment.text.length;
+            jsonPosition += fragment.json.length;
+        }
+
+        json[jsonPosition] = ']';
+
+        return new RenderedSummary(snapshot.getVersion(), text, json);
+    }
+
+    /**
+     * Formatted bytes of a single match view.
+     */
+    private static final class Fragment {
+        private final byte[] text;
+        private final byte[] json;
+
+        private Fragment(MatchView match) {
+            this.text = (match + "\n").getBytes(StandardCharsets.UTF_8);
+
+            StringBuilder builder = new StringBuilder(64)
+                .append("{\"homeTeam\":");
+
+            appendJsonString(builder, match.getHomeTeam());
+            builder.append(",\"homeScore\":").append(match.getHomeScore()).append(",\"awayTeam\":");
+            appendJsonString(builder, match.getAwayTeam());
+            builder.append(",\"awayScore\":").append(match.getAwayScore()).append('}');
+
+            this.json = builder.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void appendJsonString(StringBuilder builder, String value) {
+        builder.append('"');
+
+        for (int index = 0; index < value.length(); index++) {
+            char c = value.charAt(index);
+
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append("\\u00").append(HEX_DIGITS.charAt(c >> 4)).append(HEX_DIGITS.charAt(c & 0xF));
+            } else {
+                builder.append(c);
+            }
+        }
+
+        builder.append('"');
+    }
+}
@@ -0,0 +1,77 @@
+package com.sportradar.service;
+
+import com.sportradar.model.ScoreUpdate;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when a batch of score updates is rejected. A batch is applied all-or-nothing, so when this
+ * exception is thrown none of the updates of the batch has been applied. The exception reports every
+ * invalid update of the batch together with its position in the batch and the reason for the rejection.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see Scoreboard#applyBatch(java.util.Collection)
+ */
+public class BatchUpdateException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<ItemError> errors;
+
+    /**
+     * Constructs a BatchUpdateException instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param errors The errors of the invalid updates of the batch, in batch order.
+     */
+    public BatchUpdateException(List<ItemError> errors) {
+        super("Batch rejected, " + errors.size() + " invalid update(s): " + errors);
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    public List<ItemError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Error of a single update of a rejected batch.
+     */
+    public static final class ItemError {
+        private final int index;
+        private final ScoreUpdate update;
+        private final RuntimeException cause;
+
+        public ItemError(int index, ScoreUpdate update, RuntimeException cause) {
+            this.index = index;
+            this.update = update;
+            this.cause = cause;
+        }
+
+        /**
+         * Returns the zero-based position of the invalid update in the batch.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public ScoreUpdate getUpdate() {
+            return update;
+        }
+
+        /**
+         * Returns the exception the update would have caused if it had been applied on its own,
+         * i.e. an {@link IllegalArgumentException} or a {@link java.util.NoSuchElementException}.
+         */
+        public RuntimeException getCause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "#" + index + " " + update + ": " + cause.getMessage();
+        }
+    }
+}
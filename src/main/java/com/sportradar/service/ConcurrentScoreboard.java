@@ -0,0 +1,381 @@
+package com.sportradar.service;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchKey;
+import com.sportradar.model.MatchScore;
+import com.sportradar.model.ScoreUpdate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe implementation of the Scoreboard interface. Many feed-ingestion threads can start,
+ * update and finish matches while many reader threads retrieve summaries, without any global lock:
+ * 1. Live matches are held in a {@link ConcurrentHashMap} keyed by the {@link MatchKey} of their team IDs.
+ * 2. Teams are claimed atomically in a second concurrent map, which enforces that a team takes
+ *    part in only one live match at a time even when conflicting fixtures are started concurrently.
+ * 3. Score updates are a single volatile write of the packed home/away score of a {@link Match},
+ *    so readers never observe a torn score pair.
+ * Summaries are built from a point-in-time read of every packed score, so the order of the returned
+ * list is always consistent with the scores read while building it. Concurrent updates of the same
+ * match are applied in the order in which they reach the match (last writer wins).
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see Scoreboard
+ */
+public class ConcurrentScoreboard implements Scoreboard {
+    private final ConcurrentMap<MatchKey, LiveMatch> matches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, MatchKey> playingTeams = new ConcurrentHashMap<>();
+    private final AtomicLong startSequence = new AtomicLong();
+    private final MatchFactory matchFactory;
+    private final TeamRegistry teamRegistry;
+
+    /**
+     * Constructs a new ConcurrentScoreboard instance with a specified MatchFactory.
+     * The MatchFactory is used for creating new Match instances when starting a match.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param matchFactory The factory to be used for creating Match instances.
+     * @throws IllegalArgumentException if match factory is null.
+     */
+    public ConcurrentScoreboard(MatchFactory matchFactory) {
+        this(matchFactory, new TeamRegistry());
+    }
+
+    /**
+     * Constructs a new ConcurrentScoreboard instance with a specified MatchFactory and TeamRegistry.
+     * Team names are resolved to team IDs through the registry, which can be shared with feed adapters
+     * and other scoreboards.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param matchFactory The factory to be used for creating Match instances.
+     * @param teamRegistry The registry resolving team names to team IDs.
+     * @throws IllegalArgumentException if match factory or team registry is null.
+     */
+    public ConcurrentScoreboard(MatchFactory matchFactory, TeamRegistry teamRegistry) {
+        if (matchFactory == null)
+            throw new IllegalArgumentException("Match factory cannot be null");
+
+        if (teamRegistry == null)
+            throw new IllegalArgumentException("Team registry cannot be null");
+
+        this.matchFactory = matchFactory;
+        this.teamRegistry = teamRegistry;
+    }
+
+    /**
+     * Starts a new match and adds it to the scoreboard. Both team names are registered in the team
+     * registry, and the match is started by the resulting team IDs.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam       The name of the home team.
+     * @param awayTeam       The name of the away team.
+     * @param startTimeShift The time shift for the start time in milliseconds.
+     * @throws IllegalArgumentException if any team name is null or both team names are the same.
+     * @throws IllegalStateException if any of the teams is already playing a live match.
+     */
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        if (homeTeam == null || awayTeam == null)
+            throw new IllegalArgumentException("Team names cannot be null");
+
+        startMatch(teamRegistry.register(homeTeam), teamRegistry.register(awayTeam), startTimeShift);
+    }
+
+    /**
+     * Starts a new match identified by team IDs and adds it to the scoreboard. Both teams are claimed atomically before
+     * the match is created; if the away team cannot be claimed, the claim of the home team is
+     * released again, so a rejected fixture leaves no trace on the scoreboard. The match is created
+     * with the canonical team names of the team registry.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId     The ID of the home team.
+     * @param awayTeamId     The ID of the away team.
+     * @param startTimeShift The time shift for the start time in milliseconds.
+     * @throws IllegalArgumentException if any team ID is unknown or both team IDs are the same.
+     * @throws IllegalStateException if any of the teams is already playing a live match.
+     */
+    @Override
+    public void startMatch(int homeTeamId, int awayTeamId, int startTimeShift) {
+        String homeTeam = teamRegistry.nameOf(homeTeamId);
+        String awayTeam = teamRegistry.nameOf(awayTeamId);
+
+        if (homeTeamId == awayTeamId)
+            throw new IllegalArgumentException("A team cannot play against itself");
+
+        MatchKey key = new MatchKey(homeTeamId, awayTeamId);
+
+        if (playingTeams.putIfAbsent(homeTeamId, key) != null)
+            throw new IllegalStateException("Team is already playing a live match");
+
+        if (playingTeams.putIfAbsent(awayTeamId, key) != null) {
+            playingTeams.remove(homeTeamId, key);
+            throw new IllegalStateException("Team is already playing a live match");
+        }
+
+        try {
+            Match match = matchFactory.createMatch(homeTeam, awayTeam, startTimeShift);
+
+            matches.put(key, new LiveMatch(match, startSequence.getAndIncrement()));
+        } catch (RuntimeException e) {
+            playingTeams.remove(homeTeamId, key);
+            playingTeams.remove(awayTeamId, key);
+            throw e;
+        }
+    }
+
+    /**
+     * Updates the score for a specific match identified by home and away team names.
+     * The match is looked up in the concurrent match index and its packed score is replaced
+     * with a single volatile write.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam  The name of the home team in the match.
+     * @param awayTeam  The name of the away team in the match.
+     * @param homeScore The new score for the home team.
+     * @param awayScore The new score for the away team.
+     * @throws NoSuchElementException if the match is not found.
+     * @throws IllegalArgumentException if any score is negative or any team name is null.
+     */
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (homeScore < 0 || awayScore < 0)
+            throw new IllegalArgumentException("Scores cannot be negative");
+
+        LiveMatch liveMatch = liveMatch(homeTeam, awayTeam);
+
+        if (liveMatch == null)
+            throw new NoSuchElementException("Match not found");
+
+        liveMatch.match.updateScore(homeScore, awayScore);
+    }
+
+    /**
+     * Updates the score for a specific match identified by team IDs, without resolving any team name.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId The ID of the home team in the match.
+     * @param awayTeamId The ID of the away team in the match.
+     * @param homeScore  The new score for the home team.
+     * @param awayScore  The new score for the away team.
+     * @throws NoSuchElementException if the match is not found.
+     * @throws IllegalArgumentException if any score or team ID is negative.
+     */
+    @Override
+    public void updateScore(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        if (homeScore < 0 || awayScore < 0)
+            throw new IllegalArgumentException("Scores cannot be negative");
+
+        LiveMatch liveMatch = matches.get(new MatchKey(homeTeamId, awayTeamId));
+
+        if (liveMatch == null)
+            throw new NoSuchElementException("Match not found");
+
+        liveMatch.match.updateScore(homeScore, awayScore);
+    }
+
+    /**
+     * Applies a batch of score updates all-or-nothing. Every update is validated and resolved to its live match
+     * before any score is written, so a batch with an invalid update leaves the scoreboard untouched. The scores
+     * of a valid batch are then written match by match; readers running concurrently with the batch may observe
+     * some of its updates before the others.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param updates The score updates in the order in which they were received.
+     * @throws IllegalArgumentException if the batch is null.
+     * @throws BatchUpdateException if any update of the batch is invalid.
+     */
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        Map<LiveMatch, ScoreUpdate> batch = ScoreBatch.resolve(updates, this::liveMatch);
+
+        for (Map.Entry<LiveMatch, ScoreUpdate> entry : batch.entrySet())
+            entry.getKey().match.updateScore(entry.getValue().getHomeScore(), entry.getValue().getAwayScore());
+    }
+
+    /**
+     * Finishes a match by removing it from the scoreboard and releasing both of its teams.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @throws NoSuchElementException if the match to finish is not found.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        int homeTeamId = teamRegistry.idOf(homeTeam);
+        int awayTeamId = teamRegistry.idOf(awayTeam);
+
+        if (homeTeamId == TeamRegistry.NO_TEAM || awayTeamId == TeamRegistry.NO_TEAM)
+            throw new NoSuchElementException("Match to finish not found");
+
+        finishMatch(homeTeamId, awayTeamId);
+    }
+
+    /**
+     * Finishes a match identified by team IDs by removing it from the scoreboard and releasing both of its teams.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId The ID of the home team in the match.
+     * @param awayTeamId The ID of the away team in the match.
+     * @throws NoSuchElementException if the match to finish is not found.
+     * @throws IllegalArgumentException if any team ID is negative.
+     */
+    @Override
+    public void finishMatch(int homeTeamId, int awayTeamId) {
+        MatchKey key = new MatchKey(homeTeamId, awayTeamId);
+
+        if (matches.remove(key) == null)
+            throw new NoSuchElementException("Match to finish not found");
+
+        playingTeams.remove(homeTeamId, key);
+        playingTeams.remove(awayTeamId, key);
+    }
+
+    /**
+     * Looks up a live match by its home and away team names in the concurrent match index.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @return The live match, or an empty optional if no such match is on the scoreboard.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        LiveMatch liveMatch = liveMatch(homeTeam, awayTeam);
+
+        return liveMatch == null ? Optional.empty() : Optional.of(liveMatch.match);
+    }
+
+    /**
+     * Retrieves a summary of all live matches. The packed score of every match is read exactly once
+     * and the matches are ordered by those scores, by total score in descending order and then by
+     * start time in descending order. Writers are never blocked while the summary is built.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return A new list of matches in summary order.
+     */
+    @Override
+    public List<Match> getSummary() {
+        return new ArrayList<>(rank(Integer.MAX_VALUE).values());
+    }
+
+    /**
+     * Retrieves at most {@code n} leading matches in the same order as returned by {@link #getSummary()}.
+     * Only the current top {@code n} matches are kept while the live matches are scanned.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param n The maximum number of matches to return.
+     * @return A new list with at most {@code n} leading matches of the summary.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    @Override
+    public List<Match> getTopN(int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("Number of matches cannot be negative");
+
+        return new ArrayList<>(rank(n).values());
+    }
+
+    /**
+     * Returns the rank of a live match by counting the live matches that precede it in summary order.
+     * The live matches are scanned once without sorting them and without blocking writers.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @return The rank of the match, or -1 if no such match is on the scoreboard.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        LiveMatch target = liveMatch(homeTeam, awayTeam);
+
+        if (target == null)
+            return -1;
+
+        int totalScore = target.match.getTotalScore();
+        long startTime = target.match.getStartTime();
+        int rank = 0;
+
+        for (LiveMatch liveMatch : matches.values()) {
+            int otherTotalScore = liveMatch.match.getTotalScore();
+            long otherStartTime = liveMatch.match.getStartTime();
+
+            if (otherTotalScore > totalScore || (otherTotalScore == totalScore && (otherStartTime > startTime
+                || (otherStartTime == startTime && liveMatch.sequence > target.sequence))))
+                rank++;
+        }
+
+        return rank;
+    }
+
+    @Override
+    public TeamRegistry getTeamRegistry() {
+        return teamRegistry;
+    }
+
+    private LiveMatch liveMatch(String homeTeam, String awayTeam) {
+        int homeTeamId = teamRegistry.idOf(homeTeam);
+        int awayTeamId = teamRegistry.idOf(awayTeam);
+
+        if (homeTeamId == TeamRegistry.NO_TEAM || awayTeamId == TeamRegistry.NO_TEAM)
+            return null;
+
+        return matches.get(new MatchKey(homeTeamId, awayTeamId));
+    }
+
+    private NavigableMap<SummaryKey, Match> rank(int limit) {
+        NavigableMap<SummaryKey, Match> ranking = new TreeMap<>();
+
+        if (limit == 0)
+            return ranking;
+
+        for (LiveMatch liveMatch : matches.values()) {
+            Match match = liveMatch.match;
+            SummaryKey summaryKey = new SummaryKey(
+                MatchScore.totalScore(match.getPackedScore()), match.getStartTime(), liveMatch.sequence);
+
+            ranking.put(summaryKey, match);
+
+            if (ranking.size() > limit)
+                ranking.pollLastEntry();
+        }
+
+        return ranking;
+    }
+
+    /**
+     * Live match entry of the concurrent match index, holding the match together with the
+     * sequence number in which it was started.
+     */
+    private static final class LiveMatch {
+        private final Match match;
+        private final long sequence;
+
+        private LiveMatch(Match match, long sequence) {
+            this.match = match;
+            this.sequence = sequence;
+        }
+    }
+}
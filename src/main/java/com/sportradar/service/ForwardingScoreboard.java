@@ -0,0 +1,81 @@
+package com.sportradar.service;
+
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base class for Scoreboard decorators. Every operation is forwarded to the decorated scoreboard,
+ * so a decorator only overrides the operations it adds behaviour to. The team ID overloads are not
+ * forwarded; they resolve team names through the shared team registry and call the name based
+ * operations of the decorator, so they never bypass the behaviour a decorator adds.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public abstract class ForwardingScoreboard implements Scoreboard {
+    protected final Scoreboard scoreboard;
+
+    /**
+     * Constructs a new ForwardingScoreboard instance decorating the given scoreboard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The decorated scoreboard.
+     * @throws IllegalArgumentException if scoreboard is null.
+     */
+    protected ForwardingScoreboard(Scoreboard scoreboard) {
+        if (scoreboard == null)
+            throw new IllegalArgumentException("Scoreboard cannot be null");
+
+        this.scoreboard = scoreboard;
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        scoreboard.applyBatch(updates);
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        scoreboard.finishMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        return scoreboard.findMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        return scoreboard.rankOf(homeTeam, awayTeam);
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        return scoreboard.getSummary();
+    }
+
+    @Override
+    public List<Match> getTopN(int n) {
+        return scoreboard.getTopN(n);
+    }
+
+    @Override
+    public TeamRegistry getTeamRegistry() {
+        return scoreboard.getTeamRegistry();
+    }
+}
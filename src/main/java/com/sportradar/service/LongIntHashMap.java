@@ -0,0 +1,128 @@
+package com.sportradar.service;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to primitive {@code int} values.
+ * Lookups, insertions and removals do not allocate, apart from growing the table when it
+ * becomes too full. Uses linear probing with backward-shift deletion, so no tombstones are left.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class LongIntHashMap {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * Returns the value mapped to the key, or the given default value if the key is not present.
+     *
+     * @param key          The key, which must not be {@link Long#MIN_VALUE}.
+     * @param defaultValue The value to return if the key is not present.
+     * @return The mapped value or the default value.
+     */
+    int get(long key, int defaultValue) {
+        for (int index = indexOf(key); ; index = (index + 1) & mask) {
+            long current = keys[index];
+
+            if (current == key)
+                return values[index];
+
+            if (current == EMPTY)
+                return defaultValue;
+        }
+    }
+
+    void put(long key, int value) {
+        if (key == EMPTY)
+            throw new IllegalArgumentException("Key cannot be Long.MIN_VALUE");
+
+        int index = indexOf(key);
+
+        while (keys[index] != EMPTY && keys[index] != key)
+            index = (index + 1) & mask;
+
+        if (keys[index] == EMPTY && ++size * 2 > keys.length) {
+            grow();
+            put(key, value);
+            return;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    /**
+     * Removes the key from the map.
+     *
+     * @param key          The key to remove.
+     * @param defaultValue The value to return if the key is not present.
+     * @return The value that was mapped to the key, or the default value.
+     */
+    int remove(long key, int defaultValue) {
+        int index = indexOf(key);
+
+        while (keys[index] != key) {
+            if (keys[index] == EMPTY)
+                return defaultValue;
+
+            index = (index + 1) & mask;
+        }
+
+        int value = values[index];
+
+        size--;
+
+        for (int next = (index + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = indexOf(keys[next]);
+
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                keys[index] = keys[next];
+                values[index] = values[next];
+                index = next;
+            }
+        }
+
+        keys[index] = EMPTY;
+
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int indexOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        mask = keys.length - 1;
+        size = 0;
+        Arrays.fill(keys, EMPTY);
+
+        for (int i = 0; i < oldKeys.length; i++)
+            if (oldKeys[i] != EMPTY)
+                put(oldKeys[i], oldValues[i]);
+    }
+}
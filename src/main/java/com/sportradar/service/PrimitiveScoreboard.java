@@ -0,0 +1,702 @@
+package com.sportradar.service;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchKey;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.ranking.MatchState;
+import com.sportradar.ranking.RankingStrategies;
+import com.sportradar.ranking.RankingStrategy;
+
+import java.util.*;
+
+/**
+ * Implementation of the Scoreboard interface that keeps the board in struct-of-arrays form: the summary
+ * order, the fixture index and the scores are held in primitive arrays rather than in sorted collections of
+ * match objects. Every live match occupies a slot in a set of parallel primitive arrays:
+ * 1. Team names are resolved once into integer team IDs by a {@link TeamRegistry}, and matches are indexed by
+ *    the packed pair of home and away team IDs in a primitive open-addressing hash map.
+ * 2. Scores, start times and start sequence numbers are held in primitive arrays.
+ * 3. The summary order is given by a packed {@code long} sort key per slot, holding the total score in the
+ *    upper bits and the start time in the lower bits, with the start sequence number as the tie-breaker.
+ *    An array of slots is kept in summary order and a match is moved only by the distance its rank changed.
+ * 4. Additional orders can be registered as {@link RankingStrategy} instances. Every strategy keeps its own sort
+ *    key per slot and its own array of slots in order, so {@link #getSummary(RankingStrategy)} is served without
+ *    sorting, and a change of a match recomputes only the keys of that match.
+ * Updating a score does not allocate. Every slot also holds the one {@link Match} instance of its live match,
+ * which is returned by {@link #findMatch(String, String)}, {@link #getSummary()} and {@link #getTopN(int)} and
+ * whose score is written together with the primitive columns, so decorators can rely on match identity as they
+ * do with {@link ScoreboardImpl}.
+ * The packed sort key limits the total score of a match to {@value #MAX_TOTAL_SCORE} goals and start times to
+ * non-negative values below 2^43 milliseconds. This implementation is not thread-safe.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see Scoreboard
+ */
+public class PrimitiveScoreboard implements Scoreboard {
+    /**
+     * The maximum total score of a match that fits into the packed sort key.
+     */
+    public static final int MAX_TOTAL_SCORE = (1 << 20) - 1;
+
+    private static final int START_TIME_BITS = 43;
+    private static final long START_TIME_LIMIT = 1L << START_TIME_BITS;
+    private static final int NO_SLOT = -1;
+
+    private final MatchFactory matchFactory;
+    private final TeamRegistry teamRegistry;
+    private int[] teamSlots;
+
+    private final LongIntHashMap slotsByFixture;
+    private int[] homeIds;
+    private int[] awayIds;
+    private int[] homeScores;
+    private int[] awayScores;
+    private long[] startTimes;
+    private long[] sequences;
+    private long[] lastChanges;
+    private Match[] matches;
+    private final RankingStrategy[] strategies;
+    private final long[][] sortKeys;
+    private final int[][] positions;
+    private final int[][] orders;
+    private final SlotState slotState = new SlotState();
+    private int[] freeSlots;
+    private int freeCount;
+    private int slotCount;
+    private int size;
+    private long startSequence;
+    private long changeSequence;
+
+    /**
+     * Constructs a new PrimitiveScoreboard instance with a specified MatchFactory and a default initial capacity.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param matchFactory The factory used to determine the start time of new matches.
+     * @throws IllegalArgumentException if match factory is null.
+     */
+    public PrimitiveScoreboard(MatchFactory matchFactory) {
+        this(matchFactory, 16);
+    }
+
+    /**
+     * Constructs a new PrimitiveScoreboard instance with a specified MatchFactory and initial capacity.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param matchFactory    The factory used to determine the start time of new matches.
+     * @param initialCapacity The number of live matches the board can hold before its arrays grow.
+     * @throws IllegalArgumentException if match factory is null or the initial capacity is not positive.
+     */
+    public PrimitiveScoreboard(MatchFactory matchFactory, int initialCapacity) {
+        this(matchFactory, new TeamRegistry(), initialCapacity);
+    }
+
+    /**
+     * Constructs a new PrimitiveScoreboard instance with a specified MatchFactory, TeamRegistry and initial capacity.
+     * The MatchFactory is called once per started match; the created Match instance is kept in the slot of the
+     * match and returned by every lookup, while its start time is also copied into the primitive columns.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param matchFactory    The factory used to determine the start time of new matches.
+     * @param teamRegistry    The registry resolving team names to team IDs.
+     * @param initialCapacity The number of live matches the board can hold before its arrays grow.
+     * @throws IllegalArgumentException if match factory or team registry is null or the initial capacity is not positive.
+     */
+    public PrimitiveScoreboard(MatchFactory matchFactory, TeamRegistry teamRegistry, int initialCapacity) {
+        this(matchFactory, teamRegistry, initialCapacity, new RankingStrategy[0]);
+    }
+
+    /**
+     * Constructs a new PrimitiveScoreboard instance maintaining an ordered index for each of the given ranking
+     * strategies in addition to the summary order. Each strategy adds a sort key and a position per slot.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param matchFactory      The factory used to determine the start time of new matches.
+     * @param teamRegistry      The registry resolving team names to team IDs.
+     * @param initialCapacity   The number of live matches the board can hold before its arrays grow.
+     * @param rankingStrategies The additional orders of live matches.
+     * @throws IllegalArgumentException if match factory, team registry, the strategies or any strategy is null,
+     *                                  a strategy is given twice or the initial capacity is not positive.
+     */
+    public PrimitiveScoreboard(MatchFactory matchFactory, TeamRegistry teamRegistry, int initialCapacity,
+                               RankingStrategy... rankingStrategies) {
+        if (matchFactory == null)
+            throw new IllegalArgumentException("Match factory cannot be null");
+
+        if (teamRegistry == null)
+            throw new IllegalArgumentException("Team registry cannot be null");
+
+        if (initialCapacity <= 0)
+            throw new IllegalArgumentException("Initial capacity must be positive");
+
+        if (rankingStrategies == null)
+            throw new IllegalArgumentException("Ranking strategies cannot be null");
+
+        this.strategies = new RankingStrategy[rankingStrategies.length + 1];
+        this.strategies[0] = RankingStrategies.TOTAL_SCORE;
+
+        for (int index = 0; index < rankingStrategies.length; index++) {
+            if (rankingStrategies[index] == null)
+                throw new IllegalArgumentException("Ranking strategy cannot be null");
+
+            if (indexOf(rankingStrategies[index]) >= 0)
+                throw new IllegalArgumentException("Ranking strategy is already registered");
+
+            this.strategies[index + 1] = rankingStrategies[index];
+        }
+
+        this.matchFactory = matchFactory;
+        this.teamRegistry = teamRegistry;
+        this.slotsByFixture = new LongIntHashMap(initialCapacity);
+        this.teamSlots = new int[0];
+        this.homeIds = new int[initialCapacity];
+        this.awayIds = new int[initialCapacity];
+        this.homeScores = new int[initialCapacity];
+        this.awayScores = new int[initialCapacity];
+        this.startTimes = new long[initialCapacity];
+        this.sequences = new long[initialCapacity];
+        this.lastChanges = new long[initialCapacity];
+        this.matches = new Match[initialCapacity];
+        this.sortKeys = new long[strategies.length][initialCapacity];
+        this.positions = new int[strategies.length][initialCapacity];
+        this.orders = new int[strategies.length][initialCapacity];
+        this.freeSlots = new int[initialCapacity];
+    }
+
+    /**
+     * Starts a new match and adds it to the scoreboard. Both team names are registered in the team
+     * registry, and the match is started by the resulting team IDs.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam       The name of the home team.
+     * @param awayTeam       The name of the away team.
+     * @param startTimeShift The time shift for the start time in milliseconds.
+     * @throws IllegalArgumentException if any team name is null, both team names are the same,
+     *                                  or the start time of the match does not fit into the sort key.
+     * @throws IllegalStateException if any of the teams is already playing a live match.
+     */
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        if (homeTeam == null || awayTeam == null)
+            throw new IllegalArgumentException("Team names cannot be null");
+
+        startMatch(teamRegistry.register(homeTeam), teamRegistry.register(awayTeam), startTimeShift);
+    }
+
+    /**
+     * Starts a new match identified by team IDs and adds it to the scoreboard. The match is stored in a free
+     * slot and inserted into the summary order and the order of every ranking strategy.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeId         The ID of the home team.
+     * @param awayId         The ID of the away team.
+     * @param startTimeShift The time shift for the start time in milliseconds.
+     * @throws IllegalArgumentException if any team ID is unknown, both team IDs are the same,
+     *                                  or the start time of the match does not fit into the sort key.
+     * @throws IllegalStateException if any of the teams is already playing a live match.
+     */
+    @Override
+    public void startMatch(int homeId, int awayId, int startTimeShift) {
+        String homeTeam = teamRegistry.nameOf(homeId);
+        String awayTeam = teamRegistry.nameOf(awayId);
+
+        if (homeId == awayId)
+            throw new IllegalArgumentException("A team cannot play against itself");
+
+        ensureTeamCapacity(Math.max(homeId, awayId) + 1);
+
+        if (teamSlots[homeId] != NO_SLOT || teamSlots[awayId] != NO_SLOT)
+            throw new IllegalStateException("Team is already playing a live match");
+
+        Match match = matchFactory.createMatch(homeTeam, awayTeam, startTimeShift);
+        long startTime = match.getStartTime();
+
+        if (startTime < 0 || startTime >= START_TIME_LIMIT)
+            throw new IllegalArgumentException("Start time is out of range");
+
+        int slot = allocateSlot();
+
+        homeIds[slot] = homeId;
+        awayIds[slot] = awayId;
+        homeScores[slot] = match.getHomeScore();
+        awayScores[slot] = match.getAwayScore();
+        startTimes[slot] = startTime;
+        sequences[slot] = startSequence++;
+        lastChanges[slot] = changeSequence++;
+        matches[slot] = match;
+
+        slotsByFixture.put(MatchKey.pack(homeId, awayId), slot);
+        teamSlots[homeId] = slot;
+        teamSlots[awayId] = slot;
+
+        for (int index = 0; index < strategies.length; index++) {
+            sortKeys[index][slot] = sortKey(index, slot);
+            orders[index][size] = slot;
+            positions[index][slot] = size;
+            reposition(index, slot);
+        }
+
+        size++;
+    }
+
+    /**
+     * Updates the score for a specific match identified by home and away team names. The team names are
+     * resolved to team IDs, the slot of the match is looked up by the packed team ID pair, and the match
+     * is moved within an order only if its sort key changed. This method does not allocate unless a ranking
+     * strategy does.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam  The name of the home team in the match.
+     * @param awayTeam  The name of the away team in the match.
+     * @param homeScore The new score for the home team.
+     * @param awayScore The new score for the away team.
+     * @throws NoSuchElementException if the match is not found.
+     * @throws IllegalArgumentException if any score is negative, the total score exceeds {@value #MAX_TOTAL_SCORE}
+     *                                  or any team name is null.
+     */
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        checkScores(homeScore, awayScore);
+
+        int slot = slotOf(homeTeam, awayTeam);
+
+        if (slot == NO_SLOT)
+            throw new NoSuchElementException("Match not found");
+
+        writeScore(slot, homeScore, awayScore);
+    }
+
+    /**
+     * Updates the score for a specific match identified by team IDs, without resolving any team name.
+     * This method does not allocate.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeId    The ID of the home team in the match.
+     * @param awayId    The ID of the away team in the match.
+     * @param homeScore The new score for the home team.
+     * @param awayScore The new score for the away team.
+     * @throws NoSuchElementException if the match is not found.
+     * @throws IllegalArgumentException if any score or team ID is negative or the total score exceeds
+     *                                  {@value #MAX_TOTAL_SCORE}.
+     */
+    @Override
+    public void updateScore(int homeId, int awayId, int homeScore, int awayScore) {
+        checkScores(homeScore, awayScore);
+
+        int slot = slotOf(homeId, awayId);
+
+        if (slot == NO_SLOT)
+            throw new NoSuchElementException("Match not found");
+
+        writeScore(slot, homeScore, awayScore);
+    }
+
+    /**
+     * Applies a batch of score updates all-or-nothing. All updates are validated and resolved to their slots
+     * first; the scores of a valid batch are then written and the affected matches moved within every order.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param updates The score updates in the order in which they were received.
+     * @throws IllegalArgumentException if the batch is null.
+     * @throws BatchUpdateException if any update of the batch is invalid.
+     */
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        Map<Integer, ScoreUpdate> batch = ScoreBatch.resolve(updates,
+            (homeTeam, awayTeam) -> {
+                int slot = slotOf(homeTeam, awayTeam);
+
+                return slot == NO_SLOT ? null : slot;
+            },
+            update -> (long) update.getHomeScore() + update.getAwayScore() > MAX_TOTAL_SCORE
+                ? new IllegalArgumentException("Total score cannot exceed " + MAX_TOTAL_SCORE) : null);
+
+        for (Map.Entry<Integer, ScoreUpdate> entry : batch.entrySet())
+            writeScore(entry.getKey(), entry.getValue().getHomeScore(), entry.getValue().getAwayScore());
+    }
+
+    /**
+     * Finishes a match by removing it from the scoreboard. The slot of the match is removed from every
+     * order and returned to the pool of free slots, and both teams are released.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @throws NoSuchElementException if the match to finish is not found.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        removeSlot(slotOf(homeTeam, awayTeam));
+    }
+
+    /**
+     * Finishes a match identified by team IDs by removing it from the scoreboard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeId The ID of the home team in the match.
+     * @param awayId The ID of the away team in the match.
+     * @throws NoSuchElementException if the match to finish is not found.
+     * @throws IllegalArgumentException if any team ID is negative.
+     */
+    @Override
+    public void finishMatch(int homeId, int awayId) {
+        removeSlot(slotOf(homeId, awayId));
+    }
+
+    /**
+     * Looks up a live match by its home and away team names.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @return The live match, or an empty optional if no such match is on the scoreboard.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        int slot = slotOf(homeTeam, awayTeam);
+
+        return slot == NO_SLOT ? Optional.empty() : Optional.of(view(slot));
+    }
+
+    /**
+     * Retrieves a summary of all live matches by traversing the slots in summary order, by total score in
+     * descending order and then by start time in descending order.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return A new list of the live matches in summary order.
+     */
+    @Override
+    public List<Match> getSummary() {
+        return views(0, size);
+    }
+
+    /**
+     * Retrieves at most {@code n} leading matches in the same order as returned by {@link #getSummary()}.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param n The maximum number of matches to return.
+     * @return A new list with at most {@code n} leading live matches of the summary.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    @Override
+    public List<Match> getTopN(int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("Number of matches cannot be negative");
+
+        return views(0, Math.min(n, size));
+    }
+
+    /**
+     * Retrieves a summary of all live matches in the order of a ranking strategy by traversing the slots in
+     * the order maintained for that strategy.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param rankingStrategy The ranking strategy, given to the constructor or {@link RankingStrategies#TOTAL_SCORE}.
+     * @return A new list of the live matches in the order of the strategy.
+     * @throws IllegalArgumentException if the strategy is null or not registered with this board.
+     */
+    public List<Match> getSummary(RankingStrategy rankingStrategy) {
+        return views(strategyIndex(rankingStrategy), size);
+    }
+
+    /**
+     * Retrieves at most {@code n} leading matches in the same order as returned by
+     * {@link #getSummary(RankingStrategy)}.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param rankingStrategy The ranking strategy, given to the constructor or {@link RankingStrategies#TOTAL_SCORE}.
+     * @param n               The maximum number of matches to return.
+     * @return A new list with at most {@code n} leading live matches in the order of the strategy.
+     * @throws IllegalArgumentException if the strategy is null or not registered with this board, or {@code n} is negative.
+     */
+    public List<Match> getTopN(RankingStrategy rankingStrategy, int n) {
+        int index = strategyIndex(rankingStrategy);
+
+        if (n < 0)
+            throw new IllegalArgumentException("Number of matches cannot be negative");
+
+        return views(index, Math.min(n, size));
+    }
+
+    /**
+     * Returns the ranking strategies this board maintains an order for, the summary order first.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return A new list of the ranking strategies.
+     */
+    public List<RankingStrategy> getRankingStrategies() {
+        return List.of(strategies);
+    }
+
+    /**
+     * Returns the rank of a live match, which is the position of its slot in the summary order.
+     * This method does not allocate.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @return The rank of the match, or -1 if no such match is on the scoreboard.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        int slot = slotOf(homeTeam, awayTeam);
+
+        return slot == NO_SLOT ? -1 : positions[0][slot];
+    }
+
+    @Override
+    public TeamRegistry getTeamRegistry() {
+        return teamRegistry;
+    }
+
+    private static void checkScores(int homeScore, int awayScore) {
+        if (homeScore < 0 || awayScore < 0)
+            throw new IllegalArgumentException("Scores cannot be negative");
+
+        if ((long) homeScore + awayScore > MAX_TOTAL_SCORE)
+            throw new IllegalArgumentException("Total score cannot exceed " + MAX_TOTAL_SCORE);
+    }
+
+    private void removeSlot(int slot) {
+        if (slot == NO_SLOT)
+            throw new NoSuchElementException("Match to finish not found");
+
+        slotsByFixture.remove(MatchKey.pack(homeIds[slot], awayIds[slot]), NO_SLOT);
+        teamSlots[homeIds[slot]] = NO_SLOT;
+        teamSlots[awayIds[slot]] = NO_SLOT;
+
+        for (int index = 0; index < strategies.length; index++) {
+            int[] order = orders[index];
+            int[] slotPositions = positions[index];
+            int position = slotPositions[slot];
+
+            System.arraycopy(order, position + 1, order, position, size - position - 1);
+
+            for (int p = position; p < size - 1; p++)
+                slotPositions[order[p]] = p;
+        }
+
+        size--;
+        matches[slot] = null;
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void writeScore(int slot, int homeScore, int awayScore) {
+        if (homeScores[slot] == homeScore && awayScores[slot] == awayScore)
+            return;
+
+        homeScores[slot] = homeScore;
+        awayScores[slot] = awayScore;
+        lastChanges[slot] = changeSequence++;
+        matches[slot].updateScore(homeScore, awayScore);
+
+        for (int index = 0; index < strategies.length; index++) {
+            if (!strategies[index].dependsOnScore())
+                continue;
+
+            long sortKey = sortKey(index, slot);
+
+            if (sortKey != sortKeys[index][slot]) {
+                sortKeys[index][slot] = sortKey;
+                reposition(index, slot);
+            }
+        }
+    }
+
+    /**
+     * Moves a slot within the order of a strategy to the position given by its sort key, shifting only
+     * the slots it passes.
+     */
+    private void reposition(int index, int slot) {
+        int[] order = orders[index];
+        int[] slotPositions = positions[index];
+        long[] keys = sortKeys[index];
+        int position = slotPositions[slot];
+
+        while (position > 0 && precedes(keys, slot, order[position - 1])) {
+            order[position] = order[position - 1];
+            slotPositions[order[position]] = position;
+            position--;
+        }
+
+        while (position < size - 1 && precedes(keys, order[position + 1], slot)) {
+            order[position] = order[position + 1];
+            slotPositions[order[position]] = position;
+            position++;
+        }
+
+        order[position] = slot;
+        slotPositions[slot] = position;
+    }
+
+    private boolean precedes(long[] keys, int slot, int other) {
+        return keys[slot] > keys[other] || (keys[slot] == keys[other] && sequences[slot] > sequences[other]);
+    }
+
+    private long sortKey(int index, int slot) {
+        slotState.slot = slot;
+
+        return strategies[index].sortKey(slotState);
+    }
+
+    private int indexOf(RankingStrategy rankingStrategy) {
+        for (int index = 0; index < strategies.length; index++) {
+            if (strategies[index] == rankingStrategy)
+                return index;
+        }
+
+        return -1;
+    }
+
+    private int strategyIndex(RankingStrategy rankingStrategy) {
+        if (rankingStrategy == null)
+            throw new IllegalArgumentException("Ranking strategy cannot be null");
+
+        int index = indexOf(rankingStrategy);
+
+        if (index < 0)
+            throw new IllegalArgumentException("Ranking strategy is not registered");
+
+        return index;
+    }
+
+    private int slotOf(String homeTeam, String awayTeam) {
+        if (homeTeam == null || awayTeam == null)
+            throw new IllegalArgumentException("Team names cannot be null");
+
+        int homeId = teamRegistry.idOf(homeTeam);
+        int awayId = teamRegistry.idOf(awayTeam);
+
+        if (homeId == TeamRegistry.NO_TEAM || awayId == TeamRegistry.NO_TEAM)
+            return NO_SLOT;
+
+        return slotOf(homeId, awayId);
+    }
+
+    private int slotOf(int homeId, int awayId) {
+        if (homeId < 0 || awayId < 0)
+            throw new IllegalArgumentException("Team IDs cannot be negative");
+
+        return slotsByFixture.get(MatchKey.pack(homeId, awayId), NO_SLOT);
+    }
+
+    private void ensureTeamCapacity(int teamCount) {
+        if (teamCount <= teamSlots.length)
+            return;
+
+        int length = teamSlots.length;
+
+        teamSlots = Arrays.copyOf(teamSlots, Math.max(teamCount, length * 2));
+        Arrays.fill(teamSlots, length, teamSlots.length, NO_SLOT);
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0)
+            return freeSlots[--freeCount];
+
+        if (slotCount == homeIds.length) {
+            int capacity = slotCount * 2;
+
+            homeIds = Arrays.copyOf(homeIds, capacity);
+            awayIds = Arrays.copyOf(awayIds, capacity);
+            homeScores = Arrays.copyOf(homeScores, capacity);
+            awayScores = Arrays.copyOf(awayScores, capacity);
+            startTimes = Arrays.copyOf(startTimes, capacity);
+            sequences = Arrays.copyOf(sequences, capacity);
+            lastChanges = Arrays.copyOf(lastChanges, capacity);
+            matches = Arrays.copyOf(matches, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+
+            for (int index = 0; index < strategies.length; index++) {
+                sortKeys[index] = Arrays.copyOf(sortKeys[index], capacity);
+                positions[index] = Arrays.copyOf(positions[index], capacity);
+                orders[index] = Arrays.copyOf(orders[index], capacity);
+            }
+        }
+
+        return slotCount++;
+    }
+
+    private List<Match> views(int index, int count) {
+        List<Match> views = new ArrayList<>(count);
+
+        for (int position = 0; position < count; position++)
+            views.add(view(orders[index][position]));
+
+        return views;
+    }
+
+    private Match view(int slot) {
+        return matches[slot];
+    }
+
+    /**
+     * Reusable cursor exposing the slot being ranked to a ranking strategy without allocating.
+     */
+    private final class SlotState implements MatchState {
+        private int slot;
+
+        @Override
+        public int getHomeTeamId() {
+            return homeIds[slot];
+        }
+
+        @Override
+        public int getAwayTeamId() {
+            return awayIds[slot];
+        }
+
+        @Override
+        public String getHomeTeam() {
+            return teamRegistry.nameOf(homeIds[slot]);
+        }
+
+        @Override
+        public String getAwayTeam() {
+            return teamRegistry.nameOf(awayIds[slot]);
+        }
+
+        @Override
+        public int getHomeScore() {
+            return homeScores[slot];
+        }
+
+        @Override
+        public int getAwayScore() {
+            return awayScores[slot];
+        }
+
+        @Override
+        public long getStartTime() {
+            return startTimes[slot];
+        }
+
+        @Override
+        public long getLastChange() {
+            return lastChanges[slot];
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.sportradar.service;
+
+import com.sportradar.event.*;
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchScore;
+import com.sportradar.model.ScoreUpdate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scoreboard decorator that emits typed {@link ScoreboardEvent}s for every change of the decorated scoreboard:
+ * {@link MatchStarted}, {@link ScoreUpdated} with the old and new score, {@link MatchFinished} and, when a score
+ * update moves a match within the summary, {@link RankChanged} for the moved match only. Matches displaced by
+ * the move get no events of their own; see {@link RankChanged} for how they shift.
+ * Events are delivered asynchronously through a {@link SubmissionPublisher}, which keeps a bounded buffer per
+ * subscriber. Events that do not fit into the buffer of a slow subscriber are dropped for that subscriber and
+ * counted, so a slow subscriber can never stall a writer. Writes are serialised so that events are emitted in
+ * the order in which the changes were applied; reads are forwarded with the thread-safety guarantees of the
+ * decorated scoreboard. No events are built while there are no subscribers. Ranks are looked up with
+ * {@link Scoreboard#rankOf(String, String)}, so a score change does not build the summary on the writer's thread
+ * when the decorated scoreboard answers ranks from its ordered index.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see ScoreboardEvent
+ */
+public class PublishingScoreboard extends ForwardingScoreboard implements Flow.Publisher<ScoreboardEvent>, AutoCloseable {
+    private final SubmissionPublisher<ScoreboardEvent> publisher;
+    private final Object writeLock = new Object();
+    private final LongAdder droppedEvents = new LongAdder();
+    private long sequence;
+
+    /**
+     * Constructs a new PublishingScoreboard instance delivering events on the common fork-join pool
+     * with the default per-subscriber buffer capacity.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The decorated scoreboard.
+     * @throws IllegalArgumentException if scoreboard is null.
+     */
+    public PublishingScoreboard(Scoreboard scoreboard) {
+        this(scoreboard, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Constructs a new PublishingScoreboard instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard        The decorated scoreboard.
+     * @param executor          The executor delivering events to subscribers.
+     * @param maxBufferCapacity The maximum number of undelivered events buffered per subscriber.
+     * @throws IllegalArgumentException if scoreboard or executor is null, or the buffer capacity is not positive.
+     */
+    public PublishingScoreboard(Scoreboard scoreboard, Executor executor, int maxBufferCapacity) {
+        super(scoreboard);
+
+        if (executor == null)
+            throw new IllegalArgumentException("Executor cannot be null");
+
+        if (maxBufferCapacity <= 0)
+            throw new IllegalArgumentException("Buffer capacity must be positive");
+
+        this.publisher = new SubmissionPublisher<>(executor, maxBufferCapacity);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        synchronized (writeLock) {
+            scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+
+            if (publisher.hasSubscribers()) {
+                long startTime = scoreboard.findMatch(homeTeam, awayTeam).map(Match::getStartTime).orElse(0L);
+
+                publish(new MatchStarted(sequence++, homeTeam, awayTeam, startTime));
+            }
+        }
+    }
+
+    /**
+     * Updates the score of a match and emits a {@link ScoreUpdated} event. When the total score of the match
+     * changes, the rank of the match in the summary is compared before and after the update, and a
+     * {@link RankChanged} event is emitted if the match moved. The matches it displaces emit no events.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam  The name of the home team in the match.
+     * @param awayTeam  The name of the away team in the match.
+     * @param homeScore The new score for the home team.
+     * @param awayScore The new score for the away team.
+     * @throws NoSuchElementException if the match is not found.
+     * @throws IllegalArgumentException if any score is negative or any team name is null.
+     */
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        synchronized (writeLock) {
+            if (!publisher.hasSubscribers()) {
+                scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+                return;
+            }
+
+            Match match = scoreboard.findMatch(homeTeam, awayTeam).orElse(null);
+            long oldScore = match == null ? 0 : match.getPackedScore();
+            boolean totalChanged = match != null && MatchScore.totalScore(oldScore) != homeScore + awayScore;
+            int oldRank = totalChanged ? scoreboard.rankOf(homeTeam, awayTeam) : -1;
+
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+
+            publish(new ScoreUpdated(sequence++, homeTeam, awayTeam,
+                MatchScore.homeScore(oldScore), MatchScore.awayScore(oldScore), homeScore, awayScore));
+
+            if (totalChanged) {
+                int newRank = scoreboard.rankOf(homeTeam, awayTeam);
+
+                if (newRank != oldRank)
+                    publish(new RankChanged(sequence++, homeTeam, awayTeam, oldRank, newRank));
+            }
+        }
+    }
+
+    /**
+     * Applies a batch of score updates and emits one {@link ScoreUpdated} event per updated match, carrying the
+     * score before the batch and the last score of the batch. Ranks are compared once for the whole batch, and
+     * a {@link RankChanged} event is emitted for every updated match that moved within the summary.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param updates The score updates in the order in which they were received.
+     * @throws IllegalArgumentException if the batch is null.
+     * @throws BatchUpdateException if any update of the batch is invalid.
+     */
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        synchronized (writeLock) {
+            if (!publisher.hasSubscribers()) {
+                scoreboard.applyBatch(updates);
+                return;
+            }
+
+            Map<Match, ScoreUpdate> batch = ScoreBatch.resolve(updates,
+                (homeTeam, awayTeam) -> scoreboard.findMatch(homeTeam, awayTeam).orElse(null));
+            Map<Match, Long> oldScores = new IdentityHashMap<>(batch.size());
+            boolean totalChanged = false;
+
+            for (Map.Entry<Match, ScoreUpdate> entry : batch.entrySet()) {
+                long oldScore = entry.getKey().getPackedScore();
+
+                oldScores.put(entry.getKey(), oldScore);
+                totalChanged |= MatchScore.totalScore(oldScore) != entry.getValue().getHomeScore() + entry.getValue().getAwayScore();
+            }
+
+            Map<Match, Integer> oldRanks = totalChanged ? ranks(batch) : Collections.emptyMap();
+
+            scoreboard.applyBatch(updates);
+
+            for (Map.Entry<Match, ScoreUpdate> entry : batch.entrySet()) {
+                ScoreUpdate update = entry.getValue();
+                long oldScore = oldScores.get(entry.getKey());
+
+                publish(new ScoreUpdated(sequence++, update.getHomeTeam(), update.getAwayTeam(),
+                    MatchScore.homeScore(oldScore), MatchScore.awayScore(oldScore), update.getHomeScore(), update.getAwayScore()));
+            }
+
+            if (totalChanged) {
+                Map<Match, Integer> newRanks = ranks(batch);
+
+                for (Map.Entry<Match, ScoreUpdate> entry : batch.entrySet()) {
+                    int oldRank = oldRanks.get(entry.getKey());
+                    int newRank = newRanks.get(entry.getKey());
+
+                    if (oldRank != newRank)
+                        publish(new RankChanged(sequence++, entry.getValue().getHomeTeam(), entry.getValue().getAwayTeam(), oldRank, newRank));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            long score = scoreboard.findMatch(homeTeam, awayTeam).map(Match::getPackedScore).orElse(0L);
+
+            scoreboard.finishMatch(homeTeam, awayTeam);
+
+            if (publisher.hasSubscribers())
+                publish(new MatchFinished(sequence++, homeTeam, awayTeam,
+                    MatchScore.homeScore(score), MatchScore.awayScore(score)));
+        }
+    }
+
+    /**
+     * Returns the number of events that were dropped because the buffer of a slow subscriber was full.
+     * An event dropped for several subscribers is counted once per subscriber.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The number of dropped events.
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * Stops publishing events and completes all subscribers once they have received their buffered events.
+     * The decorated scoreboard remains usable.
+     *
+     * @author Anatolii Stepanchuk
+     */
+    @Override
+    public void close() {
+        publisher.close();
+    }
+
+    private void publish(ScoreboardEvent event) {
+        if (publisher.isClosed())
+            return;
+
+        publisher.offer(event, (subscriber, droppedEvent) -> {
+            droppedEvents.increment();
+            return false;
+        });
+    }
+
+    /**
+     * Looks up the ranks of the matches of a batch in the index of the decorated scoreboard.
+     */
+    private Map<Match, Integer> ranks(Map<Match, ScoreUpdate> batch) {
+        Map<Match, Integer> ranks = new IdentityHashMap<>(batch.size());
+
+        for (Map.Entry<Match, ScoreUpdate> entry : batch.entrySet())
+            ranks.put(entry.getKey(), scoreboard.rankOf(entry.getValue().getHomeTeam(), entry.getValue().getAwayTeam()));
+
+        return ranks;
+    }
+}
@@ -0,0 +1,97 @@
+package com.sportradar.service;
+
+import com.sportradar.model.ScoreUpdate;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Validation and coalescing of score update batches shared by the Scoreboard implementations.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class ScoreBatch {
+    private ScoreBatch() {
+    }
+
+    /**
+     * Validates a batch of score updates and coalesces several updates of the same match into the last one.
+     * Every update is checked for null or negative values and resolved to its live match entry. When any of
+     * the updates is invalid, all errors of the batch are reported together.
+     *
+     * @param updates The batch of score updates, in the order in which they were received.
+     * @param lookup  Resolves a match entry by home and away team names, returning null if the match is not live.
+     *                Entries are coalesced by their equality, which is identity for the live match entries.
+     * @param <T>     The type of the live match entries of the scoreboard.
+     * @return The last update of every match in the batch, keyed by the match entry, in order of first appearance.
+     * @throws IllegalArgumentException if the batch is null.
+     * @throws BatchUpdateException if any update of the batch is invalid.
+     */
+    static <T> Map<T, ScoreUpdate> resolve(Collection<ScoreUpdate> updates, BiFunction<String, String, T> lookup) {
+        return resolve(updates, lookup, update -> null);
+    }
+
+    /**
+     * Validates a batch of score updates with an additional scoreboard specific check, and coalesces several
+     * updates of the same match into the last one.
+     *
+     * @param updates   The batch of score updates, in the order in which they were received.
+     * @param lookup    Resolves a match entry by home and away team names, returning null if the match is not live.
+     * @param validator Returns the exception an otherwise valid update would cause on the scoreboard, or null.
+     * @param <T>       The type of the live match entries of the scoreboard.
+     * @return The last update of every match in the batch, keyed by the match entry, in order of first appearance.
+     * @throws IllegalArgumentException if the batch is null.
+     * @throws BatchUpdateException if any update of the batch is invalid.
+     */
+    static <T> Map<T, ScoreUpdate> resolve(Collection<ScoreUpdate> updates, BiFunction<String, String, T> lookup,
+                                           Function<ScoreUpdate, RuntimeException> validator) {
+        if (updates == null)
+            throw new IllegalArgumentException("Updates cannot be null");
+
+        Map<T, ScoreUpdate> coalesced = new LinkedHashMap<>();
+        List<BatchUpdateException.ItemError> errors = new ArrayList<>();
+        int index = 0;
+
+        for (ScoreUpdate update : updates) {
+            RuntimeException error = validate(update);
+
+            if (error == null)
+                error = validator.apply(update);
+            T entry = null;
+
+            if (error == null) {
+                entry = lookup.apply(update.getHomeTeam(), update.getAwayTeam());
+
+                if (entry == null)
+                    error = new NoSuchElementException("Match not found");
+            }
+
+            if (error != null)
+                errors.add(new BatchUpdateException.ItemError(index, update, error));
+            else
+                coalesced.put(entry, update);
+
+            index++;
+        }
+
+        if (!errors.isEmpty())
+            throw new BatchUpdateException(errors);
+
+        return coalesced;
+    }
+
+    private static RuntimeException validate(ScoreUpdate update) {
+        if (update == null)
+            return new IllegalArgumentException("Update cannot be null");
+
+        if (update.getHomeTeam() == null || update.getAwayTeam() == null)
+            return new IllegalArgumentException("Team names cannot be null");
+
+        if (update.getHomeScore() < 0 || update.getAwayScore() < 0)
+            return new IllegalArgumentException("Scores cannot be negative");
+
+        return null;
+    }
+}
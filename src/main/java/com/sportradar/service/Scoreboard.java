@@ -1,67 +1,61 @@
 package com.sportradar.service;
 
-import com.sportradar.factory.MatchFactory;
 import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 
 /**
- * Manages a scoreboard for matches, allowing operations such as starting, updating, and finishing matches.
+ * The Scoreboard interface defines the operations of a live football scoreboard: starting,
+ * updating and finishing matches, and retrieving an ordered summary of the live matches.
+ * Implementations differ in their storage and threading guarantees, so callers can choose
+ * the single-threaded {@link ScoreboardImpl} or the thread-safe {@link ConcurrentScoreboard}
+ * without changing the code that drives the scoreboard.
  *
  * @author Anatolii Stepanchuk
- * @version 1.0
+ *
+ * @see ScoreboardImpl
+ * @see ConcurrentScoreboard
  */
-public class Scoreboard {
-    private final List<Match> matches = new ArrayList<>();
-    private final MatchFactory matchFactory;
-
+public interface Scoreboard {
     /**
-     * Constructs a new Scoreboard instance with a specified MatchFactory.
-     * The MatchFactory is used for creating new Match instances when starting a match.
-     * This design allows for easier testing and flexibility in Match object creation, as the factory can be
-     * mocked or customized as needed.
+     * Starts a new match at the current time of the match factory and adds it to the scoreboard.
+     * A team can take part in only one live match at a time. Matches with equal start times are
+     * ordered by the order in which they were started, the most recently started first. This also
+     * holds across the shards of a {@link ShardedScoreboard} and the competitions of a
+     * {@link ScoreboardRegistry}, which stamp their matches from one shared start sequence.
      *
      * @author Anatolii Stepanchuk
-
-     * @param matchFactory The factory to be used for creating Match instances. This factory is typically provided
-     *                     by dependency injection, allowing for different implementations or mocked versions
-     *                     to be used, especially in testing scenarios.
-     * @throws IllegalArgumentException if match factory is null.
+     *
+     * @param homeTeam The name of the home team.
+     * @param awayTeam The name of the away team.
+     * @throws IllegalArgumentException if any team name is null or both team names are the same.
+     * @throws IllegalStateException if any of the teams is already playing a live match.
      */
-    public Scoreboard(MatchFactory matchFactory) {
-        if (matchFactory == null)
-            throw new IllegalArgumentException("Match factory cannot be null");
-
-        this.matchFactory = matchFactory;
+    default void startMatch(String homeTeam, String awayTeam) {
+        startMatch(homeTeam, awayTeam, 0);
     }
 
     /**
-     * Starts a new match and adds it to the scoreboard.
+     * Starts a new match with a start time moved forward by a shift and adds it to the scoreboard.
+     * A team can take part in only one live match at a time. The shift is not needed to order matches
+     * started in the same millisecond; they are ordered as described in {@link #startMatch(String, String)}.
      *
      * @author Anatolii Stepanchuk
      *
      * @param homeTeam       The name of the home team.
      * @param awayTeam       The name of the away team.
-     * @param startTimeShift The time shift for the start time in milliseconds. This parameter
-     *                       is necessary to prevent duplicate millisecond timestamps for
-     *                       consecutively added matches. It enforces a minimum time difference
-     *                       of at least 1 millisecond between timestamps.
-     * @throws IllegalArgumentException if any team name is null.
+     * @param startTimeShift The time shift for the start time in milliseconds.
+     * @throws IllegalArgumentException if any team name is null or both team names are the same.
+     * @throws IllegalStateException if any of the teams is already playing a live match.
      */
-    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
-        if (homeTeam == null || awayTeam == null)
-            throw new IllegalArgumentException("Team names cannot be null");
-
-        matches.add(matchFactory.createMatch(homeTeam, awayTeam, startTimeShift));
-    }
+    void startMatch(String homeTeam, String awayTeam, int startTimeShift);
 
     /**
      * Updates the score for a specific match identified by home and away team names.
-     * This method performs the following:
-     * 1. Searches the match list using a stream.
-     * 2. Filters for a match with matching home and away team names.
-     * 3. If found, updates the match's score with the given home and away scores.
-     * 4. If not found, throws a NoSuchElementException.
      *
      * @author Anatolii Stepanchuk
      *
@@ -70,67 +64,169 @@ public class Scoreboard {
      * @param homeScore The new score for the home team.
      * @param awayScore The new score for the away team.
      * @throws NoSuchElementException if the match is not found.
-     * @throws IllegalArgumentException if any score is negative.
+     * @throws IllegalArgumentException if any score is negative or any team name is null.
      */
-    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
-        if (homeScore < 0 || awayScore < 0)
-            throw new IllegalArgumentException("Scores cannot be negative");
-
-        matches.stream()
-            .filter(m -> m.getHomeTeam().equals(homeTeam) && m.getAwayTeam().equals(awayTeam))
-            .findAny()
-            .orElseThrow(() -> new NoSuchElementException("Match not found"))
-            .updateScore(homeScore, awayScore);
-    }
+    void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore);
+
+    /**
+     * Applies a batch of score updates all-or-nothing. All updates are validated first; if any of them
+     * is invalid, none is applied and every invalid update is reported. Several updates of the same
+     * match are coalesced into the last one, and the summary order is re-established once per batch.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param updates The score updates in the order in which they were received.
+     * @throws IllegalArgumentException if the batch is null.
+     * @throws BatchUpdateException if any update of the batch has a null team name or a negative score,
+     *                              or refers to a match that is not on the scoreboard.
+     */
+    void applyBatch(Collection<ScoreUpdate> updates);
 
     /**
-     * Finishes a match by removing it from the scoreboard. This method identifies
-     * the match based on the home and away team names. It performs the following:
-     * 1. Checks if a match with the specified home and away team names exists.
-     * 2. If found, removes the match, signifying its end.
-     * 3. If not found, throws a NoSuchElementException indicating the match does
-     *    not exist on the scoreboard.
+     * Finishes a match by removing it from the scoreboard.
      *
      * @author Anatolii Stepanchuk
      *
      * @param homeTeam The name of the home team in the match.
      * @param awayTeam The name of the away team in the match.
      * @throws NoSuchElementException if the match to finish is not found.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    void finishMatch(String homeTeam, String awayTeam);
+
+    /**
+     * Looks up a live match by its home and away team names.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @return The live match, or an empty optional if no such match is on the scoreboard.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    Optional<Match> findMatch(String homeTeam, String awayTeam);
+
+    /**
+     * Retrieves a summary of all live matches, sorted by total score in descending order, then by
+     * start time in descending order and finally by start order, the most recently started first.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return A new list of matches in summary order.
+     */
+    List<Match> getSummary();
+
+    /**
+     * Retrieves at most {@code n} leading matches in the same order as returned by {@link #getSummary()}.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param n The maximum number of matches to return.
+     * @return A new list with at most {@code n} leading matches of the summary.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    List<Match> getTopN(int n);
+
+    /**
+     * Returns the rank of a live match, i.e. its zero-based position in the order returned by {@link #getSummary()}.
+     * The default implementation builds the summary and scans it; implementations keeping an ordered index
+     * answer from the index without building the summary.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @return The rank of the match, or -1 if no such match is on the scoreboard.
+     * @throws IllegalArgumentException if any team name is null.
      */
-    public void finishMatch(String homeTeam, String awayTeam) {
-        boolean removed = matches.removeIf(
-            m -> m.getHomeTeam().equals(homeTeam) && m.getAwayTeam().equals(awayTeam)
-        );
+    default int rankOf(String homeTeam, String awayTeam) {
+        Match match = findMatch(homeTeam, awayTeam).orElse(null);
+
+        if (match == null)
+            return -1;
+
+        List<Match> summary = getSummary();
+
+        for (int rank = 0; rank < summary.size(); rank++) {
+            Match other = summary.get(rank);
 
-        if (!removed) {
-            throw new NoSuchElementException("Match to finish not found");
+            if (other.getHomeTeam().equals(match.getHomeTeam()) && other.getAwayTeam().equals(match.getAwayTeam()))
+                return rank;
         }
+
+        return -1;
     }
 
     /**
-     * Retrieves a summary of all matches, sorted according to specific criteria. This method
-     * first creates a new list from the existing collection of matches to avoid modifying the
-     * original list. It then sorts this new list based on two criteria: the total score of each
-     * match and the start time of each match. The sorting is done in two tiers:
-     * 1. Primary sorting is based on the total score of the matches, in descending order. This
-     *    means matches with higher total scores are placed higher in the list.
-     * 2. For matches with the same total score, secondary sorting is applied based on the start
-     *    time, also in descending order. This means among matches with equal scores, the ones
-     *    that started later are placed higher.
+     * Returns the registry resolving the team names of this scoreboard to team IDs. Feed adapters resolve
+     * team names once through this registry and then use the team ID overloads of the scoreboard operations.
      *
      * @author Anatolii Stepanchuk
      *
-     * @return A list of matches sorted first by total score in descending order and then by
-     *         start time in descending order.
+     * @return The team registry of this scoreboard.
      */
-    public List<Match> getSummary() {
-        List<Match> sortedMatches = new ArrayList<>(matches);
+    TeamRegistry getTeamRegistry();
 
-        sortedMatches.sort(Comparator
-            .comparing(Match::getTotalScore, Comparator.reverseOrder())
-            .thenComparing(Match::getStartTime, Comparator.reverseOrder()));
+    /**
+     * Starts a new match identified by team IDs of the {@link #getTeamRegistry() team registry}
+     * at the current time of the match factory.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId The ID of the home team.
+     * @param awayTeamId The ID of the away team.
+     * @throws IllegalArgumentException if any team ID is unknown or both team IDs are the same.
+     * @throws IllegalStateException if any of the teams is already playing a live match.
+     */
+    default void startMatch(int homeTeamId, int awayTeamId) {
+        startMatch(homeTeamId, awayTeamId, 0);
+    }
 
-        return sortedMatches;
+    /**
+     * Starts a new match identified by team IDs of the {@link #getTeamRegistry() team registry}.
+     * The default implementation resolves the canonical team names and starts the match by name.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId     The ID of the home team.
+     * @param awayTeamId     The ID of the away team.
+     * @param startTimeShift The time shift for the start time in milliseconds.
+     * @throws IllegalArgumentException if any team ID is unknown or both team IDs are the same.
+     * @throws IllegalStateException if any of the teams is already playing a live match.
+     */
+    default void startMatch(int homeTeamId, int awayTeamId, int startTimeShift) {
+        startMatch(getTeamRegistry().nameOf(homeTeamId), getTeamRegistry().nameOf(awayTeamId), startTimeShift);
     }
-}
 
+    /**
+     * Updates the score for a specific match identified by team IDs of the {@link #getTeamRegistry() team registry}.
+     * The default implementation resolves the canonical team names and updates the match by name.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId The ID of the home team in the match.
+     * @param awayTeamId The ID of the away team in the match.
+     * @param homeScore  The new score for the home team.
+     * @param awayScore  The new score for the away team.
+     * @throws NoSuchElementException if the match is not found.
+     * @throws IllegalArgumentException if any score is negative or any team ID is unknown.
+     */
+    default void updateScore(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        updateScore(getTeamRegistry().nameOf(homeTeamId), getTeamRegistry().nameOf(awayTeamId), homeScore, awayScore);
+    }
+
+    /**
+     * Finishes a match identified by team IDs of the {@link #getTeamRegistry() team registry}.
+     * The default implementation resolves the canonical team names and finishes the match by name.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId The ID of the home team in the match.
+     * @param awayTeamId The ID of the away team in the match.
+     * @throws NoSuchElementException if the match to finish is not found.
+     * @throws IllegalArgumentException if any team ID is unknown.
+     */
+    default void finishMatch(int homeTeamId, int awayTeamId) {
+        finishMatch(getTeamRegistry().nameOf(homeTeamId), getTeamRegistry().nameOf(awayTeamId));
+    }
+}
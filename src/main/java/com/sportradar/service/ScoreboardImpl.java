@@ -0,0 +1,381 @@
+package com.sportradar.service;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchKey;
+import com.sportradar.model.ScoreUpdate;
+
+import java.util.*;
+
+/**
+ * Default implementation of the Scoreboard interface. Manages a scoreboard for matches, allowing
+ * operations such as starting, updating, and finishing matches. Live matches are held in a hashed
+ * match index and an ordered summary index, both maintained on every write.
+ * This implementation is not thread-safe; use {@link ConcurrentScoreboard} when the scoreboard
+ * is shared between feed-ingestion and reader threads.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see Scoreboard
+ */
+public class ScoreboardImpl implements Scoreboard {
+    private final Map<MatchKey, LiveMatch> matches = new HashMap<>();
+    private final NavigableMap<SummaryKey, Match> summary = new TreeMap<>();
+    private final BitSet playingTeams = new BitSet();
+    private final MatchFactory matchFactory;
+    private final TeamRegistry teamRegistry;
+    private long startSequence;
+
+    /**
+     * Constructs a new ScoreboardImpl instance with a specified MatchFactory.
+     * The MatchFactory is used for creating new Match instances when starting a match.
+     * This design allows for easier testing and flexibility in Match object creation, as the factory can be
+     * mocked or customized as needed.
+     *
+     * @author Anatolii Stepanchuk
+
+     * @param matchFactory The factory to be used for creating Match instances. This factory is typically provided
+     *                     by dependency injection, allowing for different implementations or mocked versions
+     *                     to be used, especially in testing scenarios.
+     * @throws IllegalArgumentException if match factory is null.
+     */
+    public ScoreboardImpl(MatchFactory matchFactory) {
+        this(matchFactory, new TeamRegistry());
+    }
+
+    /**
+     * Constructs a new ScoreboardImpl instance with a specified MatchFactory and TeamRegistry.
+     * Team names are resolved to team IDs through the registry, which can be shared with feed adapters
+     * and other scoreboards.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param matchFactory The factory to be used for creating Match instances.
+     * @param teamRegistry The registry resolving team names to team IDs.
+     * @throws IllegalArgumentException if match factory or team registry is null.
+     */
+    public ScoreboardImpl(MatchFactory matchFactory, TeamRegistry teamRegistry) {
+        if (matchFactory == null)
+            throw new IllegalArgumentException("Match factory cannot be null");
+
+        if (teamRegistry == null)
+            throw new IllegalArgumentException("Team registry cannot be null");
+
+        this.matchFactory = matchFactory;
+        this.teamRegistry = teamRegistry;
+    }
+
+    /**
+     * Starts a new match and adds it to the scoreboard. Both team names are registered in the team
+     * registry, and the match is started by the resulting team IDs.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam       The name of the home team.
+     * @param awayTeam       The name of the away team.
+     * @param startTimeShift The time shift for the start time in milliseconds. Matches with equal
+     *                       start times are ordered by the sequence number in which they were started.
+     * @throws IllegalArgumentException if any team name is null or both team names are the same.
+     * @throws IllegalStateException if any of the teams is already playing a live match.
+     */
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        if (homeTeam == null || awayTeam == null)
+            throw new IllegalArgumentException("Team names cannot be null");
+
+        startMatch(teamRegistry.register(homeTeam), teamRegistry.register(awayTeam), startTimeShift);
+    }
+
+    /**
+     * Starts a new match identified by team IDs and adds it to the scoreboard. The match is registered
+     * in the match index under its composite home/away key, and both teams are marked as playing.
+     * A team can take part in only one live match at a time, so starting a fixture for a
+     * team that is already on the scoreboard is rejected. The match is created with the canonical
+     * team names of the team registry.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId     The ID of the home team.
+     * @param awayTeamId     The ID of the away team.
+     * @param startTimeShift The time shift for the start time in milliseconds.
+     * @throws IllegalArgumentException if any team ID is unknown or both team IDs are the same.
+     * @throws IllegalStateException if any of the teams is already playing a live match.
+     */
+    @Override
+    public void startMatch(int homeTeamId, int awayTeamId, int startTimeShift) {
+        String homeTeam = teamRegistry.nameOf(homeTeamId);
+        String awayTeam = teamRegistry.nameOf(awayTeamId);
+
+        if (homeTeamId == awayTeamId)
+            throw new IllegalArgumentException("A team cannot play against itself");
+
+        if (playingTeams.get(homeTeamId) || playingTeams.get(awayTeamId))
+            throw new IllegalStateException("Team is already playing a live match");
+
+        Match match = matchFactory.createMatch(homeTeam, awayTeam, startTimeShift);
+        SummaryKey summaryKey = new SummaryKey(match.getTotalScore(), match.getStartTime(), startSequence++);
+
+        matches.put(new MatchKey(homeTeamId, awayTeamId), new LiveMatch(match, summaryKey));
+        summary.put(summaryKey, match);
+        playingTeams.set(homeTeamId);
+        playingTeams.set(awayTeamId);
+    }
+
+    /**
+     * Updates the score for a specific match identified by home and away team names.
+     * This method performs the following:
+     * 1. Resolves the team names to team IDs and looks up the match in the match index by its
+     *    composite home/away key in constant time.
+     * 2. If found, updates the match's score with the given home and away scores.
+     * 3. If the total score of the match changed, repositions the match in the ordered summary index.
+     * 4. If not found, throws a NoSuchElementException.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam  The name of the home team in the match.
+     * @param awayTeam  The name of the away team in the match.
+     * @param homeScore The new score for the home team.
+     * @param awayScore The new score for the away team.
+     * @throws NoSuchElementException if the match is not found.
+     * @throws IllegalArgumentException if any score is negative or any team name is null.
+     */
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (homeScore < 0 || awayScore < 0)
+            throw new IllegalArgumentException("Scores cannot be negative");
+
+        updateScore(liveMatch(homeTeam, awayTeam), homeScore, awayScore);
+    }
+
+    /**
+     * Updates the score for a specific match identified by team IDs, without resolving any team name.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId The ID of the home team in the match.
+     * @param awayTeamId The ID of the away team in the match.
+     * @param homeScore  The new score for the home team.
+     * @param awayScore  The new score for the away team.
+     * @throws NoSuchElementException if the match is not found.
+     * @throws IllegalArgumentException if any score or team ID is negative.
+     */
+    @Override
+    public void updateScore(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        if (homeScore < 0 || awayScore < 0)
+            throw new IllegalArgumentException("Scores cannot be negative");
+
+        updateScore(matches.get(new MatchKey(homeTeamId, awayTeamId)), homeScore, awayScore);
+    }
+
+    private void updateScore(LiveMatch liveMatch, int homeScore, int awayScore) {
+        if (liveMatch == null)
+            throw new NoSuchElementException("Match not found");
+
+        liveMatch.match.updateScore(homeScore, awayScore);
+
+        if (liveMatch.summaryKey.getTotalScore() != liveMatch.match.getTotalScore()) {
+            summary.remove(liveMatch.summaryKey);
+            reposition(liveMatch);
+        }
+    }
+
+    /**
+     * Applies a batch of score updates all-or-nothing. This method performs the following:
+     * 1. Validates every update and looks up its match in the match index. If any update is invalid,
+     *    a BatchUpdateException reporting all invalid updates is thrown and nothing is applied.
+     * 2. Coalesces several updates of the same match into the last one.
+     * 3. Applies the scores and takes every match whose total score changed out of the ordered summary index.
+     * 4. Puts those matches back into the ordered summary index at their new positions.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param updates The score updates in the order in which they were received.
+     * @throws IllegalArgumentException if the batch is null.
+     * @throws BatchUpdateException if any update of the batch is invalid.
+     */
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        Map<LiveMatch, ScoreUpdate> batch = ScoreBatch.resolve(updates, this::liveMatch);
+        List<LiveMatch> moved = new ArrayList<>();
+
+        for (Map.Entry<LiveMatch, ScoreUpdate> entry : batch.entrySet()) {
+            LiveMatch liveMatch = entry.getKey();
+
+            liveMatch.match.updateScore(entry.getValue().getHomeScore(), entry.getValue().getAwayScore());
+
+            if (liveMatch.summaryKey.getTotalScore() != liveMatch.match.getTotalScore()) {
+                summary.remove(liveMatch.summaryKey);
+                moved.add(liveMatch);
+            }
+        }
+
+        for (LiveMatch liveMatch : moved)
+            reposition(liveMatch);
+    }
+
+    /**
+     * Finishes a match by removing it from the scoreboard. This method identifies
+     * the match based on the home and away team names. It performs the following:
+     * 1. Resolves the team names to team IDs and removes the match from the match index by its
+     *    composite home/away key in constant time.
+     * 2. If found, removes the match from the ordered summary index and releases both teams so
+     *    they can start a new match.
+     * 3. If not found, throws a NoSuchElementException indicating the match does
+     *    not exist on the scoreboard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @throws NoSuchElementException if the match to finish is not found.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        int homeTeamId = teamRegistry.idOf(homeTeam);
+        int awayTeamId = teamRegistry.idOf(awayTeam);
+
+        if (homeTeamId == TeamRegistry.NO_TEAM || awayTeamId == TeamRegistry.NO_TEAM)
+            throw new NoSuchElementException("Match to finish not found");
+
+        finishMatch(homeTeamId, awayTeamId);
+    }
+
+    /**
+     * Finishes a match identified by team IDs by removing it from the scoreboard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId The ID of the home team in the match.
+     * @param awayTeamId The ID of the away team in the match.
+     * @throws NoSuchElementException if the match to finish is not found.
+     * @throws IllegalArgumentException if any team ID is negative.
+     */
+    @Override
+    public void finishMatch(int homeTeamId, int awayTeamId) {
+        LiveMatch removed = matches.remove(new MatchKey(homeTeamId, awayTeamId));
+
+        if (removed == null)
+            throw new NoSuchElementException("Match to finish not found");
+
+        summary.remove(removed.summaryKey);
+        playingTeams.clear(homeTeamId);
+        playingTeams.clear(awayTeamId);
+    }
+
+    /**
+     * Looks up a live match by its home and away team names in the match index in constant time.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @return The live match, or an empty optional if no such match is on the scoreboard.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        LiveMatch liveMatch = liveMatch(homeTeam, awayTeam);
+
+        return liveMatch == null ? Optional.empty() : Optional.of(liveMatch.match);
+    }
+
+    /**
+     * Retrieves a summary of all matches, sorted according to specific criteria. The matches are
+     * kept in an ordered summary index that is only updated when a match starts, finishes or
+     * changes its total score, so this method is a plain traversal of that index without any
+     * sorting. The order is defined in two tiers:
+     * 1. Primary ordering is based on the total score of the matches, in descending order. This
+     *    means matches with higher total scores are placed higher in the list.
+     * 2. For matches with the same total score, secondary ordering is applied based on the start
+     *    time, also in descending order. This means among matches with equal scores, the ones
+     *    that started later are placed higher.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return A new list of matches sorted first by total score in descending order and then by
+     *         start time in descending order.
+     */
+    @Override
+    public List<Match> getSummary() {
+        return new ArrayList<>(summary.values());
+    }
+
+    /**
+     * Retrieves the top of the summary, i.e. at most {@code n} first matches in the same order
+     * as returned by {@link #getSummary()}. Only the first {@code n} entries of the ordered summary
+     * index are visited, which makes this method suitable for leaderboard widgets that poll the
+     * leading matches of a large scoreboard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param n The maximum number of matches to return.
+     * @return A new list with at most {@code n} leading matches of the summary.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    @Override
+    public List<Match> getTopN(int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("Number of matches cannot be negative");
+
+        List<Match> topMatches = new ArrayList<>(Math.min(n, summary.size()));
+        Iterator<Match> iterator = summary.values().iterator();
+
+        while (topMatches.size() < n && iterator.hasNext())
+            topMatches.add(iterator.next());
+
+        return topMatches;
+    }
+
+    /**
+     * Returns the rank of a live match by counting the entries of the ordered summary index that precede it.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @return The rank of the match, or -1 if no such match is on the scoreboard.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        LiveMatch liveMatch = liveMatch(homeTeam, awayTeam);
+
+        return liveMatch == null ? -1 : summary.headMap(liveMatch.summaryKey).size();
+    }
+
+    @Override
+    public TeamRegistry getTeamRegistry() {
+        return teamRegistry;
+    }
+
+    private LiveMatch liveMatch(String homeTeam, String awayTeam) {
+        int homeTeamId = teamRegistry.idOf(homeTeam);
+        int awayTeamId = teamRegistry.idOf(awayTeam);
+
+        if (homeTeamId == TeamRegistry.NO_TEAM || awayTeamId == TeamRegistry.NO_TEAM)
+            return null;
+
+        return matches.get(new MatchKey(homeTeamId, awayTeamId));
+    }
+
+    private void reposition(LiveMatch liveMatch) {
+        liveMatch.summaryKey = liveMatch.summaryKey.withTotalScore(liveMatch.match.getTotalScore());
+        summary.put(liveMatch.summaryKey, liveMatch.match);
+    }
+
+    /**
+     * Live match entry of the match index, holding the match together with its current
+     * position key in the ordered summary index.
+     */
+    private static final class LiveMatch {
+        private final Match match;
+        private SummaryKey summaryKey;
+
+        private LiveMatch(Match match, SummaryKey summaryKey) {
+            this.match = match;
+            this.summaryKey = summaryKey;
+        }
+    }
+}
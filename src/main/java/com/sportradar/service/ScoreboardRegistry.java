@@ -0,0 +1,185 @@
+package com.sportradar.service;
+
+import com.sportradar.model.Match;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Registry of the scoreboards of several competitions running at the same time. Every competition is an
+ * independent shard with its own lock domain, so feeds of different competitions never contend with each other.
+ * All competitions share one {@link TeamRegistry}; a team can take part in one live match per competition.
+ * The global summary k-way merges the already ordered summaries of the competitions instead of re-sorting
+ * all live matches. Matches are stamped from one start sequence shared by all competitions, so matches with
+ * equal start times are ordered by the order in which they were started across competitions too.
+ * Competitions are created on first use and can be removed when they end.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see ShardedScoreboard
+ */
+public class ScoreboardRegistry {
+    private final TeamRegistry teamRegistry;
+    private final Function<TeamRegistry, Scoreboard> boardFactory;
+    private final ConcurrentMap<String, ShardScoreboard> competitions = new ConcurrentHashMap<>();
+    private final AtomicLong startSequence = new AtomicLong();
+
+    /**
+     * Constructs a new ScoreboardRegistry instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param boardFactory Creates the scoreboard of a competition with the given shared team registry,
+     *                     e.g. {@code registry -> new ScoreboardImpl(new MatchFactoryImpl(), registry)}.
+     * @throws IllegalArgumentException if the board factory is null.
+     */
+    public ScoreboardRegistry(Function<TeamRegistry, Scoreboard> boardFactory) {
+        this(new TeamRegistry(), boardFactory);
+    }
+
+    /**
+     * Constructs a new ScoreboardRegistry instance with a specified team registry.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param teamRegistry The registry resolving team names to team IDs, shared by all competitions.
+     * @param boardFactory Creates the scoreboard of a competition with the given shared team registry.
+     * @throws IllegalArgumentException if the team registry or board factory is null.
+     */
+    public ScoreboardRegistry(TeamRegistry teamRegistry, Function<TeamRegistry, Scoreboard> boardFactory) {
+        if (teamRegistry == null || boardFactory == null)
+            throw new IllegalArgumentException("Team registry and board factory cannot be null");
+
+        this.teamRegistry = teamRegistry;
+        this.boardFactory = boardFactory;
+    }
+
+    /**
+     * Returns the scoreboard of a competition, creating it if the competition is not known yet. The returned
+     * scoreboard is thread-safe; its operations are serialised with each other but not with the operations of
+     * other competitions.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param competition The name of the competition.
+     * @return The scoreboard of the competition.
+     * @throws IllegalArgumentException if the competition is null or the board factory creates a scoreboard
+     *                                  with another team registry.
+     */
+    public Scoreboard competition(String competition) {
+        if (competition == null)
+            throw new IllegalArgumentException("Competition cannot be null");
+
+        return competitions.computeIfAbsent(competition, name -> ShardedScoreboard.shard(teamRegistry, boardFactory, startSequence));
+    }
+
+    /**
+     * Looks up the scoreboard of a competition without creating it.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param competition The name of the competition.
+     * @return The scoreboard of the competition, or an empty optional if the competition is not known.
+     */
+    public Optional<Scoreboard> findCompetition(String competition) {
+        return Optional.ofNullable(competitions.get(competition));
+    }
+
+    /**
+     * Removes a competition together with all of its live matches.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param competition The name of the competition.
+     * @return True if the competition was known.
+     */
+    public boolean removeCompetition(String competition) {
+        return competitions.remove(competition) != null;
+    }
+
+    /**
+     * Returns the names of all known competitions in alphabetical order.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return A new sorted set of competition names.
+     */
+    public SortedSet<String> getCompetitions() {
+        return new TreeSet<>(competitions.keySet());
+    }
+
+    /**
+     * Retrieves a summary of the live matches of all competitions by k-way merging their summaries.
+     * Matches with the same total score and start time are ordered by the order in which they were started,
+     * the most recently started first, whichever competitions they belong to.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return A new list of matches in summary order.
+     */
+    public List<Match> getSummary() {
+        return SummaryMerge.merge(shards(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves at most {@code n} leading matches of all competitions in the same order as returned by
+     * {@link #getSummary()}, merging only the leading {@code n} matches of every competition.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param n The maximum number of matches to return.
+     * @return A new list with at most {@code n} leading matches of the global summary.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public List<Match> getTopN(int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("Number of matches cannot be negative");
+
+        return SummaryMerge.merge(shards(), n);
+    }
+
+    /**
+     * Returns the rank of a live match of a competition in the global summary, i.e. its zero-based position in
+     * the order returned by {@link #getSummary()}. The matches ahead of it are counted in every competition
+     * without building the global summary.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param competition The name of the competition of the match.
+     * @param homeTeam    The name of the home team in the match.
+     * @param awayTeam    The name of the away team in the match.
+     * @return The global rank of the match, or -1 if no such match is live in the competition.
+     * @throws IllegalArgumentException if the competition or any team name is null.
+     */
+    public int rankOf(String competition, String homeTeam, String awayTeam) {
+        if (competition == null)
+            throw new IllegalArgumentException("Competition cannot be null");
+
+        int homeTeamId = teamRegistry.idOf(homeTeam);
+        int awayTeamId = teamRegistry.idOf(awayTeam);
+        ShardScoreboard shard = competitions.get(competition);
+
+        return shard == null ? -1 : shard.rankAcross(homeTeamId, awayTeamId, competitions.values());
+    }
+
+    public TeamRegistry getTeamRegistry() {
+        return teamRegistry;
+    }
+
+    private List<ShardScoreboard> shards() {
+        List<ShardScoreboard> shards = new ArrayList<>();
+
+        for (String competition : getCompetitions()) {
+            ShardScoreboard shard = competitions.get(competition);
+
+            if (shard != null)
+                shards.add(shard);
+        }
+
+        return shards;
+    }
+}
@@ -0,0 +1,147 @@
+package com.sportradar.service;
+
+import com.sportradar.model.MatchKey;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scoreboard decorator that applies sequence-numbered score updates at most once and never out of order.
+ * Feed providers number the events of every match; redundant feeds deliver the same events with the same
+ * numbers. An update is applied only if its sequence number is higher than the last one applied to the match,
+ * so a duplicate from a redundant feed or a delayed packet can never move a score backwards:
+ * 1. Stale and duplicate updates are rejected by a single volatile read of the last applied sequence number
+ *    of the match, without locking and without calling the decorated scoreboard.
+ * 2. Newer updates are re-checked and applied under a lock of their match only, so redundant feeds of the
+ *    same match never block updates of other matches and need no coordination with each other.
+ * The sequence numbers of a match are forgotten when it is finished, so the fixture can start over at any
+ * number. Score updates without a sequence number are forwarded as they are and do not affect the last
+ * applied sequence number.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public class SequencedScoreboard extends ForwardingScoreboard {
+    private final ConcurrentMap<Long, MatchSequence> sequences = new ConcurrentHashMap<>();
+    private final LongAdder droppedUpdates = new LongAdder();
+
+    /**
+     * Constructs a new SequencedScoreboard instance decorating the given scoreboard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The decorated scoreboard. Concurrent sequenced updates of different matches are
+     *                   applied concurrently, so it must be thread-safe if it is updated from several threads.
+     * @throws IllegalArgumentException if scoreboard is null.
+     */
+    public SequencedScoreboard(Scoreboard scoreboard) {
+        super(scoreboard);
+    }
+
+    /**
+     * Updates the score of a match unless an update with the same or a higher sequence number was already
+     * applied to it.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam  The name of the home team in the match.
+     * @param awayTeam  The name of the away team in the match.
+     * @param homeScore The new score for the home team.
+     * @param awayScore The new score for the away team.
+     * @param sequence  The sequence number of the update within the match.
+     * @return True if the update was applied, false if it was dropped as stale or duplicate.
+     * @throws NoSuchElementException if the match is not found.
+     * @throws IllegalArgumentException if any score or the sequence number is negative or any team name is null.
+     */
+    public boolean updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        int homeTeamId = getTeamRegistry().idOf(homeTeam);
+        int awayTeamId = getTeamRegistry().idOf(awayTeam);
+
+        if (homeTeamId == TeamRegistry.NO_TEAM || awayTeamId == TeamRegistry.NO_TEAM)
+            throw new NoSuchElementException("Match not found");
+
+        return updateScore(homeTeamId, awayTeamId, homeScore, awayScore, sequence);
+    }
+
+    /**
+     * Updates the score of a match identified by team IDs unless an update with the same or a higher sequence
+     * number was already applied to it.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId The ID of the home team in the match.
+     * @param awayTeamId The ID of the away team in the match.
+     * @param homeScore  The new score for the home team.
+     * @param awayScore  The new score for the away team.
+     * @param sequence   The sequence number of the update within the match.
+     * @return True if the update was applied, false if it was dropped as stale or duplicate.
+     * @throws NoSuchElementException if the match is not found.
+     * @throws IllegalArgumentException if any score or the sequence number is negative or any team ID is unknown.
+     */
+    public boolean updateScore(int homeTeamId, int awayTeamId, int homeScore, int awayScore, long sequence) {
+        if (sequence < 0)
+            throw new IllegalArgumentException("Sequence number cannot be negative");
+
+        if (homeTeamId < 0 || awayTeamId < 0)
+            throw new IllegalArgumentException("Unknown team ID");
+
+        long key = MatchKey.pack(homeTeamId, awayTeamId);
+        MatchSequence matchSequence = sequences.get(key);
+
+        if (matchSequence != null && sequence <= matchSequence.last) {
+            droppedUpdates.increment();
+            return false;
+        }
+
+        if (matchSequence == null)
+            matchSequence = sequences.computeIfAbsent(key, k -> new MatchSequence());
+
+        synchronized (matchSequence) {
+            if (sequence <= matchSequence.last) {
+                droppedUpdates.increment();
+                return false;
+            }
+
+            try {
+                scoreboard.updateScore(homeTeamId, awayTeamId, homeScore, awayScore);
+            } catch (RuntimeException e) {
+                if (matchSequence.last < 0)
+                    sequences.remove(key, matchSequence);
+
+                throw e;
+            }
+
+            matchSequence.last = sequence;
+
+            return true;
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        scoreboard.finishMatch(homeTeam, awayTeam);
+
+        sequences.remove(MatchKey.pack(getTeamRegistry().idOf(homeTeam), getTeamRegistry().idOf(awayTeam)));
+    }
+
+    /**
+     * Returns the number of sequenced updates dropped because an update with the same or a higher sequence
+     * number was already applied to their match.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The number of dropped updates.
+     */
+    public long getDroppedCount() {
+        return droppedUpdates.sum();
+    }
+
+    /**
+     * The last sequence number applied to a live match; the monitor of this object orders the updates of the match.
+     */
+    private static final class MatchSequence {
+        private volatile long last = -1;
+    }
+}
@@ -0,0 +1,307 @@
+package com.sportradar.service;
+
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchScore;
+import com.sportradar.model.ScoreUpdate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Shard of a partitioned scoreboard: a scoreboard with its own lock domain. Every operation runs under the
+ * lock of the shard, so writes to different shards never contend with each other. Every started match is
+ * stamped from a start sequence shared by all shards of the owner, so matches with equal start times are
+ * ordered across shards as they are within one. Summaries are taken together with the total score, start time
+ * and start sequence of every match read under the lock, so shards can be merged consistently even when their
+ * live matches change after the lock was released. The shard also keeps the sort key of every live match in
+ * primitive arrays indexed by home team ID, so the owner can rank a match across shards by counting the matches
+ * ahead of it in every shard, without building any summary.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see ShardedScoreboard
+ * @see ScoreboardRegistry
+ */
+final class ShardScoreboard extends ForwardingScoreboard {
+    final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong startSequence;
+    private long[] startSequencesByHomeTeam = new long[16];
+    private int[] awayTeamIdsByHomeTeam = new int[16];
+    private int[] totalScoresByHomeTeam = new int[16];
+    private long[] startTimesByHomeTeam = new long[16];
+    private int[] livePositions = new int[16];
+    private int[] liveHomeTeamIds = new int[16];
+    private int liveCount;
+
+    ShardScoreboard(Scoreboard scoreboard, AtomicLong startSequence) {
+        super(scoreboard);
+
+        this.startSequence = startSequence;
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        lock.lock();
+
+        try {
+            scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+            started(getTeamRegistry().idOf(homeTeam), getTeamRegistry().idOf(awayTeam));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void startMatch(int homeTeamId, int awayTeamId, int startTimeShift) {
+        lock.lock();
+
+        try {
+            scoreboard.startMatch(homeTeamId, awayTeamId, startTimeShift);
+            started(homeTeamId, awayTeamId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        lock.lock();
+
+        try {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            totalScoresByHomeTeam[getTeamRegistry().idOf(homeTeam)] = homeScore + awayScore;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateScore(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        lock.lock();
+
+        try {
+            scoreboard.updateScore(homeTeamId, awayTeamId, homeScore, awayScore);
+            totalScoresByHomeTeam[homeTeamId] = homeScore + awayScore;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        lock.lock();
+
+        try {
+            scoreboard.applyBatch(updates);
+
+            for (ScoreUpdate update : updates)
+                totalScoresByHomeTeam[getTeamRegistry().idOf(update.getHomeTeam())] = update.getHomeScore() + update.getAwayScore();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        lock.lock();
+
+        try {
+            scoreboard.finishMatch(homeTeam, awayTeam);
+            finished(getTeamRegistry().idOf(homeTeam));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void finishMatch(int homeTeamId, int awayTeamId) {
+        lock.lock();
+
+        try {
+            scoreboard.finishMatch(homeTeamId, awayTeamId);
+            finished(homeTeamId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        lock.lock();
+
+        try {
+            return scoreboard.findMatch(homeTeam, awayTeam);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        lock.lock();
+
+        try {
+            return scoreboard.rankOf(homeTeam, awayTeam);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        return rankedSummary(Integer.MAX_VALUE).matches;
+    }
+
+    @Override
+    public List<Match> getTopN(int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("Number of matches cannot be negative");
+
+        return rankedSummary(n).matches;
+    }
+
+    /**
+     * Takes at most {@code limit} leading matches of the summary of this shard together with their sort keys.
+     */
+    RankedSummary rankedSummary(int limit) {
+        lock.lock();
+
+        try {
+            List<Match> matches = limit == Integer.MAX_VALUE ? scoreboard.getSummary() : scoreboard.getTopN(limit);
+            int[] totalScores = new int[matches.size()];
+            long[] startTimes = new long[matches.size()];
+            long[] startSequences = new long[matches.size()];
+
+            for (int position = 0; position < totalScores.length; position++) {
+                Match match = matches.get(position);
+
+                totalScores[position] = MatchScore.totalScore(match.getPackedScore());
+                startTimes[position] = match.getStartTime();
+                startSequences[position] = startSequencesByHomeTeam[getTeamRegistry().idOf(match.getHomeTeam())];
+            }
+
+            return new RankedSummary(matches, totalScores, startTimes, startSequences);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ranks a live match of this shard within the whole board: reads its sort key under the lock of this shard
+     * and counts the matches ahead of it in every shard, one shard after another.
+     *
+     * @return The rank of the match, or -1 if the match is not live in this shard.
+     */
+    int rankAcross(int homeTeamId, int awayTeamId, Iterable<ShardScoreboard> shards) {
+        int totalScore;
+        long startTime;
+        long sequence;
+
+        lock.lock();
+
+        try {
+            if (homeTeamId < 0 || homeTeamId >= awayTeamIdsByHomeTeam.length || awayTeamId < 0
+                    || awayTeamIdsByHomeTeam[homeTeamId] != awayTeamId || startSequencesByHomeTeam[homeTeamId] == 0)
+                return -1;
+
+            totalScore = totalScoresByHomeTeam[homeTeamId];
+            startTime = startTimesByHomeTeam[homeTeamId];
+            sequence = startSequencesByHomeTeam[homeTeamId];
+        } finally {
+            lock.unlock();
+        }
+
+        int rank = 0;
+
+        for (ShardScoreboard shard : shards)
+            rank += shard.countAhead(totalScore, startTime, sequence);
+
+        return rank;
+    }
+
+    /**
+     * Counts the live matches of this shard that precede a sort key in summary order, in one pass over the
+     * live matches without sorting them.
+     */
+    private int countAhead(int totalScore, long startTime, long sequence) {
+        lock.lock();
+
+        try {
+            int count = 0;
+
+            for (int position = 0; position < liveCount; position++) {
+                int homeTeamId = liveHomeTeamIds[position];
+                int otherTotalScore = totalScoresByHomeTeam[homeTeamId];
+                long otherStartTime = startTimesByHomeTeam[homeTeamId];
+
+                if (otherTotalScore > totalScore || (otherTotalScore == totalScore && (otherStartTime > startTime
+                    || (otherStartTime == startTime && startSequencesByHomeTeam[homeTeamId] > sequence))))
+                    count++;
+            }
+
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records the sort key of the match just started by a home team and stamps it with the next start sequence.
+     * A team plays one live match per shard at a time, so the match is held by its home team alone.
+     */
+    private void started(int homeTeamId, int awayTeamId) {
+        if (homeTeamId >= startSequencesByHomeTeam.length)
+            grow(Math.max(startSequencesByHomeTeam.length * 2, homeTeamId + 1));
+
+        Match match = scoreboard.findMatch(getTeamRegistry().nameOf(homeTeamId), getTeamRegistry().nameOf(awayTeamId)).orElseThrow();
+
+        startSequencesByHomeTeam[homeTeamId] = startSequence.incrementAndGet();
+        awayTeamIdsByHomeTeam[homeTeamId] = awayTeamId;
+        totalScoresByHomeTeam[homeTeamId] = match.getTotalScore();
+        startTimesByHomeTeam[homeTeamId] = match.getStartTime();
+        livePositions[homeTeamId] = liveCount;
+        liveHomeTeamIds[liveCount++] = homeTeamId;
+    }
+
+    private void finished(int homeTeamId) {
+        int position = livePositions[homeTeamId];
+        int lastHomeTeamId = liveHomeTeamIds[--liveCount];
+
+        liveHomeTeamIds[position] = lastHomeTeamId;
+        livePositions[lastHomeTeamId] = position;
+        awayTeamIdsByHomeTeam[homeTeamId] = TeamRegistry.NO_TEAM;
+        startSequencesByHomeTeam[homeTeamId] = 0;
+    }
+
+    private void grow(int capacity) {
+        startSequencesByHomeTeam = Arrays.copyOf(startSequencesByHomeTeam, capacity);
+        awayTeamIdsByHomeTeam = Arrays.copyOf(awayTeamIdsByHomeTeam, capacity);
+        totalScoresByHomeTeam = Arrays.copyOf(totalScoresByHomeTeam, capacity);
+        startTimesByHomeTeam = Arrays.copyOf(startTimesByHomeTeam, capacity);
+        livePositions = Arrays.copyOf(livePositions, capacity);
+        liveHomeTeamIds = Arrays.copyOf(liveHomeTeamIds, capacity);
+    }
+
+    /**
+     * Summary of a shard in summary order, with the total score, start time and start sequence of every match
+     * as read while the summary was taken.
+     */
+    static final class RankedSummary {
+        final List<Match> matches;
+        final int[] totalScores;
+        final long[] startTimes;
+        final long[] startSequences;
+
+        private RankedSummary(List<Match> matches, int[] totalScores, long[] startTimes, long[] startSequences) {
+            this.matches = matches;
+            this.totalScores = totalScores;
+            this.startTimes = startTimes;
+            this.startSequences = startSequences;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.sportradar.service;
+
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchKey;
+import com.sportradar.model.ScoreUpdate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Thread-safe implementation of the Scoreboard interface that partitions the live matches into independent
+ * shards by a hash of their fixture key. Every shard is a scoreboard with its own lock domain, so writes to
+ * matches of different shards run in parallel and write throughput scales with the number of shards:
+ * 1. All shards share one {@link TeamRegistry}, and a fixture is always routed to the same shard.
+ * 2. Teams are claimed atomically in a concurrent map shared by all shards, so a team takes part in only one
+ *    live match at a time across the whole board.
+ * 3. Summaries k-way merge the already ordered summaries of the shards instead of re-sorting all matches.
+ *    Matches are stamped from one start sequence shared by all shards, so matches with equal start times are
+ *    ordered by the order in which they were started, as on an unsharded scoreboard. Ranks of single matches
+ *    count the matches ahead in every shard and do not build a summary.
+ *    Every shard summary is consistent on its own; the merged summary is not a point-in-time view of the
+ *    whole board, as shards are read one after another.
+ * 4. Batches are all-or-nothing across shards: the shards of a batch are locked in a fixed order, the batch
+ *    is validated, and shards that already applied their part are rolled back if another shard rejects its part.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see Scoreboard
+ */
+public class ShardedScoreboard implements Scoreboard {
+    private final TeamRegistry teamRegistry;
+    private final List<ShardScoreboard> shards;
+    private final ConcurrentMap<Integer, MatchKey> playingTeams = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new ShardedScoreboard instance with one shard per available processor.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param shardFactory Creates the scoreboard of a shard with the given shared team registry,
+     *                     e.g. {@code registry -> new ScoreboardImpl(new MatchFactoryImpl(), registry)}.
+     * @throws IllegalArgumentException if the shard factory is null or creates a scoreboard with another team registry.
+     */
+    public ShardedScoreboard(Function<TeamRegistry, Scoreboard> shardFactory) {
+        this(shardFactory, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new ShardedScoreboard instance with a specified number of shards.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param shardFactory Creates the scoreboard of a shard with the given shared team registry.
+     * @param shardCount   The number of shards.
+     * @throws IllegalArgumentException if the shard factory is null or creates a scoreboard with another team
+     *                                  registry, or the number of shards is not positive.
+     */
+    public ShardedScoreboard(Function<TeamRegistry, Scoreboard> shardFactory, int shardCount) {
+        this(new TeamRegistry(), shardFactory, shardCount);
+    }
+
+    /**
+     * Constructs a new ShardedScoreboard instance with a specified team registry and number of shards.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param teamRegistry The registry resolving team names to team IDs, shared by all shards.
+     * @param shardFactory Creates the scoreboard of a shard with the given shared team registry.
+     * @param shardCount   The number of shards.
+     * @throws IllegalArgumentException if the team registry or shard factory is null, the shard factory creates a
+     *                                  scoreboard with another team registry, or the number of shards is not positive.
+     */
+    public ShardedScoreboard(TeamRegistry teamRegistry, Function<TeamRegistry, Scoreboard> shardFactory, int shardCount) {
+        if (teamRegistry == null || shardFactory == null)
+            throw new IllegalArgumentException("Team registry and shard factory cannot be null");
+
+        if (shardCount <= 0)
+            throw new IllegalArgumentException("Shard count must be positive");
+
+        List<ShardScoreboard> shards = new ArrayList<>(shardCount);
+        AtomicLong startSequence = new AtomicLong();
+
+        for (int shard = 0; shard < shardCount; shard++)
+            shards.add(shard(teamRegistry, shardFactory, startSequence));
+
+        this.teamRegistry = teamRegistry;
+        this.shards = Collections.unmodifiableList(shards);
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        if (homeTeam == null || awayTeam == null)
+            throw new IllegalArgumentException("Team names cannot be null");
+
+        startMatch(teamRegistry.register(homeTeam), teamRegistry.register(awayTeam), startTimeShift);
+    }
+
+    /**
+     * Starts a new match identified by team IDs on the shard of its fixture. Both teams are claimed atomically
+     * before the match is started; a rejected fixture releases its claims again.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeamId     The ID of the home team.
+     * @param awayTeamId     The ID of the away team.
+     * @param startTimeShift The time shift for the start time in milliseconds.
+     * @throws IllegalArgumentException if any team ID is unknown or both team IDs are the same.
+     * @throws IllegalStateException if any of the teams is already playing a live match.
+     */
+    @Override
+    public void startMatch(int homeTeamId, int awayTeamId, int startTimeShift) {
+        teamRegistry.nameOf(homeTeamId);
+        teamRegistry.nameOf(awayTeamId);
+
+        if (homeTeamId == awayTeamId)
+            throw new IllegalArgumentException("A team cannot play against itself");
+
+        MatchKey key = new MatchKey(homeTeamId, awayTeamId);
+
+        if (playingTeams.putIfAbsent(homeTeamId, key) != null)
+            throw new IllegalStateException("Team is already playing a live match");
+
+        if (playingTeams.putIfAbsent(awayTeamId, key) != null) {
+            playingTeams.remove(homeTeamId, key);
+            throw new IllegalStateException("Team is already playing a live match");
+        }
+
+        try {
+            shardOf(key).startMatch(homeTeamId, awayTeamId, startTimeShift);
+        } catch (RuntimeException e) {
+            playingTeams.remove(homeTeamId, key);
+            playingTeams.remove(awayTeamId, key);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        if (homeScore < 0 || awayScore < 0)
+            throw new IllegalArgumentException("Scores cannot be negative");
+
+        MatchKey key = keyOf(homeTeam, awayTeam);
+
+        if (key == null)
+            throw new NoSuchElementException("Match not found");
+
+        shardOf(key).updateScore(key.getHomeTeamId(), key.getAwayTeamId(), homeScore, awayScore);
+    }
+
+    @Override
+    public void updateScore(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        shardOf(new MatchKey(homeTeamId, awayTeamId)).updateScore(homeTeamId, awayTeamId, homeScore, awayScore);
+    }
+
+    /**
+     * Applies a batch of score updates all-or-nothing across shards. The shards of the batch are locked in shard
+     * order, so concurrent batches cannot deadlock, and the whole batch is validated before any score is written.
+     * If a shard rejects its part of a validated batch, the shards that already applied their parts are restored
+     * to their previous scores.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param updates The score updates in the order in which they were received.
+     * @throws IllegalArgumentException if the batch is null.
+     * @throws BatchUpdateException if any update of the batch is invalid.
+     */
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        if (updates == null)
+            throw new IllegalArgumentException("Batch of score updates cannot be null");
+
+        SortedMap<Integer, List<ScoreUpdate>> updatesByShard = new TreeMap<>();
+
+        for (ScoreUpdate update : updates) {
+            MatchKey key = update == null || update.getHomeTeam() == null || update.getAwayTeam() == null
+                ? null : keyOf(update.getHomeTeam(), update.getAwayTeam());
+
+            if (key != null)
+                updatesByShard.computeIfAbsent(shardIndexOf(key), shard -> new ArrayList<>()).add(update);
+        }
+
+        for (int shard : updatesByShard.keySet())
+            shards.get(shard).lock.lock();
+
+        try {
+            ScoreBatch.resolve(updates, (homeTeam, awayTeam) -> {
+                MatchKey key = keyOf(homeTeam, awayTeam);
+
+                return key != null && updatesByShard.containsKey(shardIndexOf(key))
+                    && shardOf(key).findMatch(homeTeam, awayTeam).isPresent() ? key : null;
+            });
+
+            Deque<Map.Entry<ShardScoreboard, List<ScoreUpdate>>> applied = new ArrayDeque<>();
+
+            try {
+                for (Map.Entry<Integer, List<ScoreUpdate>> entry : updatesByShard.entrySet()) {
+                    ShardScoreboard shard = shards.get(entry.getKey());
+                    List<ScoreUpdate> previousScores = previousScores(shard, entry.getValue());
+
+                    shard.applyBatch(entry.getValue());
+                    applied.push(Map.entry(shard, previousScores));
+                }
+            } catch (RuntimeException e) {
+                for (Map.Entry<ShardScoreboard, List<ScoreUpdate>> entry : applied)
+                    entry.getKey().applyBatch(entry.getValue());
+
+                throw e;
+            }
+        } finally {
+            for (int shard : updatesByShard.keySet())
+                shards.get(shard).lock.unlock();
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        MatchKey key = keyOf(homeTeam, awayTeam);
+
+        if (key == null)
+            throw new NoSuchElementException("Match to finish not found");
+
+        finishMatch(key.getHomeTeamId(), key.getAwayTeamId());
+    }
+
+    @Override
+    public void finishMatch(int homeTeamId, int awayTeamId) {
+        MatchKey key = new MatchKey(homeTeamId, awayTeamId);
+
+        shardOf(key).finishMatch(homeTeamId, awayTeamId);
+        playingTeams.remove(homeTeamId, key);
+        playingTeams.remove(awayTeamId, key);
+    }
+
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        MatchKey key = keyOf(homeTeam, awayTeam);
+
+        return key == null ? Optional.empty() : shardOf(key).findMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Retrieves a summary of all live matches by k-way merging the summaries of the shards.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return A new list of matches in summary order.
+     */
+    @Override
+    public List<Match> getSummary() {
+        return SummaryMerge.merge(shards, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves at most {@code n} leading matches by k-way merging the leading {@code n} matches of every shard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param n The maximum number of matches to return.
+     * @return A new list with at most {@code n} leading matches of the summary.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    @Override
+    public List<Match> getTopN(int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("Number of matches cannot be negative");
+
+        return SummaryMerge.merge(shards, n);
+    }
+
+    /**
+     * Returns the rank of a live match by counting the live matches ahead of it in every shard. Every shard is
+     * scanned once under its own lock without sorting and without building a summary; like the merged summary,
+     * the rank is not a point-in-time view of the whole board.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @return The rank of the match, or -1 if no such match is on the scoreboard.
+     * @throws IllegalArgumentException if any team name is null.
+     */
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        MatchKey key = keyOf(homeTeam, awayTeam);
+
+        return key == null ? -1 : shardOf(key).rankAcross(key.getHomeTeamId(), key.getAwayTeamId(), shards);
+    }
+
+    @Override
+    public TeamRegistry getTeamRegistry() {
+        return teamRegistry;
+    }
+
+    /**
+     * Returns the number of shards of this scoreboard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The number of shards.
+     */
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    static ShardScoreboard shard(TeamRegistry teamRegistry, Function<TeamRegistry, Scoreboard> shardFactory,
+                                 AtomicLong startSequence) {
+        Scoreboard scoreboard = shardFactory.apply(teamRegistry);
+
+        if (scoreboard == null || scoreboard.getTeamRegistry() != teamRegistry)
+            throw new IllegalArgumentException("Shard scoreboards must use the shared team registry");
+
+        return new ShardScoreboard(scoreboard, startSequence);
+    }
+
+    private MatchKey keyOf(String homeTeam, String awayTeam) {
+        int homeTeamId = teamRegistry.idOf(homeTeam);
+        int awayTeamId = teamRegistry.idOf(awayTeam);
+
+        if (homeTeamId == TeamRegistry.NO_TEAM || awayTeamId == TeamRegistry.NO_TEAM)
+            return null;
+
+        MatchKey key = new MatchKey(homeTeamId, awayTeamId);
+
+        return key.equals(playingTeams.get(homeTeamId)) ? key : null;
+    }
+
+    private int shardIndexOf(MatchKey key) {
+        return Math.floorMod(key.hashCode(), shards.size());
+    }
+
+    private ShardScoreboard shardOf(MatchKey key) {
+        return shards.get(shardIndexOf(key));
+    }
+
+    private static List<ScoreUpdate> previousScores(Scoreboard shard, List<ScoreUpdate> updates) {
+        List<ScoreUpdate> previousScores = new ArrayList<>(updates.size());
+
+        for (ScoreUpdate update : updates) {
+            Match match = shard.findMatch(update.getHomeTeam(), update.getAwayTeam()).orElseThrow();
+
+            previousScores.add(new ScoreUpdate(update.getHomeTeam(), update.getAwayTeam(), match.getHomeScore(), match.getAwayScore()));
+        }
+
+        return previousScores;
+    }
+}
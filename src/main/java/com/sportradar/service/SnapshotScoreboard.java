@@ -0,0 +1,170 @@
+package com.sportradar.service;
+
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchView;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.model.ScoreboardSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Scoreboard decorator that publishes an immutable {@link ScoreboardSnapshot} after every successful write.
+ * Writes are serialised and forwarded to the decorated scoreboard; each of them then publishes a new snapshot
+ * holding {@link MatchView} values and an incremented version through a single volatile reference.
+ * Readers call {@link #getSnapshot()}, which is a single volatile read without any locking or allocation,
+ * and always get a consistent view of the whole board that never changes while it is being rendered.
+ * Views of matches whose score did not change are shared between consecutive snapshots.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see ScoreboardSnapshot
+ */
+public class SnapshotScoreboard extends ForwardingScoreboard {
+    private final Object writeLock = new Object();
+    private Map<Match, MatchView> views = new IdentityHashMap<>();
+    private volatile ScoreboardSnapshot snapshot = ScoreboardSnapshot.empty();
+
+    /**
+     * Constructs a new SnapshotScoreboard instance decorating the given scoreboard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The scoreboard holding the live matches. It must not be modified other than
+     *                   through this decorator, otherwise the published snapshots go stale.
+     * @throws IllegalArgumentException if scoreboard is null.
+     */
+    public SnapshotScoreboard(Scoreboard scoreboard) {
+        super(scoreboard);
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        synchronized (writeLock) {
+            scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+            publish();
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        synchronized (writeLock) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            publish();
+        }
+    }
+
+    /**
+     * Applies a batch of score updates to the decorated scoreboard and publishes a single snapshot
+     * for the whole batch, so readers never observe a partially applied batch.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param updates The score updates in the order in which they were received.
+     * @throws IllegalArgumentException if the batch is null.
+     * @throws BatchUpdateException if any update of the batch is invalid.
+     */
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        synchronized (writeLock) {
+            scoreboard.applyBatch(updates);
+            publish();
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            scoreboard.finishMatch(homeTeam, awayTeam);
+            publish();
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.findMatch(homeTeam, awayTeam);
+        }
+    }
+
+    /**
+     * Retrieves a summary of all live matches from the decorated scoreboard. The returned list holds the
+     * live, mutable matches; readers that need a stable view should use {@link #getSnapshot()} instead.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return A new list of matches in summary order.
+     */
+    @Override
+    public List<Match> getSummary() {
+        synchronized (writeLock) {
+            return scoreboard.getSummary();
+        }
+    }
+
+    @Override
+    public List<Match> getTopN(int n) {
+        synchronized (writeLock) {
+            return scoreboard.getTopN(n);
+        }
+    }
+
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.rankOf(homeTeam, awayTeam);
+        }
+    }
+
+    /**
+     * Returns the latest published snapshot of the scoreboard. This method never blocks and never
+     * allocates, so it can be polled by any number of reader threads.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The latest immutable snapshot.
+     */
+    public ScoreboardSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Checks whether the scoreboard changed since a previously seen snapshot version.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param version A previously seen snapshot version.
+     * @return True if a newer snapshot was published.
+     */
+    public boolean hasChangedSince(long version) {
+        return snapshot.hasChangedSince(version);
+    }
+
+    /**
+     * Builds and publishes a new snapshot from the current summary of the decorated scoreboard.
+     * Must be called while holding the write lock.
+     */
+    private void publish() {
+        List<Match> summary = scoreboard.getSummary();
+        List<MatchView> matchViews = new ArrayList<>(summary.size());
+        Map<Match, MatchView> nextViews = new IdentityHashMap<>(summary.size());
+
+        for (Match match : summary) {
+            MatchView view = views.get(match);
+
+            if (view == null || !view.hasScore(match.getPackedScore()))
+                view = MatchView.of(match);
+
+            matchViews.add(view);
+            nextViews.put(match, view);
+        }
+
+        views = nextViews;
+        snapshot = new ScoreboardSnapshot(snapshot.getVersion() + 1, matchViews);
+    }
+}
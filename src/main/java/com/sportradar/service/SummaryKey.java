@@ -0,0 +1,67 @@
+package com.sportradar.service;
+
+/**
+ * Immutable ordering key of a live match in the scoreboard summary. The key captures the
+ * total score and start time of a match at the moment it was (re)positioned, so the ordered
+ * summary index is never corrupted by a score change made to the live match itself.
+ * Keys are ordered by total score in descending order, then by start time in descending order,
+ * and finally by the sequence number in which the match was started, which keeps keys of
+ * matches with equal score and start time distinct.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class SummaryKey implements Comparable<SummaryKey> {
+    private final int totalScore;
+    private final long startTime;
+    private final long sequence;
+
+    SummaryKey(int totalScore, long startTime, long sequence) {
+        this.totalScore = totalScore;
+        this.startTime = startTime;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Returns a key for the same match positioned by a new total score.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param newTotalScore The new total score of the match.
+     * @return This key if the total score did not change, otherwise a new key.
+     */
+    SummaryKey withTotalScore(int newTotalScore) {
+        return newTotalScore == totalScore ? this : new SummaryKey(newTotalScore, startTime, sequence);
+    }
+
+    int getTotalScore() {
+        return totalScore;
+    }
+
+    @Override
+    public int compareTo(SummaryKey other) {
+        if (totalScore != other.totalScore)
+            return Integer.compare(other.totalScore, totalScore);
+
+        if (startTime != other.startTime)
+            return Long.compare(other.startTime, startTime);
+
+        return Long.compare(other.sequence, sequence);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof SummaryKey))
+            return false;
+
+        return compareTo((SummaryKey) o) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(sequence);
+    }
+}
@@ -0,0 +1,74 @@
+package com.sportradar.service;
+
+import com.sportradar.model.Match;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * K-way merge of the already ordered summaries of several shards into one summary. A heap holds the head of
+ * every shard, so merging the leading {@code n} matches of {@code k} shards takes {@code O(n log k)} instead of
+ * re-sorting all matches. Matches with the same total score and start time in different shards are ordered
+ * by the start sequence shared by the shards, the most recently started first.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class SummaryMerge {
+    private SummaryMerge() {
+    }
+
+    /**
+     * Merges at most {@code limit} leading matches of the given shards.
+     *
+     * @param shards The shards sharing one start sequence.
+     * @param limit  The maximum number of matches to return.
+     * @return A new list of matches in summary order.
+     */
+    static List<Match> merge(Iterable<ShardScoreboard> shards, int limit) {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>();
+
+        for (ShardScoreboard shard : shards) {
+            ShardScoreboard.RankedSummary summary = shard.rankedSummary(limit);
+
+            if (!summary.matches.isEmpty())
+                heads.add(new Cursor(summary));
+        }
+
+        List<Match> merged = new ArrayList<>();
+
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Cursor head = heads.poll();
+
+            merged.add(head.summary.matches.get(head.position++));
+
+            if (head.position < head.summary.matches.size())
+                heads.add(head);
+        }
+
+        return merged;
+    }
+
+    private static final class Cursor implements Comparable<Cursor> {
+        private final ShardScoreboard.RankedSummary summary;
+        private int position;
+
+        private Cursor(ShardScoreboard.RankedSummary summary) {
+            this.summary = summary;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int byTotalScore = Integer.compare(other.summary.totalScores[other.position], summary.totalScores[position]);
+
+            if (byTotalScore != 0)
+                return byTotalScore;
+
+            int byStartTime = Long.compare(other.summary.startTimes[other.position], summary.startTimes[position]);
+
+            return byStartTime != 0 ? byStartTime
+                : Long.compare(other.summary.startSequences[other.position], summary.startSequences[position]);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.sportradar.service;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Interning dictionary assigning every team a compact integer ID. Feed adapters resolve team names once,
+ * after which scoreboards compare, hash and sort teams by their IDs instead of by their names.
+ * Names are matched exactly first and then by a normalised form that ignores case, accents, punctuation and
+ * white space, so "Côte d'Ivoire", "COTE D'IVOIRE" and "Cote dIvoire" resolve to the same team. Spellings that
+ * are not related by normalisation, such as "Ivory Coast", can be registered as explicit aliases.
+ * Spellings resolved through their normalised form are cached so they are matched exactly next time; the cache
+ * holds at most {@value #MAX_CACHED_SPELLINGS} spellings, so a feed with noisy casing or white space cannot grow it
+ * without bound, and spellings beyond the limit are normalised on every lookup.
+ * IDs are assigned in registration order starting at 0 and are never reused. Lookups are lock-free;
+ * registrations are serialised, so one registry can be shared by several scoreboards and threads.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public class TeamRegistry {
+    /**
+     * The ID returned by {@link #idOf(String)} for a team that is not registered.
+     */
+    public static final int NO_TEAM = -1;
+
+    /**
+     * The maximum number of spellings remembered after being resolved through their normalised form.
+     */
+    public static final int MAX_CACHED_SPELLINGS = 1024;
+
+    private static final Pattern MARKS_AND_SEPARATORS = Pattern.compile("[\\p{M}\\p{P}\\p{Z}\\s]+");
+
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> normalisedIds = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> spellingIds = new ConcurrentHashMap<>();
+    private final AtomicInteger cachedSpellings = new AtomicInteger();
+    private volatile String[] names = new String[16];
+    private int size;
+
+    /**
+     * Returns the ID of a team, registering the team under the given name if neither the name nor
+     * its normalised form is known yet. The first registered spelling becomes the canonical name.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param name The name of the team.
+     * @return The ID of the team.
+     * @throws IllegalArgumentException if the name is null or blank.
+     */
+    public int register(String name) {
+        int id = idOf(name);
+
+        if (id != NO_TEAM)
+            return id;
+
+        synchronized (this) {
+            id = idOf(name);
+
+            if (id != NO_TEAM)
+                return id;
+
+            String normalised = normalise(name);
+
+            if (normalised.isEmpty())
+                throw new IllegalArgumentException("Team name cannot be blank");
+
+            String[] currentNames = names;
+
+            if (size == currentNames.length) {
+                currentNames = Arrays.copyOf(currentNames, size * 2);
+                names = currentNames;
+            }
+
+            id = size;
+            currentNames[id] = name;
+            names = currentNames;
+            size++;
+
+            normalisedIds.put(normalised, id);
+            ids.put(name, id);
+
+            return id;
+        }
+    }
+
+    /**
+     * Registers an alternative name of a team, e.g. "Ivory Coast" for "Côte d'Ivoire". The team is
+     * registered under its name first if it is not known yet.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param alias The alternative name.
+     * @param name  The name of the team.
+     * @return The ID of the team.
+     * @throws IllegalArgumentException if any name is null or blank.
+     * @throws IllegalStateException if the alias already refers to a different team.
+     */
+    public int registerAlias(String alias, String name) {
+        if (alias == null)
+            throw new IllegalArgumentException("Team name cannot be null");
+
+        String normalised = normalise(alias);
+
+        if (normalised.isEmpty())
+            throw new IllegalArgumentException("Team name cannot be blank");
+
+        int id = register(name);
+
+        synchronized (this) {
+            int aliasId = idOf(alias);
+
+            if (aliasId != NO_TEAM && aliasId != id)
+                throw new IllegalStateException("Alias already refers to a different team");
+
+            normalisedIds.put(normalised, id);
+            ids.put(alias, id);
+
+            return id;
+        }
+    }
+
+    /**
+     * Looks up the ID of a team by its name or alias, exactly first and then by the normalised form.
+     * A spelling resolved through its normalised form is remembered, so it is matched exactly next time,
+     * until {@value #MAX_CACHED_SPELLINGS} spellings are remembered.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param name The name of the team.
+     * @return The ID of the team, or {@link #NO_TEAM} if the team is not registered.
+     * @throws IllegalArgumentException if the name is null.
+     */
+    public int idOf(String name) {
+        if (name == null)
+            throw new IllegalArgumentException("Team name cannot be null");
+
+        Integer id = ids.get(name);
+
+        if (id == null)
+            id = spellingIds.get(name);
+
+        if (id != null)
+            return id;
+
+        id = normalisedIds.get(normalise(name));
+
+        if (id == null)
+            return NO_TEAM;
+
+        // The slot is claimed before the spelling is cached, so concurrent lookups cannot overshoot the limit.
+        if (cachedSpellings.getAndUpdate(count -> Math.min(count + 1, MAX_CACHED_SPELLINGS)) < MAX_CACHED_SPELLINGS
+                && spellingIds.putIfAbsent(name, id) != null)
+            cachedSpellings.decrementAndGet();
+
+        return id;
+    }
+
+    /**
+     * Returns the canonical name of a team, i.e. the spelling it was first registered with.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param id The ID of the team.
+     * @return The canonical name of the team.
+     * @throws IllegalArgumentException if no team is registered under the ID.
+     */
+    public String nameOf(int id) {
+        String[] currentNames = names;
+        String name = id >= 0 && id < currentNames.length ? currentNames[id] : null;
+
+        if (name == null)
+            throw new IllegalArgumentException("Unknown team ID: " + id);
+
+        return name;
+    }
+
+    /**
+     * Returns the number of registered teams. All IDs below this number are assigned.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The number of registered teams.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    int cachedSpellings() {
+        return spellingIds.size();
+    }
+
+    private static String normalise(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+
+        return MARKS_AND_SEPARATORS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,56 @@
+package com.sportradar.stats;
+
+/**
+ * Counter of the values added within a sliding time window. The window is divided into a fixed number of
+ * buckets held in a ring; a bucket is cleared when the window slides past it, so adding and reading take
+ * constant time regardless of the number of values. The window slides in steps of one bucket, so values
+ * leave it between one bucket length before and exactly at the end of the window.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class SlidingWindowCounter {
+    private final long[] buckets;
+    private final long bucketMillis;
+    private long currentBucket;
+    private long sum;
+
+    SlidingWindowCounter(long windowMillis, int bucketCount, long nowMillis) {
+        this.buckets = new long[bucketCount];
+        this.bucketMillis = Math.max(1, (windowMillis + bucketCount - 1) / bucketCount);
+        this.currentBucket = nowMillis / bucketMillis;
+    }
+
+    void add(long nowMillis, long delta) {
+        slide(nowMillis);
+        buckets[(int) (currentBucket % buckets.length)] += delta;
+        sum += delta;
+    }
+
+    /**
+     * Returns the sum of the values added within the window, or 0 if values removed within the window
+     * outweigh the values added within it.
+     */
+    long sum(long nowMillis) {
+        slide(nowMillis);
+
+        return Math.max(0, sum);
+    }
+
+    /**
+     * Clears the buckets the window slid past. A clock set back keeps the current bucket.
+     */
+    private void slide(long nowMillis) {
+        long bucket = nowMillis / bucketMillis;
+        long steps = Math.min(bucket - currentBucket, buckets.length);
+
+        for (long step = 1; step <= steps; step++) {
+            int index = (int) ((currentBucket + step) % buckets.length);
+
+            sum -= buckets[index];
+            buckets[index] = 0;
+        }
+
+        currentBucket = Math.max(currentBucket, bucket);
+    }
+}
@@ -0,0 +1,142 @@
+package com.sportradar.stats;
+
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.ForwardingScoreboard;
+import com.sportradar.service.Scoreboard;
+import com.sportradar.service.TeamRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Scoreboard decorator maintaining {@link TournamentStatistics} of its matches, such as the total goals, the
+ * goals per team, the highest-scoring match and the goals of the last 10 minutes, for broadcast graphics.
+ * Writes are serialised and forwarded to the decorated scoreboard first; only accepted writes are applied to
+ * the statistics, as the delta between the previous and the new score of the match. Finished matches keep
+ * counting towards the statistics. All writes must go through this decorator.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see TournamentStatistics
+ */
+public class StatisticsScoreboard extends ForwardingScoreboard {
+    private final Object writeLock = new Object();
+    private final TeamRegistry teamRegistry;
+    private final TournamentStatistics statistics;
+
+    /**
+     * Constructs a new StatisticsScoreboard instance counting recent goals within {@link TournamentStatistics#DEFAULT_WINDOW}.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The scoreboard holding the live matches. It must not hold any live matches yet.
+     * @param clock      The clock timing the recent goals.
+     * @throws IllegalArgumentException if scoreboard or clock is null or the scoreboard holds live matches.
+     */
+    public StatisticsScoreboard(Scoreboard scoreboard, Clock clock) {
+        this(scoreboard, clock, TournamentStatistics.DEFAULT_WINDOW);
+    }
+
+    /**
+     * Constructs a new StatisticsScoreboard instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The scoreboard holding the live matches. It must not hold any live matches yet.
+     * @param clock      The clock timing the recent goals.
+     * @param window     The window of the recent goals.
+     * @throws IllegalArgumentException if scoreboard, clock or window is null, the window is not positive or
+     *                                  the scoreboard holds live matches.
+     */
+    public StatisticsScoreboard(Scoreboard scoreboard, Clock clock, Duration window) {
+        super(scoreboard);
+
+        if (!scoreboard.getTopN(1).isEmpty())
+            throw new IllegalArgumentException("Scoreboard cannot hold live matches");
+
+        this.teamRegistry = scoreboard.getTeamRegistry();
+        this.statistics = new TournamentStatistics(teamRegistry, clock, window);
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        synchronized (writeLock) {
+            scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+
+            Match match = scoreboard.findMatch(homeTeam, awayTeam).orElseThrow();
+
+            statistics.matchStarted(teamRegistry.idOf(match.getHomeTeam()), teamRegistry.idOf(match.getAwayTeam()), match);
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        synchronized (writeLock) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            statistics.scoreChanged(teamRegistry.idOf(homeTeam), homeScore, awayScore);
+        }
+    }
+
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        synchronized (writeLock) {
+            scoreboard.applyBatch(updates);
+
+            for (ScoreUpdate update : updates)
+                statistics.scoreChanged(teamRegistry.idOf(update.getHomeTeam()), update.getHomeScore(), update.getAwayScore());
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            scoreboard.finishMatch(homeTeam, awayTeam);
+            statistics.matchFinished(teamRegistry.idOf(homeTeam));
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.findMatch(homeTeam, awayTeam);
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        synchronized (writeLock) {
+            return scoreboard.getSummary();
+        }
+    }
+
+    @Override
+    public List<Match> getTopN(int n) {
+        synchronized (writeLock) {
+            return scoreboard.getTopN(n);
+        }
+    }
+
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.rankOf(homeTeam, awayTeam);
+        }
+    }
+
+    /**
+     * Returns the statistics of this scoreboard. Statistics can be read from any thread without locking
+     * the scoreboard.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The statistics of this scoreboard.
+     */
+    public TournamentStatistics getStatistics() {
+        return statistics;
+    }
+}
@@ -0,0 +1,238 @@
+package com.sportradar.stats;
+
+import com.sportradar.model.Match;
+import com.sportradar.service.TeamRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Tournament-wide statistics of the matches of a {@link StatisticsScoreboard}, maintained incrementally from
+ * the score deltas of every accepted write. Every statistic is read in constant time:
+ * 1. The total number of goals and the number of goals of every team, corrections subtracted.
+ * 2. The number of matches started and the average number of goals per match.
+ * 3. The highest-scoring match, live or finished. The first match to reach a total score keeps the lead over
+ *    matches reaching the same total later.
+ * 4. The number of goals scored within a recent time window, e.g. the last 10 minutes, counted in a
+ *    {@link SlidingWindowCounter}.
+ * Live matches are held in primitive arrays indexed by the ID of the home team, so a score delta is applied
+ * without allocating. Only a correction lowering the score of the highest-scoring live match scans the live
+ * matches for the new leader. Statistics are thread-safe; reads and writes are serialised.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see StatisticsScoreboard
+ */
+public class TournamentStatistics {
+    /**
+     * The default window of {@link #getRecentGoals()}.
+     */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(10);
+
+    private static final int WINDOW_BUCKETS = 60;
+
+    private final TeamRegistry teamRegistry;
+    private final Clock clock;
+    private final Duration window;
+    private final SlidingWindowCounter recentGoals;
+    private long totalGoals;
+    private int matchCount;
+    private int[] goalsByTeam = new int[16];
+    private String[] homeTeams = new String[16];
+    private String[] awayTeams = new String[16];
+    private int[] awayTeamIds = new int[16];
+    private int[] homeScores = new int[16];
+    private int[] awayScores = new int[16];
+    private long[] startTimes = new long[16];
+    private int[] livePositions = new int[16];
+    private int[] liveHomeTeamIds = new int[16];
+    private int liveCount;
+    private Match highestScoringMatch;
+    private Match highestScoringFinishedMatch;
+    private int highestScoringHomeTeamId = TeamRegistry.NO_TEAM;
+
+    TournamentStatistics(TeamRegistry teamRegistry, Clock clock, Duration window) {
+        if (clock == null || window == null)
+            throw new IllegalArgumentException("Clock and window cannot be null");
+
+        if (window.isNegative() || window.isZero())
+            throw new IllegalArgumentException("Window must be positive");
+
+        this.teamRegistry = teamRegistry;
+        this.clock = clock;
+        this.window = window;
+        this.recentGoals = new SlidingWindowCounter(window.toMillis(), WINDOW_BUCKETS, clock.millis());
+    }
+
+    public synchronized long getTotalGoals() {
+        return totalGoals;
+    }
+
+    /**
+     * Returns the number of matches started, live and finished.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The number of matches started.
+     */
+    public synchronized int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * Returns the average number of goals per started match.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The average number of goals per match, or 0 if no match was started.
+     */
+    public synchronized double getAverageGoalsPerMatch() {
+        return matchCount == 0 ? 0 : (double) totalGoals / matchCount;
+    }
+
+    /**
+     * Returns the number of goals of a team in all of its matches, live and finished.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param team The name of the team.
+     * @return The number of goals of the team, or 0 if the team never played.
+     * @throws IllegalArgumentException if the team name is null.
+     */
+    public int getGoals(String team) {
+        int teamId = teamRegistry.idOf(team);
+
+        synchronized (this) {
+            return teamId == TeamRegistry.NO_TEAM || teamId >= goalsByTeam.length ? 0 : goalsByTeam[teamId];
+        }
+    }
+
+    /**
+     * Returns the match with the highest total score of all live and finished matches. A live match is
+     * returned with its current score.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The highest-scoring match, or an empty optional if no match was started.
+     */
+    public synchronized Optional<Match> getHighestScoringMatch() {
+        return Optional.ofNullable(highestScoringMatch);
+    }
+
+    /**
+     * Returns the number of goals scored within the {@link #getWindow() window} before the current time of
+     * the clock. Corrections within the window are subtracted. The window slides in steps of 1/60 of its length.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @return The number of recent goals.
+     */
+    public synchronized long getRecentGoals() {
+        return recentGoals.sum(clock.millis());
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    synchronized void matchStarted(int homeTeamId, int awayTeamId, Match match) {
+        int capacity = Math.max(homeTeamId, awayTeamId) + 1;
+
+        if (capacity > goalsByTeam.length)
+            grow(Math.max(goalsByTeam.length * 2, capacity));
+
+        homeTeams[homeTeamId] = match.getHomeTeam();
+        awayTeams[homeTeamId] = match.getAwayTeam();
+        awayTeamIds[homeTeamId] = awayTeamId;
+        startTimes[homeTeamId] = match.getStartTime();
+        livePositions[homeTeamId] = liveCount;
+        liveHomeTeamIds[liveCount++] = homeTeamId;
+        matchCount++;
+
+        scoreChanged(homeTeamId, match.getHomeScore(), match.getAwayScore());
+    }
+
+    synchronized void scoreChanged(int homeTeamId, int homeScore, int awayScore) {
+        int homeDelta = homeScore - homeScores[homeTeamId];
+        int awayDelta = awayScore - awayScores[homeTeamId];
+
+        if (homeDelta == 0 && awayDelta == 0 && highestScoringMatch != null)
+            return;
+
+        homeScores[homeTeamId] = homeScore;
+        awayScores[homeTeamId] = awayScore;
+        goalsByTeam[homeTeamId] += homeDelta;
+        goalsByTeam[awayTeamIds[homeTeamId]] += awayDelta;
+        totalGoals += homeDelta + awayDelta;
+        recentGoals.add(clock.millis(), homeDelta + awayDelta);
+
+        int totalScore = homeScore + awayScore;
+
+        if (highestScoringMatch == null || totalScore > highestScoringMatch.getTotalScore()) {
+            highestScoringMatch = matchOf(homeTeamId);
+            highestScoringHomeTeamId = homeTeamId;
+        } else if (homeTeamId == highestScoringHomeTeamId) {
+            if (totalScore < highestScoringMatch.getTotalScore())
+                findHighestScoringMatch();
+            else
+                highestScoringMatch = matchOf(homeTeamId);
+        }
+    }
+
+    synchronized void matchFinished(int homeTeamId) {
+        Match match = homeTeamId == highestScoringHomeTeamId ? highestScoringMatch : null;
+
+        if (highestScoringFinishedMatch == null || homeScores[homeTeamId] + awayScores[homeTeamId] > highestScoringFinishedMatch.getTotalScore())
+            highestScoringFinishedMatch = match != null ? match : matchOf(homeTeamId);
+
+        if (homeTeamId == highestScoringHomeTeamId)
+            highestScoringHomeTeamId = TeamRegistry.NO_TEAM;
+
+        int position = livePositions[homeTeamId];
+        int lastHomeTeamId = liveHomeTeamIds[--liveCount];
+
+        liveHomeTeamIds[position] = lastHomeTeamId;
+        livePositions[lastHomeTeamId] = position;
+        homeTeams[homeTeamId] = null;
+        awayTeams[homeTeamId] = null;
+        homeScores[homeTeamId] = 0;
+        awayScores[homeTeamId] = 0;
+    }
+
+    /**
+     * Finds the highest-scoring match again after the score of the leading live match was corrected downwards.
+     */
+    private void findHighestScoringMatch() {
+        highestScoringMatch = highestScoringFinishedMatch;
+        highestScoringHomeTeamId = TeamRegistry.NO_TEAM;
+
+        for (int position = 0; position < liveCount; position++) {
+            int homeTeamId = liveHomeTeamIds[position];
+
+            if (highestScoringMatch == null || homeScores[homeTeamId] + awayScores[homeTeamId] > highestScoringMatch.getTotalScore()) {
+                highestScoringMatch = matchOf(homeTeamId);
+                highestScoringHomeTeamId = homeTeamId;
+            }
+        }
+    }
+
+    private Match matchOf(int homeTeamId) {
+        return new Match(homeTeams[homeTeamId], awayTeams[homeTeamId], homeScores[homeTeamId],
+            awayScores[homeTeamId], startTimes[homeTeamId]);
+    }
+
+    private void grow(int capacity) {
+        goalsByTeam = Arrays.copyOf(goalsByTeam, capacity);
+        homeTeams = Arrays.copyOf(homeTeams, capacity);
+        awayTeams = Arrays.copyOf(awayTeams, capacity);
+        awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+        homeScores = Arrays.copyOf(homeScores, capacity);
+        awayScores = Arrays.copyOf(awayScores, capacity);
+        startTimes = Arrays.copyOf(startTimes, capacity);
+        livePositions = Arrays.copyOf(livePositions, capacity);
+        liveHomeTeamIds = Arrays.copyOf(liveHomeTeamIds, capacity);
+    }
+}
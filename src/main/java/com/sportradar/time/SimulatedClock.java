@@ -0,0 +1,107 @@
+package com.sportradar.time;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Clock whose time is moved forward explicitly instead of following the wall clock, for tests, feed replays and
+ * load generation. Reading the clock is a single volatile read without a system call, so simulations can run
+ * at millions of events per second while every start time stays reproducible. The clock has millisecond
+ * precision, is in UTC and is thread-safe. {@link #withZone(ZoneId)} returns a view in another time zone that
+ * shares the simulated time of this clock, so advancing either of them moves both.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public final class SimulatedClock extends Clock {
+    private final AtomicLong millis;
+    private final ZoneId zone;
+
+    /**
+     * Constructs a new SimulatedClock instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param start The initial instant of the clock.
+     * @throws IllegalArgumentException if the start instant is null.
+     */
+    public SimulatedClock(Instant start) {
+        if (start == null)
+            throw new IllegalArgumentException("Start instant cannot be null");
+
+        this.millis = new AtomicLong(start.toEpochMilli());
+        this.zone = ZoneOffset.UTC;
+    }
+
+    private SimulatedClock(AtomicLong millis, ZoneId zone) {
+        this.millis = millis;
+        this.zone = zone;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param duration The time to move the clock forward by.
+     * @throws IllegalArgumentException if the duration is null or negative.
+     */
+    public void advance(Duration duration) {
+        if (duration == null || duration.isNegative())
+            throw new IllegalArgumentException("Duration cannot be null or negative");
+
+        advanceMillis(duration.toMillis());
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param delta The number of milliseconds to move the clock forward by.
+     * @return The new time of the clock in milliseconds since the epoch.
+     * @throws IllegalArgumentException if the number of milliseconds is negative.
+     */
+    public long advanceMillis(long delta) {
+        if (delta < 0)
+            throw new IllegalArgumentException("Clock cannot move backwards");
+
+        return millis.addAndGet(delta);
+    }
+
+    @Override
+    public long millis() {
+        return millis.get();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis.get());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Returns a view of this clock in another time zone. The view shares the simulated time of this clock.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param zone The time zone of the view.
+     * @return This clock if it is already in the zone, otherwise a view of this clock in the zone.
+     * @throws IllegalArgumentException if the zone is null.
+     */
+    @Override
+    public SimulatedClock withZone(ZoneId zone) {
+        if (zone == null)
+            throw new IllegalArgumentException("Zone cannot be null");
+
+        return zone.equals(this.zone) ? this : new SimulatedClock(millis, zone);
+    }
+}
@@ -0,0 +1,141 @@
+package com.sportradar.timeline;
+
+import com.sportradar.model.MatchScore;
+
+/**
+ * Bounded timeline of the score changes of one live match, kept in a ring buffer of primitive {@code long}s.
+ * Every entry takes two words: the global sequence number of the change, which orders changes of different
+ * matches, and the change itself packed into one {@code long}:
+ * 1. Bits 0-23: the away score after the change.
+ * 2. Bits 24-47: the home score after the change.
+ * 3. Bits 48-59: the match minute of the change.
+ * 4. Bits 60-61: the ordinal of the side whose score changed.
+ * 5. Bit 62: the correction flag.
+ * Adding an entry overwrites the oldest one when the buffer is full and does not allocate. The score after the
+ * newest overwritten entry is remembered, so the score at a minute can still be answered for minutes after that
+ * entry. The current score of the match is kept in a separate field at full {@code int} range.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class GoalTimeline {
+    static final int MAX_SCORE = (1 << 24) - 1;
+    static final int MAX_MINUTE = (1 << 12) - 1;
+
+    private static final TimelineEntry.Side[] SIDES = TimelineEntry.Side.values();
+
+    final String homeTeam;
+    final String awayTeam;
+    final long startTime;
+    long score;
+    int position;
+    private final long[] words;
+    private final int capacity;
+    private long count;
+    private long baseScore;
+    private int baseMinute = -1;
+
+    GoalTimeline(String homeTeam, String awayTeam, long startTime, long startScore, int capacity) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.startTime = startTime;
+        this.score = startScore;
+        this.baseScore = startScore;
+        this.capacity = capacity;
+        this.words = new long[capacity * 2];
+    }
+
+    void add(long sequence, int minute, TimelineEntry.Side side, int homeScore, int awayScore, boolean correction) {
+        int slot = (int) (count % capacity) * 2;
+
+        if (count >= capacity) {
+            baseScore = MatchScore.pack(homeScore(words[slot + 1]), awayScore(words[slot + 1]));
+            baseMinute = minute(words[slot + 1]);
+        }
+
+        words[slot] = sequence;
+        words[slot + 1] = Math.min(awayScore, MAX_SCORE)
+            | (long) Math.min(homeScore, MAX_SCORE) << 24
+            | (long) Math.max(minute, lastMinute()) << 48
+            | (long) side.ordinal() << 60
+            | (correction ? 1L << 62 : 0);
+        score = MatchScore.pack(homeScore, awayScore);
+        count++;
+    }
+
+    int size() {
+        return (int) Math.min(count, capacity);
+    }
+
+    /**
+     * Returns the sequence number of an entry by its position counted from the newest one.
+     */
+    long sequence(int index) {
+        return words[slot(index)];
+    }
+
+    /**
+     * Returns the packed change of an entry by its position counted from the newest one.
+     */
+    long change(int index) {
+        return words[slot(index) + 1];
+    }
+
+    /**
+     * Returns the packed score at the end of a match minute.
+     *
+     * @throws IllegalStateException if changes made after the minute were overwritten.
+     */
+    long scoreAt(int minute) {
+        int newer = -1;
+        int older = size();
+
+        while (older - newer > 1) {
+            int middle = (newer + older) >>> 1;
+
+            if (minute(change(middle)) > minute)
+                newer = middle;
+            else
+                older = middle;
+        }
+
+        if (older < size())
+            return MatchScore.pack(homeScore(change(older)), awayScore(change(older)));
+
+        if (minute < baseMinute)
+            throw new IllegalStateException("Timeline no longer covers the minute");
+
+        return baseScore;
+    }
+
+    TimelineEntry entry(int index) {
+        long change = change(index);
+
+        return new TimelineEntry(homeTeam, awayTeam, minute(change), SIDES[(int) (change >>> 60) & 3],
+            homeScore(change), awayScore(change), isCorrection(change));
+    }
+
+    static boolean isCorrection(long change) {
+        return (change & 1L << 62) != 0;
+    }
+
+    private int lastMinute() {
+        return count == 0 ? 0 : minute(change(0));
+    }
+
+    private int slot(int index) {
+        return (int) ((count - 1 - index) % capacity) * 2;
+    }
+
+    private static int minute(long change) {
+        return (int) (change >>> 48) & MAX_MINUTE;
+    }
+
+    private static int homeScore(long change) {
+        return (int) (change >>> 24) & MAX_SCORE;
+    }
+
+    private static int awayScore(long change) {
+        return (int) change & MAX_SCORE;
+    }
+}
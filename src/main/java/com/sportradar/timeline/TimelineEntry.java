@@ -0,0 +1,112 @@
+package com.sportradar.timeline;
+
+import java.util.Objects;
+
+/**
+ * Immutable view of one score change of a match timeline: the match minute, the side whose score changed,
+ * the resulting score and whether the change corrected a score downwards, e.g. a goal disallowed after review.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see TimelineScoreboard
+ */
+public final class TimelineEntry {
+    /**
+     * The side of a match whose score changed.
+     */
+    public enum Side {
+        HOME,
+        AWAY,
+        /**
+         * Both scores changed in one update, e.g. a feed catching up after an outage.
+         */
+        BOTH
+    }
+
+    private final String homeTeam;
+    private final String awayTeam;
+    private final int minute;
+    private final Side side;
+    private final int homeScore;
+    private final int awayScore;
+    private final boolean correction;
+
+    /**
+     * Constructs a TimelineEntry instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam   The name of the home team.
+     * @param awayTeam   The name of the away team.
+     * @param minute     The match minute of the change, counted from the start of the match.
+     * @param side       The side whose score changed.
+     * @param homeScore  The home score after the change.
+     * @param awayScore  The away score after the change.
+     * @param correction Whether any score was lowered by the change.
+     */
+    public TimelineEntry(String homeTeam, String awayTeam, int minute, Side side, int homeScore, int awayScore,
+                         boolean correction) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.minute = minute;
+        this.side = side;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.correction = correction;
+    }
+
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+
+    public int getMinute() {
+        return minute;
+    }
+
+    public Side getSide() {
+        return side;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    public boolean isCorrection() {
+        return correction;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof TimelineEntry))
+            return false;
+
+        TimelineEntry other = (TimelineEntry) o;
+
+        return minute == other.minute && side == other.side && homeScore == other.homeScore
+            && awayScore == other.awayScore && correction == other.correction
+            && homeTeam.equals(other.homeTeam) && awayTeam.equals(other.awayTeam);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(homeTeam, awayTeam, minute, side, homeScore, awayScore, correction);
+    }
+
+    @Override
+    public String toString() {
+        return minute + "' " + homeTeam + " " + homeScore + " - " + awayTeam + " " + awayScore
+            + (correction ? " (correction)" : "");
+    }
+}
@@ -0,0 +1,286 @@
+package com.sportradar.timeline;
+
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchScore;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.ForwardingScoreboard;
+import com.sportradar.service.Scoreboard;
+import com.sportradar.service.TeamRegistry;
+
+import java.time.Clock;
+import java.util.*;
+
+/**
+ * Scoreboard decorator recording the timeline of score changes of every live match, so the history of how
+ * a match reached its score is not lost at each update. Every accepted score change appends an entry with the
+ * match minute, the side that scored, the resulting score and a correction flag to a bounded ring buffer of
+ * the match (see {@link GoalTimeline}); appending does not allocate. The timeline of a match is dropped when the
+ * match is finished. Timelines answer three queries:
+ * 1. The last score changes of a match, newest first.
+ * 2. The score of a match at the end of a match minute.
+ * 3. The latest goals across all live matches, merged lazily from the timelines of the matches.
+ * Match minutes are counted by the clock from the start time of the match. Writes are serialised and recorded
+ * only after the decorated scoreboard accepted them. All writes must go through this decorator.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+public class TimelineScoreboard extends ForwardingScoreboard {
+    /**
+     * The default number of score changes retained per match.
+     */
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private static final long MILLIS_PER_MINUTE = 60_000;
+
+    private final Object writeLock = new Object();
+    private final TeamRegistry teamRegistry;
+    private final Clock clock;
+    private final int capacity;
+    private final List<GoalTimeline> timelines = new ArrayList<>();
+    private GoalTimeline[] timelinesByHomeTeam = new GoalTimeline[16];
+    private long nextSequence;
+
+    /**
+     * Constructs a new TimelineScoreboard instance retaining {@link #DEFAULT_CAPACITY} changes per match.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The scoreboard holding the live matches. It must not hold any live matches yet.
+     * @param clock      The clock the match minutes are counted by; it must be the clock of the match factory.
+     * @throws IllegalArgumentException if scoreboard or clock is null or the scoreboard holds live matches.
+     */
+    public TimelineScoreboard(Scoreboard scoreboard, Clock clock) {
+        this(scoreboard, clock, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new TimelineScoreboard instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param scoreboard The scoreboard holding the live matches. It must not hold any live matches yet.
+     * @param clock      The clock the match minutes are counted by; it must be the clock of the match factory.
+     * @param capacity   The number of score changes retained per match.
+     * @throws IllegalArgumentException if scoreboard or clock is null, the scoreboard holds live matches or the
+     *                                  capacity is not positive.
+     */
+    public TimelineScoreboard(Scoreboard scoreboard, Clock clock, int capacity) {
+        super(scoreboard);
+
+        if (clock == null)
+            throw new IllegalArgumentException("Clock cannot be null");
+
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be positive");
+
+        if (!scoreboard.getTopN(1).isEmpty())
+            throw new IllegalArgumentException("Scoreboard cannot hold live matches");
+
+        this.teamRegistry = scoreboard.getTeamRegistry();
+        this.clock = clock;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam, int startTimeShift) {
+        synchronized (writeLock) {
+            scoreboard.startMatch(homeTeam, awayTeam, startTimeShift);
+
+            Match match = scoreboard.findMatch(homeTeam, awayTeam).orElseThrow();
+            int homeTeamId = teamRegistry.idOf(match.getHomeTeam());
+            GoalTimeline timeline = new GoalTimeline(match.getHomeTeam(), match.getAwayTeam(), match.getStartTime(),
+                match.getPackedScore(), capacity);
+
+            if (homeTeamId >= timelinesByHomeTeam.length)
+                timelinesByHomeTeam = Arrays.copyOf(timelinesByHomeTeam, Math.max(timelinesByHomeTeam.length * 2, homeTeamId + 1));
+
+            timelinesByHomeTeam[homeTeamId] = timeline;
+            timeline.position = timelines.size();
+            timelines.add(timeline);
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        synchronized (writeLock) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            record(timelineOf(homeTeam), homeScore, awayScore);
+        }
+    }
+
+    @Override
+    public void applyBatch(Collection<ScoreUpdate> updates) {
+        synchronized (writeLock) {
+            scoreboard.applyBatch(updates);
+
+            for (ScoreUpdate update : updates)
+                record(timelineOf(update.getHomeTeam()), update.getHomeScore(), update.getAwayScore());
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            scoreboard.finishMatch(homeTeam, awayTeam);
+
+            GoalTimeline timeline = timelineOf(homeTeam);
+            GoalTimeline last = timelines.remove(timelines.size() - 1);
+
+            if (last != timeline) {
+                timelines.set(timeline.position, last);
+                last.position = timeline.position;
+            }
+
+            timelinesByHomeTeam[teamRegistry.idOf(homeTeam)] = null;
+        }
+    }
+
+    @Override
+    public Optional<Match> findMatch(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.findMatch(homeTeam, awayTeam);
+        }
+    }
+
+    @Override
+    public List<Match> getSummary() {
+        synchronized (writeLock) {
+            return scoreboard.getSummary();
+        }
+    }
+
+    @Override
+    public List<Match> getTopN(int n) {
+        synchronized (writeLock) {
+            return scoreboard.getTopN(n);
+        }
+    }
+
+    @Override
+    public int rankOf(String homeTeam, String awayTeam) {
+        synchronized (writeLock) {
+            return scoreboard.rankOf(homeTeam, awayTeam);
+        }
+    }
+
+    /**
+     * Retrieves the last score changes of a live match, newest first. Corrections are included.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @param n        The maximum number of changes to return.
+     * @return A new list with at most {@code n} of the retained changes of the match.
+     * @throws NoSuchElementException if the match is not found.
+     * @throws IllegalArgumentException if any team name is null or {@code n} is negative.
+     */
+    public List<TimelineEntry> getLastEvents(String homeTeam, String awayTeam, int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("n cannot be negative");
+
+        synchronized (writeLock) {
+            GoalTimeline timeline = liveTimelineOf(homeTeam, awayTeam);
+            List<TimelineEntry> entries = new ArrayList<>(Math.min(n, timeline.size()));
+
+            for (int index = 0; index < timeline.size() && index < n; index++)
+                entries.add(timeline.entry(index));
+
+            return entries;
+        }
+    }
+
+    /**
+     * Returns the score of a live match at the end of a match minute, i.e. after all changes recorded in or
+     * before that minute.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param homeTeam The name of the home team in the match.
+     * @param awayTeam The name of the away team in the match.
+     * @param minute   The match minute.
+     * @return The packed score of the match, see {@link MatchScore}.
+     * @throws NoSuchElementException if the match is not found.
+     * @throws IllegalArgumentException if any team name is null or the minute is negative.
+     * @throws IllegalStateException if changes made after the minute are no longer retained.
+     */
+    public long getScoreAt(String homeTeam, String awayTeam, int minute) {
+        if (minute < 0)
+            throw new IllegalArgumentException("Minute cannot be negative");
+
+        synchronized (writeLock) {
+            return liveTimelineOf(homeTeam, awayTeam).scoreAt(minute);
+        }
+    }
+
+    /**
+     * Retrieves the latest goals across all live matches, newest first. Corrections are skipped. The timelines
+     * of the matches are merged lazily, so only about {@code n} entries are visited beyond one entry per match.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param n The maximum number of goals to return.
+     * @return A new list with at most {@code n} of the retained goals of the live matches.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public List<TimelineEntry> getLatestGoals(int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("n cannot be negative");
+
+        List<TimelineEntry> goals = new ArrayList<>();
+
+        synchronized (writeLock) {
+            PriorityQueue<int[]> cursors = new PriorityQueue<>(Math.max(1, timelines.size()),
+                Comparator.comparingLong((int[] cursor) -> timelines.get(cursor[0]).sequence(cursor[1])).reversed());
+
+            for (int position = 0; position < timelines.size(); position++) {
+                if (timelines.get(position).size() > 0)
+                    cursors.add(new int[] {position, 0});
+            }
+
+            while (goals.size() < n && !cursors.isEmpty()) {
+                int[] cursor = cursors.poll();
+                GoalTimeline timeline = timelines.get(cursor[0]);
+
+                if (!GoalTimeline.isCorrection(timeline.change(cursor[1])))
+                    goals.add(timeline.entry(cursor[1]));
+
+                if (++cursor[1] < timeline.size())
+                    cursors.add(cursor);
+            }
+        }
+
+        return goals;
+    }
+
+    private void record(GoalTimeline timeline, int homeScore, int awayScore) {
+        int oldHomeScore = MatchScore.homeScore(timeline.score);
+        int oldAwayScore = MatchScore.awayScore(timeline.score);
+
+        if (homeScore == oldHomeScore && awayScore == oldAwayScore)
+            return;
+
+        TimelineEntry.Side side = homeScore == oldHomeScore ? TimelineEntry.Side.AWAY
+            : awayScore == oldAwayScore ? TimelineEntry.Side.HOME : TimelineEntry.Side.BOTH;
+        long minute = Math.max(0, clock.millis() - timeline.startTime) / MILLIS_PER_MINUTE;
+
+        timeline.add(nextSequence++, (int) Math.min(minute, GoalTimeline.MAX_MINUTE), side, homeScore, awayScore,
+            homeScore < oldHomeScore || awayScore < oldAwayScore);
+    }
+
+    private GoalTimeline liveTimelineOf(String homeTeam, String awayTeam) {
+        if (scoreboard.findMatch(homeTeam, awayTeam).isEmpty())
+            throw new NoSuchElementException("Match not found");
+
+        return timelineOf(homeTeam);
+    }
+
+    /**
+     * Returns the timeline of a live match. A team plays one live match at a time, so the match is found
+     * by its home team alone.
+     */
+    private GoalTimeline timelineOf(String homeTeam) {
+        return timelinesByHomeTeam[teamRegistry.idOf(homeTeam)];
+    }
+}
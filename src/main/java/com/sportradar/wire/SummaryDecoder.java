@@ -0,0 +1,347 @@
+package com.sportradar.wire;
+
+import com.sportradar.model.MatchView;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Consumer side of the binary summary frames written by {@link SummaryEncoder}. The decoder holds the board of
+ * the last applied frame in primitive columns in summary order, and team names in a dictionary indexed by team
+ * ID. Applying a frame reads the matches straight from the buffer into the columns; no {@link MatchView} or other
+ * per-match object is created unless a caller asks for one with {@link #getMatch(int)}. A delta frame re-orders
+ * the board in a single merge pass of the unchanged matches with the changed ones, without re-sorting; the
+ * changed matches find their base rank by binary search over their sorted fixture keys, not by scanning the board.
+ * This class is not thread-safe.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see SummaryEncoder
+ */
+public class SummaryDecoder {
+    private String[] teams = new String[16];
+    private long version = -1;
+    private int size;
+    private int[] homeTeamIds = new int[16];
+    private int[] awayTeamIds = new int[16];
+    private int[] homeScores = new int[16];
+    private int[] awayScores = new int[16];
+    private long[] startTimes = new long[16];
+
+    private int[] nextHomeTeamIds = new int[16];
+    private int[] nextAwayTeamIds = new int[16];
+    private int[] nextHomeScores = new int[16];
+    private int[] nextAwayScores = new int[16];
+    private long[] nextStartTimes = new long[16];
+    private long[] removedFixtures = new long[16];
+    private long[] changedFixtures = new long[16];
+    private int[] changedBaseRanks = new int[16];
+
+    /**
+     * Applies a full or delta frame read from the position of the buffer; the buffer is advanced to the end of
+     * the frame. A delta frame must be based on the version of the board held by the decoder.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param frame The buffer holding the frame.
+     * @return The version of the board after the frame was applied.
+     * @throws IllegalArgumentException if the frame is null or malformed.
+     * @throws IllegalStateException if a delta frame is not based on the version held by the decoder.
+     */
+    public long apply(ByteBuffer frame) {
+        if (frame == null)
+            throw new IllegalArgumentException("Frame cannot be null");
+
+        try {
+            if (frame.getShort() != WireFormat.MAGIC || frame.get() != WireFormat.FORMAT_VERSION)
+                throw new IllegalArgumentException("Not a summary frame");
+
+            byte frameType = frame.get();
+            long frameVersion = WireFormat.getVarlong(frame);
+
+            if (frameType == WireFormat.FULL_FRAME)
+                applyFull(frame);
+            else if (frameType == WireFormat.DELTA_FRAME)
+                applyDelta(frame);
+            else
+                throw new IllegalArgumentException("Unknown frame type: " + frameType);
+
+            version = frameVersion;
+
+            return version;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed frame", e);
+        }
+    }
+
+    /**
+     * @return The version of the board held by the decoder, or -1 if no frame was applied yet.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getHomeTeam(int rank) {
+        return teams[homeTeamIds[checkRank(rank)]];
+    }
+
+    public String getAwayTeam(int rank) {
+        return teams[awayTeamIds[checkRank(rank)]];
+    }
+
+    public int getHomeTeamId(int rank) {
+        return homeTeamIds[checkRank(rank)];
+    }
+
+    public int getAwayTeamId(int rank) {
+        return awayTeamIds[checkRank(rank)];
+    }
+
+    public int getHomeScore(int rank) {
+        return homeScores[checkRank(rank)];
+    }
+
+    public int getAwayScore(int rank) {
+        return awayScores[checkRank(rank)];
+    }
+
+    public long getStartTime(int rank) {
+        return startTimes[checkRank(rank)];
+    }
+
+    /**
+     * Creates a view of the match at a rank of the summary.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param rank The rank of the match, starting at 0.
+     * @return A new view of the match.
+     * @throws IndexOutOfBoundsException if there is no match at the rank.
+     */
+    public MatchView getMatch(int rank) {
+        return new MatchView(getHomeTeam(rank), getAwayTeam(rank), getHomeScore(rank), getAwayScore(rank), getStartTime(rank));
+    }
+
+    private void applyFull(ByteBuffer frame) {
+        readDictionary(frame);
+
+        int matchCount = WireFormat.getVarint(frame);
+
+        ensureCapacity(matchCount);
+
+        for (int rank = 0; rank < matchCount; rank++) {
+            nextHomeTeamIds[rank] = team(WireFormat.getVarint(frame));
+            nextAwayTeamIds[rank] = team(WireFormat.getVarint(frame));
+            nextHomeScores[rank] = WireFormat.getVarint(frame);
+            nextAwayScores[rank] = WireFormat.getVarint(frame);
+            nextStartTimes[rank] = WireFormat.getVarlong(frame);
+        }
+
+        swap(matchCount);
+    }
+
+    private void applyDelta(ByteBuffer frame) {
+        long baseVersion = WireFormat.getVarlong(frame);
+
+        if (baseVersion != version)
+            throw new IllegalStateException("Delta frame is based on version " + baseVersion + ", decoder holds version " + version);
+
+        readDictionary(frame);
+
+        int removedCount = WireFormat.getVarint(frame);
+
+        if (removedFixtures.length < removedCount)
+            removedFixtures = new long[removedCount];
+
+        for (int index = 0; index < removedCount; index++)
+            removedFixtures[index] = WireFormat.fixture(WireFormat.getVarint(frame), WireFormat.getVarint(frame));
+
+        Arrays.sort(removedFixtures, 0, removedCount);
+
+        int changeCount = WireFormat.getVarint(frame);
+        int changesStart = frame.position();
+
+        if (changedFixtures.length < changeCount) {
+            changedFixtures = new long[changeCount];
+            changedBaseRanks = new int[changeCount];
+        }
+
+        // The first pass collects the changed matches, which drop out of the unchanged order like removed ones.
+        for (int index = 0; index < changeCount; index++) {
+            byte flags = frame.get();
+
+            changedFixtures[index] = WireFormat.fixture(WireFormat.getVarint(frame), WireFormat.getVarint(frame));
+            WireFormat.getVarint(frame);
+            WireFormat.getVarint(frame);
+            WireFormat.getVarint(frame);
+
+            if ((flags & WireFormat.NEW_MATCH) != 0)
+                WireFormat.getVarlong(frame);
+        }
+
+        Arrays.sort(changedFixtures, 0, changeCount);
+        Arrays.fill(changedBaseRanks, 0, changeCount, -1);
+
+        int unchangedCount = 0;
+
+        // The sorted changed fixtures index the base ranks of the changed matches, which keep their start times.
+        for (int rank = 0; rank < size; rank++) {
+            long fixture = WireFormat.fixture(homeTeamIds[rank], awayTeamIds[rank]);
+            int changed = Arrays.binarySearch(changedFixtures, 0, changeCount, fixture);
+
+            if (changed >= 0)
+                changedBaseRanks[changed] = rank;
+            else if (Arrays.binarySearch(removedFixtures, 0, removedCount, fixture) < 0)
+                unchangedCount++;
+        }
+
+        int newSize = unchangedCount + changeCount;
+        int unchangedRank = 0;
+
+        ensureCapacity(newSize);
+        frame.position(changesStart);
+
+        // The second pass merges the changed matches at their new ranks into the unchanged matches.
+        for (int index = 0, rank = 0; rank < newSize; rank++) {
+            if (index < changeCount && peekRank(frame) == rank) {
+                byte flags = frame.get();
+
+                nextHomeTeamIds[rank] = team(WireFormat.getVarint(frame));
+                nextAwayTeamIds[rank] = team(WireFormat.getVarint(frame));
+                nextHomeScores[rank] = WireFormat.getVarint(frame);
+                nextAwayScores[rank] = WireFormat.getVarint(frame);
+                WireFormat.getVarint(frame);
+
+                if ((flags & WireFormat.NEW_MATCH) != 0) {
+                    nextStartTimes[rank] = WireFormat.getVarlong(frame);
+                } else {
+                    long fixture = WireFormat.fixture(nextHomeTeamIds[rank], nextAwayTeamIds[rank]);
+                    int baseRank = changedBaseRanks[Arrays.binarySearch(changedFixtures, 0, changeCount, fixture)];
+
+                    if (baseRank < 0)
+                        throw new IllegalArgumentException("Malformed frame: changed match is not on the board");
+
+                    nextStartTimes[rank] = startTimes[baseRank];
+                }
+
+                index++;
+            } else {
+                unchangedRank = nextUnchanged(unchangedRank, removedCount, changeCount);
+
+                if (unchangedRank == size)
+                    throw new IllegalArgumentException("Malformed frame: ranks out of range");
+
+                nextHomeTeamIds[rank] = homeTeamIds[unchangedRank];
+                nextAwayTeamIds[rank] = awayTeamIds[unchangedRank];
+                nextHomeScores[rank] = homeScores[unchangedRank];
+                nextAwayScores[rank] = awayScores[unchangedRank];
+                nextStartTimes[rank] = startTimes[unchangedRank];
+                unchangedRank++;
+            }
+        }
+
+        swap(newSize);
+    }
+
+    private int nextUnchanged(int rank, int removedCount, int changeCount) {
+        while (rank < size) {
+            long fixture = WireFormat.fixture(homeTeamIds[rank], awayTeamIds[rank]);
+
+            if (Arrays.binarySearch(removedFixtures, 0, removedCount, fixture) < 0
+                    && Arrays.binarySearch(changedFixtures, 0, changeCount, fixture) < 0)
+                return rank;
+
+            rank++;
+        }
+
+        return rank;
+    }
+
+    /**
+     * Reads the rank of the change at the position of the frame without advancing it.
+     */
+    private static int peekRank(ByteBuffer frame) {
+        int position = frame.position();
+
+        frame.get();
+
+        for (int field = 0; field < 4; field++)
+            WireFormat.getVarint(frame);
+
+        int rank = WireFormat.getVarint(frame);
+
+        frame.position(position);
+
+        return rank;
+    }
+
+    private void readDictionary(ByteBuffer frame) {
+        int teamCount = WireFormat.getVarint(frame);
+
+        for (int index = 0; index < teamCount; index++) {
+            int teamId = WireFormat.getVarint(frame);
+
+            if (teamId >= teams.length)
+                teams = Arrays.copyOf(teams, Math.max(teamId + 1, teams.length * 2));
+
+            teams[teamId] = WireFormat.getName(frame);
+        }
+    }
+
+    private int team(int teamId) {
+        if (teamId >= teams.length || teams[teamId] == null)
+            throw new IllegalArgumentException("Malformed frame: unknown team ID " + teamId);
+
+        return teamId;
+    }
+
+    private int checkRank(int rank) {
+        if (rank < 0 || rank >= size)
+            throw new IndexOutOfBoundsException("No match at rank " + rank);
+
+        return rank;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (nextHomeTeamIds.length >= capacity)
+            return;
+
+        int length = Math.max(capacity, nextHomeTeamIds.length * 2);
+
+        nextHomeTeamIds = new int[length];
+        nextAwayTeamIds = new int[length];
+        nextHomeScores = new int[length];
+        nextAwayScores = new int[length];
+        nextStartTimes = new long[length];
+    }
+
+    private void swap(int newSize) {
+        int[] ids = homeTeamIds;
+        homeTeamIds = nextHomeTeamIds;
+        nextHomeTeamIds = ids;
+
+        ids = awayTeamIds;
+        awayTeamIds = nextAwayTeamIds;
+        nextAwayTeamIds = ids;
+
+        int[] scores = homeScores;
+        homeScores = nextHomeScores;
+        nextHomeScores = scores;
+
+        scores = awayScores;
+        awayScores = nextAwayScores;
+        nextAwayScores = scores;
+
+        long[] times = startTimes;
+        startTimes = nextStartTimes;
+        nextStartTimes = times;
+
+        size = newSize;
+    }
+}
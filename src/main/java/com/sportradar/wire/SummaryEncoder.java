@@ -0,0 +1,283 @@
+package com.sportradar.wire;
+
+import com.sportradar.model.MatchScore;
+import com.sportradar.model.MatchView;
+import com.sportradar.model.ScoreboardSnapshot;
+import com.sportradar.service.SnapshotScoreboard;
+import com.sportradar.service.TeamRegistry;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encodes scoreboard snapshots into compact binary frames written directly into a caller supplied, reusable
+ * {@link ByteBuffer} (see {@link WireFormat} for the layout). A full frame holds the whole board; a delta frame
+ * holds only the changes between two snapshot versions, typically a few bytes for a single score update.
+ * Frames are self-contained given the board state of their base version, so one encoded frame can be sent to
+ * any number of consumers. Team IDs are looked up in the team registry without registering teams, so encoding
+ * never changes the registry.
+ * A delta frame is built in scratch arrays reused between calls; as a team plays one live match at a time,
+ * the base match of a fixture is found by its home team alone, without a per-call map. The encode methods are
+ * therefore synchronized. This class is thread-safe.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ *
+ * @see SummaryDecoder
+ * @see SnapshotScoreboard
+ */
+public class SummaryEncoder {
+    private final TeamRegistry teamRegistry;
+
+    private int[] baseRanksByHomeTeam = new int[0];
+    private int[] baseHomeTeamIds = new int[16];
+    private int[] baseAwayTeamIds = new int[16];
+    private boolean[] baseLive = new boolean[16];
+    private int[] homeTeamIds = new int[16];
+    private int[] awayTeamIds = new int[16];
+    private int[] baseRanks = new int[16];
+
+    /**
+     * Constructs a new SummaryEncoder instance.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param teamRegistry The registry holding the team IDs written to the frames, typically the one of the
+     *                     scoreboard the snapshots are taken from.
+     * @throws IllegalArgumentException if the team registry is null.
+     */
+    public SummaryEncoder(TeamRegistry teamRegistry) {
+        if (teamRegistry == null)
+            throw new IllegalArgumentException("Team registry cannot be null");
+
+        this.teamRegistry = teamRegistry;
+    }
+
+    /**
+     * Encodes a full frame of a snapshot at the position of the buffer.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param snapshot The snapshot to encode.
+     * @param buffer   The buffer to write the frame to.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException if the snapshot or buffer is null, or a team is not in the team registry.
+     * @throws BufferOverflowException if the frame does not fit into the remaining bytes of the buffer.
+     */
+    public synchronized int encodeFull(ScoreboardSnapshot snapshot, ByteBuffer buffer) {
+        if (snapshot == null || buffer == null)
+            throw new IllegalArgumentException("Snapshot and buffer cannot be null");
+
+        int start = buffer.position();
+        List<MatchView> matches = snapshot.getMatches();
+
+        ensureCapacity(matches.size());
+
+        for (int rank = 0; rank < matches.size(); rank++) {
+            homeTeamIds[rank] = teamId(matches.get(rank).getHomeTeam());
+            awayTeamIds[rank] = teamId(matches.get(rank).getAwayTeam());
+        }
+
+        putHeader(buffer, WireFormat.FULL_FRAME, snapshot.getVersion());
+        WireFormat.putVarint(buffer, matches.size() * 2);
+
+        for (int rank = 0; rank < matches.size(); rank++) {
+            WireFormat.putTeam(buffer, homeTeamIds[rank], matches.get(rank).getHomeTeam());
+            WireFormat.putTeam(buffer, awayTeamIds[rank], matches.get(rank).getAwayTeam());
+        }
+
+        WireFormat.putVarint(buffer, matches.size());
+
+        for (int rank = 0; rank < matches.size(); rank++) {
+            MatchView match = matches.get(rank);
+
+            WireFormat.putVarint(buffer, homeTeamIds[rank]);
+            WireFormat.putVarint(buffer, awayTeamIds[rank]);
+            WireFormat.putVarint(buffer, match.getHomeScore());
+            WireFormat.putVarint(buffer, match.getAwayScore());
+            WireFormat.putVarlong(buffer, match.getStartTime());
+        }
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Encodes a delta frame from a base snapshot to a newer snapshot at the position of the buffer. Matches are
+     * identified by their teams; a match whose start time changed was finished and started again, and is
+     * encoded as removed and new.
+     *
+     * @author Anatolii Stepanchuk
+     *
+     * @param base     The snapshot the consumers of the frame already hold.
+     * @param snapshot The snapshot to encode.
+     * @param buffer   The buffer to write the frame to.
+     * @return The number of bytes written.
+     * @throws IllegalArgumentException if any argument is null, or a team is not in the team registry.
+     * @throws BufferOverflowException if the frame does not fit into the remaining bytes of the buffer.
+     */
+    public synchronized int encodeDelta(ScoreboardSnapshot base, ScoreboardSnapshot snapshot, ByteBuffer buffer) {
+        if (base == null || snapshot == null || buffer == null)
+            throw new IllegalArgumentException("Snapshots and buffer cannot be null");
+
+        int start = buffer.position();
+        List<MatchView> baseMatches = base.getMatches();
+        List<MatchView> matches = snapshot.getMatches();
+
+        ensureCapacity(Math.max(baseMatches.size(), matches.size()));
+
+        try {
+            indexBase(baseMatches);
+
+            int newCount = 0;
+            int changeCount = 0;
+
+            for (int rank = 0; rank < matches.size(); rank++) {
+                MatchView match = matches.get(rank);
+
+                homeTeamIds[rank] = teamId(match.getHomeTeam());
+                awayTeamIds[rank] = teamId(match.getAwayTeam());
+
+                int baseRank = baseRankOf(homeTeamIds[rank], awayTeamIds[rank]);
+
+                if (baseRank >= 0 && baseMatches.get(baseRank).getStartTime() != match.getStartTime())
+                    baseRank = -1;
+
+                baseRanks[rank] = baseRank;
+
+                if (baseRank < 0) {
+                    newCount++;
+                    changeCount++;
+                } else {
+                    MatchView baseMatch = baseMatches.get(baseRank);
+
+                    baseLive[baseRank] = true;
+
+                    if (!match.hasScore(MatchScore.pack(baseMatch.getHomeScore(), baseMatch.getAwayScore())))
+                        changeCount++;
+                }
+            }
+
+            putHeader(buffer, WireFormat.DELTA_FRAME, snapshot.getVersion());
+            WireFormat.putVarlong(buffer, base.getVersion());
+            WireFormat.putVarint(buffer, newCount * 2);
+
+            for (int rank = 0; rank < matches.size(); rank++) {
+                if (baseRanks[rank] < 0) {
+                    WireFormat.putTeam(buffer, homeTeamIds[rank], matches.get(rank).getHomeTeam());
+                    WireFormat.putTeam(buffer, awayTeamIds[rank], matches.get(rank).getAwayTeam());
+                }
+            }
+
+            WireFormat.putVarint(buffer, baseMatches.size() - (matches.size() - newCount));
+
+            for (int baseRank = 0; baseRank < baseMatches.size(); baseRank++) {
+                if (!baseLive[baseRank]) {
+                    WireFormat.putVarint(buffer, baseHomeTeamIds[baseRank]);
+                    WireFormat.putVarint(buffer, baseAwayTeamIds[baseRank]);
+                }
+            }
+
+            WireFormat.putVarint(buffer, changeCount);
+
+            for (int rank = 0; rank < matches.size(); rank++) {
+                MatchView match = matches.get(rank);
+                boolean isNew = baseRanks[rank] < 0;
+
+                if (!isNew) {
+                    MatchView baseMatch = baseMatches.get(baseRanks[rank]);
+
+                    if (match.hasScore(MatchScore.pack(baseMatch.getHomeScore(), baseMatch.getAwayScore())))
+                        continue;
+                }
+
+                buffer.put(isNew ? WireFormat.NEW_MATCH : 0);
+                WireFormat.putVarint(buffer, homeTeamIds[rank]);
+                WireFormat.putVarint(buffer, awayTeamIds[rank]);
+                WireFormat.putVarint(buffer, match.getHomeScore());
+                WireFormat.putVarint(buffer, match.getAwayScore());
+                WireFormat.putVarint(buffer, rank);
+
+                if (isNew)
+                    WireFormat.putVarlong(buffer, match.getStartTime());
+            }
+        } finally {
+            clearBase(baseMatches.size());
+        }
+
+        return buffer.position() - start;
+    }
+
+    /**
+     * Resolves the team IDs of the base matches and indexes the matches by home team.
+     */
+    private void indexBase(List<MatchView> baseMatches) {
+        for (int baseRank = 0; baseRank < baseMatches.size(); baseRank++) {
+            int homeTeamId = teamId(baseMatches.get(baseRank).getHomeTeam());
+
+            if (homeTeamId >= baseRanksByHomeTeam.length) {
+                int length = baseRanksByHomeTeam.length;
+
+                baseRanksByHomeTeam = Arrays.copyOf(baseRanksByHomeTeam, Math.max(homeTeamId + 1, length * 2));
+                Arrays.fill(baseRanksByHomeTeam, length, baseRanksByHomeTeam.length, -1);
+            }
+
+            baseHomeTeamIds[baseRank] = homeTeamId;
+            baseAwayTeamIds[baseRank] = teamId(baseMatches.get(baseRank).getAwayTeam());
+            baseRanksByHomeTeam[homeTeamId] = baseRank;
+        }
+    }
+
+    private int baseRankOf(int homeTeamId, int awayTeamId) {
+        if (homeTeamId >= baseRanksByHomeTeam.length)
+            return -1;
+
+        int baseRank = baseRanksByHomeTeam[homeTeamId];
+
+        return baseRank >= 0 && baseAwayTeamIds[baseRank] == awayTeamId ? baseRank : -1;
+    }
+
+    /**
+     * Resets the scratch entries of the base matches, touching only the home teams the base indexed.
+     */
+    private void clearBase(int baseSize) {
+        for (int baseRank = 0; baseRank < baseSize; baseRank++) {
+            int homeTeamId = baseHomeTeamIds[baseRank];
+
+            // Entries past a team that failed to resolve may be stale; resetting them is harmless.
+            if (homeTeamId >= 0 && homeTeamId < baseRanksByHomeTeam.length)
+                baseRanksByHomeTeam[homeTeamId] = -1;
+
+            baseLive[baseRank] = false;
+        }
+    }
+
+    private int teamId(String team) {
+        int teamId = teamRegistry.idOf(team);
+
+        if (teamId == TeamRegistry.NO_TEAM)
+            throw new IllegalArgumentException("Team is not registered: " + team);
+
+        return teamId;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (homeTeamIds.length >= capacity)
+            return;
+
+        int length = Math.max(capacity, homeTeamIds.length * 2);
+
+        baseHomeTeamIds = new int[length];
+        baseAwayTeamIds = new int[length];
+        baseLive = new boolean[length];
+        homeTeamIds = new int[length];
+        awayTeamIds = new int[length];
+        baseRanks = new int[length];
+    }
+
+    private static void putHeader(ByteBuffer buffer, byte frameType, long version) {
+        buffer.putShort(WireFormat.MAGIC).put(WireFormat.FORMAT_VERSION).put(frameType);
+        WireFormat.putVarlong(buffer, version);
+    }
+}
@@ -0,0 +1,91 @@
+package com.sportradar.wire;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Layout of the binary summary frames and the variable-length integer coding they use.
+ * Every frame starts with a header: the magic number {@code 0x5342} (two bytes), the format version (one byte),
+ * the frame type (one byte) and the snapshot version (varlong); a delta frame adds the version of its base
+ * snapshot (varlong). Teams are referenced by team ID; a frame carries a dictionary entry, team ID (varint),
+ * UTF-8 length (varint) and UTF-8 name, for every team it introduces:
+ * 1. A full frame holds the dictionary of all teams on the board and every match in summary order as home
+ *    team ID, away team ID, home score, away score (varints) and start time (varlong).
+ * 2. A delta frame holds the dictionary of the teams of its new matches, the removed matches as home and away
+ *    team IDs, and the new or changed matches in summary order as a flags byte, home team ID, away team ID,
+ *    home score, away score, new rank (varints) and, for new matches only, the start time (varlong).
+ *    Matches whose score did not change keep their relative order, so the new ranks of the changed matches are
+ *    enough to restore the summary order.
+ * Varints are unsigned LEB128: seven bits per byte, least significant group first, the high bit set on all
+ * bytes but the last.
+ *
+ * @author Anatolii Stepanchuk
+ * @version 1.0
+ */
+final class WireFormat {
+    static final short MAGIC = 0x5342;
+    static final byte FORMAT_VERSION = 1;
+    static final byte FULL_FRAME = 1;
+    static final byte DELTA_FRAME = 2;
+    static final byte NEW_MATCH = 1;
+
+    private WireFormat() {
+    }
+
+    static void putVarint(ByteBuffer buffer, int value) {
+        putVarlong(buffer, value & 0xFFFFFFFFL);
+    }
+
+    static void putVarlong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+    }
+
+    static int getVarint(ByteBuffer buffer) {
+        long value = getVarlong(buffer);
+
+        if (value >>> 32 != 0)
+            throw new IllegalArgumentException("Malformed frame: varint out of range");
+
+        return (int) value;
+    }
+
+    static long getVarlong(ByteBuffer buffer) {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+
+            value |= (long) (b & 0x7F) << shift;
+
+            if (b >= 0)
+                return value;
+        }
+
+        throw new IllegalArgumentException("Malformed frame: varint too long");
+    }
+
+    static void putTeam(ByteBuffer buffer, int teamId, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+
+        putVarint(buffer, teamId);
+        putVarint(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    static String getName(ByteBuffer buffer) {
+        byte[] bytes = new byte[getVarint(buffer)];
+
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static long fixture(int homeTeamId, int awayTeamId) {
+        return ((long) homeTeamId << 32) | (awayTeamId & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,49 @@
+package com.sportradar.archive;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.model.Match;
+import com.sportradar.service.ScoreboardImpl;
+import com.sportradar.service.TeamRegistry;
+import com.sportradar.time.SimulatedClock;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Unit tests for an ArchivingScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see ArchivingScoreboard
+ */
+class ArchivingScoreboardTest {
+    private static final MatchFactory SHIFT_AS_START_TIME =
+        (homeTeam, awayTeam, startTimeShift) -> new Match(homeTeam, awayTeam, 0, 0, startTimeShift);
+
+    /**
+     * Tests the {@code finishMatch} method of the {@link ArchivingScoreboard} class. Verifies that a finished
+     * match leaves the live board and its final result, start time and finish time are archived, and that
+     * finishing an unknown match archives nothing.
+     */
+    @Test
+    void testFinishMatchArchivesFinalResult() {
+        TeamRegistry teamRegistry = new TeamRegistry();
+        SimulatedClock clock = new SimulatedClock(Instant.parse("2026-06-11T12:00:00Z"));
+        MatchArchive archive = new MatchArchive(teamRegistry, RetentionPolicy.unbounded(), clock);
+        ArchivingScoreboard scoreboard = new ArchivingScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME, teamRegistry), archive);
+
+        scoreboard.startMatch("Mexico", "Canada", 7);
+        scoreboard.startMatch("Spain", "Brazil", 8);
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.finishMatch("Mexico", "Canada");
+
+        assertEquals(1, scoreboard.getSummary().size());
+        assertThrows(NoSuchElementException.class, () -> scoreboard.finishMatch("Mexico", "Canada"));
+        assertEquals(List.of(new ArchivedMatch("Mexico", "Canada", 0, 5, 7, clock.millis())), archive.findByTeam("Canada"));
+        assertEquals(1, scoreboard.getArchive().findHighestScoring(10, Instant.EPOCH).size());
+        assertThrows(IllegalArgumentException.class, () -> new ArchivingScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME), null));
+    }
+}
@@ -0,0 +1,138 @@
+package com.sportradar.archive;
+
+import com.sportradar.service.TeamRegistry;
+import com.sportradar.time.SimulatedClock;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for a MatchArchive class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see MatchArchive
+ */
+class MatchArchiveTest {
+    private static final Instant START = Instant.parse("2026-06-11T12:00:00Z");
+
+    /**
+     * Tests the queries of the {@link MatchArchive} class. Verifies that the matches of a team are found by
+     * name or alias, newest first, and that the highest-scoring matches are ordered by total score and then by
+     * finish time, limited to the requested number and to matches finished since the given instant.
+     */
+    @Test
+    void testFindByTeamAndHighestScoring() {
+        SimulatedClock clock = new SimulatedClock(START);
+        TeamRegistry teamRegistry = new TeamRegistry();
+        MatchArchive archive = new MatchArchive(teamRegistry, RetentionPolicy.unbounded(), clock);
+
+        teamRegistry.registerAlias("Ivory Coast", "Côte d'Ivoire");
+        archive.append("Mexico", "Canada", 0, 5, 1);
+        clock.advance(Duration.ofHours(2));
+        archive.append("Spain", "Mexico", 10, 2, 2);
+        archive.append("Côte d'Ivoire", "Ghana", 3, 2, 3);
+        archive.append("Germany", "France", 2, 2, 4);
+
+        assertEquals(List.of("Spain 10 - Mexico 2", "Mexico 0 - Canada 5"), describe(archive.findByTeam("mexico")));
+        assertEquals(List.of("Côte d'Ivoire 3 - Ghana 2"), describe(archive.findByTeam("Ivory Coast")));
+        assertTrue(archive.findByTeam("Atlantis").isEmpty());
+        assertEquals(List.of("Spain 10 - Mexico 2", "Côte d'Ivoire 3 - Ghana 2", "Mexico 0 - Canada 5"),
+            describe(archive.findHighestScoring(3, Instant.EPOCH)));
+        assertEquals(List.of("Spain 10 - Mexico 2", "Côte d'Ivoire 3 - Ghana 2", "Germany 2 - France 2"),
+            describe(archive.findHighestScoring(10, clock.instant().minus(Duration.ofHours(1)))));
+        assertEquals(4, archive.size());
+        assertEquals(4L * MatchArchive.BYTES_PER_MATCH, archive.getEstimatedBytes());
+        assertThrows(IllegalArgumentException.class, () -> archive.findHighestScoring(-1, Instant.EPOCH));
+        assertThrows(IllegalArgumentException.class, () -> archive.append("Mexico", "MEXICO", 1, 1, 5));
+        assertThrows(IllegalArgumentException.class, () -> archive.append("Mexico", "Canada", -1, 1, 5));
+    }
+
+    /**
+     * Tests the retention by count and bytes of the {@link MatchArchive} class. Verifies that the oldest matches
+     * are evicted from the columns and from both secondary indexes, including after the columns grew.
+     */
+    @Test
+    void testEvictsOldestMatchesByCountAndBytes() {
+        MatchArchive byCount = new MatchArchive(new TeamRegistry(), RetentionPolicy.unbounded().withMaxMatches(20), new SimulatedClock(START));
+        MatchArchive byBytes = new MatchArchive(new TeamRegistry(),
+            RetentionPolicy.unbounded().withMaxBytes(20L * MatchArchive.BYTES_PER_MATCH), new SimulatedClock(START));
+
+        for (int match = 0; match < 100; match++) {
+            byCount.append("Team-" + match % 7, "Rival-" + match, match % 5, 0, match);
+            byBytes.append("Team-" + match % 7, "Rival-" + match, match % 5, 0, match);
+        }
+
+        for (MatchArchive archive : List.of(byCount, byBytes)) {
+            assertEquals(20, archive.size());
+            assertTrue(archive.findByTeam("Rival-79").isEmpty());
+            assertEquals(List.of("Team-1 4 - Rival-99 0"), describe(archive.findByTeam("Rival-99")));
+            assertEquals(3, archive.findByTeam("Team-0").size());
+            assertEquals(4, archive.findHighestScoring(20, Instant.EPOCH).get(0).getTotalScore());
+            assertEquals(99, archive.findHighestScoring(1, Instant.EPOCH).get(0).getStartTime());
+            assertEquals(20, archive.findHighestScoring(100, Instant.EPOCH).size());
+        }
+    }
+
+    /**
+     * Tests the finish time window of the highest-scoring query of the {@link MatchArchive} class, on an archive
+     * whose ring of slots has wrapped. Verifies that, for every window, exactly the matches finished within it are
+     * returned, ordered by total score and then by finish time, including matches finished on the window boundary.
+     */
+    @Test
+    void testFindHighestScoringWithinWindow() {
+        SimulatedClock clock = new SimulatedClock(START);
+        MatchArchive archive = new MatchArchive(new TeamRegistry(), RetentionPolicy.unbounded().withMaxMatches(50), clock);
+
+        for (int match = 0; match < 120; match++) {
+            archive.append("Team-" + match % 7, "Rival-" + match, match % 5, match % 3, match);
+            clock.advance(Duration.ofMinutes(1));
+        }
+
+        List<ArchivedMatch> all = archive.findHighestScoring(50, Instant.EPOCH);
+
+        for (int minutes = 0; minutes <= 125; minutes += 5) {
+            Instant since = START.plus(Duration.ofMinutes(minutes));
+            List<ArchivedMatch> expected = all.stream()
+                .filter(match -> match.getFinishTime() >= since.toEpochMilli())
+                .limit(10)
+                .collect(Collectors.toList());
+
+            assertEquals(expected, archive.findHighestScoring(10, since));
+        }
+
+        assertEquals(50, all.size());
+        assertEquals(List.of("Team-0 4 - Rival-119 2"), describe(archive.findHighestScoring(1, START.plus(Duration.ofMinutes(119)))));
+        assertTrue(archive.findHighestScoring(10, clock.instant()).isEmpty());
+    }
+
+    /**
+     * Tests the retention by age of the {@link MatchArchive} class. Verifies that matches older than the maximum
+     * age are evicted when the archive is queried, even if no match was appended in the meantime.
+     */
+    @Test
+    void testEvictsMatchesByAge() {
+        SimulatedClock clock = new SimulatedClock(START);
+        MatchArchive archive = new MatchArchive(new TeamRegistry(), RetentionPolicy.unbounded().withMaxAge(Duration.ofHours(24)), clock);
+
+        archive.append("Mexico", "Canada", 0, 5, 1);
+        clock.advance(Duration.ofHours(12));
+        archive.append("Spain", "Brazil", 10, 2, 2);
+        clock.advance(Duration.ofHours(13));
+
+        assertEquals(List.of("Spain 10 - Brazil 2"), describe(archive.findHighestScoring(5, Instant.EPOCH)));
+        assertTrue(archive.findByTeam("Mexico").isEmpty());
+        assertEquals(1, archive.size());
+        assertThrows(IllegalArgumentException.class, () -> RetentionPolicy.unbounded().withMaxAge(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> RetentionPolicy.unbounded().withMaxMatches(0));
+        assertThrows(IllegalArgumentException.class, () -> RetentionPolicy.unbounded().withMaxBytes(0));
+    }
+
+    private static List<String> describe(List<ArchivedMatch> matches) {
+        return matches.stream().map(ArchivedMatch::toString).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,46 @@
+package com.sportradar.concurrent;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for a ConnectionThreads class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see ConnectionThreads
+ */
+class ConnectionThreadsTest {
+    /**
+     * Tests the threads created by the {@link ConnectionThreads} class. Verifies that they are unstarted, named
+     * with a unique number, never keep the JVM alive, run their task, and are virtual threads exactly when the
+     * runtime is Java 21 or later. Run with {@code -Pjdk21} to cover the virtual thread path from a Java 17 build.
+     */
+    @Test
+    void testNewThread() throws Exception {
+        CountDownLatch ran = new CountDownLatch(1);
+        Thread first = ConnectionThreads.newThread("feed", ran::countDown);
+        Thread second = ConnectionThreads.newThread("feed", () -> { });
+
+        assertEquals(Thread.State.NEW, first.getState());
+        assertTrue(first.getName().startsWith("feed-"));
+        assertNotEquals(first.getName(), second.getName());
+        assertTrue(first.isDaemon());
+        assertEquals(Runtime.version().feature() >= 21, isVirtual(first));
+
+        first.start();
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    private static boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
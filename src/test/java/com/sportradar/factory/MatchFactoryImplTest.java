@@ -0,0 +1,113 @@
+package com.sportradar.factory;
+
+import com.sportradar.model.Match;
+import com.sportradar.service.ScoreboardImpl;
+import com.sportradar.time.SimulatedClock;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for a MatchFactoryImpl class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see MatchFactoryImpl
+ */
+class MatchFactoryImplTest {
+    private static final Instant START = Instant.parse("2026-06-11T12:00:00Z");
+
+    private final SimulatedClock clock = new SimulatedClock(START);
+    private final MatchFactoryImpl matchFactory = new MatchFactoryImpl(clock);
+
+    /**
+     * Tests the constructor and createMatch method of the {@link MatchFactoryImpl} class with invalid arguments.
+     * Verifies that an {@link IllegalArgumentException} is thrown for a null clock and a negative start time shift.
+     */
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MatchFactoryImpl(null));
+        assertThrows(IllegalArgumentException.class, () -> matchFactory.createMatch("Mexico", "Canada", -1));
+        assertThrows(IllegalArgumentException.class, () -> clock.advanceMillis(-1));
+    }
+
+    /**
+     * Tests the start times of created matches. Verifies that matches start at the time of the clock plus
+     * the start time shift, and follow the clock as it is advanced.
+     */
+    @Test
+    void testStartTimesFollowClock() {
+        assertEquals(START.toEpochMilli(), matchFactory.createMatch("Mexico", "Canada", 0).getStartTime());
+        assertEquals(START.toEpochMilli() + 5, matchFactory.createMatch("Spain", "Brazil", 5).getStartTime());
+
+        clock.advance(Duration.ofMinutes(1));
+
+        Match match = matchFactory.createMatch("Germany", "France", 0);
+
+        assertEquals(START.plus(Duration.ofMinutes(1)).toEpochMilli(), match.getStartTime());
+        assertEquals(0, match.getTotalScore());
+    }
+
+    /**
+     * Tests a clock that jumps backwards. Verifies that start times never go backwards, and continue to
+     * follow the clock once it has caught up.
+     */
+    @Test
+    void testStartTimesNeverGoBackwards() {
+        Clock[] current = {Clock.fixed(START, ZoneOffset.UTC)};
+        MatchFactoryImpl jumpingFactory = new MatchFactoryImpl(new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return current[0].instant();
+            }
+        });
+
+        long first = jumpingFactory.createMatch("Mexico", "Canada", 0).getStartTime();
+
+        current[0] = Clock.fixed(START.minus(Duration.ofHours(1)), ZoneOffset.UTC);
+
+        assertEquals(first, jumpingFactory.createMatch("Spain", "Brazil", 0).getStartTime());
+
+        current[0] = Clock.fixed(START.plusMillis(10), ZoneOffset.UTC);
+
+        assertEquals(first + 10, jumpingFactory.createMatch("Germany", "France", 0).getStartTime());
+    }
+
+    /**
+     * Tests the summary order of matches started at the same time of a simulated clock without any start time
+     * shift. Verifies that matches with equal scores are ordered deterministically, the most recently started
+     * first, and that a later start time still takes precedence over the start order.
+     */
+    @Test
+    void testDeterministicOrderWithoutStartTimeShift() {
+        ScoreboardImpl scoreboard = new ScoreboardImpl(matchFactory);
+
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        clock.advanceMillis(1);
+        scoreboard.startMatch("Uruguay", "Italy");
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+
+        List<String> teams = scoreboard.getSummary().stream().map(Match::getHomeTeam).collect(Collectors.toList());
+
+        assertEquals(List.of("Mexico", "Uruguay", "Germany", "Spain"), teams);
+    }
+}
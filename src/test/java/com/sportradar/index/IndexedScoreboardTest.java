@@ -0,0 +1,123 @@
+package com.sportradar.index;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.BatchUpdateException;
+import com.sportradar.service.PrimitiveScoreboard;
+import com.sportradar.service.ScoreboardImpl;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for an IndexedScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see IndexedScoreboard
+ */
+class IndexedScoreboardTest {
+    private static final MatchFactory SHIFT_AS_START_TIME =
+        (homeTeam, awayTeam, startTimeShift) -> new Match(homeTeam, awayTeam, 0, 0, startTimeShift);
+
+    /**
+     * Tests the queries of the {@link IndexedScoreboard} class. Verifies that matches are found by team, tag and
+     * total score range in summary order, and that score updates, batches and finished matches are reflected by
+     * every index while rejected writes change none of them.
+     */
+    @Test
+    void testQueriesFollowWrites() {
+        IndexedScoreboard scoreboard = new IndexedScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME));
+
+        scoreboard.startMatch("Brazil", "Serbia", "World Cup", "Group G");
+        scoreboard.startMatch("Spain", "Costa Rica", "World Cup", "Group E", "Group E");
+        scoreboard.startMatch("Switzerland", "Cameroon", "World Cup", "Group G");
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Spain", "Costa Rica", 7, 0);
+        scoreboard.updateScore("Brazil", "Serbia", 2, 0);
+        scoreboard.applyBatch(List.of(new ScoreUpdate("Switzerland", "Cameroon", 1, 0), new ScoreUpdate("Mexico", "Canada", 3, 2)));
+
+        assertEquals("Brazil 2 - Serbia 0", scoreboard.findMatchOf("Serbia").orElseThrow().toString());
+        assertTrue(scoreboard.findMatchOf("Italy").isEmpty());
+        assertEquals(List.of("Brazil 2 - Serbia 0", "Switzerland 1 - Cameroon 0"), describe(scoreboard.findByTag("Group G")));
+        assertEquals(List.of("Spain 7 - Costa Rica 0"), describe(scoreboard.findByTag("Group E")));
+        assertEquals(3, scoreboard.findByTag("World Cup").size());
+        assertEquals(List.of("Spain 7 - Costa Rica 0", "Mexico 3 - Canada 2"), describe(scoreboard.findByTotalScore(5)));
+        assertEquals(List.of("Brazil 2 - Serbia 0", "Switzerland 1 - Cameroon 0"), describe(scoreboard.findByTotalScore(1, 4)));
+
+        assertThrows(NoSuchElementException.class, () -> scoreboard.updateScore("Brazil", "Cameroon", 9, 9));
+        assertThrows(BatchUpdateException.class, () -> scoreboard.applyBatch(
+            List.of(new ScoreUpdate("Brazil", "Serbia", 9, 9), new ScoreUpdate("Italy", "France", 1, 0))));
+        assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Serbia", "Cameroon", "Group G"));
+
+        scoreboard.finishMatch("Brazil", "Serbia");
+        scoreboard.updateScore("Switzerland", "Cameroon", 0, 0);
+
+        assertTrue(scoreboard.findMatchOf("Brazil").isEmpty());
+        assertEquals(List.of("Switzerland 0 - Cameroon 0"), describe(scoreboard.findByTag("Group G")));
+        assertEquals(List.of("Switzerland 0 - Cameroon 0"), describe(scoreboard.findByTotalScore(0, 0)));
+        assertTrue(scoreboard.findByTotalScore(1, 4).isEmpty());
+        assertTrue(scoreboard.findByTag("Group F").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.findByTotalScore(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.findByTag(null));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.startMatch("Italy", "France", (String) null));
+    }
+
+    /**
+     * Tests the consistency of the {@link IndexedScoreboard} indexes with the decorated scoreboard under random
+     * starts, updates and finishes. Verifies that every query returns the same matches as filtering the summary.
+     */
+    @Test
+    void testIndexesStayConsistentWithSummary() {
+        IndexedScoreboard scoreboard = new IndexedScoreboard(new PrimitiveScoreboard(SHIFT_AS_START_TIME));
+        Random random = new Random(7);
+        Map<String, String> groups = new HashMap<>();
+
+        for (int step = 0; step < 5000; step++) {
+            int home = random.nextInt(40);
+            String homeTeam = "Team " + home;
+            String awayTeam = "Team " + (home + 40);
+            Optional<Match> match = scoreboard.findMatch(homeTeam, awayTeam);
+
+            if (match.isEmpty()) {
+                String group = "Group " + (char) ('A' + home % 8);
+
+                scoreboard.startMatch(homeTeam, awayTeam, group);
+                groups.put(homeTeam, group);
+            } else if (random.nextInt(10) == 0) {
+                scoreboard.finishMatch(homeTeam, awayTeam);
+            } else {
+                scoreboard.updateScore(homeTeam, awayTeam, random.nextInt(5), random.nextInt(5));
+            }
+
+            if (step % 100 != 0)
+                continue;
+
+            List<Match> summary = scoreboard.getSummary();
+
+            for (int total = 0; total <= 8; total += 2) {
+                int minTotal = total;
+
+                assertEquals(describe(summary.stream().filter(m -> m.getTotalScore() >= minTotal && m.getTotalScore() <= minTotal + 1)
+                    .collect(Collectors.toList())), describe(scoreboard.findByTotalScore(minTotal, minTotal + 1)));
+            }
+
+            for (char group = 'A'; group <= 'H'; group++) {
+                String tag = "Group " + group;
+
+                assertEquals(describe(summary.stream().filter(m -> groups.get(m.getHomeTeam()).equals(tag))
+                    .collect(Collectors.toList())), describe(scoreboard.findByTag(tag)));
+            }
+
+            for (Match live : summary)
+                assertEquals(live.toString(), scoreboard.findMatchOf(live.getAwayTeam()).orElseThrow().toString());
+        }
+    }
+
+    private static List<String> describe(List<Match> matches) {
+        return matches.stream().map(Match::toString).collect(Collectors.toList());
+    }
+}
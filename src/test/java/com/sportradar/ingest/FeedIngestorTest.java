@@ -0,0 +1,230 @@
+package com.sportradar.ingest;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.Match;
+import com.sportradar.service.ScoreboardImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for a FeedIngestor class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see FeedIngestor
+ */
+class FeedIngestorTest {
+    private final ScoreboardImpl scoreboard = new ScoreboardImpl(new MatchFactoryImpl());
+    private FeedIngestor ingestor;
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void closeIngestor() {
+        if (ingestor != null)
+            ingestor.close();
+    }
+
+    /**
+     * Tests the constructor and addFeed method of the {@link FeedIngestor} class with invalid arguments.
+     * Verifies that an {@link IllegalArgumentException} is thrown, and that a closed ingestor rejects feeds.
+     */
+    @Test
+    void testInvalidArguments() throws InterruptedException {
+        assertThrows(IllegalArgumentException.class, () -> new FeedIngestor(null, 16));
+        assertThrows(IllegalArgumentException.class, () -> new FeedIngestor(scoreboard, 0));
+
+        ingestor = new FeedIngestor(scoreboard, 16);
+
+        assertThrows(IllegalArgumentException.class, () -> ingestor.addFeed(null, InputStream::nullInputStream));
+        assertThrows(IllegalArgumentException.class, () -> ingestor.addFeed("feed", null));
+
+        ingestor.close();
+
+        assertThrows(IllegalStateException.class, () -> ingestor.addFeed("feed", InputStream::nullInputStream));
+    }
+
+    /**
+     * Tests replaying a recorded feed from a file. Verifies that the commands are applied in the order of the
+     * feed, and that malformed lines and commands rejected by the scoreboard are counted and skipped.
+     */
+    @Test
+    void testFileReplay() throws IOException, InterruptedException {
+        Path file = directory.resolve("feed.txt");
+
+        Files.write(file, List.of(
+            "START|Mexico|Canada",
+            "START|Spain|Brazil|1",
+            "",
+            "UPDATE|Mexico|Canada|0|5",
+            "UPDATE|Spain|Brazil|10|2",
+            "UPDATE|Spain|Brazil|ten|2",
+            "UPDATE|Nowhere|Brazil|1|1",
+            "KICKOFF|Spain|Brazil",
+            "START|Mexico|Italy",
+            "FINISH|Mexico|Canada",
+            "START|Mexico|Italy|2"));
+
+        ingestor = new FeedIngestor(scoreboard, 4);
+        ingestor.addFeed("replay", FeedSource.replay(file));
+
+        assertTrue(ingestor.awaitIdle(10, TimeUnit.SECONDS));
+        assertEquals(List.of("Spain 10 - Brazil 2", "Mexico 0 - Italy 0"), describe(scoreboard.getSummary()));
+        assertEquals(6, ingestor.getAppliedCount());
+        assertEquals(1, ingestor.getRejectedCount());
+        assertEquals(3, ingestor.getMalformedCount());
+        assertEquals(0, ingestor.getActiveFeedCount());
+        assertEquals(0, ingestor.getQueueDepth());
+    }
+
+    /**
+     * Tests many concurrent feeds through a small queue. Verifies that the feeds are throttled by the full
+     * queue, that the queue depth never exceeds its capacity, and that the commands of every feed are applied
+     * in order, so every match ends with the last score of its feed.
+     */
+    @Test
+    void testConcurrentFeedsWithBackpressure() throws InterruptedException {
+        int feedCount = 20;
+        int updates = 500;
+
+        ingestor = new FeedIngestor(scoreboard, 8);
+
+        for (int feed = 0; feed < feedCount; feed++) {
+            StringBuilder lines = new StringBuilder();
+
+            lines.append("START|Home ").append(feed).append("|Away ").append(feed).append('|').append(feed).append('\n');
+
+            for (int goal = 1; goal <= updates; goal++)
+                lines.append("UPDATE|Home ").append(feed).append("|Away ").append(feed).append('|').append(goal).append("|0\n");
+
+            byte[] feedLines = lines.toString().getBytes(StandardCharsets.UTF_8);
+
+            ingestor.addFeed("feed" + feed, () -> new ByteArrayInputStream(feedLines));
+        }
+
+        assertTrue(ingestor.awaitIdle(30, TimeUnit.SECONDS));
+        assertEquals(feedCount * (updates + 1L), ingestor.getAppliedCount());
+        assertEquals(0, ingestor.getRejectedCount());
+        assertTrue(ingestor.getMaxQueueDepth() <= 8);
+        assertTrue(ingestor.getBackpressuredCount() > 0);
+
+        for (Match match : scoreboard.getSummary())
+            assertEquals(updates, match.getHomeScore());
+
+        assertEquals(feedCount, scoreboard.getSummary().size());
+    }
+
+    /**
+     * Tests a feed read from a local socket. Verifies that the commands sent by the server are applied, and
+     * that closing the ingestor disconnects a feed that is still open.
+     */
+    @Test
+    void testSocketFeed() throws IOException, InterruptedException {
+        try (ServerSocket server = new ServerSocket(0)) {
+            ingestor = new FeedIngestor(scoreboard, 16);
+            ingestor.addFeed("socket", FeedSource.socket("localhost", server.getLocalPort()));
+
+            try (Socket connection = server.accept();
+                 Writer writer = new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("START|Germany|France\nUPDATE|Germany|France|2|2\n");
+                writer.flush();
+
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+                while (ingestor.getAppliedCount() < 2 && System.nanoTime() < deadline)
+                    Thread.sleep(10);
+
+                assertEquals(List.of("Germany 2 - France 2"), describe(scoreboard.getSummary()));
+                assertEquals(1, ingestor.getActiveFeedCount());
+
+                ingestor.close();
+
+                assertEquals(0, ingestor.getActiveFeedCount());
+                assertEquals(0, ingestor.getFailedFeedCount());
+            }
+        }
+    }
+
+    /**
+     * Tests closing the ingestor while a feed is still opening its connection. Verifies that the connection
+     * returned after the ingestor was closed is closed at once instead of being read forever, so that closing
+     * does not hang.
+     */
+    @Test
+    void testCloseWhileFeedOpens() throws InterruptedException {
+        CountDownLatch opening = new CountDownLatch(1);
+        CountDownLatch disconnected = new CountDownLatch(1);
+        InputStream connection = new InputStream() {
+            @Override
+            public int read() {
+                try {
+                    disconnected.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                return -1;
+            }
+
+            @Override
+            public void close() {
+                disconnected.countDown();
+            }
+        };
+
+        ingestor = new FeedIngestor(scoreboard, 16);
+        ingestor.addFeed("slow", () -> {
+            opening.countDown();
+
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                // Interrupted by close(); the connection is opened only now.
+            }
+
+            return connection;
+        });
+
+        assertTrue(opening.await(10, TimeUnit.SECONDS));
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> ingestor.close());
+        assertEquals(0, disconnected.getCount());
+        assertEquals(0, ingestor.getActiveFeedCount());
+    }
+
+    /**
+     * Tests a feed that cannot be opened. Verifies that it is counted as failed and does not keep the
+     * ingestor busy.
+     */
+    @Test
+    void testFailedFeed() throws InterruptedException {
+        ingestor = new FeedIngestor(scoreboard, 16);
+        ingestor.addFeed("missing", FeedSource.replay(directory.resolve("missing.txt")));
+
+        assertTrue(ingestor.awaitIdle(10, TimeUnit.SECONDS));
+        assertEquals(1, ingestor.getFailedFeedCount());
+    }
+
+    private static List<String> describe(List<Match> matches) {
+        return matches.stream().map(Match::toString).collect(Collectors.toCollection(ArrayList::new));
+    }
+}
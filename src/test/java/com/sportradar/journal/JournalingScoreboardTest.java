@@ -0,0 +1,218 @@
+package com.sportradar.journal;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.BatchUpdateException;
+import com.sportradar.service.PrimitiveScoreboard;
+import com.sportradar.service.ScoreboardImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for a JournalingScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see JournalingScoreboard
+ */
+class JournalingScoreboardTest {
+    private static final MatchFactory SHIFT_AS_START_TIME =
+        (homeTeam, awayTeam, startTimeShift) -> new Match(homeTeam, awayTeam, 0, 0, startTimeShift);
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests the recovery of a {@link JournalingScoreboard} from its journal. Verifies that matches started,
+     * updated, batch updated and finished before the board was closed are recovered with their scores and
+     * start times, and that the recovered board keeps journaling.
+     */
+    @Test
+    void testRecoversFromJournal() {
+        try (JournalingScoreboard board = open(JournalOptions.defaults())) {
+            board.startMatch("Mexico", "Canada", 1);
+            board.startMatch("Spain", "Brazil", 2);
+            board.startMatch("Germany", "France", 3);
+            board.updateScore("Mexico", "Canada", 0, 5);
+            board.applyBatch(List.of(new ScoreUpdate("Spain", "Brazil", 10, 2), new ScoreUpdate("Germany", "France", 2, 2)));
+            board.finishMatch("Germany", "France");
+        }
+
+        try (JournalingScoreboard board = open(JournalOptions.defaults())) {
+            assertEquals(List.of("Spain 10 - Brazil 2", "Mexico 0 - Canada 5"), describe(board.getSummary()));
+            assertEquals(2, board.findMatch("Spain", "Brazil").orElseThrow().getStartTime());
+
+            board.startMatch("Germany", "France", 4);
+            board.updateScore("Germany", "France", 1, 0);
+        }
+
+        try (JournalingScoreboard board = open(JournalOptions.defaults())) {
+            assertEquals(List.of("Spain 10 - Brazil 2", "Mexico 0 - Canada 5", "Germany 1 - France 0"), describe(board.getSummary()));
+        }
+    }
+
+    /**
+     * Tests the checkpoints of a {@link JournalingScoreboard}. Verifies that a checkpoint is written after
+     * every checkpoint interval, that files of older generations are deleted, and that a board is recovered
+     * from the latest snapshot and the journal written after it into a different scoreboard implementation.
+     */
+    @Test
+    void testRecoversFromSnapshotAndJournal() throws IOException {
+        try (JournalingScoreboard board = open(JournalOptions.defaults().withCheckpointInterval(3).withGroupCommitSize(1))) {
+            for (int match = 0; match < 5; match++) {
+                board.startMatch("Home-" + match, "Away-" + match, match);
+                board.updateScore("Home-" + match, "Away-" + match, match, 1);
+            }
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+
+        try (JournalingScoreboard board = JournalingScoreboard.open(directory,
+                matchFactory -> new PrimitiveScoreboard(matchFactory), SHIFT_AS_START_TIME, JournalOptions.defaults())) {
+            assertEquals(List.of("Home-4 4 - Away-4 1", "Home-3 3 - Away-3 1", "Home-2 2 - Away-2 1",
+                "Home-1 1 - Away-1 1", "Home-0 0 - Away-0 1"), describe(board.getSummary()));
+        }
+    }
+
+    /**
+     * Tests the recovery of a {@link JournalingScoreboard} from a journal whose last record was torn by a crash.
+     * Verifies that every complete record is replayed and the torn record is ignored.
+     */
+    @Test
+    void testIgnoresTornRecord() throws IOException {
+        JournalingScoreboard board = open(JournalOptions.defaults().withGroupCommitSize(1));
+
+        board.startMatch("Mexico", "Canada", 1);
+        board.updateScore("Mexico", "Canada", 1, 0);
+        board.updateScore("Mexico", "Canada", 2, 0);
+        board.close();
+
+        Path journal = JournalFormat.journalFile(directory, 1);
+
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        try (JournalingScoreboard recovered = open(JournalOptions.defaults())) {
+            assertEquals(List.of("Mexico 1 - Canada 0"), describe(recovered.getSummary()));
+        }
+    }
+
+    /**
+     * Tests the recovery of a {@link JournalingScoreboard} from a journal torn in the middle of a batch. Verifies
+     * that no update of the torn batch is replayed, while the writes before it are.
+     */
+    @Test
+    void testIgnoresTornBatch() throws IOException {
+        JournalingScoreboard board = open(JournalOptions.defaults().withGroupCommitSize(1));
+
+        board.startMatch("Mexico", "Canada", 1);
+        board.startMatch("Spain", "Brazil", 2);
+        board.updateScore("Mexico", "Canada", 1, 0);
+        board.applyBatch(List.of(new ScoreUpdate("Mexico", "Canada", 2, 0), new ScoreUpdate("Spain", "Brazil", 3, 0),
+            new ScoreUpdate("Mexico", "Canada", 2, 1)));
+        board.close();
+
+        Path journal = JournalFormat.journalFile(directory, 1);
+
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - JournalFormat.UPDATE_SIZE);
+        }
+
+        try (JournalingScoreboard recovered = open(JournalOptions.defaults())) {
+            assertEquals(List.of("Mexico 1 - Canada 0", "Spain 0 - Brazil 0"), describe(recovered.getSummary()));
+        }
+    }
+
+    /**
+     * Tests the recovery of a {@link JournalingScoreboard} whose process crashed without closing or flushing it.
+     * Verifies that records of a group commit that never filled up are committed after the maximum commit delay,
+     * so a copy of the directory taken afterwards recovers them.
+     */
+    @Test
+    void testCommitsWithinMaxCommitDelay(@TempDir Path crashed) throws IOException, InterruptedException {
+        JournalingScoreboard board = open(JournalOptions.defaults().withMaxCommitDelay(Duration.ofMillis(20)));
+        Path journal = JournalFormat.journalFile(directory, 1);
+        long header = Files.size(journal);
+
+        board.startMatch("Mexico", "Canada", 1);
+        board.updateScore("Mexico", "Canada", 2, 1);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+        while (Files.size(journal) == header && System.nanoTime() < deadline)
+            Thread.sleep(5);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.collect(Collectors.toList()))
+                Files.copy(file, crashed.resolve(file.getFileName()));
+        }
+
+        try (JournalingScoreboard recovered = JournalingScoreboard.open(crashed, ScoreboardImpl::new, SHIFT_AS_START_TIME,
+                JournalOptions.defaults())) {
+            assertEquals(List.of("Mexico 2 - Canada 1"), describe(recovered.getSummary()));
+        }
+
+        board.close();
+    }
+
+    /**
+     * Tests that rejected writes are not journaled. Verifies that a failed update and a rejected batch leave
+     * no trace in the recovered board.
+     */
+    @Test
+    void testDoesNotJournalRejectedWrites() {
+        try (JournalingScoreboard board = open(JournalOptions.defaults())) {
+            board.startMatch("Mexico", "Canada", 1);
+
+            assertThrows(IllegalArgumentException.class, () -> board.updateScore("Mexico", "Canada", -1, 0));
+            assertThrows(BatchUpdateException.class, () -> board.applyBatch(List.of(
+                new ScoreUpdate("Mexico", "Canada", 3, 3), new ScoreUpdate("Spain", "Brazil", 1, 0))));
+        }
+
+        try (JournalingScoreboard board = open(JournalOptions.defaults())) {
+            assertEquals(List.of("Mexico 0 - Canada 0"), describe(board.getSummary()));
+        }
+    }
+
+    /**
+     * Tests the validation of the arguments of {@link JournalingScoreboard#open} and {@link JournalOptions}, and
+     * the detection of a corrupted snapshot.
+     */
+    @Test
+    void testRejectsInvalidArgumentsAndCorruptedSnapshot() throws IOException {
+        assertThrows(IllegalArgumentException.class,
+            () -> JournalingScoreboard.open(null, ScoreboardImpl::new, SHIFT_AS_START_TIME, JournalOptions.defaults()));
+        assertThrows(IllegalArgumentException.class, () -> JournalOptions.defaults().withGroupCommitSize(0));
+        assertThrows(IllegalArgumentException.class, () -> JournalOptions.defaults().withCheckpointInterval(-1));
+        assertThrows(IllegalArgumentException.class, () -> JournalOptions.defaults().withMaxCommitDelay(Duration.ZERO));
+
+        open(JournalOptions.defaults()).close();
+        Files.write(JournalFormat.snapshotFile(directory, 1), new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+        assertThrows(UncheckedIOException.class, () -> open(JournalOptions.defaults()));
+    }
+
+    private JournalingScoreboard open(JournalOptions options) {
+        return JournalingScoreboard.open(directory, ScoreboardImpl::new, SHIFT_AS_START_TIME, options);
+    }
+
+    private static List<String> describe(List<Match> matches) {
+        return matches.stream().map(Match::toString).collect(Collectors.toList());
+    }
+}
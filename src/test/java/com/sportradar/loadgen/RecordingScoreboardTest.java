@@ -0,0 +1,72 @@
+package com.sportradar.loadgen;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.ScoreboardImpl;
+import com.sportradar.time.SimulatedClock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for a RecordingScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see RecordingScoreboard
+ */
+class RecordingScoreboardTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests recording the writes of a {@link RecordingScoreboard} and replaying them. Verifies that successful
+     * writes are recorded with their clock times, rejected writes are not recorded, and that replaying the trace
+     * against a new board rebuilds the same summary.
+     */
+    @Test
+    void testRecordsAndReplays() {
+        SimulatedClock clock = new SimulatedClock(Instant.parse("2026-06-11T19:00:00Z"));
+        MatchFactoryImpl matchFactory = new MatchFactoryImpl(clock);
+        Path file = directory.resolve("trace.txt");
+        List<String> summary;
+
+        try (RecordingScoreboard scoreboard = new RecordingScoreboard(new ScoreboardImpl(matchFactory), file, clock)) {
+            scoreboard.startMatch("Mexico", "Canada");
+            clock.advanceMillis(60_000);
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.updateScore("Mexico", "Canada", 0, 1);
+            clock.advanceMillis(1_000);
+            scoreboard.applyBatch(List.of(new ScoreUpdate("Spain", "Brazil", 2, 0), new ScoreUpdate("Mexico", "Canada", 0, 2)));
+
+            assertThrows(NoSuchElementException.class, () -> scoreboard.updateScore("Italy", "Brazil", 1, 0));
+
+            scoreboard.startMatch("Germany", "France");
+            scoreboard.finishMatch("Germany", "France");
+            summary = describe(scoreboard.getSummary());
+        }
+
+        List<TraceEvent> events = Trace.read(file);
+
+        assertEquals(7, events.size());
+        assertEquals(List.of(0L, 60_000L, 60_000L, 61_000L, 61_000L, 61_000L, 61_000L),
+            events.stream().map(TraceEvent::getTime).collect(Collectors.toList()));
+
+        ScoreboardImpl replayed = new ScoreboardImpl(new MatchFactoryImpl(clock));
+
+        new TraceReplayer(replayed).replay(events, TraceReplayer.MAXIMUM_SPEED);
+
+        assertEquals(summary, describe(replayed.getSummary()));
+    }
+
+    private static List<String> describe(List<Match> matches) {
+        return matches.stream().map(Match::toString).collect(Collectors.toList());
+    }
+}
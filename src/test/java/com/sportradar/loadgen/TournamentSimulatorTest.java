@@ -0,0 +1,94 @@
+package com.sportradar.loadgen;
+
+import com.sportradar.metrics.Operation;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for a TournamentSimulator class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see TournamentSimulator
+ */
+class TournamentSimulatorTest {
+
+    /**
+     * Tests the trace generated by the {@link TournamentSimulator} class. Verifies that the trace is in time order
+     * and reproducible by its seed, that every fixture is started first and finished last within its duration,
+     * that every score update changes the score by one goal, and that the mean number of goals per match is close
+     * to the configured one.
+     */
+    @Test
+    void testGeneratesTournament() {
+        TournamentOptions options = TournamentOptions.defaults().withFixtures(2000);
+        List<TraceEvent> events = new TournamentSimulator(options).generate();
+        Map<String, TraceEvent> lastEvents = new HashMap<>();
+        int goals = 0;
+        int corrections = 0;
+
+        assertEquals(events, new TournamentSimulator(options).generate());
+        assertNotEquals(events, new TournamentSimulator(options.withSeed(7)).generate());
+
+        for (int index = 0; index < events.size(); index++) {
+            TraceEvent event = events.get(index);
+            TraceEvent last = lastEvents.put(event.getHomeTeam(), event);
+
+            if (index > 0)
+                assertTrue(event.getTime() >= events.get(index - 1).getTime());
+
+            if (event.getOperation() == Operation.START_MATCH) {
+                assertNull(last);
+                assertTrue(event.getTime() <= options.getKickoffWindow().toMillis());
+                continue;
+            }
+
+            assertNotNull(last);
+            assertNotEquals(Operation.FINISH_MATCH, last.getOperation());
+
+            if (event.getOperation() == Operation.UPDATE_SCORE) {
+                int change = event.getHomeScore() + event.getAwayScore() - last.getHomeScore() - last.getAwayScore();
+
+                assertTrue(change == 1 || change == -1);
+
+                if (change > 0)
+                    goals++;
+                else
+                    corrections++;
+            } else {
+                assertTrue(event.getTime() <= options.getKickoffWindow().plus(options.getMatchDuration())
+                    .plus(options.getMaxStoppageTime()).toMillis());
+            }
+        }
+
+        assertEquals(2 * 2000 + goals + corrections, events.size());
+        assertEquals(2.7, (double) (goals - corrections) / 2000, 0.3);
+        assertTrue(corrections > 0);
+    }
+
+    /**
+     * Tests the options of the {@link TournamentSimulator} class. Verifies that a zero kickoff window starts all
+     * fixtures at once, that invalid options are rejected with an {@link IllegalArgumentException}, and that
+     * the simulator rejects null options.
+     */
+    @Test
+    void testOptions() {
+        List<TraceEvent> events = new TournamentSimulator(TournamentOptions.defaults().withFixtures(10)
+            .withKickoffWindow(Duration.ZERO).withMatchDuration(Duration.ofMinutes(1), Duration.ZERO)).generate();
+
+        assertEquals(10, events.stream().filter(event -> event.getOperation() == Operation.START_MATCH && event.getTime() == 0).count());
+        assertEquals(10, events.stream().filter(event -> event.getOperation() == Operation.FINISH_MATCH && event.getTime() == 60_000).count());
+
+        assertThrows(IllegalArgumentException.class, () -> new TournamentSimulator(null));
+        assertThrows(IllegalArgumentException.class, () -> TournamentOptions.defaults().withFixtures(0));
+        assertThrows(IllegalArgumentException.class, () -> TournamentOptions.defaults().withKickoffWindow(Duration.ofMinutes(-1)));
+        assertThrows(IllegalArgumentException.class, () -> TournamentOptions.defaults().withMatchDuration(Duration.ZERO, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> TournamentOptions.defaults().withGoalsPerMatch(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> TournamentOptions.defaults().withCorrectionProbability(1.5));
+    }
+}
@@ -0,0 +1,67 @@
+package com.sportradar.loadgen;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.metrics.Operation;
+import com.sportradar.service.ScoreboardImpl;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit tests for a TraceReplayer class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see TraceReplayer
+ */
+class TraceReplayerTest {
+
+    /**
+     * Tests replaying a simulated tournament at maximum speed with the {@link TraceReplayer} class. Verifies that
+     * every event is applied and reported per operation with its latency and allocations, and that all matches
+     * are finished at the end.
+     */
+    @Test
+    void testReplaysTournamentAtMaximumSpeed() {
+        ScoreboardImpl scoreboard = new ScoreboardImpl(new MatchFactoryImpl());
+        List<TraceEvent> events = new TournamentSimulator(TournamentOptions.defaults().withFixtures(500)).generate();
+
+        LoadReport report = new TraceReplayer(scoreboard).replay(events, TraceReplayer.MAXIMUM_SPEED);
+
+        assertEquals(events.size(), report.getOperationCount());
+        assertEquals(500, report.getCount(Operation.START_MATCH));
+        assertEquals(500, report.getCount(Operation.FINISH_MATCH));
+        assertEquals(events.size() - 1000, report.getCount(Operation.UPDATE_SCORE));
+        assertEquals(0, report.getFailures(Operation.UPDATE_SCORE));
+        assertEquals(report.getCount(Operation.UPDATE_SCORE), report.getLatency(Operation.UPDATE_SCORE).getCount());
+        assertTrue(report.getThroughput() > 0);
+        assertTrue(report.getAllocatedBytesPerCall(Operation.START_MATCH) > 0 || report.getAllocatedBytesPerCall(Operation.START_MATCH) == -1);
+        assertEquals(0, report.getAllocatedBytesPerCall(Operation.GET_SUMMARY));
+        assertTrue(scoreboard.getSummary().isEmpty());
+        assertTrue(report.toString().contains("UPDATE_SCORE: calls=" + report.getCount(Operation.UPDATE_SCORE)));
+    }
+
+    /**
+     * Tests replaying a trace at a fixed speed with the {@link TraceReplayer} class. Verifies that the replay takes
+     * at least the duration of the trace divided by the speed, and that writes rejected by the scoreboard are
+     * counted as failures without stopping the replay.
+     */
+    @Test
+    void testReplaysTraceAtFixedSpeed() {
+        ScoreboardImpl scoreboard = new ScoreboardImpl(new MatchFactoryImpl());
+        List<TraceEvent> events = List.of(
+            TraceEvent.start(0, "Mexico", "Canada"),
+            TraceEvent.update(1000, "Spain", "Brazil", 1, 0),
+            TraceEvent.update(2000, "Mexico", "Canada", 1, 0));
+
+        LoadReport report = new TraceReplayer(scoreboard).replay(events, 10);
+
+        assertTrue(report.getElapsedNanos() >= 200_000_000L);
+        assertEquals(1, report.getFailures(Operation.UPDATE_SCORE));
+        assertEquals(1, scoreboard.findMatch("Mexico", "Canada").orElseThrow().getTotalScore());
+        assertThrows(IllegalArgumentException.class, () -> new TraceReplayer(scoreboard).replay(events, -1));
+        assertThrows(IllegalArgumentException.class, () -> new TraceReplayer(scoreboard).replay(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TraceReplayer(null));
+    }
+}
@@ -0,0 +1,68 @@
+package com.sportradar.loadgen;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Unit tests for a Trace class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see Trace
+ */
+class TraceTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests writing and reading a trace file with the {@link Trace} class. Verifies that the events read back
+     * equal the written ones, that comments and empty lines are skipped, and that the feed lines of the events
+     * use the feed format.
+     */
+    @Test
+    void testWritesAndReadsTrace() throws IOException {
+        List<TraceEvent> events = List.of(
+            TraceEvent.start(0, "Mexico", "Canada"),
+            TraceEvent.update(1500, "Mexico", "Canada", 0, 1),
+            TraceEvent.finish(5_400_000, "Mexico", "Canada"));
+        Path file = directory.resolve("trace.txt");
+
+        Trace.write(events, file);
+
+        assertEquals(events, Trace.read(file));
+        assertEquals("1500|UPDATE|Mexico|Canada|0|1", Files.readAllLines(file).get(1));
+        assertEquals("START|Mexico|Canada", events.get(0).toFeedLine());
+
+        Files.write(file, List.of("# recorded", "", "0|START|Spain|Brazil"));
+
+        assertEquals(List.of(TraceEvent.start(0, "Spain", "Brazil")), Trace.read(file));
+    }
+
+    /**
+     * Tests reading invalid trace files with the {@link Trace} class. Verifies that malformed lines and events out
+     * of time order are rejected with an {@link IllegalArgumentException}, and a missing file with an
+     * {@link UncheckedIOException}.
+     */
+    @Test
+    void testRejectsInvalidTraces() throws IOException {
+        Path file = directory.resolve("trace.txt");
+
+        for (String line : List.of("0|START|Spain", "x|START|Spain|Brazil", "0|UPDATE|Spain|Brazil|1|-1", "0|STOP|Spain|Brazil")) {
+            Files.write(file, List.of(line));
+            assertThrows(IllegalArgumentException.class, () -> Trace.read(file));
+        }
+
+        Files.write(file, List.of("10|START|Spain|Brazil", "5|FINISH|Spain|Brazil"));
+
+        assertThrows(IllegalArgumentException.class, () -> Trace.read(file));
+        assertThrows(UncheckedIOException.class, () -> Trace.read(directory.resolve("missing.txt")));
+        assertThrows(IllegalArgumentException.class, () -> TraceEvent.start(0, "Spain|Portugal", "Brazil"));
+    }
+}
@@ -0,0 +1,164 @@
+package com.sportradar.mapped;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchView;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.model.ScoreboardSnapshot;
+import com.sportradar.service.ScoreboardImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for a MappedScoreboardReader class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see MappedScoreboardReader
+ */
+class MappedScoreboardReaderTest {
+    private static final MatchFactory SHIFT_AS_START_TIME =
+        (homeTeam, awayTeam, startTimeShift) -> new Match(homeTeam, awayTeam, 0, 0, startTimeShift);
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests reading snapshots while the board is written concurrently. The writer applies batches that set two
+     * matches to the same score; verifies that every snapshot read by the {@link MappedScoreboardReader} holds
+     * both matches with equal scores, i.e. never a half-published batch, and that versions never go backwards.
+     */
+    @Test
+    void testReadsConsistentSnapshotsWhileWriting() throws Exception {
+        Path file = directory.resolve("board");
+
+        try (MappedScoreboard board = new MappedScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME), file, 4, 8);
+             MappedScoreboardReader reader = new MappedScoreboardReader(file)) {
+            board.startMatch("Mexico", "Canada", 1);
+            board.startMatch("Spain", "Brazil", 2);
+
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            Thread writer = new Thread(() -> {
+                try {
+                    for (int score = 1; score <= 5000; score++)
+                        board.applyBatch(List.of(new ScoreUpdate("Mexico", "Canada", score, 0), new ScoreUpdate("Spain", "Brazil", 0, score)));
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+
+            writer.start();
+
+            long version = 0;
+            int reads = 0;
+
+            while (writer.isAlive() || reads == 0) {
+                ScoreboardSnapshot snapshot = reader.getSnapshot();
+                List<MatchView> matches = snapshot.getMatches();
+
+                assertEquals(2, matches.size());
+                assertEquals(matches.get(0).getTotalScore(), matches.get(1).getTotalScore());
+                assertTrue(snapshot.getVersion() >= version);
+
+                version = snapshot.getVersion();
+                reads++;
+            }
+
+            writer.join();
+
+            assertNull(failure.get());
+            assertEquals(board.getVersion(), reader.getSnapshot().getVersion());
+            assertEquals(5000, reader.getSnapshot().getMatches().get(0).getTotalScore());
+        }
+    }
+
+    /**
+     * Tests a restart of the writer of a {@link MappedScoreboardReader}. Verifies that a reader opened before the
+     * restart reads the board of the new writer, including team names the new writer assigned to the same team IDs.
+     */
+    @Test
+    void testReadsBoardOfRestartedWriter() {
+        Path file = directory.resolve("board");
+
+        try (MappedScoreboardReader reader = openReaderAfter(file)) {
+            assertEquals(List.of("Mexico 0 - Canada 0"), describe(reader.getSnapshot()));
+
+            try (MappedScoreboard board = new MappedScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME), file, 4, 8)) {
+                assertTrue(reader.getSnapshot().getMatches().isEmpty());
+
+                board.startMatch("Spain", "Brazil", 1);
+
+                assertEquals(List.of("Spain 0 - Brazil 0"), describe(reader.getSnapshot()));
+            }
+        }
+    }
+
+    /**
+     * Tests opening a {@link MappedScoreboardReader} on a file that is not a mapped board.
+     * Verifies that an {@link UncheckedIOException} is thrown for a missing, short or foreign file.
+     */
+    @Test
+    void testRejectsInvalidFiles() throws IOException {
+        Path foreign = Files.write(directory.resolve("foreign"), new byte[128]);
+        Path shortFile = Files.write(directory.resolve("short"), new byte[4]);
+
+        assertThrows(UncheckedIOException.class, () -> new MappedScoreboardReader(directory.resolve("missing")));
+        assertThrows(UncheckedIOException.class, () -> new MappedScoreboardReader(foreign));
+        assertThrows(UncheckedIOException.class, () -> new MappedScoreboardReader(shortFile));
+        assertThrows(IllegalArgumentException.class, () -> new MappedScoreboardReader(null));
+    }
+
+    /**
+     * Tests reading a board whose writer died between beginning and finishing a change, leaving the sequence odd.
+     * Verifies that the {@link MappedScoreboardReader} fails with an {@link IllegalStateException} once the maximum
+     * writer stall has passed instead of spinning forever, and that a non-positive maximum stall is rejected.
+     */
+    @Test
+    void testFailsWhenWriterDiesMidChange() throws IOException {
+        Path file = directory.resolve("board");
+
+        try (MappedScoreboard board = new MappedScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME), file, 4, 8)) {
+            board.startMatch("Mexico", "Canada", 1);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer sequence = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+            channel.read(sequence, MappedFormat.SEQUENCE_OFFSET);
+            sequence.putLong(0, sequence.getLong(0) + 1).rewind();
+            channel.write(sequence, MappedFormat.SEQUENCE_OFFSET);
+        }
+
+        try (MappedScoreboardReader reader = new MappedScoreboardReader(file, Duration.ofMillis(50))) {
+            assertThrows(IllegalStateException.class, reader::getSnapshot);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new MappedScoreboardReader(file, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new MappedScoreboardReader(file, null));
+    }
+
+    private MappedScoreboardReader openReaderAfter(Path file) {
+        try (MappedScoreboard board = new MappedScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME), file, 4, 8)) {
+            board.startMatch("Mexico", "Canada", 1);
+
+            return new MappedScoreboardReader(file);
+        }
+    }
+
+    private static List<String> describe(ScoreboardSnapshot snapshot) {
+        return snapshot.getMatches().stream().map(MatchView::toString).toList();
+    }
+}
@@ -0,0 +1,118 @@
+package com.sportradar.mapped;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchView;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.ScoreboardImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for a MappedScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see MappedScoreboard
+ */
+class MappedScoreboardTest {
+    private static final MatchFactory SHIFT_AS_START_TIME =
+        (homeTeam, awayTeam, startTimeShift) -> new Match(homeTeam, awayTeam, 0, 0, startTimeShift);
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests publishing a board with the {@link MappedScoreboard} class. Verifies that matches started before and
+     * after the board was mapped, score updates, batches and finished matches are read back by a
+     * {@link MappedScoreboardReader} in summary order, and that the version grows with every write.
+     */
+    @Test
+    void testPublishesBoard() {
+        ScoreboardImpl scoreboard = new ScoreboardImpl(SHIFT_AS_START_TIME);
+
+        scoreboard.startMatch("Mexico", "Canada", 1);
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+
+        try (MappedScoreboard board = new MappedScoreboard(scoreboard, directory.resolve("board"), 8, 16);
+             MappedScoreboardReader reader = new MappedScoreboardReader(directory.resolve("board"))) {
+            assertEquals(List.of("Mexico 0 - Canada 5"), describe(reader.getSnapshot().getMatches()));
+
+            long version = reader.getVersion();
+
+            board.startMatch("Spain", "Brazil", 1);
+            board.startMatch("Germany", "France", 1);
+            board.startMatch("Uruguay", "Italy", 2);
+            board.updateScore("Germany", "France", 1, 1);
+            board.applyBatch(List.of(new ScoreUpdate("Spain", "Brazil", 10, 2), new ScoreUpdate("Uruguay", "Italy", 6, 6)));
+            board.finishMatch("Germany", "France");
+
+            assertEquals(version + 6, reader.getVersion());
+            assertEquals(board.getVersion(), reader.getSnapshot().getVersion());
+            assertEquals(List.of("Uruguay 6 - Italy 6", "Spain 10 - Brazil 2", "Mexico 0 - Canada 5"),
+                describe(reader.getSnapshot().getMatches()));
+            assertEquals(describe(views(board.getSummary())), describe(reader.getSnapshot().getMatches()));
+
+            board.startMatch("Germany", "France", 0);
+            board.startMatch("Argentina", "Australia", 0);
+
+            assertEquals(List.of("Argentina 0 - Australia 0", "Germany 0 - France 0"),
+                describe(reader.getSnapshot().getMatches().subList(3, 5)));
+        }
+    }
+
+    /**
+     * Tests the capacities of the {@link MappedScoreboard} class. Verifies that starting a match is rejected
+     * without changing the decorated scoreboard when all slots are taken, a team ID does not fit into the team
+     * dictionary or a team name is too long, and that a freed slot is reused.
+     */
+    @Test
+    void testRejectsMatchesBeyondCapacity() {
+        ScoreboardImpl scoreboard = new ScoreboardImpl(SHIFT_AS_START_TIME);
+
+        try (MappedScoreboard board = new MappedScoreboard(scoreboard, directory.resolve("board"), 2, 4)) {
+            board.startMatch("Mexico", "Canada", 1);
+            board.startMatch("Spain", "Brazil", 2);
+
+            assertThrows(IllegalStateException.class, () -> board.startMatch("Germany", "France", 3));
+            assertTrue(scoreboard.findMatch("Germany", "France").isEmpty());
+
+            board.finishMatch("Spain", "Brazil");
+
+            assertThrows(IllegalStateException.class, () -> board.startMatch("Germany", "France", 3));
+            assertTrue(scoreboard.findMatch("Germany", "France").isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> board.startMatch("X".repeat(MappedFormat.MAX_NAME_LENGTH + 1), "Spain", 3));
+
+            board.startMatch("Brazil", "Spain", 3);
+
+            assertEquals(2, scoreboard.getSummary().size());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new MappedScoreboard(scoreboard, directory.resolve("small"), 1, 4));
+        assertThrows(IllegalArgumentException.class, () -> new MappedScoreboard(scoreboard, null, 1, 4));
+        assertThrows(IllegalArgumentException.class, () -> new MappedScoreboard(scoreboard, directory.resolve("board"), 0, 4));
+    }
+
+    private static List<MatchView> views(List<Match> matches) {
+        List<MatchView> views = new ArrayList<>(matches.size());
+
+        for (Match match : matches)
+            views.add(MatchView.of(match));
+
+        return views;
+    }
+
+    private static List<String> describe(List<MatchView> matches) {
+        List<String> descriptions = new ArrayList<>(matches.size());
+
+        for (MatchView match : matches)
+            descriptions.add(match.toString());
+
+        return descriptions;
+    }
+}
@@ -0,0 +1,122 @@
+package com.sportradar.metrics;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.ScoreboardImpl;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for an InstrumentedScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see InstrumentedScoreboard
+ */
+class InstrumentedScoreboardTest {
+    private final ScoreboardMetrics metrics = new ScoreboardMetrics();
+    private final InstrumentedScoreboard scoreboard = new InstrumentedScoreboard(new ScoreboardImpl(new MatchFactoryImpl()), metrics);
+
+    /**
+     * Tests the constructor of the {@link InstrumentedScoreboard} class with null arguments.
+     * Verifies that an {@link IllegalArgumentException} is thrown.
+     */
+    @Test
+    void testConstructorWithNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new InstrumentedScoreboard(null, metrics));
+        assertThrows(IllegalArgumentException.class, () -> new InstrumentedScoreboard(new ScoreboardImpl(new MatchFactoryImpl()), null));
+    }
+
+    /**
+     * Tests the recorded metrics. Verifies that every operation, including the team ID overloads, is counted
+     * with its latency, that failed operations are counted as failures, and that the number of live matches
+     * follows started and finished matches.
+     */
+    @Test
+    void testOperationsAreRecorded() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.updateScore(scoreboard.getTeamRegistry().idOf("Spain"), scoreboard.getTeamRegistry().idOf("Brazil"), 1, 0);
+        scoreboard.applyBatch(List.of(new ScoreUpdate("Spain", "Brazil", 2, 0)));
+        assertThrows(NoSuchElementException.class, () -> scoreboard.updateScore("Germany", "France", 1, 0));
+        scoreboard.getSummary();
+        scoreboard.getTopN(1);
+        scoreboard.finishMatch("Mexico", "Canada");
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+
+        assertEquals(2, snapshot.getCount(Operation.START_MATCH));
+        assertEquals(3, snapshot.getCount(Operation.UPDATE_SCORE));
+        assertEquals(1, snapshot.getFailures(Operation.UPDATE_SCORE));
+        assertEquals(1, snapshot.getCount(Operation.APPLY_BATCH));
+        assertEquals(1, snapshot.getCount(Operation.GET_SUMMARY));
+        assertEquals(1, snapshot.getCount(Operation.GET_TOP_N));
+        assertEquals(1, snapshot.getCount(Operation.FINISH_MATCH));
+        assertEquals(0, snapshot.getFailures(Operation.FINISH_MATCH));
+        assertEquals(3, snapshot.getLatency(Operation.UPDATE_SCORE).getCount());
+        assertTrue(snapshot.getLatency(Operation.START_MATCH).getMax() > 0);
+        assertEquals(1, snapshot.getLiveMatches());
+        assertTrue(snapshot.toString().contains("UPDATE_SCORE: calls=3, failures=1"));
+
+        metrics.reset();
+
+        assertEquals(0, metrics.snapshot().getCount(Operation.START_MATCH));
+        assertEquals(1, metrics.snapshot().getLiveMatches());
+    }
+
+    /**
+     * Tests disabled recording. Verifies that operations are still applied and the number of live matches is
+     * still tracked, while no operation is counted.
+     */
+    @Test
+    void testDisabledRecording() {
+        metrics.setEnabled(false);
+
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+
+        assertEquals("Mexico 0 - Canada 5", scoreboard.getSummary().get(0).toString());
+        assertEquals(0, metrics.snapshot().getCount(Operation.START_MATCH));
+        assertEquals(0, metrics.snapshot().getCount(Operation.GET_SUMMARY));
+        assertEquals(1, metrics.snapshot().getLiveMatches());
+    }
+
+    /**
+     * Tests the JDK Flight Recorder events. Verifies that an event is recorded for every operation while JFR
+     * events are enabled, and none while they are disabled.
+     */
+    @Test
+    void testJfrEvents(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("scoreboard.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.sportradar.ScoreboardOperation").withThreshold(Duration.ZERO);
+            recording.start();
+
+            scoreboard.startMatch("Mexico", "Canada", 0);
+            metrics.setJfrEventsEnabled(true);
+            scoreboard.updateScore("Mexico", "Canada", 0, 5);
+            assertThrows(NoSuchElementException.class, () -> scoreboard.finishMatch("Spain", "Brazil"));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<String> events = RecordingFile.readAllEvents(file).stream()
+            .map(event -> event.getString("operation") + (event.getBoolean("failed") ? " failed" : ""))
+            .collect(Collectors.toList());
+
+        assertEquals(List.of("UPDATE_SCORE", "FINISH_MATCH failed"), events);
+    }
+}
@@ -0,0 +1,87 @@
+package com.sportradar.metrics;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for a LatencyHistogram class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see LatencyHistogram
+ */
+class LatencyHistogramTest {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Tests the bucket layout of the {@link LatencyHistogram} class. Verifies that buckets are contiguous,
+     * that every value lies within its bucket, and that the relative error of a bucket stays below 3.2%.
+     */
+    @Test
+    void testBucketLayout() {
+        long previousHighest = -1;
+
+        for (int bucket = 0; bucket < LatencyHistogram.BUCKETS; bucket++) {
+            long lowest = previousHighest + 1;
+            long highest = LatencyHistogram.highestValueOf(bucket);
+
+            assertEquals(bucket, LatencyHistogram.bucketOf(lowest));
+            assertEquals(bucket, LatencyHistogram.bucketOf(highest));
+            assertTrue(highest - lowest <= Math.max(0, lowest / LatencyHistogram.SUB_BUCKETS));
+            previousHighest = highest;
+        }
+
+        assertEquals(LatencyHistogram.MAX_VALUE, previousHighest);
+    }
+
+    /**
+     * Tests the statistics of a snapshot. Verifies the count, mean, maximum and percentiles of a uniform
+     * distribution, and that out-of-range values are clamped.
+     */
+    @Test
+    void testSnapshotStatistics() {
+        for (long value = 1; value <= 10_000; value++)
+            histogram.record(value * 1_000);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(5_000_500, snapshot.getMean(), 1);
+        assertEquals(10_000_000, snapshot.getMax());
+        assertEquals(5_000_000, snapshot.getValueAtPercentile(50), 5_000_000 * 0.032);
+        assertEquals(9_900_000, snapshot.getValueAtPercentile(99), 9_900_000 * 0.032);
+        assertEquals(10_000_000, snapshot.getValueAtPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(101));
+
+        histogram.reset();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        HistogramSnapshot clamped = histogram.snapshot();
+
+        assertEquals(0, clamped.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.MAX_VALUE, clamped.getMax());
+        assertEquals(0, new LatencyHistogram().snapshot().getValueAtPercentile(99));
+    }
+
+    /**
+     * Tests recording from several threads. Verifies that no value is lost.
+     */
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+
+        for (int thread = 0; thread < threads.length; thread++) {
+            threads[thread] = new Thread(() -> {
+                for (int value = 0; value < 100_000; value++)
+                    histogram.record(value);
+            });
+            threads[thread].start();
+        }
+
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(400_000, histogram.snapshot().getCount());
+    }
+}
@@ -0,0 +1,42 @@
+package com.sportradar.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for a MatchKey class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see MatchKey
+ */
+class MatchKeyTest {
+
+    /**
+     * Tests the equals and hashCode methods of the MatchKey class.
+     * Verifies that keys built from the same team IDs are equal and share a hash code,
+     * while swapping the home and away teams produces a different key.
+     */
+    @Test
+    void testEqualsAndHashCode() {
+        MatchKey key = new MatchKey(1, 2);
+        MatchKey sameKey = new MatchKey(1, 2);
+        MatchKey swappedKey = new MatchKey(2, 1);
+
+        assertEquals(key, sameKey);
+        assertEquals(key.hashCode(), sameKey.hashCode());
+        assertNotEquals(key, swappedKey);
+        assertEquals(1, key.getHomeTeamId());
+        assertEquals(2, key.getAwayTeamId());
+    }
+
+    /**
+     * Tests the constructor of the MatchKey class with negative team IDs.
+     * Verifies that the constructor throws an IllegalArgumentException for a negative home or away team ID.
+     */
+    @Test
+    void testConstructorWithNegativeTeamIds() {
+        assertThrows(IllegalArgumentException.class, () -> new MatchKey(-1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new MatchKey(1, -1));
+    }
+}
@@ -20,14 +20,17 @@ class MatchTest {
     @Test
     void testConstructorAndGetters() {
         int startTimeShift = 1;
+        long before = System.currentTimeMillis();
         Match match = new Match("HomeTeam", "AwayTeam", startTimeShift);
+        long after = System.currentTimeMillis();
 
         assertEquals("HomeTeam", match.getHomeTeam());
         assertEquals("AwayTeam", match.getAwayTeam());
         assertEquals(0, match.getHomeScore());
         assertEquals(0, match.getAwayScore());
 
-        assertTrue(match.getStartTime() > System.currentTimeMillis());
+        assertTrue(match.getStartTime() >= before + startTimeShift);
+        assertTrue(match.getStartTime() <= after + startTimeShift);
     }
 
     /**
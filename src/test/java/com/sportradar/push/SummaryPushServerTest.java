@@ -0,0 +1,277 @@
+package com.sportradar.push;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchView;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.ScoreboardImpl;
+import com.sportradar.service.SnapshotScoreboard;
+import com.sportradar.wire.SummaryDecoder;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Unit tests for a SummaryPushServer class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see SummaryPushServer
+ */
+class SummaryPushServerTest {
+    private static final MatchFactory SHIFT_AS_START_TIME =
+        (homeTeam, awayTeam, startTimeShift) -> new Match(homeTeam, awayTeam, 0, 0, startTimeShift);
+
+    /**
+     * Tests streaming a scoreboard to a client of the {@link SummaryPushServer} class on localhost. Verifies that
+     * the client receives a full event followed by delta events, which a {@link SummaryDecoder} applies to the
+     * current summary, and that requests other than GET are rejected.
+     */
+    @Test
+    void testStreamsFullEventThenDeltas() throws IOException {
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME));
+
+        scoreboard.startMatch("Mexico", "Canada", 1);
+
+        try (SummaryPushServer server = startServer(scoreboard, PushOptions.defaults().withPollInterval(Duration.ofMillis(2)));
+             EventStream stream = new EventStream(server, null)) {
+            SummaryDecoder decoder = new SummaryDecoder();
+
+            assertEquals(PushEvent.FULL, stream.apply(decoder));
+            assertEquals(describe(scoreboard), describe(decoder));
+
+            scoreboard.startMatch("Spain", "Brazil", 2);
+            scoreboard.applyBatch(List.of(new ScoreUpdate("Spain", "Brazil", 10, 2), new ScoreUpdate("Mexico", "Canada", 0, 5)));
+
+            while (decoder.getVersion() != scoreboard.getSnapshot().getVersion())
+                assertEquals(PushEvent.DELTA, stream.apply(decoder));
+
+            assertEquals(List.of("Spain 10 - Brazil 2", "Mexico 0 - Canada 5"), describe(decoder));
+            assertEquals(1, server.getSubscriberCount());
+
+            HttpURLConnection post = (HttpURLConnection) url(server, "").openConnection();
+
+            post.setRequestMethod("POST");
+            assertEquals(405, post.getResponseCode());
+        }
+    }
+
+    /**
+     * Tests fanning out events of the {@link SummaryPushServer} class to many clients. Verifies that every client
+     * receives every change and that each change is published as a single event.
+     */
+    @Test
+    void testFansOutToManyClients() throws IOException {
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME));
+        List<EventStream> streams = new ArrayList<>();
+        List<SummaryDecoder> decoders = new ArrayList<>();
+
+        scoreboard.startMatch("Mexico", "Canada", 1);
+
+        try (SummaryPushServer server = startServer(scoreboard, PushOptions.defaults().withPollInterval(Duration.ofMillis(2)))) {
+            for (int client = 0; client < 50; client++) {
+                streams.add(new EventStream(server, null));
+                decoders.add(new SummaryDecoder());
+                streams.get(client).apply(decoders.get(client));
+            }
+
+            long published = server.getPublishedEventCount();
+
+            scoreboard.updateScore("Mexico", "Canada", 1, 0);
+            awaitPublished(server, scoreboard);
+
+            for (int client = 0; client < streams.size(); client++) {
+                assertEquals(PushEvent.DELTA, streams.get(client).apply(decoders.get(client)));
+                assertEquals(List.of("Mexico 1 - Canada 0"), describe(decoders.get(client)));
+            }
+
+            assertEquals(published + 1, server.getPublishedEventCount());
+            assertEquals(50, server.getSubscriberCount());
+        } finally {
+            for (EventStream stream : streams)
+                stream.close();
+        }
+    }
+
+    /**
+     * Tests resuming a stream of the {@link SummaryPushServer} class. Verifies that a client reconnecting with the
+     * ID of the last event it received gets only the missed delta events, and that a client with an unknown
+     * event ID gets a full event.
+     */
+    @Test
+    void testResumesFromLastEventId() throws IOException {
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME));
+        SummaryDecoder decoder = new SummaryDecoder();
+
+        scoreboard.startMatch("Mexico", "Canada", 1);
+
+        try (SummaryPushServer server = startServer(scoreboard, PushOptions.defaults().withPollInterval(Duration.ofMillis(2)))) {
+            try (EventStream stream = new EventStream(server, null)) {
+                stream.apply(decoder);
+            }
+
+            long lastEventId = decoder.getVersion();
+
+            scoreboard.updateScore("Mexico", "Canada", 1, 0);
+            awaitPublished(server, scoreboard);
+            scoreboard.updateScore("Mexico", "Canada", 2, 0);
+            awaitPublished(server, scoreboard);
+
+            try (EventStream stream = new EventStream(server, String.valueOf(lastEventId))) {
+                while (decoder.getVersion() != scoreboard.getSnapshot().getVersion())
+                    assertEquals(PushEvent.DELTA, stream.apply(decoder));
+            }
+
+            assertEquals(describe(scoreboard), describe(decoder));
+
+            try (EventStream stream = new EventStream(server, "999")) {
+                assertEquals(PushEvent.FULL, stream.apply(new SummaryDecoder()));
+            }
+        }
+    }
+
+    /**
+     * Tests slow subscribers of the {@link SummaryPushServer} class. Verifies that a subscriber whose queue overflows
+     * is conflated to a single full event, that it is dropped when it overflows again before receiving that event,
+     * and that a subscriber keeping up is not affected.
+     */
+    @Test
+    void testConflatesAndDropsSlowSubscribers() throws InterruptedException {
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME));
+        PushOptions options = PushOptions.defaults().withPollInterval(Duration.ofHours(1)).withClientQueueCapacity(2);
+
+        scoreboard.startMatch("Mexico", "Canada", 1);
+
+        try (SummaryPushServer server = startServer(scoreboard, options)) {
+            SummaryPushServer.Subscriber slow = server.subscribe(-1);
+            SummaryPushServer.Subscriber fast = server.subscribe(-1);
+
+            assertTrue(fast.take(0).isFull());
+
+            for (int goals = 1; goals <= 4; goals++) {
+                scoreboard.updateScore("Mexico", "Canada", goals, 0);
+                server.publishChanges();
+
+                assertEquals(scoreboard.getSnapshot().getVersion(), fast.take(0).getVersion());
+
+                if (goals == 2) {
+                    assertEquals(1, server.getConflatedClientCount());
+                    assertEquals(1, slow.getQueuedEventCount());
+                }
+            }
+
+            assertEquals(1, server.getDroppedClientCount());
+            assertEquals(1, server.getSubscriberCount());
+            assertSame(PushEvent.CLOSE, slow.take(0));
+        }
+    }
+
+    /**
+     * Tests the constructor of the {@link SummaryPushServer} class and the options with invalid arguments.
+     * Verifies that an {@link IllegalArgumentException} is thrown for null arguments and invalid option values.
+     */
+    @Test
+    void testInvalidArguments() {
+        SnapshotScoreboard scoreboard = new SnapshotScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME));
+
+        assertThrows(IllegalArgumentException.class, () -> new SummaryPushServer(null, new InetSocketAddress(0), PushOptions.defaults()));
+        assertThrows(IllegalArgumentException.class, () -> new SummaryPushServer(scoreboard, null, PushOptions.defaults()));
+        assertThrows(IllegalArgumentException.class, () -> new SummaryPushServer(scoreboard, new InetSocketAddress(0), null));
+        assertThrows(IllegalArgumentException.class, () -> PushOptions.defaults().withPollInterval(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> PushOptions.defaults().withClientQueueCapacity(0));
+        assertThrows(IllegalArgumentException.class, () -> PushOptions.defaults().withHistorySize(-1));
+        assertThrows(IllegalArgumentException.class, () -> PushOptions.defaults().withHeartbeatInterval(null));
+    }
+
+    private static SummaryPushServer startServer(SnapshotScoreboard scoreboard, PushOptions options) {
+        return new SummaryPushServer(scoreboard, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), options);
+    }
+
+    private static void awaitPublished(SummaryPushServer server, SnapshotScoreboard scoreboard) {
+        while (server.getPublishedVersion() != scoreboard.getSnapshot().getVersion())
+            Thread.onSpinWait();
+    }
+
+    private static URL url(SummaryPushServer server, String query) throws IOException {
+        return new URL("http://localhost:" + server.getPort() + SummaryPushServer.EVENTS_PATH + query);
+    }
+
+    private static List<String> describe(SnapshotScoreboard scoreboard) {
+        List<String> descriptions = new ArrayList<>();
+
+        for (MatchView match : scoreboard.getSnapshot().getMatches())
+            descriptions.add(match.toString());
+
+        return descriptions;
+    }
+
+    private static List<String> describe(SummaryDecoder decoder) {
+        List<String> descriptions = new ArrayList<>();
+
+        for (int rank = 0; rank < decoder.size(); rank++)
+            descriptions.add(decoder.getMatch(rank).toString());
+
+        return descriptions;
+    }
+
+    /**
+     * Minimal SSE client reading the event stream of a server line by line.
+     */
+    private static final class EventStream implements AutoCloseable {
+        private final HttpURLConnection connection;
+        private final BufferedReader reader;
+
+        private EventStream(SummaryPushServer server, String lastEventId) throws IOException {
+            connection = (HttpURLConnection) url(server, lastEventId == null ? "" : "?lastEventId=" + lastEventId).openConnection();
+            connection.setReadTimeout(10_000);
+            reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.US_ASCII));
+
+            assertEquals("text/event-stream; charset=utf-8", connection.getContentType());
+        }
+
+        /**
+         * Reads the next event, skipping comments, applies its frame to a decoder and returns its type.
+         */
+        String apply(SummaryDecoder decoder) throws IOException {
+            String type = null;
+            String data = null;
+            long id = -1;
+
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isEmpty() && data != null)
+                    break;
+
+                if (line.startsWith("id: "))
+                    id = Long.parseLong(line.substring(4));
+                else if (line.startsWith("event: "))
+                    type = line.substring(7);
+                else if (line.startsWith("data: "))
+                    data = line.substring(6);
+            }
+
+            assertNotNull(data);
+            assertEquals(id, decoder.apply(ByteBuffer.wrap(Base64.getDecoder().decode(data))));
+
+            return type;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+            connection.disconnect();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.sportradar.ranking;
+
+import com.sportradar.model.MatchKey;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for a RankingStrategies class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see RankingStrategies
+ */
+class RankingStrategiesTest {
+
+    /**
+     * Tests the sort keys of the built-in strategies of the {@link RankingStrategies} class.
+     * Verifies that higher keys are produced for higher totals, larger goal differences, more recent changes
+     * and higher fixture priorities.
+     */
+    @Test
+    void testSortKeys() {
+        assertTrue(RankingStrategies.TOTAL_SCORE.sortKey(state(0, 1, 2, 1, 10, 0))
+            > RankingStrategies.TOTAL_SCORE.sortKey(state(0, 1, 2, 0, 99, 0)));
+        assertTrue(RankingStrategies.TOTAL_SCORE.sortKey(state(0, 1, 1, 1, 11, 0))
+            > RankingStrategies.TOTAL_SCORE.sortKey(state(0, 1, 2, 0, 10, 0)));
+        assertTrue(RankingStrategies.GOAL_DIFFERENCE.sortKey(state(0, 1, 0, 3, 0, 0))
+            > RankingStrategies.GOAL_DIFFERENCE.sortKey(state(0, 1, 4, 2, 0, 0)));
+        assertTrue(RankingStrategies.MOST_RECENTLY_CHANGED.sortKey(state(0, 1, 0, 0, 0, 8))
+            > RankingStrategies.MOST_RECENTLY_CHANGED.sortKey(state(0, 1, 5, 5, 0, 7)));
+
+        RankingStrategy byPriority = RankingStrategies.byPriority(fixture -> fixture == MatchKey.pack(2, 3) ? 1 : -1);
+
+        assertTrue(byPriority.sortKey(state(2, 3, 0, 0, 0, 0)) > byPriority.sortKey(state(0, 1, 9, 9, 0, 0)));
+        assertTrue(byPriority.sortKey(state(0, 1, 1, 0, 0, 0)) > byPriority.sortKey(state(4, 5, 0, 0, 0, 0)));
+        assertThrows(IllegalArgumentException.class, () -> RankingStrategies.byPriority(null));
+    }
+
+    /**
+     * Tests the name prefixes behind the home team alphabetical strategy of the {@link RankingStrategies} class.
+     * Verifies that prefixes compare like the names, ignoring case, accents, punctuation and white space.
+     */
+    @Test
+    void testNamePrefix() {
+        assertTrue(RankingStrategies.namePrefix("Argentina") < RankingStrategies.namePrefix("Brazil"));
+        assertTrue(RankingStrategies.namePrefix("Georgia") < RankingStrategies.namePrefix("Germany"));
+        assertTrue(RankingStrategies.namePrefix("Iran") < RankingStrategies.namePrefix("Iraq"));
+        assertTrue(RankingStrategies.namePrefix("Korea") < RankingStrategies.namePrefix("Korea Republic"));
+        assertEquals(RankingStrategies.namePrefix("Côte d'Ivoire"), RankingStrategies.namePrefix("COTE DIVOIRE"));
+        assertTrue(RankingStrategies.namePrefix("Netherlands") >= 0);
+        assertFalse(RankingStrategies.HOME_TEAM_ALPHABETICAL.dependsOnScore());
+    }
+
+    private static MatchState state(int homeId, int awayId, int homeScore, int awayScore, long startTime, long lastChange) {
+        return new MatchState() {
+            @Override
+            public int getHomeTeamId() {
+                return homeId;
+            }
+
+            @Override
+            public int getAwayTeamId() {
+                return awayId;
+            }
+
+            @Override
+            public String getHomeTeam() {
+                return "Team-" + homeId;
+            }
+
+            @Override
+            public String getAwayTeam() {
+                return "Team-" + awayId;
+            }
+
+            @Override
+            public int getHomeScore() {
+                return homeScore;
+            }
+
+            @Override
+            public int getAwayScore() {
+                return awayScore;
+            }
+
+            @Override
+            public long getStartTime() {
+                return startTime;
+            }
+
+            @Override
+            public long getLastChange() {
+                return lastChange;
+            }
+        };
+    }
+}
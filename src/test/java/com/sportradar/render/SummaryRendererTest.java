@@ -0,0 +1,112 @@
+package com.sportradar.render;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.Match;
+import com.sportradar.service.ScoreboardImpl;
+import com.sportradar.service.SnapshotScoreboard;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for a SummaryRenderer class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see SummaryRenderer
+ */
+class SummaryRendererTest {
+    private final SnapshotScoreboard scoreboard = new SnapshotScoreboard(new ScoreboardImpl(new MatchFactoryImpl()));
+    private final SummaryRenderer renderer = new SummaryRenderer(scoreboard);
+
+    /**
+     * Tests the constructor of the {@link SummaryRenderer} class with a null scoreboard.
+     * Verifies that an {@link IllegalArgumentException} is thrown.
+     */
+    @Test
+    void testConstructorWithNullScoreboard() {
+        assertThrows(IllegalArgumentException.class, () -> new SummaryRenderer(null));
+    }
+
+    /**
+     * Tests the text and JSON rendering of the summary. Verifies that the text holds the lines of
+     * {@code Match.toString()} in summary order, that the JSON holds the matches in the same order,
+     * and that writing the summary produces the same bytes.
+     */
+    @Test
+    void testRendering() throws IOException {
+        assertEquals("", renderer.render().getText());
+        assertEquals("[]", renderer.render().getJson());
+
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+
+        RenderedSummary summary = renderer.render();
+        String expectedText = scoreboard.getSummary().stream().map(Match::toString).collect(Collectors.joining("\n", "", "\n"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(expectedText, summary.getText());
+        assertEquals("[{\"homeTeam\":\"Mexico\",\"homeScore\":0,\"awayTeam\":\"Canada\",\"awayScore\":5},"
+            + "{\"homeTeam\":\"Spain\",\"homeScore\":0,\"awayTeam\":\"Brazil\",\"awayScore\":0}]", summary.getJson());
+
+        summary.writeJson(out);
+
+        assertEquals(summary.getJsonLength(), out.size());
+        assertEquals(summary.getJson(), out.toString(StandardCharsets.UTF_8));
+
+        out.reset();
+        summary.writeText(out);
+
+        assertEquals(summary.getTextLength(), out.size());
+        assertEquals(expectedText, out.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests team names that need escaping in JSON. Verifies that quotes, backslashes and control characters
+     * are escaped, and that non-ASCII names are written as UTF-8.
+     */
+    @Test
+    void testJsonEscaping() {
+        scoreboard.startMatch("Côte d'Ivoire", "The \"Reds\"\\\t", 0);
+
+        assertEquals("[{\"homeTeam\":\"Côte d'Ivoire\",\"homeScore\":0,\"awayTeam\":\"The \\\"Reds\\\"\\\\\\u0009\",\"awayScore\":0}]",
+            renderer.render().getJson());
+    }
+
+    /**
+     * Tests the rendering cache. Verifies that an unchanged board returns the same rendered summary without
+     * formatting any match, that a score update formats only the updated match even if the ranks of other
+     * matches change, and that a finished match formats nothing.
+     */
+    @Test
+    void testOnlyChangedMatchesAreRendered() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.startMatch("Germany", "France", 2);
+
+        RenderedSummary summary = renderer.render();
+
+        assertEquals(3, renderer.getRenderedFragments());
+        assertSame(summary, renderer.render());
+        assertEquals(3, renderer.getRenderedFragments());
+
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+
+        RenderedSummary updated = renderer.render();
+
+        assertNotSame(summary, updated);
+        assertEquals(scoreboard.getSnapshot().getVersion(), updated.getVersion());
+        assertTrue(updated.getText().startsWith("Mexico 0 - Canada 5\n"));
+        assertEquals(4, renderer.getRenderedFragments());
+
+        scoreboard.finishMatch("Spain", "Brazil");
+
+        assertEquals("Mexico 0 - Canada 5\nGermany 0 - France 0\n", renderer.render().getText());
+        assertEquals(4, renderer.getRenderedFragments());
+    }
+}
@@ -0,0 +1,268 @@
+package com.sportradar.service;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.Match;
+import com.sportradar.model.MatchScore;
+import com.sportradar.model.ScoreUpdate;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit and multi-threaded stress tests for a ConcurrentScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see ConcurrentScoreboard
+ */
+class ConcurrentScoreboardTest {
+    private static final int THREADS = 8;
+
+    private final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard(new MatchFactoryImpl());
+
+    /**
+     * Tests the constructor of the {@link ConcurrentScoreboard} class with a null match factory.
+     * Verifies that an {@link IllegalArgumentException} is thrown.
+     */
+    @Test
+    void testConstructorWithNullMatchFactory() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentScoreboard(null));
+    }
+
+    /**
+     * Tests the single-threaded behaviour of the {@link ConcurrentScoreboard} class. Verifies that matches
+     * can be started, updated and finished, that the summary is ordered by total score and start time,
+     * and that the same validation rules as in {@link ScoreboardImpl} apply.
+     */
+    @Test
+    void testStartUpdateFinishAndSummary() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.startMatch("Germany", "France", 2);
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+
+        List<Match> summary = scoreboard.getSummary();
+
+        assertEquals(3, summary.size());
+        assertEquals("Spain", summary.get(0).getHomeTeam());
+        assertEquals("Mexico", summary.get(1).getHomeTeam());
+        assertEquals("Germany", summary.get(2).getHomeTeam());
+        assertEquals(summary.subList(0, 2), scoreboard.getTopN(2));
+
+        assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Brazil", "Italy", 3));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.startMatch("Italy", "Italy", 3));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Spain", "Brazil", -1, 0));
+        assertThrows(NoSuchElementException.class, () -> scoreboard.updateScore("Italy", "Brazil", 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getTopN(-1));
+
+        scoreboard.finishMatch("Spain", "Brazil");
+
+        assertThrows(NoSuchElementException.class, () -> scoreboard.finishMatch("Spain", "Brazil"));
+        assertEquals(2, scoreboard.getSummary().size());
+        assertDoesNotThrow(() -> scoreboard.startMatch("Brazil", "Spain", 3));
+    }
+
+    /**
+     * Stress test for lost updates and torn reads. Every writer thread owns its own matches and writes
+     * monotonically increasing scores in which the home and away scores are always equal, while reader
+     * threads continuously build summaries. Verifies that readers never observe a torn score pair, and
+     * that the last written score of every match survives.
+     */
+    @Test
+    void testConcurrentUpdatesAreNeitherLostNorTorn() throws Exception {
+        int matchesPerThread = 20;
+        int updatesPerMatch = 500;
+
+        for (int t = 0; t < THREADS; t++)
+            for (int m = 0; m < matchesPerThread; m++)
+                scoreboard.startMatch("Home-" + t + "-" + m, "Away-" + t + "-" + m, 0);
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger inconsistentReads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS * 2);
+
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+
+                writers.add(executor.submit(() -> {
+                    for (int score = 1; score <= updatesPerMatch; score++)
+                        for (int m = 0; m < matchesPerThread; m++)
+                            scoreboard.updateScore("Home-" + thread + "-" + m, "Away-" + thread + "-" + m, score, score);
+                }));
+            }
+
+            List<Future<?>> readers = new ArrayList<>();
+
+            for (int t = 0; t < THREADS; t++) {
+                readers.add(executor.submit(() -> {
+                    while (writing.get()) {
+                        for (Match match : scoreboard.getSummary()) {
+                            long packedScore = match.getPackedScore();
+
+                            if (MatchScore.homeScore(packedScore) != MatchScore.awayScore(packedScore))
+                                inconsistentReads.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> writer : writers)
+                writer.get(30, TimeUnit.SECONDS);
+
+            writing.set(false);
+
+            for (Future<?> reader : readers)
+                reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, inconsistentReads.get());
+
+        List<Match> summary = scoreboard.getSummary();
+
+        assertEquals(THREADS * matchesPerThread, summary.size());
+
+        for (Match match : summary) {
+            assertEquals(updatesPerMatch, match.getHomeScore());
+            assertEquals(updatesPerMatch, match.getAwayScore());
+        }
+    }
+
+    /**
+     * Stress test for conflicting fixtures. Many threads concurrently try to start a match for the same
+     * team against different opponents. Verifies that exactly one of the fixtures is started and every
+     * other attempt is rejected with an {@link IllegalStateException}.
+     */
+    @Test
+    void testConcurrentConflictingStartsAdmitExactlyOneMatch() throws Exception {
+        int attempts = 64;
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < attempts; i++) {
+                int attempt = i;
+
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+
+                    try {
+                        scoreboard.startMatch("Brazil", "Opponent-" + attempt, 0);
+                        started.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+
+                    return null;
+                }));
+            }
+
+            startSignal.countDown();
+
+            for (Future<?> future : futures)
+                future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, started.get());
+        assertEquals(attempts - 1, rejected.get());
+        assertEquals(1, scoreboard.getSummary().size());
+    }
+
+    /**
+     * Stress test for concurrent starting and finishing of matches. Every thread repeatedly starts and
+     * finishes its own matches while reader threads build summaries. Verifies that a summary never holds
+     * the same match twice, and that the scoreboard is empty once all matches are finished.
+     */
+    @Test
+    void testConcurrentStartAndFinishKeepSummaryConsistent() throws Exception {
+        int rounds = 500;
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger duplicateReads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS * 2);
+
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+
+                writers.add(executor.submit(() -> {
+                    for (int round = 0; round < rounds; round++) {
+                        scoreboard.startMatch("Home-" + thread, "Away-" + thread, 0);
+                        scoreboard.updateScore("Home-" + thread, "Away-" + thread, round, round);
+                        scoreboard.finishMatch("Home-" + thread, "Away-" + thread);
+                    }
+                }));
+            }
+
+            List<Future<?>> readers = new ArrayList<>();
+
+            for (int t = 0; t < THREADS; t++) {
+                readers.add(executor.submit(() -> {
+                    while (writing.get()) {
+                        List<Match> summary = scoreboard.getSummary();
+                        Set<Match> distinctMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+
+                        distinctMatches.addAll(summary);
+
+                        if (distinctMatches.size() != summary.size())
+                            duplicateReads.incrementAndGet();
+                    }
+                }));
+            }
+
+            for (Future<?> writer : writers)
+                writer.get(30, TimeUnit.SECONDS);
+
+            writing.set(false);
+
+            for (Future<?> reader : readers)
+                reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, duplicateReads.get());
+        assertTrue(scoreboard.getSummary().isEmpty());
+    }
+
+    /**
+     * Tests the {@code applyBatch} method of the {@link ConcurrentScoreboard} class. Verifies that a valid batch
+     * is applied with updates of the same match coalesced into the last one, and that a batch with an invalid
+     * update is rejected without applying any of its updates.
+     */
+    @Test
+    void testApplyBatch() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+
+        scoreboard.applyBatch(List.of(
+            new ScoreUpdate("Mexico", "Canada", 0, 5),
+            new ScoreUpdate("Spain", "Brazil", 1, 0),
+            new ScoreUpdate("Mexico", "Canada", 0, 6)));
+
+        assertEquals(6, scoreboard.findMatch("Mexico", "Canada").orElseThrow().getAwayScore());
+        assertEquals(1, scoreboard.findMatch("Spain", "Brazil").orElseThrow().getHomeScore());
+
+        assertThrows(BatchUpdateException.class, () -> scoreboard.applyBatch(List.of(
+            new ScoreUpdate("Spain", "Brazil", 2, 0),
+            new ScoreUpdate("Germany", "France", 1, 0))));
+
+        assertEquals(1, scoreboard.findMatch("Spain", "Brazil").orElseThrow().getHomeScore());
+    }
+}
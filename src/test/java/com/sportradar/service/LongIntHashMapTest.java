@@ -0,0 +1,60 @@
+package com.sportradar.service;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for a LongIntHashMap class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see LongIntHashMap
+ */
+class LongIntHashMapTest {
+
+    /**
+     * Randomised comparison of the {@link LongIntHashMap} class with {@link HashMap}. Random insertions and
+     * removals over a small key range force collisions, backward-shift deletions and table growth, after
+     * which every key must map to the same value in both maps.
+     */
+    @Test
+    void testMatchesHashMapOnRandomOperations() {
+        LongIntHashMap map = new LongIntHashMap(1);
+        Map<Long, Integer> reference = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int operation = 0; operation < 20000; operation++) {
+            long key = random.nextInt(500) * 0x1_0000_0000L + random.nextInt(3);
+
+            if (random.nextBoolean()) {
+                map.put(key, operation);
+                reference.put(key, operation);
+            } else {
+                assertEquals((int) reference.getOrDefault(key, -1), map.remove(key, -1));
+                reference.remove(key);
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+
+        for (int high = 0; high < 500; high++)
+            for (int low = 0; low < 3; low++) {
+                long key = high * 0x1_0000_0000L + low;
+
+                assertEquals((int) reference.getOrDefault(key, -1), map.get(key, -1));
+            }
+    }
+
+    /**
+     * Tests the {@code put} method of the {@link LongIntHashMap} class with the reserved key.
+     * Verifies that an {@link IllegalArgumentException} is thrown for {@link Long#MIN_VALUE}.
+     */
+    @Test
+    void testPutReservedKey() {
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHashMap(4).put(Long.MIN_VALUE, 1));
+    }
+}
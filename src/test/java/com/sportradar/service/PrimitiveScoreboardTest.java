@@ -0,0 +1,345 @@
+package com.sportradar.service;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.ranking.MatchState;
+import com.sportradar.ranking.RankingStrategies;
+import com.sportradar.ranking.RankingStrategy;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+/**
+ * Unit tests for a PrimitiveScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see PrimitiveScoreboard
+ */
+class PrimitiveScoreboardTest {
+    private static final MatchFactory SHIFT_AS_START_TIME =
+        (homeTeam, awayTeam, startTimeShift) -> new Match(homeTeam, awayTeam, 0, 0, startTimeShift);
+
+    /**
+     * Tests the constructor of the {@link PrimitiveScoreboard} class with invalid arguments.
+     * Verifies that an {@link IllegalArgumentException} is thrown for a null match factory
+     * and a non-positive initial capacity.
+     */
+    @Test
+    void testConstructorWithInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PrimitiveScoreboard(null));
+        assertThrows(IllegalArgumentException.class, () -> new PrimitiveScoreboard(new MatchFactoryImpl(), 0));
+    }
+
+    /**
+     * Tests starting, updating and finishing matches on the {@link PrimitiveScoreboard} class. Verifies the
+     * summary order, the top of the summary, the validation rules shared with {@link ScoreboardImpl}, and
+     * that every live match is handed out as one instance following the board state.
+     */
+    @Test
+    void testStartUpdateFinishAndSummary() {
+        PrimitiveScoreboard scoreboard = new PrimitiveScoreboard(new MatchFactoryImpl(), 1);
+
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.startMatch("Germany", "France", 2);
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+
+        List<Match> summary = scoreboard.getSummary();
+
+        assertEquals("Spain 10 - Brazil 2", summary.get(0).toString());
+        assertEquals("Mexico 0 - Canada 5", summary.get(1).toString());
+        assertEquals("Germany 0 - France 0", summary.get(2).toString());
+        assertEquals(2, scoreboard.getTopN(2).size());
+        assertEquals("Spain", scoreboard.getTopN(2).get(0).getHomeTeam());
+
+        Match match = scoreboard.findMatch("Mexico", "Canada").orElseThrow();
+
+        assertSame(match, summary.get(1));
+        assertSame(match, scoreboard.getTopN(2).get(1));
+        scoreboard.updateScore("Mexico", "Canada", 1, 5);
+        assertEquals(6, match.getTotalScore());
+
+        assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Brazil", "Italy", 3));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.startMatch("Italy", "Italy", 3));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Spain", "Brazil", -1, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> scoreboard.updateScore("Spain", "Brazil", PrimitiveScoreboard.MAX_TOTAL_SCORE, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> scoreboard.updateScore("Spain", "Brazil", Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertThrows(NoSuchElementException.class, () -> scoreboard.updateScore("Italy", "Brazil", 1, 0));
+        assertThrows(NoSuchElementException.class, () -> scoreboard.finishMatch("Brazil", "Spain"));
+
+        scoreboard.finishMatch("Spain", "Brazil");
+
+        assertEquals(2, scoreboard.getSummary().size());
+        assertTrue(scoreboard.findMatch("Spain", "Brazil").isEmpty());
+        assertDoesNotThrow(() -> scoreboard.startMatch("Brazil", "Spain", 3));
+        assertEquals("Brazil 0 - Spain 0", scoreboard.getSummary().get(1).toString());
+    }
+
+    /**
+     * Tests the {@code applyBatch} method of the {@link PrimitiveScoreboard} class. Verifies that updates of the
+     * same match are coalesced, and that a batch with an update exceeding the maximum total score, also one whose
+     * total overflows an int, is rejected without applying any of its updates.
+     */
+    @Test
+    void testApplyBatch() {
+        PrimitiveScoreboard scoreboard = new PrimitiveScoreboard(SHIFT_AS_START_TIME);
+
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.applyBatch(List.of(new ScoreUpdate("Mexico", "Canada", 3, 0), new ScoreUpdate("Mexico", "Canada", 2, 0)));
+
+        assertEquals("Mexico 2 - Canada 0", scoreboard.getSummary().get(0).toString());
+
+        BatchUpdateException exception = assertThrows(BatchUpdateException.class, () -> scoreboard.applyBatch(List.of(
+            new ScoreUpdate("Spain", "Brazil", 1, 0),
+            new ScoreUpdate("Mexico", "Canada", PrimitiveScoreboard.MAX_TOTAL_SCORE, 1))));
+
+        assertEquals(1, exception.getErrors().get(0).getIndex());
+        assertEquals(0, scoreboard.findMatch("Spain", "Brazil").orElseThrow().getTotalScore());
+        assertThrows(BatchUpdateException.class, () -> scoreboard.applyBatch(List.of(
+            new ScoreUpdate("Spain", "Brazil", Integer.MAX_VALUE, Integer.MAX_VALUE))));
+        assertEquals(List.of("Mexico 2 - Canada 0 @0", "Spain 0 - Brazil 0 @1"), describe(scoreboard.getSummary()));
+    }
+
+    /**
+     * Randomised comparison of the {@link PrimitiveScoreboard} class with {@link ScoreboardImpl}. The same sequence
+     * of random starts, updates and finishes is applied to both boards, which must then return the same summary
+     * after every operation. The ranks of the live matches are compared with {@link ConcurrentScoreboard} and
+     * with the positions in the summary.
+     */
+    @Test
+    void testMatchesScoreboardImplOnRandomOperations() {
+        PrimitiveScoreboard primitive = new PrimitiveScoreboard(SHIFT_AS_START_TIME, 2);
+        ScoreboardImpl reference = new ScoreboardImpl(SHIFT_AS_START_TIME);
+        ConcurrentScoreboard concurrent = new ConcurrentScoreboard(SHIFT_AS_START_TIME);
+        Random random = new Random(42);
+        List<String[]> live = new ArrayList<>();
+        int nextTeam = 0;
+
+        for (int operation = 0; operation < 5000; operation++) {
+            int choice = random.nextInt(10);
+
+            if (choice < 3 || live.isEmpty()) {
+                String[] fixture = {"Team-" + nextTeam++, "Team-" + nextTeam++};
+                int startTime = random.nextInt(50);
+
+                primitive.startMatch(fixture[0], fixture[1], startTime);
+                reference.startMatch(fixture[0], fixture[1], startTime);
+                concurrent.startMatch(fixture[0], fixture[1], startTime);
+                live.add(fixture);
+            } else if (choice < 9) {
+                String[] fixture = live.get(random.nextInt(live.size()));
+                int homeScore = random.nextInt(6);
+                int awayScore = random.nextInt(6);
+
+                primitive.updateScore(fixture[0], fixture[1], homeScore, awayScore);
+                reference.updateScore(fixture[0], fixture[1], homeScore, awayScore);
+                concurrent.updateScore(fixture[0], fixture[1], homeScore, awayScore);
+            } else {
+                String[] fixture = live.remove(random.nextInt(live.size()));
+
+                primitive.finishMatch(fixture[0], fixture[1]);
+                reference.finishMatch(fixture[0], fixture[1]);
+                concurrent.finishMatch(fixture[0], fixture[1]);
+                assertEquals(-1, primitive.rankOf(fixture[0], fixture[1]));
+            }
+
+            List<Match> summary = reference.getSummary();
+
+            assertEquals(describe(summary), describe(primitive.getSummary()));
+
+            if (!live.isEmpty()) {
+                String[] fixture = live.get(random.nextInt(live.size()));
+                int rank = homeTeams(summary).indexOf(fixture[0]);
+
+                assertEquals(rank, primitive.rankOf(fixture[0], fixture[1]));
+                assertEquals(rank, reference.rankOf(fixture[0], fixture[1]));
+                assertEquals(rank, concurrent.rankOf(fixture[0], fixture[1]));
+            }
+        }
+    }
+
+    /**
+     * Tests the team ID overloads of the {@link PrimitiveScoreboard} class with a shared {@link TeamRegistry}.
+     * Verifies that teams registered before the board was created can be used by ID, and that the ID and name
+     * overloads address the same slot.
+     */
+    @Test
+    void testTeamIdOverloads() {
+        TeamRegistry registry = new TeamRegistry();
+        int mexico = registry.register("Mexico");
+        int canada = registry.register("Canada");
+        PrimitiveScoreboard scoreboard = new PrimitiveScoreboard(SHIFT_AS_START_TIME, registry, 1);
+
+        scoreboard.startMatch(mexico, canada, 0);
+        scoreboard.updateScore(mexico, canada, 0, 5);
+
+        assertEquals("Mexico 0 - Canada 5", scoreboard.findMatch("mexico", "CANADA").orElseThrow().toString());
+        assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Spain", "Canada", 1));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.startMatch(mexico, 99, 1));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore(-1, canada, 1, 1));
+        assertThrows(NoSuchElementException.class, () -> scoreboard.updateScore(canada, mexico, 1, 1));
+
+        scoreboard.finishMatch(mexico, canada);
+
+        assertTrue(scoreboard.getSummary().isEmpty());
+        assertThrows(NoSuchElementException.class, () -> scoreboard.finishMatch("Mexico", "Canada"));
+    }
+
+    /**
+     * Tests the ranking strategies of the {@link PrimitiveScoreboard} class. Verifies that every registered strategy
+     * is served in its own order, that the order follows score changes, finished matches and reused slots, and that
+     * unregistered, null and duplicate strategies are rejected.
+     */
+    @Test
+    void testRankingStrategies() {
+        PrimitiveScoreboard scoreboard = new PrimitiveScoreboard(SHIFT_AS_START_TIME, new TeamRegistry(), 1,
+            RankingStrategies.GOAL_DIFFERENCE, RankingStrategies.MOST_RECENTLY_CHANGED, RankingStrategies.HOME_TEAM_ALPHABETICAL);
+
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.startMatch("Germany", "France", 2);
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.updateScore("Spain", "Brazil", 3, 3);
+
+        assertEquals(List.of("Spain", "Mexico", "Germany"), homeTeams(scoreboard.getSummary()));
+        assertEquals(List.of("Mexico", "Spain", "Germany"), homeTeams(scoreboard.getSummary(RankingStrategies.GOAL_DIFFERENCE)));
+        assertEquals(List.of("Spain", "Mexico", "Germany"), homeTeams(scoreboard.getSummary(RankingStrategies.MOST_RECENTLY_CHANGED)));
+        assertEquals(List.of("Germany", "Mexico", "Spain"), homeTeams(scoreboard.getSummary(RankingStrategies.HOME_TEAM_ALPHABETICAL)));
+        assertEquals(homeTeams(scoreboard.getSummary()), homeTeams(scoreboard.getSummary(RankingStrategies.TOTAL_SCORE)));
+
+        scoreboard.updateScore("Germany", "France", 1, 0);
+        scoreboard.finishMatch("Mexico", "Canada");
+        scoreboard.startMatch("Argentina", "Italy", 3);
+
+        assertEquals(List.of("Argentina", "Germany"), homeTeams(scoreboard.getTopN(RankingStrategies.MOST_RECENTLY_CHANGED, 2)));
+        assertEquals(List.of("Argentina", "Germany", "Spain"), homeTeams(scoreboard.getSummary(RankingStrategies.HOME_TEAM_ALPHABETICAL)));
+        assertEquals(List.of("Germany", "Spain", "Argentina"), homeTeams(scoreboard.getSummary(RankingStrategies.GOAL_DIFFERENCE)));
+        assertEquals(4, scoreboard.getRankingStrategies().size());
+
+        RankingStrategy unregistered = match -> 0;
+
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummary(unregistered));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getTopN(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getTopN(RankingStrategies.GOAL_DIFFERENCE, -1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new PrimitiveScoreboard(SHIFT_AS_START_TIME, new TeamRegistry(), 1, unregistered, unregistered));
+        assertThrows(IllegalArgumentException.class,
+            () -> new PrimitiveScoreboard(SHIFT_AS_START_TIME, new TeamRegistry(), 1, (RankingStrategy) null));
+    }
+
+    /**
+     * Randomised check of the ranking strategies of the {@link PrimitiveScoreboard} class. After every random start,
+     * update and finish, the order maintained for every strategy must equal the live matches sorted from scratch
+     * by their sort keys and start order.
+     */
+    @Test
+    void testRankingStrategiesMatchSortedOrderOnRandomOperations() {
+        RankingStrategy byPriority = RankingStrategies.byPriority(fixture -> (int) (fixture % 3));
+        PrimitiveScoreboard scoreboard = new PrimitiveScoreboard(SHIFT_AS_START_TIME, new TeamRegistry(), 2,
+            RankingStrategies.GOAL_DIFFERENCE, RankingStrategies.HOME_TEAM_ALPHABETICAL, byPriority);
+        TeamRegistry registry = scoreboard.getTeamRegistry();
+        Map<String, Integer> startOrder = new HashMap<>();
+        List<String[]> live = new ArrayList<>();
+        Random random = new Random(7);
+        int nextTeam = 0;
+
+        for (int operation = 0; operation < 3000; operation++) {
+            int choice = random.nextInt(10);
+
+            if (choice < 3 || live.isEmpty()) {
+                String[] fixture = {"Team-" + random.nextInt(1000) + "-" + nextTeam++, "Team-" + nextTeam++};
+
+                scoreboard.startMatch(fixture[0], fixture[1], random.nextInt(50));
+                startOrder.put(fixture[0], operation);
+                live.add(fixture);
+            } else if (choice < 9) {
+                String[] fixture = live.get(random.nextInt(live.size()));
+
+                scoreboard.updateScore(fixture[0], fixture[1], random.nextInt(6), random.nextInt(6));
+            } else {
+                String[] fixture = live.remove(random.nextInt(live.size()));
+
+                scoreboard.finishMatch(fixture[0], fixture[1]);
+            }
+
+            for (RankingStrategy strategy : scoreboard.getRankingStrategies()) {
+                List<Match> expected = new ArrayList<>(scoreboard.getSummary(strategy));
+
+                expected.sort(Comparator.comparingLong((Match match) -> sortKey(strategy, match, registry))
+                    .thenComparing(match -> startOrder.get(match.getHomeTeam())).reversed());
+
+                assertEquals(describe(expected), describe(scoreboard.getSummary(strategy)));
+            }
+        }
+    }
+
+    private static long sortKey(RankingStrategy strategy, Match match, TeamRegistry registry) {
+        return strategy.sortKey(new MatchState() {
+            @Override
+            public int getHomeTeamId() {
+                return registry.idOf(match.getHomeTeam());
+            }
+
+            @Override
+            public int getAwayTeamId() {
+                return registry.idOf(match.getAwayTeam());
+            }
+
+            @Override
+            public String getHomeTeam() {
+                return match.getHomeTeam();
+            }
+
+            @Override
+            public String getAwayTeam() {
+                return match.getAwayTeam();
+            }
+
+            @Override
+            public int getHomeScore() {
+                return match.getHomeScore();
+            }
+
+            @Override
+            public int getAwayScore() {
+                return match.getAwayScore();
+            }
+
+            @Override
+            public long getStartTime() {
+                return match.getStartTime();
+            }
+
+            @Override
+            public long getLastChange() {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    private static List<String> homeTeams(List<Match> matches) {
+        List<String> homeTeams = new ArrayList<>(matches.size());
+
+        for (Match match : matches)
+            homeTeams.add(match.getHomeTeam());
+
+        return homeTeams;
+    }
+
+    private static List<String> describe(List<Match> matches) {
+        List<String> descriptions = new ArrayList<>(matches.size());
+
+        for (Match match : matches)
+            descriptions.add(match + " @" + match.getStartTime());
+
+        return descriptions;
+    }
+}
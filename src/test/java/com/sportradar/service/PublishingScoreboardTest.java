@@ -0,0 +1,267 @@
+package com.sportradar.service;
+
+import com.sportradar.event.*;
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.*;
+
+/**
+ * Unit tests for a PublishingScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see PublishingScoreboard
+ */
+class PublishingScoreboardTest {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Tests the constructor of the {@link PublishingScoreboard} class with invalid arguments.
+     * Verifies that an {@link IllegalArgumentException} is thrown for a null scoreboard, a null
+     * executor and a non-positive buffer capacity.
+     */
+    @Test
+    void testConstructorWithInvalidArguments() {
+        Scoreboard board = new ScoreboardImpl(new MatchFactoryImpl());
+
+        assertThrows(IllegalArgumentException.class, () -> new PublishingScoreboard(null));
+        assertThrows(IllegalArgumentException.class, () -> new PublishingScoreboard(board, null, 16));
+        assertThrows(IllegalArgumentException.class, () -> new PublishingScoreboard(board, executor, 0));
+    }
+
+    /**
+     * Tests that every change of the scoreboard is emitted as a typed event in order. Verifies the
+     * {@link MatchStarted}, {@link ScoreUpdated}, {@link RankChanged} and {@link MatchFinished} events
+     * and their payloads, that only the moved match and not the match it overtook is reported by a
+     * {@link RankChanged} event, and that events carry consecutive sequence numbers.
+     */
+    @Test
+    void testEmitsTypedEventsInOrder() throws Exception {
+        PublishingScoreboard scoreboard = new PublishingScoreboard(
+            new ScoreboardImpl(new MatchFactoryImpl()), executor, 16);
+        BlockingQueue<ScoreboardEvent> events = new LinkedBlockingQueue<>();
+
+        scoreboard.subscribe(new CollectingSubscriber(events, Long.MAX_VALUE));
+
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.finishMatch("Mexico", "Canada");
+
+        List<ScoreboardEvent> received = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++)
+            received.add(events.poll(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(MatchStarted.class, received.get(0));
+        assertInstanceOf(MatchStarted.class, received.get(1));
+
+        ScoreUpdated scoreUpdated = assertInstanceOf(ScoreUpdated.class, received.get(2));
+
+        assertEquals(0, scoreUpdated.getOldAwayScore());
+        assertEquals(5, scoreUpdated.getAwayScore());
+
+        RankChanged rankChanged = assertInstanceOf(RankChanged.class, received.get(3));
+
+        assertEquals(1, rankChanged.getOldRank());
+        assertEquals(0, rankChanged.getNewRank());
+
+        ScoreUpdated unchangedTotal = assertInstanceOf(ScoreUpdated.class, received.get(4));
+
+        assertEquals(5, unchangedTotal.getOldAwayScore());
+
+        MatchFinished matchFinished = assertInstanceOf(MatchFinished.class, received.get(5));
+
+        assertEquals("Mexico", matchFinished.getHomeTeam());
+        assertEquals(5, matchFinished.getAwayScore());
+
+        for (int i = 0; i < received.size(); i++)
+            assertEquals(i, received.get(i).getSequence());
+    }
+
+    /**
+     * Tests that a failed write emits no event. Verifies that updating a match that is not on the
+     * scoreboard throws a {@link NoSuchElementException} and publishes nothing.
+     */
+    @Test
+    void testFailedWriteEmitsNoEvent() throws Exception {
+        PublishingScoreboard scoreboard = new PublishingScoreboard(
+            new ScoreboardImpl(new MatchFactoryImpl()), executor, 16);
+        BlockingQueue<ScoreboardEvent> events = new LinkedBlockingQueue<>();
+
+        scoreboard.subscribe(new CollectingSubscriber(events, Long.MAX_VALUE));
+
+        assertThrows(NoSuchElementException.class, () -> scoreboard.updateScore("Spain", "Brazil", 1, 0));
+        scoreboard.startMatch("Spain", "Brazil", 0);
+
+        assertInstanceOf(MatchStarted.class, events.poll(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Tests that a slow subscriber cannot stall writers. A subscriber that never requests more than one
+     * event is attached to a publisher with a small buffer, and many updates are written. Verifies that
+     * the writes complete and that the events that did not fit into the buffer are counted as dropped.
+     */
+    @Test
+    void testSlowSubscriberDoesNotStallWriters() {
+        PublishingScoreboard scoreboard = new PublishingScoreboard(
+            new ScoreboardImpl(new MatchFactoryImpl()), executor, 4);
+
+        scoreboard.subscribe(new CollectingSubscriber(new LinkedBlockingQueue<>(), 1));
+        scoreboard.startMatch("Mexico", "Canada", 0);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int score = 1; score <= 1000; score++)
+                scoreboard.updateScore("Mexico", "Canada", score, 0);
+        });
+
+        assertTrue(scoreboard.getDroppedEventCount() > 0);
+        assertEquals(1000, scoreboard.getSummary().get(0).getHomeScore());
+    }
+
+    /**
+     * Tests that a batch of score updates emits one {@link ScoreUpdated} event per updated match, carrying the
+     * score before the batch and the last score of the batch, followed by the {@link RankChanged} events.
+     */
+    @Test
+    void testApplyBatchEmitsCoalescedEvents() throws Exception {
+        PublishingScoreboard scoreboard = new PublishingScoreboard(
+            new ScoreboardImpl(new MatchFactoryImpl()), executor, 16);
+        BlockingQueue<ScoreboardEvent> events = new LinkedBlockingQueue<>();
+
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.subscribe(new CollectingSubscriber(events, Long.MAX_VALUE));
+
+        scoreboard.applyBatch(List.of(
+            new ScoreUpdate("Mexico", "Canada", 0, 1),
+            new ScoreUpdate("Mexico", "Canada", 0, 2)));
+
+        ScoreUpdated scoreUpdated = assertInstanceOf(ScoreUpdated.class, events.poll(5, TimeUnit.SECONDS));
+
+        assertEquals(0, scoreUpdated.getOldAwayScore());
+        assertEquals(2, scoreUpdated.getAwayScore());
+
+        RankChanged rankChanged = assertInstanceOf(RankChanged.class, events.poll(5, TimeUnit.SECONDS));
+
+        assertEquals(1, rankChanged.getOldRank());
+        assertEquals(0, rankChanged.getNewRank());
+        assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Tests the events of a {@link PublishingScoreboard} decorating a {@link PrimitiveScoreboard}. Verifies that a
+     * single update emits its {@link RankChanged} event, and that a batch with several updates of the same match
+     * is applied and emits one coalesced {@link ScoreUpdated} event followed by the {@link RankChanged} event.
+     */
+    @Test
+    void testEmitsEventsOverPrimitiveScoreboard() throws Exception {
+        PublishingScoreboard scoreboard = new PublishingScoreboard(
+            new PrimitiveScoreboard(new MatchFactoryImpl()), executor, 16);
+        BlockingQueue<ScoreboardEvent> events = new LinkedBlockingQueue<>();
+
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.subscribe(new CollectingSubscriber(events, Long.MAX_VALUE));
+
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+
+        assertInstanceOf(ScoreUpdated.class, events.poll(5, TimeUnit.SECONDS));
+
+        RankChanged rankChanged = assertInstanceOf(RankChanged.class, events.poll(5, TimeUnit.SECONDS));
+
+        assertEquals(1, rankChanged.getOldRank());
+        assertEquals(0, rankChanged.getNewRank());
+
+        scoreboard.applyBatch(List.of(
+            new ScoreUpdate("Spain", "Brazil", 1, 0),
+            new ScoreUpdate("Spain", "Brazil", 2, 0)));
+
+        ScoreUpdated scoreUpdated = assertInstanceOf(ScoreUpdated.class, events.poll(5, TimeUnit.SECONDS));
+
+        assertEquals(0, scoreUpdated.getOldHomeScore());
+        assertEquals(2, scoreUpdated.getHomeScore());
+
+        rankChanged = assertInstanceOf(RankChanged.class, events.poll(5, TimeUnit.SECONDS));
+
+        assertEquals("Spain", rankChanged.getHomeTeam());
+        assertEquals(1, rankChanged.getOldRank());
+        assertEquals(0, rankChanged.getNewRank());
+        assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(2, scoreboard.findMatch("Spain", "Brazil").orElseThrow().getHomeScore());
+    }
+
+    /**
+     * Tests that the {@link PublishingScoreboard} class looks up ranks in the index of the decorated scoreboard.
+     * Verifies that single updates and batches emit their {@link RankChanged} events without building the
+     * summary of the decorated scoreboard.
+     */
+    @Test
+    void testRanksDoNotBuildSummary() throws Exception {
+        Scoreboard board = new ForwardingScoreboard(new ScoreboardImpl(new MatchFactoryImpl())) {
+            @Override
+            public List<Match> getSummary() {
+                throw new AssertionError("Summary built on the writer's thread");
+            }
+        };
+        PublishingScoreboard scoreboard = new PublishingScoreboard(board, executor, 16);
+        BlockingQueue<ScoreboardEvent> events = new LinkedBlockingQueue<>();
+
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.subscribe(new CollectingSubscriber(events, Long.MAX_VALUE));
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        scoreboard.applyBatch(List.of(new ScoreUpdate("Spain", "Brazil", 2, 0)));
+
+        assertInstanceOf(ScoreUpdated.class, events.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, assertInstanceOf(RankChanged.class, events.poll(5, TimeUnit.SECONDS)).getNewRank());
+        assertInstanceOf(ScoreUpdated.class, events.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, assertInstanceOf(RankChanged.class, events.poll(5, TimeUnit.SECONDS)).getNewRank());
+    }
+
+    /**
+     * Test subscriber that requests a fixed number of events and collects them into a queue.
+     */
+    private static final class CollectingSubscriber implements Flow.Subscriber<ScoreboardEvent> {
+        private final BlockingQueue<ScoreboardEvent> events;
+        private final long demand;
+
+        private CollectingSubscriber(BlockingQueue<ScoreboardEvent> events, long demand) {
+            this.events = events;
+            this.demand = demand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(demand);
+        }
+
+        @Override
+        public void onNext(ScoreboardEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,466 @@
+package com.sportradar.service;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Unit tests for a ScoreboardImpl class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see ScoreboardImpl
+ */
+@ExtendWith(MockitoExtension.class)
+public class ScoreboardImplTest {
+    @Mock private MatchFactory matchFactory;
+    @Mock private Match match;
+    @Spy private TeamRegistry teamRegistry = new TeamRegistry();
+    @InjectMocks private ScoreboardImpl scoreboard;
+
+    /**
+     * Tests the constructor of the {@link ScoreboardImpl} class with a valid instance of {@link MatchFactory}.
+     * This test ensures that the ScoreboardImpl object is successfully created without throwing any exceptions
+     * when provided with a valid MatchFactory. It verifies the correct behavior of the ScoreboardImpl
+     * constructor in handling a valid dependency.
+     */
+    @Test
+    void testConstructorWithValidMatchFactory() {
+        assertDoesNotThrow(() -> new ScoreboardImpl(matchFactory));
+    }
+
+    /**
+     * Tests the constructor of the {@link ScoreboardImpl} class with a null {@link MatchFactory} instance.
+     * This test ensures that the ScoreboardImpl constructor throws an {@link IllegalArgumentException}
+     * when a null MatchFactory is passed as an argument. The aim is to verify the constructor's
+     * validation mechanism for its parameters, particularly to confirm that it correctly handles
+     * invalid or null inputs.
+     */
+    @Test
+    void testConstructorWithNullMatchFactory() {
+        assertThrows(IllegalArgumentException.class, () -> new ScoreboardImpl(null));
+    }
+
+    /**
+     * Tests the {@code startMatch} method of the {@link ScoreboardImpl} class with valid input parameters.
+     * This test checks if the method correctly interacts with the {@link MatchFactory} to create a match
+     * when provided with valid team names and a score. It ensures that the method calls the
+     * {@code createMatch} method of the MatchFactory with the correct arguments.
+     */
+    @Test
+    public void testStartNewMatchValidInput() {
+        when(matchFactory.createMatch(anyString(), anyString(), anyInt())).thenReturn(match);
+
+        scoreboard.startMatch("HomeTeam", "AwayTeam", 0);
+
+        verify(matchFactory).createMatch("HomeTeam", "AwayTeam", 0);
+    }
+
+    /**
+     * Tests the {@code startMatch} method of the {@link ScoreboardImpl} class when the home team name is null.
+     * This test verifies that the method throws an {@link IllegalArgumentException} when provided with a null
+     * value for the home team parameter, while the away team name and score are valid. The purpose is to
+     * ensure that the {@code startMatch} method correctly validates its input parameters and handles
+     * invalid or null inputs appropriately.
+     */
+    @Test
+    public void testStartNewMatchNullHomeTeam() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            scoreboard.startMatch(null, "AwayTeam", 0);
+        });
+    }
+
+    /**
+     * Tests the {@code startMatch} method of the {@link ScoreboardImpl} class when the away team name is null.
+     * This test aims to verify that an {@link IllegalArgumentException} is thrown when the away team parameter
+     * is null, while the home team name and score are valid. It checks the method's ability to validate
+     * input parameters and to handle invalid or null inputs correctly.
+     */
+    @Test
+    public void testStartNewMatchNullAwayTeam() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            scoreboard.startMatch("HomeTeam", null, 0);
+        });
+    }
+
+    /**
+     * Tests the {@code startMatch} method of the {@link ScoreboardImpl} class when both team names are the same.
+     * This test verifies that an {@link IllegalArgumentException} is thrown and that no match is created
+     * for a fixture in which a team would play against itself.
+     */
+    @Test
+    public void testStartNewMatchSameTeams() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            scoreboard.startMatch("HomeTeam", "HomeTeam", 0);
+        });
+
+        verify(matchFactory, never()).createMatch(anyString(), anyString(), anyInt());
+    }
+
+    /**
+     * Tests the {@code startMatch} method of the {@link ScoreboardImpl} class when one of the teams is already
+     * playing a live match. This test verifies that an {@link IllegalStateException} is thrown for both
+     * a duplicate fixture and a conflicting fixture that reuses the home or away team of a live match.
+     */
+    @Test
+    public void testStartNewMatchTeamAlreadyPlaying() {
+        when(matchFactory.createMatch(anyString(), anyString(), anyInt())).thenReturn(match);
+
+        scoreboard.startMatch("HomeTeam", "AwayTeam", 0);
+
+        assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("HomeTeam", "AwayTeam", 1));
+        assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("AwayTeam", "OtherTeam", 1));
+        assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("OtherTeam", "HomeTeam", 1));
+
+        verify(matchFactory, times(1)).createMatch(anyString(), anyString(), anyInt());
+    }
+
+    /**
+     * Tests that teams are released when their match is finished. This test verifies that after
+     * {@code finishMatch} both teams of the finished match can take part in a new match again.
+     */
+    @Test
+    public void testStartNewMatchAfterFinish() {
+        when(matchFactory.createMatch(anyString(), anyString(), anyInt())).thenReturn(match);
+
+        scoreboard.startMatch("HomeTeam", "AwayTeam", 0);
+        scoreboard.finishMatch("HomeTeam", "AwayTeam");
+
+        assertDoesNotThrow(() -> scoreboard.startMatch("AwayTeam", "HomeTeam", 1));
+        assertEquals(1, scoreboard.getSummary().size());
+    }
+
+    /**
+     * Tests the {@code updateScore} method of the {@link ScoreboardImpl} class with valid input parameters.
+     * This test verifies that the method correctly updates the score for a match using valid team names
+     * and score values. It ensures that {@code updateScore} calls the appropriate methods on the {@link Match}
+     * instance with the expected arguments, thereby confirming the correct functionality of score updating.
+     */
+    @Test
+    public void testUpdateMatchScoreValidInput() {
+        when(matchFactory.createMatch(anyString(), anyString(), anyInt())).thenReturn(match);
+
+        scoreboard.startMatch("HomeTeam", "AwayTeam", 0);
+        scoreboard.updateScore("HomeTeam", "AwayTeam", 3, 2);
+
+        verify(matchFactory).createMatch("HomeTeam", "AwayTeam", 0);
+        verify(match, never()).getHomeTeam();
+        verify(match, never()).getAwayTeam();
+        verify(match).updateScore(3, 2);
+    }
+
+    /**
+     * Tests the {@code updateScore} method of the {@link ScoreboardImpl} class with a negative score for the home team.
+     * This test checks if the method throws an {@link IllegalArgumentException} when provided with a negative score
+     * for the home team, ensuring that the method correctly validates score values and rejects invalid input.
+     */
+    @Test
+    public void testUpdateMatchScoreNegativeHomeScore() {
+        when(matchFactory.createMatch(anyString(), anyString(), anyInt())).thenReturn(match);
+
+        scoreboard.startMatch("HomeTeam", "AwayTeam", 0);
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            scoreboard.updateScore("HomeTeam", "AwayTeam", -1, 0);
+        });
+
+        verify(matchFactory).createMatch("HomeTeam", "AwayTeam", 0);
+        verify(match, never()).getHomeTeam();
+        verify(match, never()).getAwayTeam();
+        verify(match, never()).updateScore(anyInt(), anyInt());
+    }
+
+    /**
+     * Tests the {@code updateScore} method of the {@link ScoreboardImpl} class with a negative score for the away team.
+     * This test verifies that the method throws an {@link IllegalArgumentException} when a negative score
+     * is provided for the away team, ensuring that score inputs are properly validated against negative values.
+     */
+    @Test
+    public void testUpdateMatchScoreNegativeAwayScore() {
+        when(matchFactory.createMatch(anyString(), anyString(), anyInt())).thenReturn(match);
+
+        scoreboard.startMatch("HomeTeam", "AwayTeam", 0);
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            scoreboard.updateScore("HomeTeam", "AwayTeam", 0, -1);
+        });
+
+        verify(matchFactory).createMatch("HomeTeam", "AwayTeam", 0);
+        verify(match, never()).getHomeTeam();
+        verify(match, never()).getAwayTeam();
+        verify(match, never()).updateScore(anyInt(), anyInt());
+    }
+
+    /**
+     * Tests the {@code updateScore} method of the {@link ScoreboardImpl} class for a scenario where the match
+     * is not found. This test ensures that a {@link NoSuchElementException} is thrown when attempting to
+     * update the score for a match with team names that do not correspond to any existing match in the
+     * scoreboard. It validates the method's ability to handle cases where the specified match is not present
+     * in the system.
+     */
+    @Test
+    public void testUpdateScoreMatchNotFound() {
+        when(matchFactory.createMatch(anyString(), anyString(), anyInt())).thenReturn(match);
+
+        scoreboard.startMatch("HomeTeam", "AwayTeam", 0);
+
+        assertThrows(NoSuchElementException.class, () -> {
+            scoreboard.updateScore("NonExistentTeam1", "NonExistentTeam2", 1, 1);
+        });
+
+        verify(matchFactory).createMatch("HomeTeam", "AwayTeam", 0);
+        verify(match, never()).getHomeTeam();
+        verify(match, never()).getAwayTeam();
+        verify(match, never()).updateScore(anyInt(), anyInt());
+    }
+
+    /**
+     * Tests the {@code finishMatch} method of the {@link ScoreboardImpl} class. This method checks whether
+     * finishing a match removes it from the scoreboard as expected. The test involves starting a match
+     * and then finishing it, followed by verifying that the scoreboard's summary is empty, indicating
+     * the match has been successfully concluded and removed.
+     */
+    @Test
+    public void testFinishMatch() {
+        when(matchFactory.createMatch(anyString(), anyString(), anyInt())).thenReturn(match);
+
+        scoreboard.startMatch("HomeTeam", "AwayTeam", 0);
+        scoreboard.finishMatch("HomeTeam", "AwayTeam");
+
+        assertTrue(scoreboard.getSummary().isEmpty());
+
+        verify(matchFactory).createMatch("HomeTeam", "AwayTeam", 0);
+        verify(match, never()).getHomeTeam();
+        verify(match, never()).getAwayTeam();
+    }
+
+    /**
+     * Tests the {@code finishMatch} method of the {@link ScoreboardImpl} class for a scenario where the match
+     * does not exist. This test verifies that a {@link NoSuchElementException} is thrown when attempting to
+     * finish a match with team names that do not correspond to any existing match in the scoreboard. It checks
+     * the method's ability to correctly handle attempts to conclude a non-existent match.
+     */
+    @Test
+    public void testFinishMatchNotExisting() {
+        when(matchFactory.createMatch(anyString(), anyString(), anyInt())).thenReturn(match);
+
+        scoreboard.startMatch("HomeTeam", "AwayTeam", 0);
+
+        assertThrows(NoSuchElementException.class, () -> {
+            scoreboard.finishMatch("NonExistentTeam1", "NonExistentTeam2");
+        });
+
+        verify(matchFactory).createMatch("HomeTeam", "AwayTeam", 0);
+        verify(match, never()).getHomeTeam();
+        verify(match, never()).getAwayTeam();
+        assertEquals(1, scoreboard.getSummary().size());
+    }
+
+    /**
+     * Tests the {@code findMatch} method of the {@link ScoreboardImpl} class. This test verifies that a live
+     * match is found by its home and away team names, and that an empty result is returned for a match that
+     * is not on the scoreboard or has been finished.
+     */
+    @Test
+    public void testFindMatch() {
+        when(matchFactory.createMatch(anyString(), anyString(), anyInt())).thenReturn(match);
+
+        scoreboard.startMatch("HomeTeam", "AwayTeam", 0);
+
+        assertSame(match, scoreboard.findMatch("HomeTeam", "AwayTeam").orElseThrow());
+        assertTrue(scoreboard.findMatch("AwayTeam", "HomeTeam").isEmpty());
+
+        scoreboard.finishMatch("HomeTeam", "AwayTeam");
+
+        assertTrue(scoreboard.findMatch("HomeTeam", "AwayTeam").isEmpty());
+    }
+
+    /**
+     * Tests the {@code getSummary} method of the {@link ScoreboardImpl} class to ensure it returns matches sorted
+     * by score and start time. This test verifies that the method sorts the matches first by total score in
+     * descending order, and then by start time in descending order for matches with the same score. Three mock
+     * {@link Match} objects with different scores and start times are used to validate this sorting.
+     */
+    @Test
+    void testGetSummaryShouldReturnMatchesSortedByScoreAndStartTime() {
+        Match match1 = mock(Match.class);
+        Match match2 = mock(Match.class);
+        Match match3 = mock(Match.class);
+
+        when(match1.getTotalScore()).thenReturn(10);
+        when(match1.getStartTime()).thenReturn(100L);
+
+        when(match2.getTotalScore()).thenReturn(15); // Highest score
+        Mockito.lenient().when(match2.getStartTime()).thenReturn(90L);
+
+        when(match3.getTotalScore()).thenReturn(10);
+        when(match3.getStartTime()).thenReturn(110L); // Latest start time for same score
+
+        when(matchFactory.createMatch(anyString(), anyString(), anyInt())).thenReturn(match1, match2, match3);
+
+        scoreboard.startMatch("Team1", "Team2", 0);
+        scoreboard.startMatch("Team3", "Team4", 1);
+        scoreboard.startMatch("Team5", "Team6", 2);
+
+        List<Match> summary = scoreboard.getSummary();
+
+        assertEquals(3, summary.size());
+
+        assertSame(match2, summary.get(0)); // match2 has the highest score
+        assertSame(match3, summary.get(1)); // match3 and match1 have same score but match3 started later
+        assertSame(match1, summary.get(2));
+    }
+
+    /**
+     * Tests that the {@code getSummary} method of the {@link ScoreboardImpl} class reflects score updates.
+     * This test uses real {@link Match} instances and verifies that a match is repositioned in the summary
+     * when its total score changes, and that finishing a match removes it from the summary.
+     */
+    @Test
+    void testGetSummaryRepositionsMatchOnScoreUpdate() {
+        ScoreboardImpl board = new ScoreboardImpl(new MatchFactoryImpl());
+
+        board.startMatch("Mexico", "Canada", 0);
+        board.startMatch("Spain", "Brazil", 1);
+        board.startMatch("Germany", "France", 2);
+
+        board.updateScore("Mexico", "Canada", 0, 5);
+        assertEquals("Mexico", board.getSummary().get(0).getHomeTeam());
+
+        board.updateScore("Spain", "Brazil", 10, 2);
+        board.updateScore("Mexico", "Canada", 0, 1);
+
+        List<Match> summary = board.getSummary();
+
+        assertEquals("Spain", summary.get(0).getHomeTeam());
+        assertEquals("Mexico", summary.get(1).getHomeTeam());
+        assertEquals("Germany", summary.get(2).getHomeTeam());
+
+        board.finishMatch("Spain", "Brazil");
+
+        assertEquals(2, board.getSummary().size());
+        assertEquals("Mexico", board.getSummary().get(0).getHomeTeam());
+    }
+
+    /**
+     * Tests the {@code getTopN} method of the {@link ScoreboardImpl} class. This test verifies that the method
+     * returns the leading matches in summary order, returns the whole summary when fewer matches are live
+     * than requested, and rejects a negative number of matches.
+     */
+    @Test
+    void testGetTopN() {
+        ScoreboardImpl board = new ScoreboardImpl(new MatchFactoryImpl());
+
+        board.startMatch("Mexico", "Canada", 0);
+        board.startMatch("Spain", "Brazil", 1);
+        board.startMatch("Germany", "France", 2);
+        board.updateScore("Spain", "Brazil", 10, 2);
+        board.updateScore("Mexico", "Canada", 0, 5);
+
+        List<Match> topMatches = board.getTopN(2);
+
+        assertEquals(2, topMatches.size());
+        assertEquals("Spain", topMatches.get(0).getHomeTeam());
+        assertEquals("Mexico", topMatches.get(1).getHomeTeam());
+        assertEquals(board.getSummary(), board.getTopN(10));
+        assertTrue(board.getTopN(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> board.getTopN(-1));
+    }
+
+    /**
+     * Tests the {@code applyBatch} method of the {@link ScoreboardImpl} class with a valid batch. This test
+     * verifies that all updates are applied, that several updates of the same match are coalesced into the
+     * last one, and that the summary is re-ranked according to the new scores.
+     */
+    @Test
+    void testApplyBatchValidInput() {
+        ScoreboardImpl board = new ScoreboardImpl(new MatchFactoryImpl());
+
+        board.startMatch("Mexico", "Canada", 0);
+        board.startMatch("Spain", "Brazil", 1);
+        board.startMatch("Germany", "France", 2);
+
+        board.applyBatch(List.of(
+            new ScoreUpdate("Mexico", "Canada", 0, 5),
+            new ScoreUpdate("Spain", "Brazil", 10, 2),
+            new ScoreUpdate("Mexico", "Canada", 0, 1)));
+
+        List<Match> summary = board.getSummary();
+
+        assertEquals("Spain", summary.get(0).getHomeTeam());
+        assertEquals("Mexico", summary.get(1).getHomeTeam());
+        assertEquals(1, summary.get(1).getAwayScore());
+        assertEquals("Germany", summary.get(2).getHomeTeam());
+    }
+
+    /**
+     * Tests the {@code applyBatch} method of the {@link ScoreboardImpl} class with invalid updates. This test
+     * verifies that a {@link BatchUpdateException} reports every invalid update with its position and cause,
+     * and that none of the valid updates of the rejected batch is applied.
+     */
+    @Test
+    void testApplyBatchIsAllOrNothing() {
+        ScoreboardImpl board = new ScoreboardImpl(new MatchFactoryImpl());
+
+        board.startMatch("Mexico", "Canada", 0);
+
+        BatchUpdateException exception = assertThrows(BatchUpdateException.class, () -> board.applyBatch(List.of(
+            new ScoreUpdate("Mexico", "Canada", 1, 0),
+            new ScoreUpdate("Mexico", "Canada", -1, 0),
+            new ScoreUpdate("Spain", "Brazil", 1, 0))));
+
+        assertEquals(2, exception.getErrors().size());
+        assertEquals(1, exception.getErrors().get(0).getIndex());
+        assertInstanceOf(IllegalArgumentException.class, exception.getErrors().get(0).getCause());
+        assertEquals(2, exception.getErrors().get(1).getIndex());
+        assertInstanceOf(NoSuchElementException.class, exception.getErrors().get(1).getCause());
+        assertEquals(0, board.getSummary().get(0).getTotalScore());
+        assertThrows(IllegalArgumentException.class, () -> board.applyBatch(null));
+    }
+
+    /**
+     * Tests the team ID overloads of the {@link ScoreboardImpl} class and the resolution of team names through
+     * its {@link TeamRegistry}. This test verifies that differently spelled and aliased team names address the
+     * same match, and that matches started by team ID carry the canonical team names.
+     */
+    @Test
+    void testTeamIdsAndAliases() {
+        TeamRegistry registry = new TeamRegistry();
+        ScoreboardImpl board = new ScoreboardImpl(new MatchFactoryImpl(), registry);
+        int ivoryCoast = registry.register("Côte d'Ivoire");
+        int ghana = registry.register("Ghana");
+
+        registry.registerAlias("Ivory Coast", "Côte d'Ivoire");
+        board.startMatch(ivoryCoast, ghana, 0);
+
+        assertSame(registry, board.getTeamRegistry());
+        assertEquals("Côte d'Ivoire", board.getSummary().get(0).getHomeTeam());
+        assertThrows(IllegalStateException.class, () -> board.startMatch("COTE D'IVOIRE", "Mexico", 1));
+        assertThrows(IllegalArgumentException.class, () -> board.startMatch(ghana, ghana, 1));
+
+        board.updateScore("Ivory Coast", "ghana", 1, 0);
+        board.updateScore(ivoryCoast, ghana, 2, 0);
+
+        assertEquals(2, board.findMatch("Cote dIvoire", "Ghana").orElseThrow().getHomeScore());
+        assertThrows(NoSuchElementException.class, () -> board.updateScore(ghana, ivoryCoast, 1, 1));
+
+        board.finishMatch(ivoryCoast, ghana);
+
+        assertTrue(board.getSummary().isEmpty());
+        assertThrows(NoSuchElementException.class, () -> board.finishMatch("Ivory Coast", "Ghana"));
+        assertThrows(NoSuchElementException.class, () -> board.finishMatch("Atlantis", "Ghana"));
+    }
+}
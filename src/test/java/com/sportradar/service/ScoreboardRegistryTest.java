@@ -0,0 +1,103 @@
+package com.sportradar.service;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.model.Match;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for a ScoreboardRegistry class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see ScoreboardRegistry
+ */
+class ScoreboardRegistryTest {
+    private static final MatchFactory SHIFT_AS_START_TIME =
+        (homeTeam, awayTeam, startTimeShift) -> new Match(homeTeam, awayTeam, 0, 0, startTimeShift);
+
+    /**
+     * Tests the competitions of the {@link ScoreboardRegistry} class. Verifies that competitions are created on
+     * first use, share one team registry, are independent of each other, and can be removed.
+     */
+    @Test
+    void testCompetitions() {
+        ScoreboardRegistry registry = new ScoreboardRegistry(teams -> new ScoreboardImpl(SHIFT_AS_START_TIME, teams));
+        Scoreboard worldCup = registry.competition("World Cup");
+
+        assertSame(worldCup, registry.competition("World Cup"));
+        assertSame(registry.getTeamRegistry(), worldCup.getTeamRegistry());
+        assertTrue(registry.findCompetition("Copa America").isEmpty());
+
+        worldCup.startMatch("Mexico", "Canada", 0);
+        registry.competition("Copa America").startMatch("Mexico", "Brazil", 1);
+
+        assertEquals(Set.of("Copa America", "World Cup"), registry.getCompetitions());
+        assertTrue(registry.removeCompetition("Copa America"));
+        assertFalse(registry.removeCompetition("Copa America"));
+        assertEquals(List.of("Mexico 0 - Canada 0"), describe(registry.getSummary()));
+        assertThrows(IllegalArgumentException.class, () -> registry.competition(null));
+        assertThrows(IllegalArgumentException.class, () -> new ScoreboardRegistry(null));
+    }
+
+    /**
+     * Tests the global summary of the {@link ScoreboardRegistry} class. Verifies that the summaries of all
+     * competitions are merged by total score and start time, and that the top of the merged summary is limited.
+     */
+    @Test
+    void testMergedSummary() {
+        ScoreboardRegistry registry = new ScoreboardRegistry(teams -> new ScoreboardImpl(SHIFT_AS_START_TIME, teams));
+        Scoreboard worldCup = registry.competition("World Cup");
+        Scoreboard euro = registry.competition("Euro");
+
+        worldCup.startMatch("Mexico", "Canada", 1);
+        worldCup.startMatch("Spain", "Brazil", 2);
+        euro.startMatch("Germany", "France", 3);
+        euro.startMatch("Italy", "England", 4);
+        worldCup.updateScore("Mexico", "Canada", 0, 5);
+        worldCup.updateScore("Spain", "Brazil", 10, 2);
+        euro.updateScore("Germany", "France", 2, 2);
+        euro.updateScore("Italy", "England", 6, 6);
+
+        assertEquals(List.of("Italy 6 - England 6", "Spain 10 - Brazil 2", "Mexico 0 - Canada 5", "Germany 2 - France 2"),
+            describe(registry.getSummary()));
+        assertEquals(List.of("Italy 6 - England 6", "Spain 10 - Brazil 2"), describe(registry.getTopN(2)));
+        assertTrue(registry.getTopN(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> registry.getTopN(-1));
+    }
+
+    /**
+     * Tests the order of matches with equal total scores and start times in different competitions of the
+     * {@link ScoreboardRegistry} class. Verifies that they are ordered by the order in which they were started,
+     * the most recently started first, and that global ranks follow the merged summary.
+     */
+    @Test
+    void testOrdersTiesAcrossCompetitionsByStartOrder() {
+        ScoreboardRegistry registry = new ScoreboardRegistry(teams -> new ScoreboardImpl(SHIFT_AS_START_TIME, teams));
+
+        registry.competition("World Cup").startMatch("Mexico", "Canada");
+        registry.competition("Euro").startMatch("Germany", "France");
+        registry.competition("World Cup").startMatch("Spain", "Brazil");
+        registry.competition("Copa America").startMatch("Argentina", "Chile");
+
+        assertEquals(List.of("Argentina 0 - Chile 0", "Spain 0 - Brazil 0", "Germany 0 - France 0", "Mexico 0 - Canada 0"),
+            describe(registry.getSummary()));
+        assertEquals(List.of("Argentina 0 - Chile 0", "Spain 0 - Brazil 0"), describe(registry.getTopN(2)));
+
+        registry.competition("World Cup").updateScore("Mexico", "Canada", 1, 0);
+
+        assertEquals(0, registry.rankOf("World Cup", "Mexico", "Canada"));
+        assertEquals(3, registry.rankOf("Euro", "Germany", "France"));
+        assertEquals(-1, registry.rankOf("Euro", "Mexico", "Canada"));
+        assertEquals(-1, registry.rankOf("Olympics", "Mexico", "Canada"));
+        assertThrows(IllegalArgumentException.class, () -> registry.rankOf(null, "Mexico", "Canada"));
+    }
+
+    private static List<String> describe(List<Match> matches) {
+        return matches.stream().map(Match::toString).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,131 @@
+package com.sportradar.service;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.Match;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for a SequencedScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see SequencedScoreboard
+ */
+class SequencedScoreboardTest {
+    private final SequencedScoreboard scoreboard = new SequencedScoreboard(new ConcurrentScoreboard(new MatchFactoryImpl()));
+
+    /**
+     * Tests sequenced score updates arriving out of order. Verifies that newer updates are applied, that stale
+     * and duplicate updates are dropped without moving the score backwards, and that dropped updates are counted.
+     */
+    @Test
+    void testStaleAndDuplicateUpdatesAreDropped() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+
+        assertTrue(scoreboard.updateScore("Mexico", "Canada", 1, 0, 1));
+        assertTrue(scoreboard.updateScore("Mexico", "Canada", 2, 1, 3));
+        assertFalse(scoreboard.updateScore("Mexico", "Canada", 1, 1, 2));
+        assertFalse(scoreboard.updateScore("Mexico", "Canada", 2, 1, 3));
+
+        int mexico = scoreboard.getTeamRegistry().idOf("Mexico");
+        int canada = scoreboard.getTeamRegistry().idOf("Canada");
+
+        assertFalse(scoreboard.updateScore(mexico, canada, 1, 0, 1));
+        assertTrue(scoreboard.updateScore(mexico, canada, 3, 1, 4));
+        assertEquals("Mexico 3 - Canada 1", scoreboard.findMatch("Mexico", "Canada").orElseThrow().toString());
+        assertEquals(3, scoreboard.getDroppedCount());
+    }
+
+    /**
+     * Tests sequenced score updates with invalid arguments or of matches that are not live.
+     * Verifies that the expected exceptions are thrown and that no sequence number is recorded for them.
+     */
+    @Test
+    void testInvalidUpdates() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Mexico", "Canada", 1, 0, -1));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Mexico", "Canada", -1, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore(null, "Canada", 1, 0, 1));
+        assertThrows(NoSuchElementException.class, () -> scoreboard.updateScore("Spain", "Brazil", 1, 0, 1));
+        assertThrows(NoSuchElementException.class, () -> scoreboard.updateScore("Canada", "Mexico", 1, 0, 1));
+        assertTrue(scoreboard.updateScore("Mexico", "Canada", 1, 0, 1));
+        assertEquals(0, scoreboard.getDroppedCount());
+    }
+
+    /**
+     * Tests finishing a match. Verifies that the sequence numbers of a finished match are forgotten, so the
+     * fixture started again accepts sequence numbers from the beginning.
+     */
+    @Test
+    void testFinishResetsSequence() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.updateScore("Mexico", "Canada", 5, 0, 10);
+        scoreboard.finishMatch("Mexico", "Canada");
+        scoreboard.startMatch("Mexico", "Canada", 0);
+
+        assertTrue(scoreboard.updateScore("Mexico", "Canada", 1, 0, 1));
+        assertEquals(1, scoreboard.getSummary().get(0).getHomeScore());
+    }
+
+    /**
+     * Tests two redundant feeds racing on the same match. Verifies that a concurrent reader never observes
+     * the score going backwards, that every update is either applied or dropped, and that the match ends
+     * with the score of the highest sequence number.
+     */
+    @Test
+    void testRedundantFeedsNeverMoveScoreBackwards() throws InterruptedException {
+        int updates = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> regression = new AtomicReference<>();
+
+        scoreboard.startMatch("Mexico", "Canada", 0);
+
+        Match match = scoreboard.findMatch("Mexico", "Canada").orElseThrow();
+        Runnable feed = () -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            for (int sequence = 1; sequence <= updates; sequence++)
+                scoreboard.updateScore("Mexico", "Canada", sequence, 0, sequence);
+        };
+        Thread reader = new Thread(() -> {
+            int last = 0;
+
+            while (running.get()) {
+                int score = match.getHomeScore();
+
+                if (score < last)
+                    regression.set(last + " -> " + score);
+
+                last = score;
+            }
+        });
+        Thread primary = new Thread(feed);
+        Thread backup = new Thread(feed);
+
+        reader.start();
+        primary.start();
+        backup.start();
+        start.countDown();
+        primary.join();
+        backup.join();
+        running.set(false);
+        reader.join();
+
+        assertNull(regression.get());
+        assertEquals(updates, match.getHomeScore());
+        assertTrue(scoreboard.getDroppedCount() >= updates);
+    }
+}
@@ -0,0 +1,291 @@
+package com.sportradar.service;
+
+import com.sportradar.factory.MatchFactory;
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.time.SimulatedClock;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for a ShardedScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see ShardedScoreboard
+ */
+class ShardedScoreboardTest {
+    private static final MatchFactory SHIFT_AS_START_TIME =
+        (homeTeam, awayTeam, startTimeShift) -> new Match(homeTeam, awayTeam, 0, 0, startTimeShift);
+    private static final int THREADS = 8;
+
+    /**
+     * Tests the constructors of the {@link ShardedScoreboard} class with invalid arguments. Verifies that an
+     * {@link IllegalArgumentException} is thrown for a null factory, a non-positive shard count, and a factory
+     * creating shards that do not use the shared team registry.
+     */
+    @Test
+    void testConstructorWithInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedScoreboard(null));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedScoreboard(registry -> new ScoreboardImpl(SHIFT_AS_START_TIME, registry), 0));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedScoreboard(registry -> new ScoreboardImpl(SHIFT_AS_START_TIME), 2));
+    }
+
+    /**
+     * Tests that a team takes part in only one live match across all shards of the {@link ShardedScoreboard}
+     * class, and that finishing a match releases its teams.
+     */
+    @Test
+    void testTeamPlaysOneMatchAcrossShards() {
+        ShardedScoreboard scoreboard = new ShardedScoreboard(registry -> new ScoreboardImpl(SHIFT_AS_START_TIME, registry), 16);
+
+        scoreboard.startMatch("Mexico", "Canada", 0);
+
+        for (int team = 0; team < 32; team++) {
+            String opponent = "Team-" + team;
+
+            assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Mexico", opponent, 1));
+            assertThrows(IllegalStateException.class, () -> scoreboard.startMatch(opponent, "Canada", 1));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.startMatch("Spain", "Spain", 1));
+        assertThrows(NoSuchElementException.class, () -> scoreboard.updateScore("Canada", "Mexico", 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Mexico", "Canada", -1, 0));
+
+        scoreboard.finishMatch("Mexico", "Canada");
+        scoreboard.startMatch("Mexico", "Team-0", 2);
+
+        assertEquals(List.of("Mexico 0 - Team-0 0"), describe(scoreboard.getSummary()));
+        assertThrows(NoSuchElementException.class, () -> scoreboard.finishMatch("Mexico", "Canada"));
+    }
+
+    /**
+     * Tests the merged summary of the {@link ShardedScoreboard} class against {@link ScoreboardImpl} on a random
+     * sequence of operations with distinct start times. Verifies that the k-way merged summary and its top 5
+     * equal the summary of a single board after every operation.
+     */
+    @Test
+    void testMatchesScoreboardImplOnRandomOperations() {
+        ShardedScoreboard sharded = new ShardedScoreboard(registry -> new ScoreboardImpl(SHIFT_AS_START_TIME, registry), 4);
+        ScoreboardImpl reference = new ScoreboardImpl(SHIFT_AS_START_TIME);
+        Random random = new Random(42);
+        List<String[]> live = new ArrayList<>();
+        int nextTeam = 0;
+
+        for (int operation = 0; operation < 3000; operation++) {
+            int choice = random.nextInt(10);
+
+            if (choice < 3 || live.isEmpty()) {
+                String[] fixture = {"Team-" + nextTeam++, "Team-" + nextTeam++};
+
+                sharded.startMatch(fixture[0], fixture[1], operation);
+                reference.startMatch(fixture[0], fixture[1], operation);
+                live.add(fixture);
+            } else if (choice < 9) {
+                String[] fixture = live.get(random.nextInt(live.size()));
+                int homeScore = random.nextInt(6);
+                int awayScore = random.nextInt(6);
+
+                sharded.updateScore(fixture[0], fixture[1], homeScore, awayScore);
+                reference.updateScore(fixture[0], fixture[1], homeScore, awayScore);
+            } else {
+                String[] fixture = live.remove(random.nextInt(live.size()));
+
+                sharded.finishMatch(fixture[0], fixture[1]);
+                reference.finishMatch(fixture[0], fixture[1]);
+            }
+
+            assertEquals(describe(reference.getSummary()), describe(sharded.getSummary()));
+            assertEquals(describe(reference.getTopN(5)), describe(sharded.getTopN(5)));
+
+            for (String[] fixture : live)
+                assertEquals(reference.rankOf(fixture[0], fixture[1]), sharded.rankOf(fixture[0], fixture[1]));
+        }
+    }
+
+    /**
+     * Tests the {@code rankOf} method of the {@link ShardedScoreboard} class. Verifies that ranks across shards
+     * follow the merged summary, including ties of start time, that finished and unknown matches have no rank,
+     * and that no shard builds a summary to rank a match.
+     */
+    @Test
+    void testRankOfDoesNotBuildSummary() {
+        ShardedScoreboard sharded = new ShardedScoreboard(registry -> new ForwardingScoreboard(new ScoreboardImpl(SHIFT_AS_START_TIME, registry)) {
+            @Override
+            public List<Match> getSummary() {
+                throw new AssertionError("Summary built");
+            }
+
+            @Override
+            public List<Match> getTopN(int n) {
+                throw new AssertionError("Summary built");
+            }
+        }, 4);
+
+        for (int match = 0; match < 8; match++)
+            sharded.startMatch("H" + match, "A" + match);
+
+        sharded.updateScore("H2", "A2", 1, 0);
+        sharded.applyBatch(List.of(new ScoreUpdate("H5", "A5", 0, 1), new ScoreUpdate("H0", "A0", 2, 0)));
+
+        assertEquals(0, sharded.rankOf("H0", "A0"));
+        assertEquals(1, sharded.rankOf("H5", "A5"));
+        assertEquals(2, sharded.rankOf("H2", "A2"));
+        assertEquals(3, sharded.rankOf("H7", "A7"));
+        assertEquals(7, sharded.rankOf("H1", "A1"));
+
+        sharded.finishMatch("H7", "A7");
+
+        assertEquals(3, sharded.rankOf("H6", "A6"));
+        assertEquals(-1, sharded.rankOf("H7", "A7"));
+        assertEquals(-1, sharded.rankOf("A0", "H0"));
+        assertEquals(-1, sharded.rankOf("Mexico", "Canada"));
+    }
+
+    /**
+     * Tests the order of matches with equal total scores and start times on different shards of the
+     * {@link ShardedScoreboard} class. Verifies that they are ordered by the order in which they were started,
+     * the most recently started first, as on a single {@link ScoreboardImpl}.
+     */
+    @Test
+    void testOrdersTiesAcrossShardsByStartOrder() {
+        ShardedScoreboard sharded = new ShardedScoreboard(registry -> new ScoreboardImpl(SHIFT_AS_START_TIME, registry), 8);
+        ScoreboardImpl reference = new ScoreboardImpl(SHIFT_AS_START_TIME);
+        List<String> expected = new ArrayList<>();
+
+        for (int match = 0; match < 8; match++) {
+            sharded.startMatch("H" + match, "A" + match);
+            reference.startMatch("H" + match, "A" + match);
+            expected.add(0, "H" + match + " 0 - A" + match + " 0");
+        }
+
+        assertEquals(expected, describe(sharded.getSummary()));
+        assertEquals(expected.subList(0, 3), describe(sharded.getTopN(3)));
+
+        for (int match = 0; match < 8; match += 2) {
+            sharded.updateScore("H" + match, "A" + match, match % 4, 1);
+            reference.updateScore("H" + match, "A" + match, match % 4, 1);
+        }
+
+        assertEquals(describe(reference.getSummary()), describe(sharded.getSummary()));
+        assertEquals(describe(reference.getTopN(3)), describe(sharded.getTopN(3)));
+    }
+
+    /**
+     * Tests matches started without a start time shift on a {@link ShardedScoreboard} whose match factory
+     * reads a clock that does not move. Verifies that the summary equals the summary of a single
+     * {@link ScoreboardImpl}, the most recently started match first, whether matches are started by name or ID.
+     */
+    @Test
+    void testShiftFreeStartsMatchScoreboardImpl() {
+        SimulatedClock clock = new SimulatedClock(Instant.parse("2026-06-11T19:00:00Z"));
+        ShardedScoreboard sharded = new ShardedScoreboard(registry -> new ScoreboardImpl(new MatchFactoryImpl(clock), registry), 8);
+        ScoreboardImpl reference = new ScoreboardImpl(new MatchFactoryImpl(clock));
+
+        for (int match = 0; match < 8; match++) {
+            if (match % 2 == 0)
+                sharded.startMatch("H" + match, "A" + match);
+            else
+                sharded.startMatch(sharded.getTeamRegistry().register("H" + match), sharded.getTeamRegistry().register("A" + match));
+
+            reference.startMatch("H" + match, "A" + match);
+        }
+
+        assertEquals(describe(reference.getSummary()), describe(sharded.getSummary()));
+        assertEquals("H7 0 - A7 0", describe(sharded.getTopN(1)).get(0));
+    }
+
+    /**
+     * Tests the {@code applyBatch} method of the {@link ShardedScoreboard} class. Verifies that a valid batch
+     * spanning several shards is applied, that an invalid batch is rejected as a whole, and that shards which
+     * already applied their part are rolled back when another shard rejects its part.
+     */
+    @Test
+    void testApplyBatchIsAllOrNothingAcrossShards() {
+        ShardedScoreboard scoreboard = new ShardedScoreboard(registry -> new PrimitiveScoreboard(SHIFT_AS_START_TIME, registry, 4), 8);
+
+        for (int match = 0; match < 20; match++)
+            scoreboard.startMatch("Home-" + match, "Away-" + match, match);
+
+        List<ScoreUpdate> valid = new ArrayList<>();
+
+        for (int match = 0; match < 20; match++)
+            valid.add(new ScoreUpdate("Home-" + match, "Away-" + match, match, 1));
+
+        scoreboard.applyBatch(valid);
+
+        assertEquals("Home-19 19 - Away-19 1", scoreboard.getSummary().get(0).toString());
+
+        List<String> before = describe(scoreboard.getSummary());
+        List<ScoreUpdate> rejectedByShard = new ArrayList<>();
+
+        for (int match = 0; match < 20; match++)
+            rejectedByShard.add(new ScoreUpdate("Home-" + match, "Away-" + match, 5, match == 13 ? PrimitiveScoreboard.MAX_TOTAL_SCORE : 5));
+
+        assertThrows(BatchUpdateException.class, () -> scoreboard.applyBatch(List.of(
+            new ScoreUpdate("Home-1", "Away-1", 7, 7), new ScoreUpdate("Home-2", "Away-3", 1, 1))));
+        assertThrows(BatchUpdateException.class, () -> scoreboard.applyBatch(rejectedByShard));
+        assertEquals(before, describe(scoreboard.getSummary()));
+    }
+
+    /**
+     * Tests concurrent writers on the {@link ShardedScoreboard} class. Every thread starts, updates and
+     * finishes its own matches; verifies that no update is lost and the merged summary stays ordered.
+     */
+    @Test
+    void testConcurrentWritersOnDifferentShards() throws Exception {
+        ShardedScoreboard scoreboard = new ShardedScoreboard(registry -> new ScoreboardImpl(new MatchFactoryImpl(), registry), THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            int t = thread;
+
+            futures.add(executor.submit(() -> {
+                for (int round = 0; round < 200; round++) {
+                    String homeTeam = "Home-" + t + "-" + round;
+                    String awayTeam = "Away-" + t + "-" + round;
+
+                    scoreboard.startMatch(homeTeam, awayTeam, 0);
+
+                    for (int goal = 1; goal <= 5; goal++)
+                        scoreboard.updateScore(homeTeam, awayTeam, goal, round % 3);
+
+                    if (round % 2 == 0)
+                        scoreboard.finishMatch(homeTeam, awayTeam);
+
+                    scoreboard.getTopN(10);
+                }
+            }));
+        }
+
+        for (Future<?> future : futures)
+            future.get(30, TimeUnit.SECONDS);
+
+        executor.shutdown();
+
+        List<Match> summary = scoreboard.getSummary();
+
+        assertEquals(THREADS * 100, summary.size());
+
+        for (int position = 0; position < summary.size(); position++) {
+            assertEquals(5, summary.get(position).getHomeScore());
+
+            if (position > 0)
+                assertTrue(summary.get(position - 1).getTotalScore() >= summary.get(position).getTotalScore());
+        }
+    }
+
+    private static List<String> describe(List<Match> matches) {
+        return matches.stream().map(Match::toString).collect(Collectors.toList());
+    }
+}
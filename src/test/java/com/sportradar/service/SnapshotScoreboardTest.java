@@ -0,0 +1,106 @@
+package com.sportradar.service;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.MatchView;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.model.ScoreboardSnapshot;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Unit tests for a SnapshotScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see SnapshotScoreboard
+ */
+class SnapshotScoreboardTest {
+    private final SnapshotScoreboard scoreboard = new SnapshotScoreboard(new ScoreboardImpl(new MatchFactoryImpl()));
+
+    /**
+     * Tests the constructor of the {@link SnapshotScoreboard} class with a null scoreboard.
+     * Verifies that an {@link IllegalArgumentException} is thrown.
+     */
+    @Test
+    void testConstructorWithNullScoreboard() {
+        assertThrows(IllegalArgumentException.class, () -> new SnapshotScoreboard(null));
+    }
+
+    /**
+     * Tests that every successful write publishes a new snapshot. Verifies that the version grows with
+     * each write, that the snapshot holds the match views in summary order, and that a snapshot taken
+     * earlier is not affected by later writes.
+     */
+    @Test
+    void testWritesPublishNewSnapshots() {
+        ScoreboardSnapshot initial = scoreboard.getSnapshot();
+
+        assertEquals(0, initial.getVersion());
+        assertTrue(initial.getMatches().isEmpty());
+
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+
+        ScoreboardSnapshot started = scoreboard.getSnapshot();
+
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+
+        ScoreboardSnapshot updated = scoreboard.getSnapshot();
+
+        assertEquals(2, started.getVersion());
+        assertEquals(3, updated.getVersion());
+        assertEquals(0, started.getMatches().get(1).getTotalScore());
+        assertEquals(new MatchView("Mexico", "Canada", 0, 5, updated.getMatches().get(0).getStartTime()),
+            updated.getMatches().get(0));
+        assertSame(started.getMatches().get(0), updated.getMatches().get(1));
+        assertThrows(UnsupportedOperationException.class, () -> updated.getMatches().clear());
+
+        scoreboard.finishMatch("Mexico", "Canada");
+
+        assertEquals(1, scoreboard.getSnapshot().getMatches().size());
+        assertEquals(2, updated.getMatches().size());
+    }
+
+    /**
+     * Tests the change detection of the {@link SnapshotScoreboard} class. Verifies that repeated reads
+     * of an unchanged board return the same snapshot, and that failed writes do not publish a new version.
+     */
+    @Test
+    void testHasChangedSince() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+
+        long version = scoreboard.getSnapshot().getVersion();
+
+        assertSame(scoreboard.getSnapshot(), scoreboard.getSnapshot());
+        assertFalse(scoreboard.hasChangedSince(version));
+
+        assertThrows(NoSuchElementException.class, () -> scoreboard.updateScore("Spain", "Brazil", 1, 0));
+        assertFalse(scoreboard.hasChangedSince(version));
+
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        assertTrue(scoreboard.hasChangedSince(version));
+    }
+
+    /**
+     * Tests that a batch of score updates publishes a single snapshot. Verifies that the version grows by one
+     * for the whole batch, and that a rejected batch publishes nothing.
+     */
+    @Test
+    void testApplyBatchPublishesSingleSnapshot() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+
+        long version = scoreboard.getSnapshot().getVersion();
+
+        scoreboard.applyBatch(List.of(new ScoreUpdate("Mexico", "Canada", 0, 5), new ScoreUpdate("Spain", "Brazil", 1, 0)));
+
+        assertEquals(version + 1, scoreboard.getSnapshot().getVersion());
+        assertEquals(5, scoreboard.getSnapshot().getMatches().get(0).getTotalScore());
+
+        assertThrows(BatchUpdateException.class, () -> scoreboard.applyBatch(List.of(new ScoreUpdate("Spain", "Brazil", -1, 0))));
+        assertEquals(version + 1, scoreboard.getSnapshot().getVersion());
+    }
+}
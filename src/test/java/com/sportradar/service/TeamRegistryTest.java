@@ -0,0 +1,103 @@
+package com.sportradar.service;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for a TeamRegistry class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see TeamRegistry
+ */
+class TeamRegistryTest {
+
+    /**
+     * Tests the {@code register} and {@code nameOf} methods of the {@link TeamRegistry} class.
+     * Verifies that IDs are assigned in registration order, that registering a known team returns its ID,
+     * and that the first registered spelling stays the canonical name.
+     */
+    @Test
+    void testRegisterAssignsIdsInOrder() {
+        TeamRegistry registry = new TeamRegistry();
+
+        assertEquals(0, registry.register("Mexico"));
+        assertEquals(1, registry.register("Canada"));
+        assertEquals(0, registry.register("MEXICO"));
+        assertEquals(2, registry.size());
+        assertEquals("Mexico", registry.nameOf(0));
+        assertThrows(IllegalArgumentException.class, () -> registry.nameOf(2));
+        assertThrows(IllegalArgumentException.class, () -> registry.nameOf(-1));
+    }
+
+    /**
+     * Tests the lookup of team names by their normalised form. Verifies that case, accents, punctuation and
+     * white space are ignored, and that unknown teams are reported as {@link TeamRegistry#NO_TEAM}.
+     */
+    @Test
+    void testIdOfIgnoresCaseAccentsAndPunctuation() {
+        TeamRegistry registry = new TeamRegistry();
+        int id = registry.register("Côte d'Ivoire");
+
+        assertEquals(id, registry.idOf("Côte d'Ivoire"));
+        assertEquals(id, registry.idOf("COTE D'IVOIRE"));
+        assertEquals(id, registry.idOf("Cote dIvoire"));
+        assertEquals(id, registry.idOf("côte-d’ivoire"));
+        assertEquals(TeamRegistry.NO_TEAM, registry.idOf("Ivory Coast"));
+        assertEquals(1, registry.size());
+    }
+
+    /**
+     * Tests the cache of spellings resolved through their normalised form. Verifies that a feed sending many
+     * distinct spellings of the same team grows the cache only up to {@link TeamRegistry#MAX_CACHED_SPELLINGS},
+     * and that spellings beyond the limit still resolve to the team.
+     */
+    @Test
+    void testCachesBoundedNumberOfSpellings() {
+        TeamRegistry registry = new TeamRegistry();
+        int id = registry.register("Mexico");
+
+        for (int spaces = 1; spaces <= TeamRegistry.MAX_CACHED_SPELLINGS * 2; spaces++)
+            assertEquals(id, registry.idOf(" ".repeat(spaces) + "MEXICO"));
+
+        assertEquals(TeamRegistry.MAX_CACHED_SPELLINGS, registry.cachedSpellings());
+        assertEquals(id, registry.idOf(" ".repeat(TeamRegistry.MAX_CACHED_SPELLINGS * 3) + "mexico"));
+        assertEquals(TeamRegistry.MAX_CACHED_SPELLINGS, registry.cachedSpellings());
+        assertEquals(1, registry.size());
+    }
+
+    /**
+     * Tests the {@code registerAlias} method of the {@link TeamRegistry} class. Verifies that an alias resolves
+     * to the ID of its team, that re-registering the same alias is allowed, and that an alias cannot be moved
+     * to a different team.
+     */
+    @Test
+    void testRegisterAlias() {
+        TeamRegistry registry = new TeamRegistry();
+        int id = registry.registerAlias("Ivory Coast", "Côte d'Ivoire");
+        int ghana = registry.register("Ghana");
+
+        assertEquals(id, registry.idOf("ivory coast"));
+        assertEquals(id, registry.register("Ivory Coast"));
+        assertEquals(id, registry.registerAlias("Ivory Coast", "Cote d'Ivoire"));
+        assertEquals("Côte d'Ivoire", registry.nameOf(id));
+        assertThrows(IllegalStateException.class, () -> registry.registerAlias("Ivory Coast", "Ghana"));
+        assertThrows(IllegalStateException.class, () -> registry.registerAlias("Ghana", "Côte d'Ivoire"));
+        assertEquals(ghana, registry.idOf("Ghana"));
+    }
+
+    /**
+     * Tests the validation of team names by the {@link TeamRegistry} class. Verifies that null and blank
+     * names are rejected.
+     */
+    @Test
+    void testRejectsNullAndBlankNames() {
+        TeamRegistry registry = new TeamRegistry();
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register(null));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(" - "));
+        assertThrows(IllegalArgumentException.class, () -> registry.idOf(null));
+        assertThrows(IllegalArgumentException.class, () -> registry.registerAlias(null, "Mexico"));
+        assertEquals(0, registry.size());
+    }
+}
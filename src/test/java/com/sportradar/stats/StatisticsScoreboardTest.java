@@ -0,0 +1,153 @@
+package com.sportradar.stats;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.Match;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.ScoreboardImpl;
+import com.sportradar.time.SimulatedClock;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Unit tests for a StatisticsScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see StatisticsScoreboard
+ * @see TournamentStatistics
+ */
+class StatisticsScoreboardTest {
+    private final SimulatedClock clock = new SimulatedClock(Instant.parse("2026-06-11T19:00:00Z"));
+
+    /**
+     * Tests the statistics of a {@link StatisticsScoreboard}. Verifies that goals, goals per team, the number of
+     * matches, the average and the highest-scoring match follow updates, batches, corrections and finished
+     * matches, and that rejected writes change nothing.
+     */
+    @Test
+    void testStatisticsFollowWrites() {
+        StatisticsScoreboard scoreboard = new StatisticsScoreboard(new ScoreboardImpl(new MatchFactoryImpl(clock)), clock);
+        TournamentStatistics statistics = scoreboard.getStatistics();
+
+        assertTrue(statistics.getHighestScoringMatch().isEmpty());
+        assertEquals(0, statistics.getAverageGoalsPerMatch());
+
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Mexico", "Canada", 0, 3);
+        scoreboard.applyBatch(List.of(new ScoreUpdate("Spain", "Brazil", 1, 0), new ScoreUpdate("Spain", "Brazil", 2, 0)));
+
+        assertThrows(NoSuchElementException.class, () -> scoreboard.updateScore("Italy", "France", 9, 9));
+        assertEquals(5, statistics.getTotalGoals());
+        assertEquals(3, statistics.getGoals("Canada"));
+        assertEquals(2, statistics.getGoals("Spain"));
+        assertEquals(0, statistics.getGoals("Italy"));
+        assertEquals(2.5, statistics.getAverageGoalsPerMatch());
+        assertEquals("Mexico 0 - Canada 3", statistics.getHighestScoringMatch().orElseThrow().toString());
+
+        scoreboard.updateScore("Spain", "Brazil", 3, 0);
+
+        assertEquals("Mexico 0 - Canada 3", statistics.getHighestScoringMatch().orElseThrow().toString());
+
+        scoreboard.finishMatch("Mexico", "Canada");
+        scoreboard.updateScore("Spain", "Brazil", 3, 1);
+        scoreboard.updateScore("Spain", "Brazil", 3, 0);
+
+        assertEquals("Mexico 0 - Canada 3", statistics.getHighestScoringMatch().orElseThrow().toString());
+
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 2, 2);
+
+        assertEquals("Mexico 2 - Canada 2", statistics.getHighestScoringMatch().orElseThrow().toString());
+
+        scoreboard.updateScore("Mexico", "Canada", 1, 2);
+
+        assertEquals("Mexico 0 - Canada 3", statistics.getHighestScoringMatch().orElseThrow().toString());
+        assertEquals(9, statistics.getTotalGoals());
+        assertEquals(3, statistics.getMatchCount());
+        assertEquals(5, statistics.getGoals("Canada"));
+        assertEquals(1, statistics.getGoals("Mexico"));
+        assertEquals(3.0, statistics.getAverageGoalsPerMatch());
+    }
+
+    /**
+     * Tests the recent goals of a {@link StatisticsScoreboard}. Verifies that goals leave the window once it
+     * slid past them and that corrections within the window are subtracted.
+     */
+    @Test
+    void testCountsRecentGoals() {
+        StatisticsScoreboard scoreboard = new StatisticsScoreboard(new ScoreboardImpl(new MatchFactoryImpl(clock)), clock);
+        TournamentStatistics statistics = scoreboard.getStatistics();
+
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        clock.advance(Duration.ofMinutes(6));
+        scoreboard.updateScore("Mexico", "Canada", 1, 2);
+
+        assertEquals(3, statistics.getRecentGoals());
+
+        clock.advance(Duration.ofMinutes(5));
+
+        assertEquals(2, statistics.getRecentGoals());
+
+        scoreboard.updateScore("Mexico", "Canada", 1, 1);
+
+        assertEquals(1, statistics.getRecentGoals());
+
+        clock.advance(Duration.ofMinutes(30));
+
+        assertEquals(0, statistics.getRecentGoals());
+        assertEquals(2, statistics.getTotalGoals());
+        assertEquals(Duration.ofMinutes(10), statistics.getWindow());
+        assertThrows(IllegalArgumentException.class, () -> new StatisticsScoreboard(new ScoreboardImpl(new MatchFactoryImpl(clock)), clock, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new StatisticsScoreboard(new ScoreboardImpl(new MatchFactoryImpl(clock)), null));
+    }
+
+    /**
+     * Tests the consistency of the {@link TournamentStatistics} with the scoreboard under random writes.
+     * Verifies that the total goals and the highest-scoring total equal the values recomputed from all results.
+     */
+    @Test
+    void testStatisticsStayConsistent() {
+        StatisticsScoreboard scoreboard = new StatisticsScoreboard(new ScoreboardImpl(new MatchFactoryImpl(clock)), clock);
+        TournamentStatistics statistics = scoreboard.getStatistics();
+        Map<String, Integer> finishedGoals = new HashMap<>();
+        Random random = new Random(11);
+        int finishedTotal = 0;
+        int highestTotal = 0;
+
+        for (int step = 0; step < 3000; step++) {
+            String homeTeam = "Team " + random.nextInt(20);
+            String awayTeam = "Team " + (20 + random.nextInt(20));
+            Optional<Match> match = scoreboard.findMatch(homeTeam, awayTeam);
+
+            if (match.isPresent() && random.nextInt(8) == 0) {
+                scoreboard.finishMatch(homeTeam, awayTeam);
+                finishedTotal += match.get().getTotalScore();
+                highestTotal = Math.max(highestTotal, match.get().getTotalScore());
+                finishedGoals.merge(homeTeam, match.get().getHomeScore(), Integer::sum);
+            } else if (match.isPresent()) {
+                scoreboard.updateScore(homeTeam, awayTeam, random.nextInt(6), random.nextInt(6));
+            } else if (scoreboard.getSummary().stream().noneMatch(m -> m.getHomeTeam().equals(homeTeam) || m.getAwayTeam().equals(awayTeam))) {
+                scoreboard.startMatch(homeTeam, awayTeam);
+            }
+
+            List<Match> summary = scoreboard.getSummary();
+            int liveTotal = summary.stream().mapToInt(Match::getTotalScore).sum();
+            int liveHighest = summary.isEmpty() ? 0 : summary.get(0).getTotalScore();
+
+            assertEquals(finishedTotal + liveTotal, statistics.getTotalGoals());
+            assertEquals(Math.max(highestTotal, liveHighest),
+                statistics.getHighestScoringMatch().map(Match::getTotalScore).orElse(0));
+        }
+
+        String team = "Team 3";
+        int liveGoals = scoreboard.getSummary().stream().filter(m -> m.getHomeTeam().equals(team)).mapToInt(Match::getHomeScore).sum();
+
+        assertEquals(finishedGoals.getOrDefault(team, 0) + liveGoals, statistics.getGoals(team));
+    }
+}
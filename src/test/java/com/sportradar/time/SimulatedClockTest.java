@@ -0,0 +1,66 @@
+package com.sportradar.time;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Unit tests for a SimulatedClock class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see SimulatedClock
+ */
+class SimulatedClockTest {
+    private static final Instant KICKOFF = Instant.parse("2026-06-11T19:00:00Z");
+
+    /**
+     * Tests advancing a {@link SimulatedClock}. Verifies that the clock only moves when advanced, in UTC, and
+     * that invalid arguments are rejected with an {@link IllegalArgumentException}.
+     */
+    @Test
+    void testAdvance() {
+        SimulatedClock clock = new SimulatedClock(KICKOFF);
+
+        assertEquals(KICKOFF, clock.instant());
+        assertEquals(ZoneOffset.UTC, clock.getZone());
+
+        clock.advance(Duration.ofMinutes(90));
+
+        assertEquals(KICKOFF.plus(Duration.ofMinutes(90)).toEpochMilli(), clock.millis());
+        assertEquals(clock.millis() + 1, clock.advanceMillis(1));
+        assertThrows(IllegalArgumentException.class, () -> new SimulatedClock(null));
+        assertThrows(IllegalArgumentException.class, () -> clock.advance(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> clock.advanceMillis(-1));
+    }
+
+    /**
+     * Tests the {@code withZone} method of the {@link SimulatedClock} class. Verifies that the view reports the
+     * requested zone, that local times are derived in that zone, and that the view and the clock share their time.
+     */
+    @Test
+    void testWithZone() {
+        SimulatedClock clock = new SimulatedClock(KICKOFF);
+        ZoneId mexicoCity = ZoneId.of("America/Mexico_City");
+        SimulatedClock local = clock.withZone(mexicoCity);
+
+        assertEquals(mexicoCity, local.getZone());
+        assertEquals(LocalDateTime.of(2026, 6, 11, 13, 0), LocalDateTime.now(local));
+        assertSame(clock, clock.withZone(ZoneOffset.UTC));
+
+        clock.advance(Duration.ofMinutes(45));
+
+        assertEquals(clock.instant(), local.instant());
+        assertEquals(LocalDateTime.of(2026, 6, 11, 13, 45), LocalDateTime.now(local));
+
+        local.advanceMillis(1);
+
+        assertEquals(local.millis(), clock.millis());
+        assertThrows(IllegalArgumentException.class, () -> clock.withZone(null));
+    }
+}
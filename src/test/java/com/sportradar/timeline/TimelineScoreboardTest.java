@@ -0,0 +1,120 @@
+package com.sportradar.timeline;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.MatchScore;
+import com.sportradar.model.ScoreUpdate;
+import com.sportradar.service.ScoreboardImpl;
+import com.sportradar.time.SimulatedClock;
+import com.sportradar.timeline.TimelineEntry.Side;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Unit tests for a TimelineScoreboard class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see TimelineScoreboard
+ */
+class TimelineScoreboardTest {
+    private final SimulatedClock clock = new SimulatedClock(Instant.parse("2026-06-11T19:00:00Z"));
+
+    /**
+     * Tests recording the timeline of a match with the {@link TimelineScoreboard} class. Verifies that accepted
+     * score changes are recorded with their minute, side, resulting score and correction flag, that unchanged
+     * and rejected updates are not recorded, and that the timeline is dropped when the match is finished.
+     */
+    @Test
+    void testRecordsTimeline() {
+        TimelineScoreboard scoreboard = new TimelineScoreboard(new ScoreboardImpl(new MatchFactoryImpl(clock)), clock);
+
+        scoreboard.startMatch("Mexico", "Canada");
+        clock.advance(Duration.ofMinutes(12));
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        clock.advance(Duration.ofMinutes(20));
+        scoreboard.updateScore("Mexico", "Canada", 1, 1);
+        scoreboard.updateScore("Mexico", "Canada", 1, 1);
+        clock.advance(Duration.ofMinutes(3));
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        clock.advance(Duration.ofMinutes(50));
+        scoreboard.applyBatch(List.of(new ScoreUpdate("Mexico", "Canada", 3, 2)));
+
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Mexico", "Canada", -1, 0));
+        assertEquals(List.of(
+            new TimelineEntry("Mexico", "Canada", 85, Side.BOTH, 3, 2, false),
+            new TimelineEntry("Mexico", "Canada", 35, Side.AWAY, 1, 0, true),
+            new TimelineEntry("Mexico", "Canada", 32, Side.AWAY, 1, 1, false)), scoreboard.getLastEvents("Mexico", "Canada", 3));
+        assertEquals(4, scoreboard.getLastEvents("Mexico", "Canada", 10).size());
+        assertEquals(MatchScore.pack(0, 0), scoreboard.getScoreAt("Mexico", "Canada", 11));
+        assertEquals(MatchScore.pack(1, 0), scoreboard.getScoreAt("Mexico", "Canada", 12));
+        assertEquals(MatchScore.pack(1, 1), scoreboard.getScoreAt("Mexico", "Canada", 34));
+        assertEquals(MatchScore.pack(1, 0), scoreboard.getScoreAt("Mexico", "Canada", 35));
+        assertEquals(MatchScore.pack(3, 2), scoreboard.getScoreAt("Mexico", "Canada", 90));
+        assertEquals("85' Mexico 3 - Canada 2", scoreboard.getLastEvents("Mexico", "Canada", 1).get(0).toString());
+
+        scoreboard.finishMatch("Mexico", "Canada");
+
+        assertThrows(NoSuchElementException.class, () -> scoreboard.getLastEvents("Mexico", "Canada", 1));
+        assertThrows(NoSuchElementException.class, () -> scoreboard.getScoreAt("Mexico", "Canada", 1));
+        assertTrue(scoreboard.getLatestGoals(10).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getLatestGoals(-1));
+        assertThrows(IllegalArgumentException.class, () -> new TimelineScoreboard(new ScoreboardImpl(new MatchFactoryImpl(clock)), clock, 0));
+    }
+
+    /**
+     * Tests the bounded timelines of the {@link TimelineScoreboard} class. Verifies that only the newest changes
+     * are retained, and that the score at a minute is still answered after the overwritten changes but rejected
+     * before them.
+     */
+    @Test
+    void testOverwritesOldestChanges() {
+        TimelineScoreboard scoreboard = new TimelineScoreboard(new ScoreboardImpl(new MatchFactoryImpl(clock)), clock, 2);
+
+        scoreboard.startMatch("Spain", "Brazil");
+
+        for (int goal = 1; goal <= 5; goal++) {
+            clock.advance(Duration.ofMinutes(10));
+            scoreboard.updateScore("Spain", "Brazil", goal, 0);
+        }
+
+        assertEquals(List.of(
+            new TimelineEntry("Spain", "Brazil", 50, Side.HOME, 5, 0, false),
+            new TimelineEntry("Spain", "Brazil", 40, Side.HOME, 4, 0, false)), scoreboard.getLastEvents("Spain", "Brazil", 5));
+        assertEquals(MatchScore.pack(3, 0), scoreboard.getScoreAt("Spain", "Brazil", 35));
+        assertEquals(MatchScore.pack(3, 0), scoreboard.getScoreAt("Spain", "Brazil", 30));
+        assertThrows(IllegalStateException.class, () -> scoreboard.getScoreAt("Spain", "Brazil", 29));
+    }
+
+    /**
+     * Tests the {@code getLatestGoals} method of the {@link TimelineScoreboard} class. Verifies that the goals of
+     * all live matches are merged newest first and that corrections and finished matches are skipped.
+     */
+    @Test
+    void testMergesLatestGoals() {
+        TimelineScoreboard scoreboard = new TimelineScoreboard(new ScoreboardImpl(new MatchFactoryImpl(clock)), clock);
+
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        clock.advance(Duration.ofMinutes(5));
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+        scoreboard.updateScore("Germany", "France", 0, 1);
+        clock.advance(Duration.ofMinutes(5));
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        scoreboard.updateScore("Mexico", "Canada", 2, 0);
+        scoreboard.updateScore("Spain", "Brazil", 0, 0);
+        scoreboard.updateScore("Germany", "France", 1, 1);
+        scoreboard.finishMatch("Germany", "France");
+
+        assertEquals(List.of(
+            new TimelineEntry("Mexico", "Canada", 10, Side.HOME, 2, 0, false),
+            new TimelineEntry("Spain", "Brazil", 10, Side.HOME, 1, 0, false),
+            new TimelineEntry("Mexico", "Canada", 5, Side.HOME, 1, 0, false)), scoreboard.getLatestGoals(5));
+        assertEquals(2, scoreboard.getLatestGoals(2).size());
+    }
+}
@@ -0,0 +1,200 @@
+package com.sportradar.wire;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.MatchView;
+import com.sportradar.model.ScoreboardSnapshot;
+import com.sportradar.service.ScoreboardImpl;
+import com.sportradar.service.SnapshotScoreboard;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for a SummaryDecoder class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see SummaryDecoder
+ */
+class SummaryDecoderTest {
+    private final SnapshotScoreboard scoreboard = new SnapshotScoreboard(new ScoreboardImpl(new MatchFactoryImpl()));
+    private final SummaryEncoder encoder = new SummaryEncoder(scoreboard.getTeamRegistry());
+    private final SummaryDecoder decoder = new SummaryDecoder();
+    private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+    /**
+     * Tests the round trip of a full frame. Verifies that the decoder holds the matches of the snapshot
+     * in summary order with their team names, scores and start times, and the version of the snapshot.
+     */
+    @Test
+    void testFullFrameRoundTrip() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.startMatch("Côte d'Ivoire", "Germany", 2);
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+
+        ScoreboardSnapshot snapshot = scoreboard.getSnapshot();
+
+        assertEquals(-1, decoder.getVersion());
+        assertEquals(snapshot.getVersion(), decoder.apply(encodeFull(snapshot)));
+        assertEquals(snapshot.getMatches(), views(decoder));
+        assertEquals("Spain", decoder.getHomeTeam(0));
+        assertEquals(10, decoder.getHomeScore(0));
+        assertEquals(scoreboard.getTeamRegistry().idOf("Brazil"), decoder.getAwayTeamId(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> decoder.getHomeTeam(3));
+    }
+
+    /**
+     * Tests the round trip of delta frames. Verifies that score updates, new matches, finished matches and
+     * a fixture finished and started again are applied, and that the decoded board equals the snapshot.
+     */
+    @Test
+    void testDeltaFrames() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.startMatch("Germany", "France", 2);
+
+        ScoreboardSnapshot base = scoreboard.getSnapshot();
+
+        decoder.apply(encodeFull(base));
+
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.finishMatch("Spain", "Brazil");
+        scoreboard.startMatch("Uruguay", "Italy", 3);
+
+        ScoreboardSnapshot next = scoreboard.getSnapshot();
+
+        assertEquals(next.getVersion(), decoder.apply(encodeDelta(base, next)));
+        assertEquals(next.getMatches(), views(decoder));
+
+        scoreboard.finishMatch("Germany", "France");
+        scoreboard.startMatch("Germany", "France", 4);
+        scoreboard.updateScore("Uruguay", "Italy", 6, 6);
+
+        ScoreboardSnapshot last = scoreboard.getSnapshot();
+
+        decoder.apply(encodeDelta(next, last));
+
+        assertEquals(last.getMatches(), views(decoder));
+        assertEquals(last.getVersion(), decoder.getVersion());
+    }
+
+    /**
+     * Tests a delta frame based on a version other than the one held by the decoder. Verifies that an
+     * {@link IllegalStateException} is thrown and the decoded board is left unchanged.
+     */
+    @Test
+    void testDeltaFrameOnWrongVersion() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+
+        ScoreboardSnapshot base = scoreboard.getSnapshot();
+
+        scoreboard.updateScore("Mexico", "Canada", 1, 0);
+
+        ScoreboardSnapshot next = scoreboard.getSnapshot();
+        ByteBuffer delta = ByteBuffer.allocate(64).put(encodeDelta(base, next)).flip();
+
+        assertThrows(IllegalStateException.class, () -> decoder.apply(delta));
+
+        decoder.apply(encodeFull(next));
+        delta.rewind();
+
+        assertThrows(IllegalStateException.class, () -> decoder.apply(delta));
+        assertEquals(next.getMatches(), views(decoder));
+    }
+
+    /**
+     * Tests frames that are not summary frames. Verifies that an {@link IllegalArgumentException} is thrown
+     * for a null, foreign or truncated frame.
+     */
+    @Test
+    void testMalformedFrames() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+
+        ByteBuffer full = encodeFull(scoreboard.getSnapshot());
+        ByteBuffer truncated = full.duplicate().limit(full.limit() - 3);
+
+        assertThrows(IllegalArgumentException.class, () -> decoder.apply(null));
+        assertThrows(IllegalArgumentException.class, () -> decoder.apply(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5})));
+        assertThrows(IllegalArgumentException.class, () -> decoder.apply(truncated));
+    }
+
+    /**
+     * Tests a long random sequence of writes, each followed by a delta frame against the previous snapshot.
+     * Verifies that the decoded board equals every snapshot of the scoreboard.
+     */
+    @Test
+    void testRandomDeltaSequence() {
+        Random random = new Random(13);
+        List<String> teams = new ArrayList<>();
+
+        for (int team = 0; team < 40; team++)
+            teams.add("Team " + team);
+
+        ScoreboardSnapshot previous = scoreboard.getSnapshot();
+
+        decoder.apply(encodeFull(previous));
+
+        for (int step = 0; step < 2_000; step++) {
+            List<MatchView> live = previous.getMatches();
+            int action = random.nextInt(10);
+
+            if (live.isEmpty() || action < 2) {
+                String home = teams.get(random.nextInt(teams.size()));
+                String away = teams.get(random.nextInt(teams.size()));
+
+                if (home.equals(away) || isPlaying(live, home) || isPlaying(live, away))
+                    continue;
+
+                scoreboard.startMatch(home, away, step);
+            } else if (action < 3) {
+                MatchView match = live.get(random.nextInt(live.size()));
+
+                scoreboard.finishMatch(match.getHomeTeam(), match.getAwayTeam());
+            } else {
+                MatchView match = live.get(random.nextInt(live.size()));
+
+                scoreboard.updateScore(match.getHomeTeam(), match.getAwayTeam(),
+                    match.getHomeScore() + random.nextInt(2), match.getAwayScore() + random.nextInt(2));
+            }
+
+            ScoreboardSnapshot next = scoreboard.getSnapshot();
+
+            decoder.apply(encodeDelta(previous, next));
+
+            assertEquals(next.getMatches(), views(decoder), "Step " + step);
+            previous = next;
+        }
+    }
+
+    private ByteBuffer encodeFull(ScoreboardSnapshot snapshot) {
+        buffer.clear();
+        encoder.encodeFull(snapshot, buffer);
+
+        return buffer.flip();
+    }
+
+    private ByteBuffer encodeDelta(ScoreboardSnapshot base, ScoreboardSnapshot snapshot) {
+        buffer.clear();
+        encoder.encodeDelta(base, snapshot, buffer);
+
+        return buffer.flip();
+    }
+
+    private static boolean isPlaying(List<MatchView> live, String team) {
+        return live.stream().anyMatch(match -> match.getHomeTeam().equals(team) || match.getAwayTeam().equals(team));
+    }
+
+    private static List<MatchView> views(SummaryDecoder decoder) {
+        List<MatchView> views = new ArrayList<>();
+
+        for (int rank = 0; rank < decoder.size(); rank++)
+            views.add(decoder.getMatch(rank));
+
+        return views;
+    }
+}
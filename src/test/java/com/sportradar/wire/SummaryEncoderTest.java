@@ -0,0 +1,171 @@
+package com.sportradar.wire;
+
+import com.sportradar.factory.MatchFactoryImpl;
+import com.sportradar.model.ScoreboardSnapshot;
+import com.sportradar.service.ScoreboardImpl;
+import com.sportradar.service.SnapshotScoreboard;
+import com.sportradar.service.TeamRegistry;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Unit tests for a SummaryEncoder class
+ *
+ * @author Anatolii Stepanchuk
+ *
+ * @see SummaryEncoder
+ */
+class SummaryEncoderTest {
+    private final SnapshotScoreboard scoreboard = new SnapshotScoreboard(new ScoreboardImpl(new MatchFactoryImpl()));
+    private final SummaryEncoder encoder = new SummaryEncoder(scoreboard.getTeamRegistry());
+    private final ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+    /**
+     * Tests the constructor and encode methods of the {@link SummaryEncoder} class with null arguments.
+     * Verifies that an {@link IllegalArgumentException} is thrown.
+     */
+    @Test
+    void testNullArguments() {
+        ScoreboardSnapshot snapshot = scoreboard.getSnapshot();
+
+        assertThrows(IllegalArgumentException.class, () -> new SummaryEncoder(null));
+        assertThrows(IllegalArgumentException.class, () -> encoder.encodeFull(null, buffer));
+        assertThrows(IllegalArgumentException.class, () -> encoder.encodeFull(snapshot, null));
+        assertThrows(IllegalArgumentException.class, () -> encoder.encodeDelta(null, snapshot, buffer));
+        assertThrows(IllegalArgumentException.class, () -> encoder.encodeDelta(snapshot, null, buffer));
+    }
+
+    /**
+     * Tests the sizes of encoded frames. Verifies that the encoder returns the number of bytes written and
+     * advances the buffer, and that a delta frame of a single score update is only a few bytes, far smaller
+     * than the full frame carrying team names and start times.
+     */
+    @Test
+    void testFrameSizes() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+        scoreboard.startMatch("Spain", "Brazil", 1);
+        scoreboard.startMatch("Germany", "France", 2);
+
+        ScoreboardSnapshot base = scoreboard.getSnapshot();
+        int fullSize = encoder.encodeFull(base, buffer);
+
+        assertEquals(fullSize, buffer.position());
+
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+
+        buffer.clear();
+        int deltaSize = encoder.encodeDelta(base, scoreboard.getSnapshot(), buffer);
+
+        assertEquals(deltaSize, buffer.position());
+        assertTrue(deltaSize <= 16, "Delta frame of one update took " + deltaSize + " bytes");
+        assertTrue(fullSize > 3 * deltaSize);
+    }
+
+    /**
+     * Tests an unchanged board. Verifies that a delta frame between two snapshots of the same version
+     * holds no removals and no changes.
+     */
+    @Test
+    void testEmptyDelta() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+
+        ScoreboardSnapshot snapshot = scoreboard.getSnapshot();
+        int deltaSize = encoder.encodeDelta(snapshot, snapshot, buffer);
+
+        buffer.flip();
+        buffer.position(buffer.position() + 4);
+        WireFormat.getVarlong(buffer);
+
+        assertEquals(snapshot.getVersion(), WireFormat.getVarlong(buffer));
+        assertEquals(0, WireFormat.getVarint(buffer));
+        assertEquals(0, WireFormat.getVarint(buffer));
+        assertEquals(0, WireFormat.getVarint(buffer));
+        assertEquals(deltaSize, buffer.position());
+    }
+
+    /**
+     * Tests encoding against the team registry. Verifies that encoding full and delta frames leaves the registry
+     * unchanged, that a snapshot with a team missing from the registry is rejected with an
+     * {@link IllegalArgumentException} instead of registering the team, and that the encoder still works after.
+     */
+    @Test
+    void testDoesNotRegisterTeams() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+
+        ScoreboardSnapshot base = scoreboard.getSnapshot();
+
+        scoreboard.startMatch("Spain", "Brazil", 1);
+
+        ScoreboardSnapshot snapshot = scoreboard.getSnapshot();
+        TeamRegistry teamRegistry = new TeamRegistry();
+        SummaryEncoder unrelatedEncoder = new SummaryEncoder(teamRegistry);
+        int teams = scoreboard.getTeamRegistry().size();
+
+        encoder.encodeFull(snapshot, buffer);
+        encoder.encodeDelta(base, snapshot, buffer);
+        encoder.encodeDelta(snapshot, base, buffer);
+
+        assertEquals(teams, scoreboard.getTeamRegistry().size());
+        assertThrows(IllegalArgumentException.class, () -> unrelatedEncoder.encodeFull(snapshot, buffer));
+        assertThrows(IllegalArgumentException.class, () -> unrelatedEncoder.encodeDelta(base, snapshot, buffer));
+        assertEquals(0, teamRegistry.size());
+
+        teamRegistry.register("Mexico");
+        teamRegistry.register("Canada");
+
+        assertThrows(IllegalArgumentException.class, () -> unrelatedEncoder.encodeDelta(base, snapshot, buffer));
+        assertEquals(2, teamRegistry.size());
+
+        teamRegistry.register("Spain");
+        teamRegistry.register("Brazil");
+
+        assertTrue(unrelatedEncoder.encodeDelta(base, snapshot, buffer) > 0);
+    }
+
+    /**
+     * Tests encoding into a buffer that is too small. Verifies that a {@link BufferOverflowException} is thrown.
+     */
+    @Test
+    void testBufferOverflow() {
+        scoreboard.startMatch("Mexico", "Canada", 0);
+
+        assertThrows(BufferOverflowException.class, () -> encoder.encodeFull(scoreboard.getSnapshot(), ByteBuffer.allocate(8)));
+    }
+
+    /**
+     * Tests the variable-length integer encoding of the {@link WireFormat} class. Verifies that values round
+     * trip, that small values take a single byte, and that over-long input is rejected.
+     */
+    @Test
+    void testVarintRoundTrip() {
+        long[] values = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, System.currentTimeMillis(), Long.MAX_VALUE};
+
+        for (long value : values) {
+            buffer.clear();
+            WireFormat.putVarlong(buffer, value);
+            buffer.flip();
+
+            assertEquals(value, WireFormat.getVarlong(buffer));
+        }
+
+        buffer.clear();
+        WireFormat.putVarint(buffer, 127);
+        WireFormat.putVarint(buffer, 300);
+
+        assertEquals(3, buffer.position());
+
+        buffer.flip();
+
+        assertEquals(127, WireFormat.getVarint(buffer));
+        assertEquals(300, WireFormat.getVarint(buffer));
+        byte[] overlong = new byte[11];
+
+        Arrays.fill(overlong, (byte) 0xFF);
+
+        assertThrows(IllegalArgumentException.class, () -> WireFormat.getVarlong(ByteBuffer.wrap(overlong)));
+    }
+}